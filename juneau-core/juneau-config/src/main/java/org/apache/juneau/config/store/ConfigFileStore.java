@@ -13,15 +13,16 @@
 package org.apache.juneau.config.store;
 
 import static java.nio.file.StandardWatchEventKinds.*;
-import static java.nio.file.StandardOpenOption.*;
+import static java.nio.file.StandardCopyOption.*;
 import static org.apache.juneau.internal.StringUtils.*;
 
 import java.io.*;
-import java.nio.*;
-import java.nio.channels.*;
 import java.nio.charset.*;
 import java.nio.file.*;
+import java.nio.file.attribute.*;
+import java.util.*;
 import java.util.concurrent.*;
+import java.util.logging.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
@@ -196,6 +197,42 @@ public class ConfigFileStore extends ConfigStore {
 	 */
 	public static final String FILESTORE_extensions = PREFIX + ".extensions.s";
 
+	/**
+	 * Configuration property:  Write delay.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.config.store.ConfigFileStore#FILESTORE_writeDelay FILESTORE_writeDelay}
+	 * 	<li><b>Name:</b>  <js>"ConfigFileStore.writeDelay.i"</js>
+	 * 	<li><b>Data type:</b>  <jk>int</jk>
+	 * 	<li><b>System property:</b>  <c>ConfigFileStore.writeDelay</c>
+	 * 	<li><b>Environment variable:</b>  <c>CONFIGFILESTORE_WRITEDELAY</c>
+	 * 	<li><b>Default:</b>  <c>0</c>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.config.store.ConfigFileStoreBuilder#writeDelay(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * The number of milliseconds to wait before writing changed contents to the file system.
+	 *
+	 * <p>
+	 * When greater than zero, {@link #write(String, String, String)} only updates the in-memory contents and schedules
+	 * the file to be written on a background thread.
+	 * <br>All writes made to the same file within the delay are coalesced into a single write of the latest contents.
+	 * <br>When <c>0</c>, files are written before {@link #write(String, String, String)} returns.
+	 *
+	 * <ul class='notes'>
+	 * 	<li>Pending writes can be forced by calling {@link #flush()}, and are written when {@link #close()} is called.
+	 * 	<li>Background writes that fail are logged and retried after another delay.
+	 * 		<br>If the file still can't be written, the error is thrown by the next {@link #flush()} or {@link #close()}.
+	 * 	<li>Changes made to a file by other processes while a write is pending are overwritten.
+	 * </ul>
+	 */
+	public static final String FILESTORE_writeDelay = PREFIX + ".writeDelay.i";
+
 	//-------------------------------------------------------------------------------------------------------------------
 	// Predefined instances
 	//-------------------------------------------------------------------------------------------------------------------
@@ -222,11 +259,15 @@ public class ConfigFileStore extends ConfigStore {
 		return new ConfigFileStoreBuilder(getPropertyStore());
 	}
 
+	private static final Logger LOG = Logger.getLogger(ConfigFileStore.class.getName());
+
 	private final File dir;
 	private final Charset charset;
 	private final WatcherThread watcher;
 	private final boolean updateOnWrite;
-	private final ConcurrentHashMap<String,String> cache = new ConcurrentHashMap<>();
+	private final int writeDelay;
+	private final ScheduledExecutorService writer;
+	private final ConcurrentHashMap<String,ConfigFile> files = new ConcurrentHashMap<>();
 	private final ConcurrentHashMap<String,String> nameCache = new ConcurrentHashMap<>();
 	private final String[] extensions;
 
@@ -243,6 +284,15 @@ public class ConfigFileStore extends ConfigStore {
 			charset = getProperty(FILESTORE_charset, Charset.class, Charset.defaultCharset());
 			updateOnWrite = getBooleanProperty(FILESTORE_enableUpdateOnWrite);
 			extensions = getCdlProperty(FILESTORE_extensions, "cfg");
+			writeDelay = getIntegerProperty(FILESTORE_writeDelay, 0);
+			writer = writeDelay > 0 ? Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+				@Override /* ThreadFactory */
+				public Thread newThread(Runnable r) {
+					Thread t = new Thread(r, "ConfigFileStore-writer");
+					t.setDaemon(true);
+					return t;
+				}
+			}) : null;
 			WatcherSensitivity ws = getProperty(FILESTORE_watcherSensitivity, WatcherSensitivity.class, WatcherSensitivity.MEDIUM);
 			watcher = getBooleanProperty(FILESTORE_enableWatcher) ? new WatcherThread(dir, ws) : null;
 			if (watcher != null)
@@ -253,45 +303,29 @@ public class ConfigFileStore extends ConfigStore {
 		}
 	}
 
-	@SuppressWarnings("cast")
 	@Override /* ConfigStore */
-	public synchronized String read(String name) throws IOException {
+	public String read(String name) throws IOException {
 		name = resolveName(name);
 
 		Path p = resolveFile(name);
-		name = p.getFileName().toString();
-
-		String s = cache.get(name);
-		if (s != null)
-			return s;
+		ConfigFile f = getFile(p);
 
-		dir.mkdirs();
+		synchronized (f) {
+			if (f.contents != null)
+				return f.contents;
 
-		// If file doesn't exist, don't trigger creation.
-		if (! Files.exists(p))
-			return "";
+			dir.mkdirs();
 
-		boolean isWritable = isWritable(p);
-		OpenOption[] oo = isWritable ? new OpenOption[]{READ,WRITE,CREATE} : new OpenOption[]{READ};
+			// If file doesn't exist, don't trigger creation.
+			if (! Files.exists(p))
+				return "";
 
-		try (FileChannel fc = FileChannel.open(p, oo)) {
-			try (FileLock lock = isWritable ? fc.lock() : null) {
-				ByteBuffer buf = ByteBuffer.allocate(1024);
-				StringBuilder sb = new StringBuilder();
-				while (fc.read(buf) != -1) {
-					sb.append(charset.decode((ByteBuffer)((Buffer)(buf.flip())))); // Fixes Java 11 issue involving overridden flip method.
-					buf.clear();
-				}
-				s = sb.toString();
-				cache.put(name, s);
-			}
+			return f.load();
 		}
-
-		return cache.get(name);
 	}
 
 	@Override /* ConfigStore */
-	public synchronized String write(String name, String expectedContents, String newContents) throws IOException {
+	public String write(String name, String expectedContents, String newContents) throws IOException {
 		name = resolveName(name);
 
 		// This is a no-op.
@@ -301,61 +335,80 @@ public class ConfigFileStore extends ConfigStore {
 		dir.mkdirs();
 
 		Path p = resolveFile(name);
-		name = p.getFileName().toString();
-
-		boolean exists = Files.exists(p);
-
-		// Don't create the file if we're not going to match.
-		if ((!exists) && isNotEmpty(expectedContents))
-			return "";
-
-		if (isWritable(p)) {
-			if (newContents == null)
-				Files.delete(p);
-			else {
-				try (FileChannel fc = FileChannel.open(p, READ, WRITE, CREATE)) {
-					try (FileLock lock = fc.lock()) {
-						String currentContents = "";
-						if (exists) {
-							ByteBuffer buf = ByteBuffer.allocate(1024);
-							StringBuilder sb = new StringBuilder();
-							while (fc.read(buf) != -1) {
-								sb.append(charset.decode((ByteBuffer)(buf.flip())));
-								buf.clear();
-							}
-							currentContents = sb.toString();
-						}
-						if (expectedContents != null && ! isEquals(currentContents, expectedContents)) {
-							if (currentContents == null)
-								cache.remove(name);
-							else
-								cache.put(name, currentContents);
-							return currentContents;
-						}
-						fc.position(0);
-						fc.write(charset.encode(newContents));
-					}
-				}
+		ConfigFile f = getFile(p);
+		name = f.name;
+
+		synchronized (f) {
+			String currentContents = f.current();
+
+			// Don't create the file if we're not going to match.
+			if (expectedContents != null && ! isSame(currentContents, expectedContents))
+				return currentContents;
+
+			if (isWritable(p)) {
+				f.contents = newContents == null ? "" : newContents;
+				f.delete = newContents == null;
+				f.dirty = true;
+				if (writer == null || writer.isShutdown())
+					f.store();
+				else if (f.pending == null)
+					f.pending = writer.schedule(f, writeDelay, TimeUnit.MILLISECONDS);
+			} else {
+				f.contents = null;  // Invalidate the cache.
 			}
 		}
 
 		if (updateOnWrite)
 			update(name, newContents);
-		else
-			cache.remove(name);  // Invalidate the cache.
 
 		return null;
 	}
 
 	@Override /* ConfigStore */
-	public synchronized boolean exists(String name) {
-		return Files.exists(resolveFile(name));
+	public boolean exists(String name) {
+		Path p = resolveFile(name);
+		ConfigFile f = files.get(p.getFileName().toString());
+		if (f != null) {
+			synchronized (f) {
+				if (f.dirty)
+					return ! f.delete;
+			}
+		}
+		return Files.exists(p);
+	}
+
+	/**
+	 * Writes all changes that are waiting for the write delay to expire.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link #FILESTORE_writeDelay}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	public ConfigFileStore flush() throws IOException {
+		for (ConfigFile f : files.values())
+			f.flush();
+		return this;
 	}
 
 	private Path resolveFile(String name) {
 		return dir.toPath().resolve(resolveName(name));
 	}
 
+	private ConfigFile getFile(Path p) {
+		String name = p.getFileName().toString();
+		ConfigFile f = files.get(name);
+		if (f == null) {
+			f = new ConfigFile(name, p);
+			ConfigFile f2 = files.putIfAbsent(name, f);
+			if (f2 != null)
+				f = f2;
+		}
+		return f;
+	}
+
 	@Override
 	protected String resolveName(String name) {
 		if (! nameCache.containsKey(name)) {
@@ -394,22 +447,28 @@ public class ConfigFileStore extends ConfigStore {
 		return nameCache.get(name);
 	}
 
-	private synchronized boolean isWritable(Path p) {
+	private static boolean isWritable(Path p) {
+		if (Files.exists(p))
+			return Files.isWritable(p);
 		try {
-			if (! Files.exists(p)) {
-				Files.createDirectories(p.getParent());
-				if (! Files.exists(p))
-					p.toFile().createNewFile();
-			}
+			Files.createDirectories(p.getParent());
 		} catch (IOException e) {
 			return false;
 		}
-		return Files.isWritable(p);
+		return Files.isWritable(p.getParent());
+	}
+
+	private static boolean isSame(String s1, String s2) {
+		return s1 == s2 || (s1 != null && s2 != null && s1.hashCode() == s2.hashCode() && s1.equals(s2));
 	}
 
 	@Override /* ConfigStore */
-	public synchronized ConfigFileStore update(String name, String newContents) {
-		cache.put(name, newContents);
+	public ConfigFileStore update(String name, String newContents) {
+		ConfigFile f = getFile(resolveFile(name));
+		synchronized (f) {
+			if (! f.dirty)
+				f.contents = newContents;
+		}
 		super.update(name, newContents);
 		return this;
 	}
@@ -418,6 +477,144 @@ public class ConfigFileStore extends ConfigStore {
 	public synchronized void close() {
 		if (watcher != null)
 			watcher.interrupt();
+		if (writer != null) {
+			writer.shutdown();
+			try {
+				flush();
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+
+
+	//---------------------------------------------------------------------------------------------
+	// ConfigFile
+	//---------------------------------------------------------------------------------------------
+
+	/*
+	 * The state of a single file.
+	 * Doubles as the lock for all reads and writes of the file so that different files can be accessed concurrently.
+	 */
+	final class ConfigFile implements Runnable {
+		final String name;
+		final Path path;
+
+		String contents;          // The last known contents, or null if not known.
+		boolean dirty, delete;    // Whether contents haven't been written yet, and whether to delete the file instead.
+		boolean unannounced;      // Whether contents were written but listeners haven't been notified yet.
+		Object version;           // Identifies the version of the file that contents was read from or written to.
+		ScheduledFuture<?> pending;
+
+		ConfigFile(String name, Path path) {
+			this.name = name;
+			this.path = path;
+		}
+
+		/*
+		 * Returns the current contents, re-reading the file only if it has changed since it was last read or written.
+		 */
+		String current() throws IOException {
+			if (dirty || (contents != null && version != null && version.equals(version())))
+				return contents;
+			if (Files.exists(path))
+				return load();
+			contents = null;
+			version = null;
+			return "";
+		}
+
+		String load() throws IOException {
+			Object v = version();
+			contents = new String(Files.readAllBytes(path), charset);
+			version = v;
+			return contents;
+		}
+
+		/*
+		 * Writes the contents to a temporary file that then replaces the file, so that readers never see partial contents.
+		 * If the file is a symlink, the file it points to is replaced instead.
+		 */
+		void store() throws IOException {
+			if (delete) {
+				Files.deleteIfExists(path);
+				contents = null;
+				version = null;
+			} else {
+				Path target = Files.exists(path) ? path.toRealPath() : path;
+				Path tmp = Files.createTempFile(target.getParent(), "." + name + '.', ".tmp");
+				try {
+					Files.write(tmp, contents.getBytes(charset));
+					copyAttributes(target, tmp);
+					try {
+						Files.move(tmp, target, REPLACE_EXISTING, ATOMIC_MOVE);
+					} catch (AtomicMoveNotSupportedException e) {
+						Files.move(tmp, target, REPLACE_EXISTING);
+					}
+				} finally {
+					Files.deleteIfExists(tmp);
+				}
+				version = version();
+			}
+			dirty = false;
+			unannounced = ! updateOnWrite;
+		}
+
+		synchronized void flush() throws IOException {
+			if (pending != null)
+				pending.cancel(false);
+			pending = null;
+			if (dirty)
+				store();
+		}
+
+		/*
+		 * Runs the delayed write.
+		 * On failure the contents stay dirty and the write is retried after another delay, so the change isn't lost.
+		 * If it still can't be written, flush() and close() throw the error.
+		 */
+		@Override /* Runnable */
+		public void run() {
+			try {
+				flush();
+			} catch (IOException e) {
+				LOG.log(Level.WARNING, e, () -> "Could not write config file '" + path + "'.  Retrying in " + writeDelay + "ms.");
+				synchronized (this) {
+					if (dirty && pending == null && ! writer.isShutdown())
+						pending = writer.schedule(this, writeDelay, TimeUnit.MILLISECONDS);
+				}
+			}
+		}
+
+		/*
+		 * Gives the temporary file the permissions, owner, and group of the file it replaces.
+		 * Temporary files are only readable by their owner, and the owner and group can only be changed by privileged users.
+		 */
+		private void copyAttributes(Path from, Path to) throws IOException {
+			PosixFileAttributeView fromView = Files.getFileAttributeView(from, PosixFileAttributeView.class);
+			PosixFileAttributeView toView = Files.getFileAttributeView(to, PosixFileAttributeView.class);
+			if (fromView == null || toView == null || ! Files.exists(from))
+				return;
+			PosixFileAttributes a = fromView.readAttributes();
+			toView.setPermissions(a.permissions());
+			try {
+				if (! a.group().equals(Files.readAttributes(to, PosixFileAttributes.class).group()))
+					toView.setGroup(a.group());
+				if (! a.owner().equals(toView.getOwner()))
+					toView.setOwner(a.owner());
+			} catch (IOException e) {
+				LOG.log(Level.FINE, e, () -> "Could not copy the owner and group of config file '" + from + "'.");
+			}
+		}
+
+		private Object version() throws IOException {
+			try {
+				BasicFileAttributes a = Files.readAttributes(path, BasicFileAttributes.class);
+				return Arrays.asList(a.fileKey(), a.lastModifiedTime(), a.size());
+			} catch (NoSuchFileException e) {
+				return null;
+			}
+		}
 	}
 
 
@@ -488,15 +685,25 @@ public class ConfigFileStore extends ConfigStore {
 	 * @param e The file system event.
 	 * @throws IOException Thrown by underlying stream.
 	 */
-	protected synchronized void onFileEvent(WatchEvent<Path> e) throws IOException {
+	protected void onFileEvent(WatchEvent<Path> e) throws IOException {
 		String fn = e.context().getFileName().toString();
 
-		String oldContents = cache.get(fn);
-		cache.remove(fn);
-		String newContents = read(fn);
-		if (! isEquals(oldContents, newContents)) {
-			update(fn, newContents);
+		// Ignore our own temporary files.
+		if (fn.startsWith(".") && fn.endsWith(".tmp"))
+			return;
+
+		ConfigFile f = getFile(dir.toPath().resolve(fn));
+		String newContents;
+		synchronized (f) {
+			if (f.dirty)
+				return;
+			String oldContents = f.unannounced ? null : f.contents;
+			f.unannounced = false;
+			newContents = f.current();
+			if (isEquals(oldContents, newContents))
+				return;
 		}
+		update(fn, newContents);
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
@@ -510,6 +717,7 @@ public class ConfigFileStore extends ConfigStore {
 				.a("charset", charset)
 				.a("extensions", extensions)
 				.a("updateOnWrite", updateOnWrite)
+				.a("writeDelay", writeDelay)
 			);
 	}
 }
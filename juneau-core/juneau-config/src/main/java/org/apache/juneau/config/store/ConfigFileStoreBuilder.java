@@ -224,6 +224,27 @@ public class ConfigFileStoreBuilder extends ConfigStoreBuilder {
 		return this;
 	}
 
+	/**
+	 * Configuration property:  Write delay.
+	 *
+	 * <p>
+	 * The number of milliseconds to wait before writing changed contents to the file system.
+	 * <br>All writes to the same file within the delay are coalesced into a single write.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link ConfigFileStore#FILESTORE_writeDelay}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <c>0</c> which writes files immediately.
+	 * @return This object (for method chaining).
+	 */
+	public ConfigFileStoreBuilder writeDelay(int value) {
+		super.set(FILESTORE_writeDelay, value);
+		return this;
+	}
+
 	// <FluentSetters>
 
 	@Override /* GENERATED - ContextBuilder */
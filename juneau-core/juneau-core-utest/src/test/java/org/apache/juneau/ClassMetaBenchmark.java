@@ -0,0 +1,106 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import java.lang.annotation.*;
+import java.util.*;
+
+import org.apache.juneau.annotation.*;
+
+/**
+ * Measures {@link ClassMeta} creation time as the number of annotations applied through
+ * {@link BeanContextBuilder#annotations(Annotation...)} grows.
+ *
+ * <p>
+ * Every configuration includes annotations on the benchmarked classes plus the specified number of annotations on
+ * unrelated classes, methods, and fields.
+ *
+ * <p>
+ * Not run as part of the unit tests.
+ * <br>Run using <c>java org.apache.juneau.ClassMetaBenchmark [iterations]</c>.
+ */
+public class ClassMetaBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 200;
+		Class<?>[] classes = {A1.class, A2.class, A3.class, A4.class, A5.class};
+
+		for (int size : new int[]{0, 100, 1000, 5000}) {
+			Annotation[] annotations = annotations(size);
+
+			// Warm up.
+			run(annotations, classes, iterations);
+
+			long[] elapsed = run(annotations, classes, iterations);
+			System.out.println(String.format("  %,6d annotations  %,12d ns/BeanContext  %,10d ns/ClassMeta", size * 3, elapsed[0] / iterations, elapsed[1] / iterations / classes.length));
+		}
+	}
+
+	private static long[] run(Annotation[] annotations, Class<?>[] classes, int iterations) {
+		long[] elapsed = new long[2];
+		for (int i = 0; i < iterations; i++) {
+
+			// Class metadata is cached per property store, so use a different one each time.
+			PropertyStore ps = BeanContext.create().annotations(annotations).set("BeanContext.benchmark.i", counter++).getPropertyStore();
+
+			long start = System.nanoTime();
+			BeanContext bc = new BeanContext(ps);
+			long mid = System.nanoTime();
+			for (Class<?> c : classes)
+				if (! bc.getClassMeta(c).isBean())
+					throw new AssertionError("Not a bean: " + c);
+			long end = System.nanoTime();
+
+			elapsed[0] += mid - start;
+			elapsed[1] += end - mid;
+		}
+		return elapsed;
+	}
+
+	private static int counter;
+
+	private static Annotation[] annotations(int size) {
+		List<Annotation> l = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			l.add(BeanAnnotation.create("Unrelated" + i).sort(true).build());
+			l.add(BeanpAnnotation.create("org.apache.juneau.Unrelated" + i + ".getF1").name("x").build());
+			l.add(BeanpAnnotation.create("Unrelated" + i + ".f2").name("y").build());
+		}
+		l.add(BeanAnnotation.create(A1.class, A2.class, A3.class, A4.class, A5.class).sort(true).build());
+		l.add(BeanpAnnotation.create("A1.f1", "A2.f1", "A3.f1", "A4.f1", "A5.f1").name("g1").build());
+		return l.toArray(new Annotation[l.size()]);
+	}
+
+	public static class A1 {
+		public int f1, f2, f3;
+		public String getF4() { return null; }
+		public void setF4(String v) {}
+	}
+
+	public static class A2 extends A1 {
+		public List<A1> f5;
+	}
+
+	public static class A3 extends A2 {
+		public Map<String,A2> f6;
+	}
+
+	public static class A4 {
+		public int f1;
+		public A3[] f2;
+	}
+
+	public static class A5 extends A4 {
+		public String f3, f4, f5, f6;
+	}
+}
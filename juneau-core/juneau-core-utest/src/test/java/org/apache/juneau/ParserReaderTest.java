@@ -18,6 +18,8 @@ import static org.junit.runners.MethodSorters.*;
 
 import java.io.*;
 
+import org.apache.juneau.collections.*;
+import org.apache.juneau.json.*;
 import org.apache.juneau.parser.*;
 import org.junit.*;
 
@@ -158,6 +160,82 @@ public class ParserReaderTest {
 		pr.close();
 	}
 
+	//====================================================================================================
+	// testReaderInput
+	// Non-string input goes through the refill logic.
+	//====================================================================================================
+	@Test
+	public void testReaderInput() throws Exception {
+		String t = "a123456789b123456789c123456789d123456789e123456789f123456789g123456789h123456789i123456789j123456789";
+
+		ParserReader pr = createParserReader(new StringReader(t), 20);
+		assertEquals("a123456789", pr.read(10));
+		pr.mark();
+		assertEquals("b123456789c123456789", pr.read(20));
+		pr.delete(5);
+		assertEquals("d123456789e123456789f123456789", pr.read(30));
+		assertEquals("b123456789c1234d123456789e123456789f123456789", pr.getMarked());
+		pr.unread();
+		assertEquals('9', (char)pr.read());
+		assertEquals("g123456789h123456789i123456789j123456789", read(pr));
+		pr.close();
+
+		// Buffer sizes less than 20 are rounded up.
+		pr = createParserReader(new StringReader(t), 1);
+		assertEquals(t, read(pr));
+	}
+
+	//====================================================================================================
+	// testStringInput
+	// String input is read directly until characters need to be modified.
+	//====================================================================================================
+	@Test
+	public void testStringInput() throws Exception {
+		String t = "a123456789b123456789c123456789d123456789e123456789f123456789g123456789h123456789i123456789j123456789";
+
+		ParserReader pr = createParserReader(t, 20);
+		assertEquals('a', (char)pr.read());
+		pr.mark();
+		assertEquals("123456789", pr.read(9));
+		assertEquals(123456789, pr.getMarkedAsLong());
+		assertEquals("b123456789c123456789", pr.read(20));
+		pr.mark();
+		assertEquals("d1234", pr.read(5));
+		pr.replace(0x1F600, 2);
+		assertEquals("56789e123456789f123456789", pr.read(25));
+		assertEquals("d12\uD83D\uDE0056789e123456789f123456789", pr.getMarked());
+		pr.unread().unread();
+		assertEquals("89g123456789h123456789i123456789j123456789", read(pr));
+		pr.close();
+	}
+
+	//====================================================================================================
+	// testBufferReuse
+	// Buffers are reused across parses on the same thread.
+	//====================================================================================================
+	@Test
+	public void testBufferReuse() throws Exception {
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < 2000; i++)
+			sb.append(i == 0 ? "" : ",").append("'x\\u0041").append(i).append("'");
+		String big = sb.append(']').toString();
+
+		for (int i = 0; i < 3; i++) {
+			assertObject(JsonParser.DEFAULT.parse("['a\\tb','cd']", String[].class)).json().is("['a\\tb','cd']");
+			String[] a = JsonParser.DEFAULT.parse(big, String[].class);
+			assertEquals(2000, a.length);
+			assertEquals("xA1999", a[1999]);
+			a = JsonParser.create().bufferSize(20).build().parse(new StringReader(big), String[].class);
+			assertEquals("xA1999", a[1999]);
+			assertObject(JsonParser.DEFAULT.parse("'x'", String.class)).json().is("'x'");
+		}
+
+		// A ParserReader passed in as input can continue to be used after the parse.
+		ParserReader pr = createParserReader(new StringReader("{a:1}{b:2}"), 20);
+		assertObject(JsonParser.DEFAULT.parse(pr, OMap.class)).json().is("{a:1}");
+		assertObject(JsonParser.DEFAULT.parse(pr, OMap.class)).json().is("{b:2}");
+	}
+
 	//====================================================================================================
 	// Utility methods
 	//====================================================================================================
@@ -180,4 +258,8 @@ public class ParserReaderTest {
 	private ParserReader createParserReader(Object in) throws Exception {
 		return new ParserReader(new ParserPipe(in));
 	}
+
+	private ParserReader createParserReader(Object in, int bufferSize) throws Exception {
+		return new ParserReader(new ParserPipe(in, false, false, false, false, bufferSize, null, null));
+	}
 }
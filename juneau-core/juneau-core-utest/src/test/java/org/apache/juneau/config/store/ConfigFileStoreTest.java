@@ -16,7 +16,10 @@ import static org.junit.Assert.*;
 import static org.junit.runners.MethodSorters.*;
 
 import java.io.*;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
 import java.util.concurrent.*;
+import java.util.logging.*;
 
 import org.apache.juneau.internal.*;
 import org.junit.*;
@@ -240,6 +243,140 @@ public class ConfigFileStoreTest {
 		assertFalse(cs.exists("Foox"));
 	}
 
+	@Test
+	public void testShorterContents() throws Exception {
+		ConfigFileStore fs = ConfigFileStore.create().directory(DIR).build();
+		assertNull(fs.write("X.cfg", null, "foobar"));
+		assertNull(fs.write("X.cfg", "foobar", "foo"));
+		assertEquals("foo", IOUtils.read(new File(DIR, "X.cfg")));
+	}
+
+	@Test
+	public void testExternalChange() throws Exception {
+		ConfigFileStore fs = ConfigFileStore.create().directory(DIR).build();
+		assertNull(fs.write("X.cfg", null, "foo"));
+		IOUtils.write(new File(DIR, "X.cfg"), new StringReader("xxxx"));
+		assertEquals("xxxx", fs.write("X.cfg", "foo", "bar"));
+		assertEquals("xxxx", fs.read("X.cfg"));
+		assertNull(fs.write("X.cfg", "xxxx", "bar"));
+		assertEquals("bar", IOUtils.read(new File(DIR, "X.cfg")));
+	}
+
+	@Test
+	public void testWriteDelay() throws Exception {
+		ConfigFileStore fs = ConfigFileStore.create().directory(DIR).writeDelay(60000).build();
+		assertNull(fs.write("X.cfg", null, "foo"));
+		assertNull(fs.write("X.cfg", "foo", "bar"));
+		assertNotNull(fs.write("X.cfg", "foo", "baz"));
+		assertEquals("bar", fs.read("X.cfg"));
+		assertTrue(fs.exists("X.cfg"));
+		assertFileNotExists("X.cfg");
+
+		fs.flush();
+		assertEquals("bar", IOUtils.read(new File(DIR, "X.cfg")));
+
+		assertNull(fs.write("X.cfg", "bar", null));
+		assertFalse(fs.exists("X.cfg"));
+		assertFileExists("X.cfg");
+
+		assertNull(fs.write("Y.cfg", null, "yyy"));
+		fs.close();
+		assertFileNotExists("X.cfg");
+		assertEquals("yyy", IOUtils.read(new File(DIR, "Y.cfg")));
+		assertEquals(1, DIR.list().length);
+	}
+
+	@Test
+	public void testWriteDelay_background() throws Exception {
+		ConfigFileStore fs = ConfigFileStore.create().directory(DIR).writeDelay(10).build();
+		for (int i = 0; i < 100; i++)
+			assertNull(fs.write("X.cfg", null, "foo" + i));
+		awaitContents("X.cfg", "foo99");
+		fs.close();
+	}
+
+	@Test
+	public void testWriteDelay_backgroundFailure() throws Exception {
+		Semaphore failures = new Semaphore(0);
+		Logger log = Logger.getLogger(ConfigFileStore.class.getName());
+		Handler h = new Handler() {
+			@Override /* Handler */
+			public void publish(LogRecord r) {
+				failures.release();
+			}
+			@Override /* Handler */
+			public void flush() {}
+			@Override /* Handler */
+			public void close() {}
+		};
+		log.addHandler(h);
+		log.setUseParentHandlers(false);
+		try {
+			ConfigFileStore fs = ConfigFileStore.create().directory(DIR).writeDelay(100).build();
+			File x = new File(DIR, "X.cfg");
+
+			// A non-empty directory in the way makes the background write fail.
+			assertNull(fs.write("X.cfg", null, "foo"));
+			new File(x, "child").mkdirs();
+			assertTrue(failures.tryAcquire(10, TimeUnit.SECONDS));
+
+			// The change is kept and retried until it succeeds.
+			assertTrue(failures.tryAcquire(10, TimeUnit.SECONDS));
+			assertEquals("foo", fs.read("X.cfg"));
+			FileUtils.delete(x);
+			awaitContents("X.cfg", "foo");
+
+			// The error is thrown by flush() if the file still can't be written.
+			assertNull(fs.write("X.cfg", "foo", "bar"));
+			x.delete();
+			new File(x, "child").mkdirs();
+			try {
+				fs.flush();
+				fail();
+			} catch (IOException e) {
+				// OK
+			}
+			FileUtils.delete(x);
+			fs.close();
+			assertEquals("bar", IOUtils.read(x));
+		} finally {
+			log.removeHandler(h);
+			log.setUseParentHandlers(true);
+		}
+	}
+
+	@Test
+	public void testStore_keepsAttributes() throws Exception {
+		Assume.assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+		ConfigFileStore fs = ConfigFileStore.create().directory(DIR).build();
+		Path x = new File(DIR, "X.cfg").toPath();
+		assertNull(fs.write("X.cfg", null, "foo"));
+		Files.setPosixFilePermissions(x, PosixFilePermissions.fromString("rw-rw-r--"));
+		assertNull(fs.write("X.cfg", "foo", "bar"));
+		assertEquals("rw-rw-r--", PosixFilePermissions.toString(Files.getPosixFilePermissions(x)));
+		assertEquals("bar", IOUtils.read(x.toFile()));
+
+		// Symlinks are kept and the file they point to is replaced.
+		Path y = new File(DIR, "sub/Y.cfg").toPath();
+		Files.createDirectories(y.getParent());
+		Files.write(y, "foo".getBytes());
+		Files.setPosixFilePermissions(y, PosixFilePermissions.fromString("rw-r-----"));
+		Path link = Files.createSymbolicLink(new File(DIR, "Y.cfg").toPath(), y.toAbsolutePath());
+		assertNull(fs.write("Y.cfg", "foo", "bar"));
+		assertTrue(Files.isSymbolicLink(link));
+		assertEquals("bar", IOUtils.read(y.toFile()));
+		assertEquals("rw-r-----", PosixFilePermissions.toString(Files.getPosixFilePermissions(y)));
+	}
+
+	// Waits for a background write, failing after 10 seconds.
+	private void awaitContents(String name, String contents) throws Exception {
+		File f = new File(DIR, name);
+		for (long end = System.currentTimeMillis() + 10000; System.currentTimeMillis() < end; Thread.sleep(10))
+			if (f.isFile() && contents.equals(IOUtils.read(f)))
+				return;
+		fail("Timed out waiting for " + name + " to contain " + contents);
+	}
+
 	private void assertFileExists(String name) {
 		assertTrue(new File(DIR, name).exists());
 	}
@@ -12,11 +12,16 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.csv;
 
+import static org.apache.juneau.assertions.Assertions.*;
 import static org.junit.Assert.*;
 import static org.junit.runners.MethodSorters.*;
 
+import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
 
+import org.apache.juneau.collections.*;
+import org.apache.juneau.parser.*;
 import org.apache.juneau.serializer.*;
 import org.junit.*;
 
@@ -49,4 +54,180 @@ public class Csv_Test {
 			this.c = c;
 		}
 	}
+
+	//====================================================================================================
+	// testParseBeans
+	//====================================================================================================
+	@Test
+	public void testParseBeans() throws Exception {
+		ReaderParser p = CsvParser.DEFAULT;
+
+		List<B> l = p.parse("b,c,d\nb1,1,true\nb2,2,false\n", List.class, B.class);
+		assertObject(l).json().is("[{b:'b1',c:1,d:true},{b:'b2',c:2,d:false}]");
+
+		// Columns in a different order than the bean properties, CRLF line breaks, no trailing line break.
+		B[] a = p.parse("d,c,b\r\ntrue,1,b1\r\n\r\nfalse,2,b2", B[].class);
+		assertObject(a).json().is("[{b:'b1',c:1,d:true},{b:'b2',c:2,d:false}]");
+
+		// Missing trailing columns are left unset.
+		assertObject(p.parse("b,c,d\nb1\nb2,2", B[].class)).json().is("[{b:'b1',c:0,d:false},{b:'b2',c:2,d:false}]");
+
+		// Header only.
+		assertObject(p.parse("b,c,d\n", B[].class)).json().is("[]");
+		assertNull(p.parse("", B[].class));
+	}
+
+	//====================================================================================================
+	// testQuoting
+	//====================================================================================================
+	@Test
+	public void testQuoting() throws Exception {
+		ReaderParser p = CsvParser.DEFAULT;
+
+		String in = "b,c\n\"x, \"\"y\"\"\nz\",1\n\"\",\nnull,\n\"null\",\"3\"\n";
+		assertObject(p.parse(in, B[].class)).json().is("[{b:'x, \"y\"\\nz',c:1,d:false},{b:'',c:0,d:false},{c:0,d:false},{b:'null',c:3,d:false}]");
+
+		assertThrown(()->p.parse("b,c\n\"x,1\n", B[].class)).contains("Unmatched quote");
+		assertThrown(()->p.parse("b,c\n\"x\"y,1\n", B[].class)).contains("after closing quote");
+		assertThrown(()->p.parse("b,c\nx,1,2\n", B[].class)).contains("more than the 2 columns");
+	}
+
+	//====================================================================================================
+	// testRoundTrip
+	//====================================================================================================
+	@Test
+	public void testRoundTrip() throws Exception {
+		List<B> l = new ArrayList<>();
+		l.add(B.create("a \"quoted\",\nvalue", 1, true));
+		l.add(B.create("", 2, false));
+		l.add(B.create(null, 3, false));
+		l.add(B.create("null", 4, true));
+
+		String s = CsvSerializer.DEFAULT.serialize(l);
+		assertEquals("b,c,d\n\"a \"\"quoted\"\",\nvalue\",1,true\n\"\",2,false\nnull,3,false\n\"null\",4,true\n", s);
+		assertObject(CsvParser.DEFAULT.parse(s, List.class, B.class)).sameAs(l);
+	}
+
+	//====================================================================================================
+	// testParseMaps
+	//====================================================================================================
+	@Test
+	public void testParseMaps() throws Exception {
+		ReaderParser p = CsvParser.DEFAULT;
+
+		Object o = p.parse("a,b\n1,x\n2,\n", Object.class);
+		assertObject(o).isType(OList.class).json().is("[{a:'1',b:'x'},{a:'2',b:null}]");
+
+		List<Map<String,Integer>> l = p.parse("a,b\n1,2\n3,4\n", List.class, TreeMap.class, String.class, Integer.class);
+		assertObject(l).json().is("[{a:1,b:2},{a:3,b:4}]");
+		assertObject(l.get(0)).isType(TreeMap.class);
+
+		OList l2 = new OList();
+		p.parseIntoCollection("a,b\n1,2\n", l2, OMap.class);
+		assertObject(l2).json().is("[{a:'1',b:'2'}]");
+
+		assertThrown(()->p.parse("a,b\n1,2\n", String.class)).contains("collections or arrays");
+	}
+
+	//====================================================================================================
+	// testUnknownProperties
+	//====================================================================================================
+	@Test
+	public void testUnknownProperties() throws Exception {
+		assertThrown(()->CsvParser.DEFAULT.parse("b,x\nb1,1\n", B[].class)).contains("Unknown property 'x'");
+
+		ReaderParser p = CsvParser.create().ignoreUnknownBeanProperties().build();
+		assertObject(p.parse("b,x\nb1,1\n", B[].class)).json().is("[{b:'b1',c:0,d:false}]");
+	}
+
+	//====================================================================================================
+	// testParseRows
+	//====================================================================================================
+	@Test
+	public void testParseRows() throws Exception {
+		List<B> l = new ArrayList<>();
+		CsvParser.DEFAULT.parseRows(new StringReader("b,c\nb1,1\nb2,2\n"), B.class, l::add);
+		assertObject(l).json().is("[{b:'b1',c:1,d:false},{b:'b2',c:2,d:false}]");
+
+		List<OMap> l2 = new ArrayList<>();
+		CsvParser.DEFAULT.createSession().parseRows("a\n1\n", OMap.class, l2::add);
+		assertObject(l2).json().is("[{a:'1'}]");
+
+		// Stops at the first error.
+		List<B> l3 = new ArrayList<>();
+		assertThrown(()->CsvParser.DEFAULT.parseRows("b,c\nb1,1\nb2,x\nb3,3\n", B.class, l3::add)).isType(ParseException.class);
+		assertObject(l3).json().is("[{b:'b1',c:1,d:false}]");
+	}
+
+	//====================================================================================================
+	// testParseRowsParallel
+	//====================================================================================================
+	@Test
+	public void testParseRowsParallel() throws Exception {
+		StringBuilder sb = new StringBuilder("c,b,d\n");
+		for (int i = 0; i < 10000; i++)
+			sb.append(i).append(i % 3 == 0 ? ",\"multi\nline, \"\"quoted\"\"\"" : ",b").append(',').append(i % 2 == 0).append(i % 5 == 0 ? "\r\n" : "\n");
+		String in = sb.toString();
+
+		for (int chunks : new int[]{0, 1, 3, 16, 100000}) {
+			Queue<B> q = new ConcurrentLinkedQueue<>();
+			CsvParser.DEFAULT.parseRowsParallel(in, B.class, q::add, chunks);
+			List<B> l = new ArrayList<>(q);
+			l.sort((x,y) -> Integer.compare(x.c, y.c));
+			assertEquals(10000, l.size());
+			for (int i = 0; i < 10000; i++) {
+				B b = l.get(i);
+				assertEquals(i, b.c);
+				assertEquals(i % 3 == 0 ? "multi\nline, \"quoted\"" : "b", b.b);
+				assertEquals(i % 2 == 0, b.d);
+			}
+		}
+
+		assertThrown(()->CsvParser.DEFAULT.parseRowsParallel(in + "x,y,z\n", B.class, x->{}, 4)).isType(ParseException.class);
+
+		Queue<B> q = new ConcurrentLinkedQueue<>();
+		CsvParser.DEFAULT.parseRowsParallel("b,c", B.class, q::add, 4);
+		CsvParser.DEFAULT.parseRowsParallel("", B.class, q::add, 4);
+		assertTrue(q.isEmpty());
+	}
+
+	//====================================================================================================
+	// testParseRowsParallelQuotesInsideFields
+	//====================================================================================================
+	@Test
+	public void testParseRowsParallelQuotesInsideFields() throws Exception {
+		// Quotes that don't start a field are literal, so they mustn't throw off the row boundaries.
+		StringBuilder sb = new StringBuilder("c,b,d\n");
+		for (int i = 0; i < 2000; i++)
+			sb.append(i).append(i % 7 == 0 ? ",5\" screen" : i % 7 == 3 ? ",\"multi\nline \"\"\n,\"" : ",b").append(',').append(i % 2 == 0).append('\n');
+		String in = sb.toString();
+
+		List<B> expected = new ArrayList<>();
+		CsvParser.DEFAULT.parseRows(in, B.class, expected::add);
+		assertEquals(2000, expected.size());
+		assertEquals("5\" screen", expected.get(0).b);
+		assertEquals("multi\nline \"\n,", expected.get(3).b);
+
+		for (int chunks : new int[]{3, 16, 500}) {
+			Queue<B> q = new ConcurrentLinkedQueue<>();
+			CsvParser.DEFAULT.parseRowsParallel(in, B.class, q::add, chunks);
+			List<B> l = new ArrayList<>(q);
+			l.sort((x,y) -> Integer.compare(x.c, y.c));
+			assertObject(l).sameAs(expected);
+		}
+	}
+
+	public static class B {
+		public String b;
+		public int c;
+		public boolean d;
+
+		static B create(String b, int c, boolean d) {
+			B x = new B();
+			x.b = b;
+			x.c = c;
+			x.d = d;
+			return x;
+		}
+	}
 }
\ No newline at end of file
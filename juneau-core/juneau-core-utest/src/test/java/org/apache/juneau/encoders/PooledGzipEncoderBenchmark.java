@@ -0,0 +1,76 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.encoders;
+
+import java.io.*;
+import java.util.*;
+import java.util.zip.*;
+
+import org.apache.juneau.collections.*;
+import org.apache.juneau.json.*;
+
+/**
+ * Compares throughput and compression ratio of {@link GzipEncoder} and {@link PooledGzipEncoder} at various
+ * compression levels on typical JSON payloads.
+ *
+ * <p>
+ * Not run as part of the unit tests.
+ * <br>Run using <c>java org.apache.juneau.encoders.PooledGzipEncoderBenchmark [iterations]</c>.
+ */
+public class PooledGzipEncoderBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+
+		for (int size : new int[]{10, 100, 1000}) {
+			byte[] payload = JsonSerializer.DEFAULT.serialize(payload(size)).getBytes("UTF-8");
+			System.out.println(String.format("Payload: %,d bytes", payload.length));
+			run("GzipEncoder", new GzipEncoder(), payload, iterations);
+			for (int level : new int[]{Deflater.BEST_SPEED, 3, Deflater.DEFAULT_COMPRESSION, Deflater.BEST_COMPRESSION})
+				run("PooledGzipEncoder(level=" + level + ")", PooledGzipEncoder.create().level(level).build(), payload, iterations);
+			System.out.println();
+		}
+	}
+
+	private static void run(String label, Encoder e, byte[] payload, int iterations) throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream(payload.length);
+
+		// Warm up.
+		for (int i = 0; i < iterations; i++)
+			encode(e, payload, baos);
+
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++)
+			encode(e, payload, baos);
+		long elapsed = System.nanoTime() - start;
+
+		double mbPerSec = ((double)payload.length * iterations / (1024*1024)) / (elapsed / 1e9);
+		double ratio = (double)baos.size() / payload.length;
+		System.out.println(String.format("  %-32s %8.1f MB/s  %6.1f%%  %,8d ns/op", label, mbPerSec, ratio * 100, elapsed / iterations));
+	}
+
+	private static void encode(Encoder e, byte[] payload, ByteArrayOutputStream baos) throws IOException {
+		baos.reset();
+		try (OutputStream os = e.getOutputStream(baos)) {
+			os.write(payload);
+		}
+	}
+
+	private static OList payload(int size) {
+		Random r = new Random(0);
+		OList l = new OList();
+		for (int i = 0; i < size; i++)
+			l.add(OMap.of("id", i, "name", "name" + r.nextInt(1000), "active", r.nextBoolean(), "score", r.nextDouble(), "tags", new OList("a", "b", "c")));
+		return l;
+	}
+}
@@ -0,0 +1,103 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.encoders;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.util.zip.*;
+
+import org.apache.juneau.internal.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class PooledGzipEncoderTest {
+
+	private static byte[] encode(Encoder e, String s) throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (OutputStream os = e.getOutputStream(baos)) {
+			os.write(s.getBytes("UTF-8"));
+		}
+		return baos.toByteArray();
+	}
+
+	private static String decode(byte[] b) throws Exception {
+		return IOUtils.read(new GZIPInputStream(new ByteArrayInputStream(b)));
+	}
+
+	@Test
+	public void a01_roundTrip() throws Exception {
+		PooledGzipEncoder e = new PooledGzipEncoder();
+		String s = StringUtils.repeat(1000, "foobar");
+		assertString(decode(encode(e, s))).is(s);
+		assertString(decode(encode(e, ""))).is("");
+		assertString(decode(encode(e, "x"))).is("x");
+	}
+
+	@Test
+	public void a02_levels() throws Exception {
+		String s = StringUtils.repeat(1000, "foobar");
+		for (int level = 0; level <= 9; level++) {
+			PooledGzipEncoder e = PooledGzipEncoder.create().level(level).strategy(Deflater.FILTERED).bufferSize(16).build();
+			assertString(decode(encode(e, s))).is(s);
+		}
+		int stored = encode(PooledGzipEncoder.create().level(Deflater.NO_COMPRESSION).build(), s).length;
+		int best = encode(PooledGzipEncoder.create().level(Deflater.BEST_COMPRESSION).build(), s).length;
+		assertInteger(best).isLessThan(stored);
+	}
+
+	@Test
+	public void b01_pooling() throws Exception {
+		PooledGzipEncoder e = PooledGzipEncoder.create().poolSize(1).build();
+		assertInteger(e.getPoolCount()).is(0);
+
+		encode(e, "foo");
+		assertInteger(e.getPoolCount()).is(1);
+		encode(e, "bar");
+		assertInteger(e.getPoolCount()).is(1);
+
+		// Concurrent streams beyond the pool size are discarded when finished.
+		OutputStream os1 = e.getOutputStream(new ByteArrayOutputStream()), os2 = e.getOutputStream(new ByteArrayOutputStream());
+		assertInteger(e.getPoolCount()).is(0);
+		os1.close();
+		os2.close();
+		assertInteger(e.getPoolCount()).is(1);
+
+		// Reused deflaters produce identical output.
+		String s = StringUtils.repeat(100, "foobar");
+		assertObject(encode(e, s)).sameAs(encode(e, s));
+	}
+
+	@Test
+	public void b02_finish() throws Exception {
+		PooledGzipEncoder e = PooledGzipEncoder.create().poolSize(1).build();
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		OutputStream os = e.getOutputStream(baos);
+		os.write("foo".getBytes());
+		((Finishable)os).finish();
+		((Finishable)os).finish();
+		assertInteger(e.getPoolCount()).is(1);
+		assertString(decode(baos.toByteArray())).is("foo");
+		assertThrown(()->os.write("bar".getBytes())).contains("Write beyond end of stream");
+		os.close();
+		assertInteger(e.getPoolCount()).is(1);
+	}
+
+	@Test
+	public void c01_minimumSize() throws Exception {
+		assertInteger(new GzipEncoder().getMinimumSize()).is(0);
+		assertInteger(new PooledGzipEncoder().getMinimumSize()).is(1024);
+		assertInteger(PooledGzipEncoder.create().minimumSize(0).build().getMinimumSize()).is(0);
+	}
+}
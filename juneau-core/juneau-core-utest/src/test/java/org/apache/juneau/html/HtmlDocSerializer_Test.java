@@ -0,0 +1,161 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.html;
+
+import static org.apache.juneau.html.HtmlDocSerializer.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+
+import org.apache.juneau.collections.*;
+import org.apache.juneau.serializer.*;
+import org.junit.*;
+
+/**
+ * Tests that the sections pre-rendered by HtmlDocSerializer produce the same output as rendering them per session.
+ */
+@FixMethodOrder(NAME_ASCENDING)
+public class HtmlDocSerializer_Test {
+
+	private static final String[]
+		HEAD = {"<meta name='a'>", "<meta name='b'>"},
+		HEADER = {"<h1>Title</h1>", "<h2>Line1\nLine2</h2>"},
+		NAV = {"<p>nav</p>"},
+		NAVLINKS = {"up: /up", "<b>x</b>"},
+		ASIDE = {"<p>aside1</p>", "<p>aside2</p>"},
+		FOOTER = {"<p>footer</p>"},
+		STYLE = {"a {color:red}", "b {color:blue}", "a {color:red}"},
+		STYLESHEET = {"/foo.css"},
+		SCRIPT = {"var x = 1;", "var y = 2;"};
+
+	private static HtmlDocSerializerBuilder create(String...lines) {
+		return HtmlDocSerializer.create()
+			.head(HEAD)
+			.header(HEADER)
+			.nav(NAV)
+			.navlinks(NAVLINKS)
+			.aside(ASIDE)
+			.footer(FOOTER)
+			.style(lines.length > 0 ? lines : STYLE)
+			.stylesheet(STYLESHEET)
+			.script(SCRIPT)
+			.nowrap();
+	}
+
+	// Overrides all sections on the session with equal but distinct values so that nothing pre-rendered is used.
+	private static String serializeUncached(HtmlDocSerializer s, Object o) throws Exception {
+		OMap m = OMap.of(
+			HTMLDOC_head, HEAD.clone(),
+			HTMLDOC_header, HEADER.clone(),
+			HTMLDOC_nav, NAV.clone(),
+			HTMLDOC_aside, ASIDE.clone(),
+			HTMLDOC_footer, FOOTER.clone(),
+			HTMLDOC_style, s.getStyle().clone(),
+			HTMLDOC_script, SCRIPT.clone()
+		);
+		return s.createSession(SerializerSessionArgs.create().properties(m)).serialize(o);
+	}
+
+	private static void check(HtmlDocSerializer s) throws Exception {
+		OMap o = OMap.of("a", 1);
+		assertEquals(serializeUncached(s, o), s.serialize(o));
+		assertEquals(serializeUncached(s, null), s.serialize(null));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Tests
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_noWhitespace() throws Exception {
+		HtmlDocSerializer s = create().build();
+		assertNotNull(s.createSession().getHeaderFragment());
+		check(s);
+		assertEquals(
+			"<html><head><meta name='a'> <meta name='b'><style>@import \"/foo.css\";div.data * {white-space:nowrap;}  a {color:red} b {color:blue}</style><script>var x = 1;\n var y = 2;\n</script></head><body><header><h1>Title</h1> <h2>Line1\nLine2</h2></header><nav><ol><li><a href=\"/up\">up</a></li><li><b>x</b></li></ol><p>nav</p></nav><section><article><div class=\"outerdata\"><div class=\"data\" id=\"data\"><table><tr><td>a</td><td><number>1</number></td></tr></table></div></div></article><aside><p>aside1</p> <p>aside2</p></aside></section><footer><p>footer</p></footer></body></html>",
+			s.serialize(OMap.of("a", 1))
+		);
+	}
+
+	@Test
+	public void a02_whitespace() throws Exception {
+		check(create().ws().build());
+	}
+
+	@Test
+	public void a03_maxIndent() throws Exception {
+		for (int i = 0; i < 6; i++)
+			check(create().ws().maxIndent(i).build());
+	}
+
+	@Test
+	public void a04_variables() throws Exception {
+		HtmlDocSerializer s = create("a {color:red}", "$S{HtmlDocSerializer_Test.x,b {color:blue}}", "c {color:green}").ws().build();
+		assertNotNull(s.createSession().getStyleFragment());
+		assertNotNull(s.createSession().getScriptFragment());
+		check(s);
+		assertTrue(s.serialize(null).contains("\t\t\tb {color:blue}\n"));
+	}
+
+	@Test
+	public void a05_sessionOverrides() throws Exception {
+		HtmlDocSerializer s = create().build();
+		OMap m = OMap.of(HTMLDOC_header, new String[]{"<h1>Other</h1>"}, HTMLDOC_style, new String[]{"c {color:green}"});
+		HtmlDocSerializerSession ss = s.createSession(SerializerSessionArgs.create().properties(m));
+		assertNull(ss.getHeaderFragment());
+		assertNotNull(ss.getFooterFragment());
+		String r = ss.serialize(null);
+		assertTrue(r.contains("<header><h1>Other</h1></header>"));
+		assertTrue(r.contains("div.data * {white-space:nowrap;}  c {color:green}</style>"));
+	}
+
+	@Test
+	public void a06_writerWithDifferentSettings() throws Exception {
+		HtmlDocSerializer s = create().ws().build();
+		StringWriter sw = new StringWriter();
+		s.serialize(null, new HtmlWriter(sw, false, 100, false, '"', null));
+		assertEquals(create().build().serialize(null), sw.toString());
+	}
+
+	@Test
+	public void a07_variablesWithinLines() throws Exception {
+		String[] lines = {
+			"<h1>$S{HtmlDocSerializer_Test.title,Title}</h1>",
+			"<p>$S{HtmlDocSerializer_Test.multiline}</p>",
+			"<p>a\nb $S{HtmlDocSerializer_Test.title,Title}</p>",
+			"\\$S{HtmlDocSerializer_Test.title} $5 $$S{x} $X{y}",
+			"$S{HtmlDocSerializer_Test.title"
+		};
+		System.setProperty("HtmlDocSerializer_Test.multiline", "x\ny");
+		try {
+			for (int i = -1; i < 6; i++) {
+				HtmlDocSerializerBuilder b = HtmlDocSerializer.create().head(lines).header(lines).footer(lines).style(lines).script(lines);
+				HtmlDocSerializer s = (i < 0 ? b : b.ws().maxIndent(i)).build();
+				assertNotNull(s.createSession().getHeaderFragment());
+				OMap m = OMap.of(
+					HTMLDOC_head, lines.clone(),
+					HTMLDOC_header, lines.clone(),
+					HTMLDOC_footer, lines.clone(),
+					HTMLDOC_style, lines.clone(),
+					HTMLDOC_script, lines.clone()
+				);
+				assertEquals(s.createSession(SerializerSessionArgs.create().properties(m)).serialize(null), s.serialize(null));
+			}
+			String r = HtmlDocSerializer.create().header(lines).build().serialize(null);
+			assertTrue(r, r.contains("<header><h1>Title</h1> <p>x\ny</p> <p>a\nb Title</p> $S{HtmlDocSerializer_Test.title} $5 $$S{x} $X{y} $S{HtmlDocSerializer_Test.title</header>"));
+		} finally {
+			System.clearProperty("HtmlDocSerializer_Test.multiline");
+		}
+	}
+}
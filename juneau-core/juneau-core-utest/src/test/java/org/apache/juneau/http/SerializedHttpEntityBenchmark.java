@@ -0,0 +1,92 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.http;
+
+import java.io.*;
+import java.util.*;
+import java.util.zip.*;
+
+import org.apache.juneau.collections.*;
+import org.apache.juneau.encoders.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.serializer.*;
+
+/**
+ * Compares the bytes written and the time taken by {@link SerializedHttpEntity} with and without an encoder on
+ * typical JSON and MessagePack request bodies.
+ *
+ * <p>
+ * Not run as part of the unit tests.
+ * <br>Run using <c>java org.apache.juneau.http.SerializedHttpEntityBenchmark [iterations]</c>.
+ */
+public class SerializedHttpEntityBenchmark {
+
+	public static void main(String[] args) throws Exception {
+		int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+
+		for (Serializer s : new Serializer[]{JsonSerializer.DEFAULT, MsgPackSerializer.DEFAULT}) {
+			for (int size : new int[]{1, 10, 100, 1000}) {
+				OList payload = payload(size);
+				System.out.println(String.format("%s, %,d beans", s.getClass().getSimpleName(), size));
+				run("none", s, null, payload, iterations);
+				run("GzipEncoder", s, new GzipEncoder(), payload, iterations);
+				for (int level : new int[]{Deflater.BEST_SPEED, Deflater.DEFAULT_COMPRESSION})
+					run("PooledGzipEncoder(level=" + level + ")", s, PooledGzipEncoder.create().level(level).minimumSize(0).build(), payload, iterations);
+				run("PooledGzipEncoder(min=1024)", s, PooledGzipEncoder.create().level(Deflater.BEST_SPEED).build(), payload, iterations);
+				System.out.println();
+			}
+		}
+	}
+
+	private static void run(String label, Serializer s, Encoder e, OList payload, int iterations) throws Exception {
+		CountingOutputStream os = new CountingOutputStream();
+
+		// Warm up.
+		for (int i = 0; i < iterations; i++)
+			SerializedHttpEntity.of(payload, s).encoder(e).writeTo(os);
+
+		os.count = 0;
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++)
+			SerializedHttpEntity.of(payload, s).encoder(e).writeTo(os);
+		long elapsed = System.nanoTime() - start;
+
+		System.out.println(String.format("  %-32s %,10d bytes  %,10d ns/op", label, os.count / iterations, elapsed / iterations));
+	}
+
+	private static OList payload(int size) {
+		Random r = new Random(0);
+		OList l = new OList();
+		for (int i = 0; i < size; i++)
+			l.add(OMap.of("id", i, "name", "name" + r.nextInt(1000), "active", r.nextBoolean(), "score", r.nextDouble(), "tags", new OList("a", "b", "c")));
+		return l;
+	}
+
+	/*
+	 * Discards everything written to it, keeping only the count of bytes that would have been sent.
+	 */
+	private static class CountingOutputStream extends OutputStream {
+		long count;
+
+		@Override /* OutputStream */
+		public void write(int b) {
+			count++;
+		}
+
+		@Override /* OutputStream */
+		public void write(byte[] b, int off, int len) {
+			count += len;
+		}
+	}
+}
@@ -15,10 +15,12 @@ package org.apache.juneau.http;
 import static org.junit.runners.MethodSorters.*;
 
 import java.io.*;
+import java.util.zip.*;
 
 import static org.apache.juneau.httppart.HttpPartSchema.*;
 
 import org.apache.juneau.collections.*;
+import org.apache.juneau.encoders.*;
 import org.apache.juneau.httppart.*;
 import org.apache.juneau.json.*;
 import org.apache.juneau.msgpack.*;
@@ -49,6 +51,14 @@ public class SerializedHttpEntity_Test {
 		}
 	}
 
+	@Rest(encoders=GzipEncoder.class)
+	public static class B extends BasicRest {
+		@RestMethod
+		public Reader post(org.apache.juneau.rest.RestRequest req) throws IOException {
+			return req.getReader();
+		}
+	}
+
 	@Test
 	public void a01_basic() throws Exception {
 		of(ABean.get(),JsonSerializer.DEFAULT).assertString().is("{\"a\":1,\"b\":\"foo\"}");
@@ -126,6 +136,52 @@ public class SerializedHttpEntity_Test {
 		checkHeaderClient("Content-Type").post("/",of(new StringReader("foo"),null).contentType("text/foo")).run().assertBody().is("['text/foo']");
 	}
 
+	@Test
+	public void b01_encoder() throws Exception {
+		SerializedHttpEntity x = of(ABean.get(),JsonSerializer.DEFAULT).encoder(new GzipEncoder());
+		assertString(x.getContentEncoding().getValue()).is("gzip");
+		assertLong(x.getContentLength()).is(-1);
+		assertStream(new GZIPInputStream(x.getContent())).string().is("{\"a\":1,\"b\":\"foo\"}");
+		assertStream(new GZIPInputStream(x.getContent())).string().is("{\"a\":1,\"b\":\"foo\"}");
+	}
+
+	@Test
+	public void b02_encoder_minimumSize() throws Exception {
+		Encoder e = PooledGzipEncoder.create().minimumSize(100).build();
+
+		SerializedHttpEntity x = of(ABean.get(),JsonSerializer.DEFAULT).encoder(e);
+		assertObject(x.getContentEncoding()).isNull();
+		assertLong(x.getContentLength()).is(17);
+		assertStream(x.getContent()).string().is("{\"a\":1,\"b\":\"foo\"}");
+
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 100; i++)
+			sb.append('x');
+		x = of(sb.toString(),JsonSerializer.DEFAULT).encoder(e);
+		assertString(x.getContentEncoding().getValue()).is("gzip");
+		assertLong(x.getContentLength()).is(-1);
+		assertStream(new GZIPInputStream(x.getContent())).string().is('"' + sb.toString() + '"');
+	}
+
+	@Test
+	public void b03_encoder_notSerializable() throws Exception {
+		SerializedHttpEntity x = of(new StringReader("foo"),null).encoder(new GzipEncoder());
+		assertObject(x.getContentEncoding()).isNull();
+		assertStream(x.getContent()).string().is("foo");
+	}
+
+	@Test
+	public void b04_encoder_bad() throws Exception {
+		assertThrown(()->of(null,OpenApiSerializer.DEFAULT).schema(schema().required().build()).encoder(PooledGzipEncoder.create().minimumSize(100).build()).asString()).contains("Required value not provided.");
+	}
+
+	@Test
+	public void b05_encoder_client() throws Exception {
+		RestClient x = MockRestClient.create(B.class).simpleJson().requestEncoder(GzipEncoder.class).build();
+		x.post("/",ABean.get()).run().assertBody().is("{a:1,b:'foo'}");
+		x.post("/",ABean.get()).requestEncoder(null).run().assertBody().is("{a:1,b:'foo'}");
+	}
+
 	//------------------------------------------------------------------------------------------------------------------
 	// Utility methods
 	//------------------------------------------------------------------------------------------------------------------
@@ -0,0 +1,161 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static java.time.format.DateTimeFormatter.*;
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.time.*;
+import java.time.format.*;
+import java.time.temporal.*;
+import java.util.*;
+
+import org.junit.*;
+
+/**
+ * Verifies that the fast paths in {@link IsoDateTimeFormatter} match {@link DateTimeFormatter}.
+ */
+@FixMethodOrder(NAME_ASCENDING)
+public class IsoDateTimeFormatterTest {
+
+	private static final DateTimeFormatter[] FORMATTERS = {
+		ISO_INSTANT, ISO_LOCAL_DATE, ISO_LOCAL_TIME, ISO_LOCAL_DATE_TIME, ISO_OFFSET_DATE_TIME, ISO_ZONED_DATE_TIME
+	};
+
+	private static final int[] NANOS = {0, 1, 10, 100_000, 120_000_000, 123_000_000, 123_400_000, 123_456_000, 123_456_700, 999_999_999};
+
+	private static final ZoneId[] ZONES = {
+		ZoneOffset.UTC, ZoneOffset.ofHours(5), ZoneOffset.ofHoursMinutes(-3, -30), ZoneOffset.ofHoursMinutesSeconds(1, 2, 3), ZoneId.of("America/New_York")
+	};
+
+	private static List<ZonedDateTime> values() {
+		List<ZonedDateTime> l = new ArrayList<>();
+		Random r = new Random(1);
+		LocalDateTime[] fixed = {
+			LocalDateTime.of(2020, 1, 1, 0, 0),
+			LocalDateTime.of(2020, 2, 29, 23, 59, 59),
+			LocalDateTime.of(1, 1, 1, 0, 0),
+			LocalDateTime.of(0, 12, 31, 12, 30),
+			LocalDateTime.of(9999, 12, 31, 23, 59, 59),
+			LocalDateTime.of(10000, 1, 1, 0, 0),
+			LocalDateTime.of(-1, 6, 15, 8, 5),
+		};
+		for (LocalDateTime ldt : fixed)
+			for (int nano : NANOS)
+				for (ZoneId z : ZONES)
+					l.add(ldt.withNano(nano).atZone(z));
+		for (int i = 0; i < 500; i++) {
+			LocalDateTime ldt = LocalDateTime.ofEpochSecond(r.nextLong() % 100_000_000_000L, NANOS[r.nextInt(NANOS.length)], ZoneOffset.UTC);
+			l.add(ldt.atZone(ZONES[r.nextInt(ZONES.length)]));
+		}
+		return l;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Formatting
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_format() throws Exception {
+		for (DateTimeFormatter f : FORMATTERS) {
+			IsoDateTimeFormatter x = IsoDateTimeFormatter.of(f);
+			for (ZonedDateTime z : values()) {
+				for (TemporalAccessor t : new TemporalAccessor[]{z, z.toOffsetDateTime(), z.toLocalDateTime(), z.toLocalDate(), z.toLocalTime(), z.toInstant()}) {
+					String expected, actual;
+					try {
+						expected = f.format(t);
+					} catch (DateTimeException e) {
+						expected = "error";
+					}
+					try {
+						actual = x.format(t);
+					} catch (DateTimeException e) {
+						actual = "error";
+					}
+					assertEquals(f + ": " + t, expected, actual);
+				}
+			}
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Parsing
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_parseRoundTrip() throws Exception {
+		for (DateTimeFormatter f : FORMATTERS) {
+			IsoDateTimeFormatter x = IsoDateTimeFormatter.of(f);
+			for (ZonedDateTime z : values()) {
+				String s = f.format(f == ISO_LOCAL_DATE || f == ISO_LOCAL_TIME || f == ISO_LOCAL_DATE_TIME ? z.toLocalDateTime() : z);
+				assertParsesSame(f, x, s);
+			}
+		}
+	}
+
+	@Test
+	public void b02_parseEdgeCases() throws Exception {
+		String[] inputs = {
+			"", "Z", "2020", "2020-01-01", "2020-1-01", "2020-01-1", "20200-01-01", "+2020-01-01", "2020-13-01", "2020-02-30", "2021-02-29",
+			"2020-01-01T", "2020-01-01t10:00:00", "2020-01-01T10", "2020-01-01T10:00", "2020-01-01T10:00:0", "2020-01-01T10:00:00",
+			"2020-01-01T10:00:00.", "2020-01-01T10:00:00.1", "2020-01-01T10:00:00.1234567891", "2020-01-01T24:00:00", "2020-01-01T23:60:00",
+			"2020-01-01T23:59:60Z", "2020-01-01T10:00:00Z", "2020-01-01T10:00Z", "2020-01-01T10:00:00z", "2020-01-01T10:00:00.5Z",
+			"2020-01-01T10:00:00+01:00", "2020-01-01T10:00:00-01:30", "2020-01-01T10:00:00+01:02:03", "2020-01-01T10:00:00+01",
+			"2020-01-01T10:00:00+0100", "2020-01-01T10:00:00+19:00", "2020-01-01T10:00:00-00:00", "2020-01-01T10:00+01:00",
+			"2020-01-01T10:00:00+01:00[Europe/Paris]", "10:00", "10:00:00", "10:00:00.000001", "1:00", "10:0", "10-00", "25:00",
+		};
+		for (DateTimeFormatter f : FORMATTERS) {
+			IsoDateTimeFormatter x = IsoDateTimeFormatter.of(f);
+			for (String s : inputs)
+				assertParsesSame(f, x, s);
+		}
+	}
+
+	@Test
+	public void b03_parseErrors() throws Exception {
+		assertThrown(()->IsoDateTimeFormatter.of(ISO_LOCAL_DATE).parse("2020-02-30")).contains("could not be parsed");
+		assertThrown(()->IsoDateTimeFormatter.of(ISO_INSTANT).parse("2020-01-01T25:00:00Z")).contains("could not be parsed");
+	}
+
+	private static void assertParsesSame(DateTimeFormatter f, IsoDateTimeFormatter x, String s) {
+		String expected, actual;
+		try {
+			expected = describe(f.parse(s));
+		} catch (DateTimeParseException e) {
+			expected = "error";
+		}
+		try {
+			actual = describe(x.parse(s));
+		} catch (DateTimeParseException e) {
+			actual = "error";
+		}
+		assertEquals(f + ": " + s, expected, actual);
+	}
+
+	/*
+	 * Describes the fields and queries used by the temporal swaps to convert parsed values.
+	 */
+	private static String describe(TemporalAccessor t) {
+		StringBuilder sb = new StringBuilder();
+		for (ChronoField cf : new ChronoField[]{ChronoField.INSTANT_SECONDS, ChronoField.NANO_OF_SECOND, ChronoField.YEAR, ChronoField.MONTH_OF_YEAR, ChronoField.DAY_OF_MONTH, ChronoField.HOUR_OF_DAY, ChronoField.MINUTE_OF_HOUR, ChronoField.SECOND_OF_MINUTE, ChronoField.OFFSET_SECONDS})
+			sb.append(cf).append('=').append(t.isSupported(cf) ? t.getLong(cf) : null).append(',');
+		sb.append(t.query(TemporalQueries.localDate())).append(',');
+		sb.append(t.query(TemporalQueries.localTime())).append(',');
+		sb.append(t.query(TemporalQueries.zoneId())).append(',');
+		sb.append(t.query(TemporalQueries.zone())).append(',');
+		sb.append(t.query(TemporalQueries.offset()));
+		return sb.toString();
+	}
+}
@@ -92,6 +92,7 @@ public class RdfConfigAnnotationTest {
 		rdfxml_showXmlDeclaration="$X{true}",
 		rdfxml_tab="$X{1}",
 		rdfxml_xmlBase="$X{foo}",
+		streaming="$X{true}",
 		trimWhitespace="$X{true}",
 		disableUseXmlNamespaces="$X{true}"
 	)
@@ -111,6 +112,7 @@ public class RdfConfigAnnotationTest {
 		check("foo:http://foo", x.getJuneauNs());
 		check("N3", x.getLanguage());
 		check("true", x.isLooseCollections());
+		check("true", x.isStreaming());
 		check("foo:http://foo", x.getNamespaces());
 		check("false", x.isUseXmlNamespaces());
 
@@ -148,6 +150,7 @@ public class RdfConfigAnnotationTest {
 		check("foo:http://foo", x.getJuneauNs());
 		check("N3", x.getLanguage());
 		check("true", x.isLooseCollections());
+		check("true", x.isStreaming());
 		check("true", x.isTrimWhitespace());
 
 		Map<String,Object> jp = x.getJenaProperties();
@@ -196,6 +199,7 @@ public class RdfConfigAnnotationTest {
 		check("j:http://www.apache.org/juneau/", x.getJuneauNs());
 		check("RDF/XML-ABBREV", x.getLanguage());
 		check("false", x.isLooseCollections());
+		check("false", x.isStreaming());
 		check("", x.getNamespaces());
 		check("true", x.isUseXmlNamespaces());
 
@@ -233,6 +237,7 @@ public class RdfConfigAnnotationTest {
 		check("j:http://www.apache.org/juneau/", x.getJuneauNs());
 		check("RDF/XML-ABBREV", x.getLanguage());
 		check("false", x.isLooseCollections());
+		check("false", x.isStreaming());
 		check("false", x.isTrimWhitespace());
 
 		Map<String,Object> jp = x.getJenaProperties();
@@ -280,6 +285,7 @@ public class RdfConfigAnnotationTest {
 		check("j:http://www.apache.org/juneau/", x.getJuneauNs());
 		check("RDF/XML-ABBREV", x.getLanguage());
 		check("false", x.isLooseCollections());
+		check("false", x.isStreaming());
 		check("", x.getNamespaces());
 		check("true", x.isUseXmlNamespaces());
 
@@ -317,6 +323,7 @@ public class RdfConfigAnnotationTest {
 		check("j:http://www.apache.org/juneau/", x.getJuneauNs());
 		check("RDF/XML-ABBREV", x.getLanguage());
 		check("false", x.isLooseCollections());
+		check("false", x.isStreaming());
 		check("false", x.isTrimWhitespace());
 
 		Map<String,Object> jp = x.getJenaProperties();
@@ -0,0 +1,170 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.jena;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.jena.graph.*;
+import org.apache.jena.rdf.model.*;
+import org.apache.juneau.jena.annotation.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class RdfStreamingTest {
+
+	@Rdf(prefix="a", namespace="http://ns/")
+	public static class A {
+		public int f1;
+		public String f2;
+		public List<String> f3;
+		@Rdf(collectionFormat=RdfCollectionFormat.LIST)
+		public List<Integer> f4;
+		@Rdf(collectionFormat=RdfCollectionFormat.BAG)
+		public List<String> f5;
+		public A f6;
+
+		public A init(int i) {
+			f1 = i;
+			f2 = "f2 \"quoted\"\n\t\\ é中";
+			f3 = Arrays.asList("a", "b", "c");
+			f4 = Arrays.asList(1, 2, 3);
+			f5 = Arrays.asList("x");
+			f6 = new A();
+			f6.f1 = -i;
+			return this;
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Single root
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_ntriple_roundTrip() throws Exception {
+		RdfSerializer s = RdfSerializer.create().ntriple().streaming().build();
+		String r = s.serialize(new A().init(1));
+
+		// Compatible with the non-streaming parser.
+		assertObject(RdfParser.create().ntriple().build().parse(r, A.class)).sameAs(new A().init(1));
+		assertObject(RdfParser.create().ntriple().streaming().build().parse(r, A.class)).sameAs(new A().init(1));
+	}
+
+	@Test
+	public void a02_turtle_roundTrip() throws Exception {
+		RdfSerializer s = RdfSerializer.create().turtle().streaming().build();
+		String r = s.serialize(new A().init(1));
+		assertObject(RdfParser.create().turtle().streaming().build().parse(r, A.class)).sameAs(new A().init(1));
+
+		// Non-streamed output can also be parsed in streaming mode.
+		r = RdfSerializer.create().turtle().build().serialize(new A().init(1));
+		assertObject(RdfParser.create().turtle().streaming().build().parse(r, A.class)).sameAs(new A().init(1));
+	}
+
+	@Test
+	public void a03_sameTriplesAsModel() throws Exception {
+		A a = new A().init(1);
+		String r1 = RdfSerializer.create().ntriple().streaming().build().serialize(a);
+		String r2 = RdfSerializer.create().ntriple().build().serialize(a);
+		assertEquals(r2.split("\n").length, r1.split("\n").length);
+	}
+
+	@Test
+	public void a04_rdfXmlIgnored() throws Exception {
+		String r = RdfSerializer.create().xml().streaming().build().serialize(new A().init(1));
+		assertString(r).contains("<rdf:RDF");
+		assertObject(RdfParser.create().xml().streaming().build().parse(r, A.class)).sameAs(new A().init(1));
+	}
+
+	@Test
+	public void a05_supplementaryCodePoint() throws Exception {
+		StringWriter w = new StringWriter();
+		RdfStreamGraph g = new RdfStreamGraph();
+		g.setWriter(w);
+		g.add(Triple.create(NodeFactory.createURI("http://a/\uD83D\uDE00"), NodeFactory.createURI("http://b"), NodeFactory.createLiteral("x\uD83D\uDE00y\u00e9")));
+		assertEquals("<http://a/\\U0001f600> <http://b> \"x\\U0001f600y\\u00e9\" .\n", w.toString());
+
+		// jena-core doesn't understand "\U" escapes, so the parser translates them.
+		for (String lang : new String[]{"N-TRIPLE", "TURTLE"}) {
+			Model m = ModelFactory.createDefaultModel().read(new UnicodeEscapeReader(new StringReader(w.toString())), null, lang);
+			Statement s = m.listStatements().next();
+			assertEquals("http://a/\uD83D\uDE00", s.getSubject().getURI());
+			assertEquals("x\uD83D\uDE00y\u00e9", s.getString());
+		}
+	}
+
+	@Test
+	public void a06_unicodeEscapeReader() throws Exception {
+		assertEquals("\\ud83d\\ude00", read("\\U0001f600"));
+		assertEquals("\\u00e9x", read("\\U000000E9x"));
+		assertEquals("\\\\U0001f600", read("\\\\U0001f600"));
+		assertEquals("\\U0001f60", read("\\U0001f60"));
+		assertEquals("\\U0011ffff", read("\\U0011ffff"));
+		assertEquals("\\n\\", read("\\n\\"));
+	}
+
+	private static String read(String s) throws IOException {
+		StringWriter w = new StringWriter();
+		try (Reader r = new UnicodeEscapeReader(new StringReader(s))) {
+			char[] buf = new char[3];
+			int i;
+			while ((i = r.read(buf)) != -1)
+				w.write(buf, 0, i);
+		}
+		return w.toString();
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Loose collections
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_looseCollections() throws Exception {
+		List<A> l = new ArrayList<>();
+		for (int i = 0; i < 10; i++)
+			l.add(new A().init(i));
+
+		RdfSerializer s = RdfSerializer.create().ntriple().looseCollections().streaming().build();
+		RdfParser p = RdfParser.create().ntriple().looseCollections().streaming().build();
+		String r = s.serialize(l);
+
+		// Elements are parsed in document order.
+		List<A> l2 = p.parse(r, LinkedList.class, A.class);
+		assertObject(l2).sameAs(l);
+
+		A[] a = p.parse(r, A[].class);
+		assertObject(a).sameAs(l);
+
+		// The non-streaming parser reads the same output in no particular order.
+		l2 = RdfParser.create().ntriple().looseCollections().build().parse(r, LinkedList.class, A.class);
+		assertEquals(10, l2.size());
+	}
+
+	@Test
+	public void b02_looseCollections_noRootMarkers() throws Exception {
+		List<A> l = Arrays.asList(new A().init(1), new A().init(2));
+		String r = RdfSerializer.create().ntriple().looseCollections().build().serialize(l);
+		List<A> l2 = RdfParser.create().ntriple().looseCollections().streaming().build().parse(r, LinkedList.class, A.class);
+		assertEquals(2, l2.size());
+	}
+
+	@Test
+	public void b03_invalidInput() throws Exception {
+		RdfParser p = RdfParser.create().ntriple().looseCollections().streaming().build();
+		assertThrown(()->p.parse("<http://a> <http://b> .", LinkedList.class, A.class)).contains("Could not parse RDF input.");
+	}
+}
@@ -274,6 +274,38 @@ public class CommonTest {
 		public R1 r1;
 	}
 
+	//====================================================================================================
+	// Recursion deeper than the linear scan of the traversal stack
+	//====================================================================================================
+	@Test
+	public void testDeepRecursion() throws Exception {
+		JsonSerializerBuilder s = JsonSerializer.create().ssq().detectRecursions();
+
+		R4 r = new R4(), last = r;
+		for (int i = 1; i < 30; i++)
+			last = last.r4 = new R4();
+		last.r4 = r;
+		assertThrown(()->s.build().serialize(r)).contains("Recursion occurred", "[30] r4:");
+
+		// Recursive reference to an object below the scanned depth.
+		last.r4 = r.r4.r4.r4.r4.r4.r4.r4.r4.r4.r4.r4.r4.r4.r4.r4.r4.r4.r4.r4;
+		assertThrown(()->s.build().serialize(r)).contains("Recursion occurred", "[30] r4:");
+
+		// Same objects repeated in sibling branches is not recursion.
+		last.r4 = null;
+		R5 r5 = new R5();
+		r5.a = r5.b = r;
+		String x = s.build().serialize(r);
+		assertEquals("{a:" + x + ",b:" + x + "}", s.build().serialize(r5));
+	}
+
+	public static class R4 {
+		public R4 r4;
+	}
+	public static class R5 {
+		public R4 a, b;
+	}
+
 	//====================================================================================================
 	// Basic bean
 	//====================================================================================================
@@ -17,6 +17,7 @@ import static org.junit.Assert.*;
 import static org.junit.runners.MethodSorters.*;
 
 import java.io.*;
+import java.util.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.collections.*;
@@ -257,4 +258,63 @@ public class JsonParserTest {
 	private Reader reader(String in) {
 		return new CloseableStringReader(in);
 	}
+
+	//====================================================================================================
+	// testNumberArrays
+	// Numbers are parsed directly into primitive arrays.
+	//====================================================================================================
+	@Test
+	public void testNumberArrays() throws Exception {
+		N n = p.parse("{a:[1,-2,'3',null,010,0x10,2147483647,-2147483648,/*x*/ 5 ],b:[9223372036854775807,-9223372036854775808,12345678901],c:[1.5,-2,1e3,'4.5',null],d:[1.5,2],e:[1,-2],f:[],g:[[1,2],[3]]}", N.class);
+		assertObject(n.a).json().is("[1,-2,3,0,8,16,2147483647,-2147483648,5]");
+		assertObject(n.b).json().is("[9223372036854775807,-9223372036854775808,12345678901]");
+		assertObject(n.c).json().is("[1.5,-2.0,1000.0,4.5,0.0]");
+		assertObject(n.d).json().is("[1.5,2.0]");
+		assertObject(n.e).json().is("[1,-2]");
+		assertObject(n.f).json().is("[]");
+		assertObject(n.g).json().is("[[1,2],[3]]");
+
+		int[] a = new int[100];
+		for (int i = 0; i < a.length; i++)
+			a[i] = i * 1000;
+		assertTrue(Arrays.equals(a, p.parse(JsonSerializer.DEFAULT.serialize(a), int[].class)));
+
+		assertThrown(()->p.parse("[1,]", int[].class)).contains("Unexpected trailing comma in array");
+		assertThrown(()->p.parse("[1 2]", int[].class)).contains("Expected ',' or ']'");
+		assertThrown(()->p.parse("[1", int[].class)).contains("Expected ',' or ']'");
+		assertThrown(()->p.parse("[1,x]", int[].class)).isType(ParseException.class);
+		assertThrown(()->p.parse("[2147483648]", int[].class)).contains("Invalid number");
+		assertThrown(()->sp.parse("[01]", int[].class)).contains("Invalid JSON number");
+		assertThrown(()->sp.parse("[1.]", double[].class)).contains("Invalid JSON number");
+	}
+
+	//====================================================================================================
+	// testNumbers
+	// Plain integers are parsed without creating intermediate strings.
+	//====================================================================================================
+	@Test
+	public void testNumbers() throws Exception {
+		assertObject(p.parse("123", Object.class)).isType(Integer.class).json().is("123");
+		assertObject(p.parse("-2147483648", Object.class)).isType(Integer.class);
+		assertObject(p.parse("2147483648", Object.class)).isType(Long.class).json().is("2147483648");
+		assertObject(p.parse("-0", Object.class)).isType(Integer.class).json().is("0");
+		assertObject(p.parse("999999999999999999", Long.class)).json().is("999999999999999999");
+		assertObject(p.parse("9223372036854775807", Long.class)).json().is("9223372036854775807");
+		assertObject(p.parse("010", Integer.class)).json().is("8");
+		assertObject(p.parse("0x10", int.class)).json().is("16");
+		assertObject(p.parse("1.5", Object.class)).isType(Float.class);
+		assertObject(p.parse("[1,2147483648,{a:-1}]", Object.class)).json().is("[1,2147483648,{a:-1}]");
+		assertThrown(()->p.parse("2147483648", Integer.class)).contains("Invalid number");
+		assertThrown(()->sp.parse("01", Integer.class)).contains("Invalid JSON number");
+	}
+
+	public static class N {
+		public int[] a;
+		public long[] b;
+		public double[] c;
+		public float[] d;
+		public short[] e;
+		public int[] f;
+		public int[][] g;
+	}
 }
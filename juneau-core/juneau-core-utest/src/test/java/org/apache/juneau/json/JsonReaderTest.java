@@ -0,0 +1,266 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.apache.juneau.json.JsonToken.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class JsonReaderTest {
+
+	private static final JsonParser STRICT = JsonParser.DEFAULT_STRICT;
+	private static final JsonParser LAX = JsonParser.DEFAULT;
+
+	private static List<JsonToken> tokens(JsonParser p, String in) throws Exception {
+		List<JsonToken> l = new ArrayList<>();
+		try (JsonReader r = p.getJsonReader(in)) {
+			JsonToken t;
+			do {
+				l.add(t = r.nextToken());
+			} while (t != END);
+		}
+		return l;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Tokens
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_tokens() throws Exception {
+		assertObject(tokens(STRICT, "{\"a\":[1,\"x\",true,null,{}],\"b\":{\"c\":-1.5e3}}")).json().is(
+			"['START_OBJECT','FIELD_NAME','START_ARRAY','NUMBER','STRING','BOOLEAN','NULL','START_OBJECT','END_OBJECT','END_ARRAY','FIELD_NAME','START_OBJECT','FIELD_NAME','NUMBER','END_OBJECT','END_OBJECT','END']");
+		assertObject(tokens(STRICT, " [ ] ")).json().is("['START_ARRAY','END_ARRAY','END']");
+		assertObject(tokens(STRICT, "")).json().is("['END']");
+		assertObject(tokens(LAX, null)).json().is("['END']");
+		assertObject(tokens(STRICT, "1 \"a\" {}")).json().is("['NUMBER','STRING','START_OBJECT','END_OBJECT','END']");
+	}
+
+	@Test
+	public void a02_laxSyntax() throws Exception {
+		assertObject(tokens(LAX, "/*x*/{a:'b', // y\n c:bar, 'd' + \"e\":[1]}")).json().is(
+			"['START_OBJECT','FIELD_NAME','STRING','FIELD_NAME','STRING','FIELD_NAME','START_ARRAY','NUMBER','END_ARRAY','END_OBJECT','END']");
+	}
+
+	@Test
+	public void a03_unquotedKeywordPrefix() throws Exception {
+		try (JsonReader r = LAX.getJsonReader("[foo,nothing,null,true]")) {
+			r.nextToken();
+			assertEquals(BOOLEAN, r.nextToken());
+			assertEquals("foo", r.readString());
+			assertEquals(NULL, r.nextToken());
+			r.skipValue();
+			assertNull(r.readString());
+			assertEquals("true", r.readString());
+		}
+	}
+
+	@Test
+	public void a04_syntaxErrors() throws Exception {
+		assertThrown(()->tokens(STRICT, "[1,]")).contains("Unexpected trailing comma in array.");
+		assertThrown(()->tokens(STRICT, "[1 2]")).contains("Expected ',' or ']'.");
+		assertThrown(()->tokens(STRICT, "{\"a\" 1}")).contains("Could not find ':' following attribute name on JSON object.");
+		assertThrown(()->tokens(STRICT, "{\"a\":1,}")).contains("Unexpected '}' found in JSON object.");
+		assertThrown(()->tokens(STRICT, "{\"a\":1")).contains("Could not find '}' marking end of JSON object.");
+		assertThrown(()->tokens(STRICT, "[")).contains("Expected one of the following characters");
+		assertThrown(()->tokens(STRICT, "{a:1}")).contains("Unquoted attribute detected.");
+		assertThrown(()->tokens(STRICT, "['a']")).contains("Invalid quote character");
+		assertThrown(()->tokens(STRICT, "[/*x*/1]")).contains("Javascript comment detected.");
+		assertThrown(()->tokens(STRICT, "[nul]")).contains("Expected='null', Actual='nul]'");
+		assertThrown(()->tokens(STRICT, "[01]")).contains("Invalid JSON number: '01'");
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Values
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_readValues() throws Exception {
+		try (JsonReader r = STRICT.getJsonReader("[\"a\\tb\\u0041\",123,-9007199254740993,1.5,true,false,null,99999999999]")) {
+			assertEquals(START_ARRAY, r.nextToken());
+			assertEquals("a\tbA", r.readString());
+			assertEquals(123, r.readInt());
+			assertEquals(-9007199254740993L, r.readLong());
+			assertEquals(1.5, r.readDouble(), 0);
+			assertTrue(r.readBoolean());
+			assertFalse(r.readBoolean());
+			assertNull(r.readString());
+			assertThrown(()->r.readInt()).contains("99999999999");
+			assertEquals(END_ARRAY, r.nextToken());
+			assertEquals(END, r.nextToken());
+		}
+	}
+
+	@Test
+	public void b02_readNumber() throws Exception {
+		try (JsonReader r = LAX.getJsonReader("[1,10000000000,1.5,'2']")) {
+			r.nextToken();
+			assertObject(r.readNumber()).isType(Integer.class);
+			assertObject(r.readNumber()).isType(Long.class);
+			assertObject(r.readNumber()).isType(Float.class);
+			assertEquals(2, r.readLong());
+		}
+	}
+
+	@Test
+	public void b03_wrongType() throws Exception {
+		try (JsonReader r = STRICT.getJsonReader("[[1]]")) {
+			assertThrown(()->r.readString()).contains("Expected string but found START_ARRAY.");
+		}
+		try (JsonReader r = STRICT.getJsonReader("[true]")) {
+			r.nextToken();
+			assertThrown(()->r.readLong()).contains("Expected number but found BOOLEAN.");
+		}
+	}
+
+	@Test
+	public void b04_trimStrings() throws Exception {
+		try (JsonReader r = JsonParser.create().trimStrings().build().getJsonReader("{' a ':' b '}")) {
+			r.nextToken();
+			assertEquals(0, r.matchFieldName("a"));
+			assertEquals("b", r.readString());
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Field names
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_matchFieldName() throws Exception {
+		String[] names = {"id", "name", "i"};
+		try (JsonReader r = LAX.getJsonReader("{'i':1, \"name\":'x', id:2, \"n\\u0061me\":'y', 'na'+'me':'z', idx:3, \"\":4, null:5}")) {
+			assertEquals(START_OBJECT, r.nextToken());
+			assertEquals(FIELD_NAME, r.nextToken());
+			assertEquals(2, r.matchFieldName(names));
+			assertEquals(1, r.readInt());
+			assertEquals(1, r.matchFieldName(names));
+			assertEquals("x", r.readString());
+			assertEquals(0, r.matchFieldName(names));
+			assertEquals(2, r.readInt());
+			assertEquals(1, r.matchFieldName(names));
+			assertEquals("y", r.readString());
+			assertEquals(1, r.matchFieldName(names));
+			assertEquals("z", r.readString());
+			assertEquals(-1, r.matchFieldName(names));
+			r.skipValue();
+			assertEquals(-1, r.matchFieldName(names));
+			r.skipValue();
+			assertEquals(-1, r.matchFieldName("null"));
+			r.skipValue();
+			assertEquals(END_OBJECT, r.nextToken());
+		}
+	}
+
+	@Test
+	public void c02_readFieldName() throws Exception {
+		try (JsonReader r = STRICT.getJsonReader("{\"a\":1,\"b\":2}")) {
+			r.nextToken();
+			assertEquals("a", r.readFieldName());
+			assertEquals(NUMBER, r.nextToken());
+			assertEquals(FIELD_NAME, r.nextToken());  // Skips value of 'a'.
+			assertEquals("b", r.readFieldName());
+			assertThrown(()->r.readFieldName()).contains("Expected field name but found NUMBER.");
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Skipping
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void d01_skipValue() throws Exception {
+		String in = "{\"a\":{\"x\":[1,{\"y\":\"}]\\\"\"}],\"z\":null},\"b\":[[],[[]]],\"c\":\"s\",\"d\":2}";
+		try (JsonReader r = STRICT.getJsonReader(in)) {
+			assertEquals(START_OBJECT, r.nextToken());
+			assertEquals(FIELD_NAME, r.nextToken());
+			r.skipValue();  // Skips 'a' and its value.
+			assertEquals("b", r.readFieldName());
+			r.skipValue();
+			assertEquals(FIELD_NAME, r.nextToken());
+			r.skipValue();  // Skips 'c' and its value.
+			assertEquals(FIELD_NAME, r.nextToken());
+			assertEquals("d", r.readFieldName());
+			assertEquals(2, r.readInt());
+			assertEquals(END_OBJECT, r.nextToken());
+			assertThrown(()->r.skipValue()).contains("Expected value but found END.");
+		}
+	}
+
+	@Test
+	public void d02_skipContainerAfterStart() throws Exception {
+		try (JsonReader r = LAX.getJsonReader("[{a:'x]', b:http://foo/*bar*/}, /*]*/ 3]")) {
+			assertEquals(START_ARRAY, r.nextToken());
+			assertEquals(START_OBJECT, r.nextToken());
+			r.skipValue();
+			assertEquals(3, r.readInt());
+			assertEquals(END_ARRAY, r.nextToken());
+		}
+	}
+
+	@Test
+	public void d03_skipUnterminated() throws Exception {
+		try (JsonReader r = STRICT.getJsonReader("{\"a\":[1,2")) {
+			r.nextToken();
+			assertThrown(()->r.skipValue()).contains("Expected ',' or ']'.");
+		}
+		try (JsonReader r = STRICT.getJsonReader("{\"a\":{\"b\":1}")) {
+			r.nextToken();
+			assertThrown(()->r.skipValue()).contains("Could not find '}' marking end of JSON object.");
+		}
+		try (JsonReader r = STRICT.getJsonReader("{a:1}")) {
+			r.nextToken();
+			assertThrown(()->r.skipValue()).contains("Unquoted attribute detected.");
+		}
+		try (JsonReader r = STRICT.getJsonReader("[\"abc")) {
+			r.nextToken();
+			assertThrown(()->r.skipValue()).contains("Could not find expected end character");
+		}
+	}
+
+	@Test
+	public void d04_skipWholeDocument() throws Exception {
+		try (JsonReader r = STRICT.getJsonReader("{\"a\":[1,{\"b\":2}]} [3]")) {
+			assertEquals(START_OBJECT, r.nextToken());
+			r.skipValue();
+			assertEquals(START_ARRAY, r.nextToken());
+			assertEquals(3, r.readInt());
+			assertEquals(END_ARRAY, r.nextToken());
+			assertEquals(END, r.nextToken());
+		}
+	}
+
+	@Test
+	public void d05_largeInput() throws Exception {
+		StringBuilder sb = new StringBuilder("{\"skip\":[");
+		for (int i = 0; i < 100000; i++)
+			sb.append(i == 0 ? "" : ",").append("{\"k\":\"v").append(i).append("\"}");
+		sb.append("],\"id\":42}");
+		try (JsonReader r = LAX.getJsonReader(new StringReader(sb.toString()))) {
+			r.nextToken();
+			while (r.nextToken() == FIELD_NAME) {
+				if (r.matchFieldName("id") == 0)
+					assertEquals(42, r.readInt());
+				else
+					r.skipValue();
+			}
+		}
+	}
+}
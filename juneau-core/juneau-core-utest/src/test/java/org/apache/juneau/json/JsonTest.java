@@ -18,9 +18,11 @@ import static org.junit.runners.MethodSorters.*;
 
 import java.util.*;
 
+import org.apache.juneau.*;
 import org.apache.juneau.collections.*;
 import org.apache.juneau.json.annotation.*;
 import org.apache.juneau.serializer.*;
+import org.apache.juneau.transform.*;
 import org.junit.*;
 
 @SuppressWarnings({"serial"})
@@ -390,4 +392,40 @@ public class JsonTest {
 		r = JsonParser.DEFAULT.parse(r, String.class);
 		assertEquals("foo/bar", r);
 	}
+
+	//====================================================================================================
+	// Primitive arrays and collections of numbers
+	//====================================================================================================
+	@Test
+	public void testNumberArrays() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().build();
+		assertEquals("{a:[1,-2,2147483647,-2147483648],b:[9223372036854775807,-9223372036854775808,0],c:[1.5,-0.0,1.0E10],d:[1.5],e:[1,-2],f:[1,-2],g:[3,null,4],h:[1.0,null],i:[],j:[[1,2],[3]]}", s.serialize(new N1()));
+		assertEquals("[\n\t1,\n\t2\n]", JsonSerializer.DEFAULT_READABLE.serialize(new int[]{1,2}));
+
+		// Swaps on the number type and sorting are still honored.
+		s = JsonSerializer.create().ssq().swaps(N1Swap.class).build();
+		assertEquals("['#3','#1']", s.serialize(new int[]{3,1}));
+		s = JsonSerializer.create().ssq().sortCollections().build();
+		assertEquals("[1,3]", s.serialize(new int[]{3,1}));
+	}
+
+	public static class N1 {
+		public int[] a = {1,-2,Integer.MAX_VALUE,Integer.MIN_VALUE};
+		public long[] b = {Long.MAX_VALUE,Long.MIN_VALUE,0};
+		public double[] c = {1.5,-0.0,1e10};
+		public float[] d = {1.5f};
+		public short[] e = {1,-2};
+		public byte[] f = {1,-2};
+		public List<Integer> g = Arrays.asList(3,null,4);
+		public Double[] h = {1.0,null};
+		public int[] i = {};
+		public int[][] j = {{1,2},{3}};
+	}
+
+	public static class N1Swap extends StringSwap<Integer> {
+		@Override /* PojoSwap */
+		public String swap(BeanSession session, Integer o) throws Exception {
+			return "#" + o;
+		}
+	}
 }
\ No newline at end of file
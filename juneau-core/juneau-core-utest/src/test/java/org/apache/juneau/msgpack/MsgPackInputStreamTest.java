@@ -0,0 +1,150 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.msgpack;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.apache.juneau.msgpack.DataType.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import org.apache.juneau.collections.*;
+import org.apache.juneau.internal.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class MsgPackInputStreamTest {
+
+	private static MsgPackInputStream is(String spacedHex) throws Exception {
+		return MsgPackParser.DEFAULT.getMsgPackInputStream(StringUtils.fromSpacedHex(spacedHex));
+	}
+
+	private static MsgPackInputStream is(Object o) throws Exception {
+		return MsgPackParser.DEFAULT.getMsgPackInputStream(MsgPackSerializer.DEFAULT.serialize(o));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Values
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_readValues() throws Exception {
+		try (MsgPackInputStream r = is("96 C0 C3 A3 61 62 63 CB 3F F8 00 00 00 00 00 00 C4 02 01 02 7F")) {
+			assertEquals(ARRAY, r.readDataType());
+			assertEquals(6, r.readLength());
+			assertEquals(NULL, r.readDataType());
+			assertTrue(r.readBoolean());
+			assertEquals("abc", r.readString());
+			assertEquals(1.5, r.readDouble(), 0);
+			assertArrayEquals(new byte[]{1,2}, r.readBinary());
+			assertEquals(127, r.readInt());
+		}
+	}
+
+	@Test
+	public void a02_readIntegers() throws Exception {
+		try (MsgPackInputStream r = is("D0 80 D1 FF 00 CC FF CD FF FF D2 80 00 00 00 CE FF FF FF FF D3 80 00 00 00 00 00 00 00")) {
+			assertEquals(-128, r.readInt());
+			assertEquals(-256, r.readLong());
+			assertEquals(255, r.readInt());
+			assertEquals(65535, r.readInt());
+			assertEquals(Integer.MIN_VALUE, r.readLong());
+			assertEquals(4294967295L, r.readLong());
+			assertEquals(Long.MIN_VALUE, r.readLong());
+		}
+	}
+
+	@Test
+	public void a03_wrongType() throws Exception {
+		try (MsgPackInputStream r = is("A1 61 01")) {
+			assertThrown(()->r.readInt()).contains("Expected INT but found STRING.");
+		}
+		try (MsgPackInputStream r = is("C2")) {
+			assertThrown(()->r.readString()).contains("Expected STRING but found BOOLEAN.");
+		}
+		try (MsgPackInputStream r = is("")) {
+			assertThrown(()->r.readDataType()).contains("Unexpected end of file");
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Matching
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_matchString() throws Exception {
+		String[] names = {"id", "name", "i", "été", "😀"};
+		try (MsgPackInputStream r = is(OList.of("i", "name", "id", "nam", "names", "", "été", "😀", "x"))) {
+			r.readDataType();
+			assertEquals(2, r.matchString(names));
+			assertEquals(1, r.matchString(names));
+			assertEquals(0, r.matchString(names));
+			assertEquals(-1, r.matchString(names));
+			assertEquals(-1, r.matchString(names));
+			assertEquals(-1, r.matchString(names));
+			assertEquals(3, r.matchString(names));
+			assertEquals(4, r.matchString(names));
+			assertEquals(-1, r.matchString(names));
+		}
+	}
+
+	@Test
+	public void b02_matchStringManyNames() throws Exception {
+		String[] names = new String[100];
+		for (int i = 0; i < names.length; i++)
+			names[i] = "f" + i;
+		try (MsgPackInputStream r = is(OList.of("f99", "f100"))) {
+			r.readDataType();
+			assertEquals(99, r.matchString(names));
+			assertEquals(-1, r.matchString(names));
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Skipping
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_skipValue() throws Exception {
+		OMap m = OMap.of("a", OList.of(1, "x", OMap.of("b", new byte[]{1,2,3}, "c", 1.5), null, true), "b", OMap.of(), "id", 123456789012L);
+		try (MsgPackInputStream r = is(m)) {
+			assertEquals(MAP, r.readDataType());
+			long n = r.readLength();
+			long id = 0;
+			for (long i = 0; i < n; i++) {
+				if (r.matchString("id") == 0)
+					id = r.readLong();
+				else
+					r.skipValue();
+			}
+			assertEquals(123456789012L, id);
+			assertThrown(()->r.skipValue()).contains("Unexpected end of file");
+		}
+	}
+
+	@Test
+	public void c02_skipCurrentValue() throws Exception {
+		try (MsgPackInputStream r = is(OList.of(OList.of(1, 2, OList.of(3)), "x"))) {
+			r.readDataType();
+			assertEquals(ARRAY, r.readDataType());
+			r.skipValue();
+			assertEquals("x", r.readString());
+		}
+	}
+
+	@Test
+	public void c03_skipTruncated() throws Exception {
+		try (MsgPackInputStream r = is("92 A3 61")) {
+			assertThrown(()->r.skipValue()).contains("Unexpected end of file");
+		}
+	}
+}
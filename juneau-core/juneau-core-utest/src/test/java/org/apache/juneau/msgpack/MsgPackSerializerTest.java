@@ -15,6 +15,8 @@ package org.apache.juneau.msgpack;
 import static org.junit.Assert.*;
 import static org.junit.runners.MethodSorters.*;
 
+import java.util.*;
+
 import org.apache.juneau.collections.*;
 import org.apache.juneau.internal.*;
 import org.junit.*;
@@ -205,6 +207,27 @@ public class MsgPackSerializerTest {
 		test(OMap.ofJson("{1:1,2:1,3:1,4:1,5:1,6:1,7:1,8:1,9:1,a:1,b:1,c:1,d:1,e:1,f:1,g:1}"), "DE 00 10 A1 31 01 A1 32 01 A1 33 01 A1 34 01 A1 35 01 A1 36 01 A1 37 01 A1 38 01 A1 39 01 A1 61 01 A1 62 01 A1 63 01 A1 64 01 A1 65 01 A1 66 01 A1 67 01");
 	}
 
+	//====================================================================================================
+	// testNumberArrays
+	// Primitive arrays and collections of numbers serialize the same as lists of objects.
+	//====================================================================================================
+	@Test
+	public void testNumberArrays() throws Exception {
+		test(new int[]{1,-1,200,-200,70000,Integer.MIN_VALUE}, Arrays.asList(1,-1,200,-200,70000,Integer.MIN_VALUE));
+		test(new long[]{1,Long.MAX_VALUE,Long.MIN_VALUE}, Arrays.asList(1L,Long.MAX_VALUE,Long.MIN_VALUE));
+		test(new double[]{1.5,-2}, Arrays.asList(1.5,-2d));
+		test(new float[]{1.5f}, Arrays.asList(1.5f));
+		test(new short[]{1,-300}, Arrays.asList((short)1,(short)-300));
+		test(new Integer[]{1,null}, Arrays.asList(1,null));
+		test(new int[0], Arrays.asList());
+		test(OMap.of("a", Arrays.asList(1,null,2)), OMap.of("a", Arrays.<Object>asList(1,null,2)));
+	}
+
+	private void test(Object input, Object expected) throws Exception {
+		MsgPackSerializer s = MsgPackSerializer.DEFAULT;
+		assertEquals(StringUtils.toSpacedHex(s.serialize(expected)), StringUtils.toSpacedHex(s.serialize(input)));
+	}
+
 	public static class Person {
 		public String name = "John Smith";
 		public int age = 21;
@@ -58,6 +58,7 @@ public class ParserConfigAnnotationTest {
 	@ParserConfig(
 		autoCloseStreams="$X{true}",
 		binaryFormat="$X{HEX}",
+		bufferSize="$X{2048}",
 		debugOutputLines="$X{1}",
 		fileCharset="$X{US-ASCII}",
 		streamCharset="$X{US-ASCII}",
@@ -74,6 +75,7 @@ public class ParserConfigAnnotationTest {
 		AnnotationList al = a.getAnnotationList();
 		JsonParserSession x = JsonParser.create().applyAnnotations(al, sr).build().createSession();
 		check("true", x.isAutoCloseStreams());
+		check("2048", x.getBufferSize());
 		check("1", x.getDebugOutputLines());
 		check("US-ASCII", x.getFileCharset());
 		check("US-ASCII", x.getStreamCharset());
@@ -109,6 +111,7 @@ public class ParserConfigAnnotationTest {
 		AnnotationList al = b.getAnnotationList();
 		JsonParserSession x = JsonParser.create().applyAnnotations(al, sr).build().createSession();
 		check("false", x.isAutoCloseStreams());
+		check("1024", x.getBufferSize());
 		check("5", x.getDebugOutputLines());
 		check(Charset.defaultCharset().toString(), x.getFileCharset());
 		check("UTF-8", x.getStreamCharset());
@@ -143,6 +146,7 @@ public class ParserConfigAnnotationTest {
 		AnnotationList al = c.getAnnotationList();
 		JsonParserSession x = JsonParser.create().applyAnnotations(al, sr).build().createSession();
 		check("false", x.isAutoCloseStreams());
+		check("1024", x.getBufferSize());
 		check("5", x.getDebugOutputLines());
 		check(Charset.defaultCharset().toString(), x.getFileCharset());
 		check("UTF-8", x.getStreamCharset());
@@ -0,0 +1,240 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.apache.juneau.csv.*;
+import org.apache.juneau.html.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.oapi.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.uon.*;
+import org.apache.juneau.urlencoding.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class ParserIteratorTest {
+
+	private static final Serializer[] SERIALIZERS = {
+		SimpleJsonSerializer.DEFAULT, UonSerializer.DEFAULT, MsgPackSerializer.DEFAULT, XmlSerializer.DEFAULT, CsvSerializer.DEFAULT
+	};
+
+	private static final Parser[] PARSERS = {
+		JsonParser.DEFAULT, UonParser.DEFAULT, MsgPackParser.DEFAULT, XmlParser.DEFAULT, CsvParser.DEFAULT
+	};
+
+	private static final JsonParser AUTO_CLOSE = JsonParser.create().autoCloseStreams().build();
+
+	public static class A {
+		public String f1;
+		public int f2;
+
+		public static A create(int i) {
+			A a = new A();
+			a.f1 = "x" + i;
+			a.f2 = i;
+			return a;
+		}
+	}
+
+	private static List<A> beans(int count) {
+		List<A> l = new ArrayList<>();
+		for (int i = 0; i < count; i++)
+			l.add(A.create(i));
+		return l;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Basic iteration
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_beans() throws Exception {
+		for (int i = 0; i < PARSERS.length; i++) {
+			Object in = SERIALIZERS[i].serialize(beans(3));
+			try (ParserIterator<A> x = PARSERS[i].parseIterator(in, A.class)) {
+				for (int j = 0; j < 3; j++) {
+					assertTrue(x.hasNext());
+					assertTrue(x.hasNext());
+					A a = x.next();
+					assertEquals(PARSERS[i].getClass().getSimpleName(), "x" + j, a.f1);
+					assertEquals(j, a.f2);
+				}
+				assertFalse(x.hasNext());
+				assertThrown(()->x.next()).isType(NoSuchElementException.class);
+			}
+		}
+	}
+
+	@Test
+	public void a02_stream() throws Exception {
+		for (int i = 0; i < PARSERS.length; i++) {
+			Object in = SERIALIZERS[i].serialize(beans(5));
+			try (Stream<A> x = PARSERS[i].parseStream(in, A.class)) {
+				assertEquals(10, x.mapToInt(a -> a.f2).sum());
+			}
+		}
+	}
+
+	@Test
+	public void a03_nullInput() throws Exception {
+		for (Parser p : PARSERS) {
+			assertFalse(p.parseIterator(null, A.class).hasNext());
+			assertEquals(0, p.parseStream(null, A.class).count());
+		}
+	}
+
+	@Test
+	public void a04_emptyArrays() throws Exception {
+		assertFalse(JsonParser.DEFAULT.parseIterator("[]", Integer.class).hasNext());
+		assertFalse(JsonParser.DEFAULT.parseIterator(" [ ] ", Integer.class).hasNext());
+		assertFalse(JsonParser.DEFAULT.parseIterator("", Integer.class).hasNext());
+		assertFalse(UonParser.DEFAULT.parseIterator("@()", Integer.class).hasNext());
+		assertFalse(MsgPackParser.DEFAULT.parseIterator(MsgPackSerializer.DEFAULT.serialize(new int[0]), Integer.class).hasNext());
+		assertFalse(XmlParser.DEFAULT.parseIterator(XmlSerializer.DEFAULT.serialize(new int[0]), Integer.class).hasNext());
+		assertFalse(CsvParser.DEFAULT.parseIterator("f1,f2\n", A.class).hasNext());
+	}
+
+	@Test
+	public void a05_simpleValues() throws Exception {
+		for (int i = 0; i < PARSERS.length - 1; i++) {
+			Object in = SERIALIZERS[i].serialize(new Object[]{1, "foo", null, true});
+			List<Object> l = new ArrayList<>();
+			PARSERS[i].parseIterator(in, Object.class).forEachRemaining(l::add);
+			assertObject(l).json().is("[1,'foo',null,true]");
+		}
+	}
+
+	@Test
+	public void a06_nestedCollections() throws Exception {
+		List<List<Integer>> l = new ArrayList<>();
+		JsonParser.DEFAULT.<List<Integer>>parseIterator("[[1,2],[],[3]]", List.class, Integer.class).forEachRemaining(l::add);
+		assertObject(l).json().is("[[1,2],[],[3]]");
+		l.clear();
+		UonParser.DEFAULT.<List<Integer>>parseIterator("@(@(1,2),@(),@(3))", List.class, Integer.class).forEachRemaining(l::add);
+		assertObject(l).json().is("[[1,2],[],[3]]");
+	}
+
+	@Test
+	public void a07_largeArray() throws Exception {
+		for (int i = 0; i < PARSERS.length; i++) {
+			Object in = SERIALIZERS[i].serialize(beans(10000));
+			try (Stream<A> x = PARSERS[i].parseStream(in, A.class)) {
+				assertEquals(10000, x.count());
+			}
+		}
+	}
+
+	@Test
+	public void a08_readerInput() throws Exception {
+		try (ParserIterator<Integer> x = JsonParser.DEFAULT.parseIterator(new StringReader("[1,2,3]"), Integer.class)) {
+			assertEquals(Integer.valueOf(1), x.next());
+			assertEquals(Integer.valueOf(2), x.next());
+			assertEquals(Integer.valueOf(3), x.next());
+			assertFalse(x.hasNext());
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Closing
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_closeEarly() throws Exception {
+		TestReader r = new TestReader("[1,2,3]");
+		ParserIterator<Integer> x = AUTO_CLOSE.parseIterator(r, Integer.class);
+		assertEquals(Integer.valueOf(1), x.next());
+		x.close();
+		x.close();
+		assertTrue(r.closed);
+		assertFalse(x.hasNext());
+	}
+
+	@Test
+	public void b02_closedAtEnd() throws Exception {
+		TestReader r = new TestReader("[1]");
+		ParserIterator<Integer> x = AUTO_CLOSE.parseIterator(r, Integer.class);
+		x.next();
+		assertFalse(r.closed);
+		assertFalse(x.hasNext());
+		assertTrue(r.closed);
+	}
+
+	@Test
+	public void b03_streamClose() throws Exception {
+		TestReader r = new TestReader("[1,2,3]");
+		try (Stream<Integer> x = AUTO_CLOSE.parseStream(r, Integer.class)) {
+			assertEquals(Integer.valueOf(1), x.findFirst().get());
+		}
+		assertTrue(r.closed);
+	}
+
+	public static class TestReader extends StringReader {
+		boolean closed;
+
+		public TestReader(String s) {
+			super(s);
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+			super.close();
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Errors
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_malformedJson() throws Exception {
+		assertThrown(()->JsonParser.DEFAULT.parseIterator("{}", Integer.class)).contains("Expected '['");
+		assertThrown(()->JsonParser.DEFAULT.parseIterator("[1,]", Integer.class).forEachRemaining(x->{})).isType(UncheckedParseException.class).contains("Unexpected trailing comma in array.");
+		assertThrown(()->JsonParser.DEFAULT.parseIterator("[1 2]", Integer.class).forEachRemaining(x->{})).contains("Expected ',' or ']'.");
+		assertThrown(()->JsonParser.DEFAULT.parseIterator("[1,'a']", Integer.class).forEachRemaining(x->{})).isType(UncheckedParseException.class);
+		try {
+			JsonParser.DEFAULT.parseIterator("[1,]", Integer.class).forEachRemaining(x->{});
+			fail();
+		} catch (UncheckedParseException e) {
+			assertTrue(e.getCause() instanceof ParseException);
+		}
+		assertThrown(()->JsonParser.create().validateEnd().build().parseIterator("[1] x", Integer.class).forEachRemaining(x->{})).contains("Remainder after parse");
+	}
+
+	@Test
+	public void c02_errorClosesInput() throws Exception {
+		TestReader r = new TestReader("[1,'a']");
+		ParserIterator<Integer> x = AUTO_CLOSE.parseIterator(r, Integer.class);
+		x.next();
+		assertThrown(()->x.next()).isType(UncheckedParseException.class);
+		assertTrue(r.closed);
+		assertFalse(x.hasNext());
+	}
+
+	@Test
+	public void c03_unsupported() throws Exception {
+		assertThrown(()->HtmlParser.DEFAULT.parseIterator("<ul><li>1</li></ul>", Integer.class)).isType(UnsupportedOperationException.class);
+		assertThrown(()->UrlEncodingParser.DEFAULT.parseIterator("0=a&1='b,c'&2=''", String.class)).isType(UnsupportedOperationException.class);
+		assertThrown(()->OpenApiParser.DEFAULT.parseIterator("a,b", String.class)).isType(UnsupportedOperationException.class);
+	}
+}
@@ -0,0 +1,185 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+
+import org.apache.juneau.collections.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class PushParserTest {
+
+	public static class A {
+		public String f1;
+		public int f2;
+		public byte[] f3;
+		public List<A> f4;
+		public Map<String,Double> f5;
+
+		public static A create(int i) {
+			A a = new A();
+			a.f1 = "x\"]}'" + i + repeat('y', i * 50);
+			a.f2 = i;
+			a.f3 = new byte[i * 40];
+			a.f4 = i == 0 ? null : Arrays.asList(create(i - 1), create(i - 1));
+			a.f5 = new LinkedHashMap<>();
+			a.f5.put("a", 1.5);
+			a.f5.put("b", -2.0);
+			return a;
+		}
+	}
+
+	private static String repeat(char c, int count) {
+		char[] x = new char[count];
+		Arrays.fill(x, c);
+		return new String(x);
+	}
+
+	private static <T> List<T> feed(PushParser<T> p, byte[] in, int chunkSize) throws Exception {
+		List<T> l = new ArrayList<>();
+		for (int i = 0; i < in.length; i += chunkSize) {
+			p.feed(in, i, Math.min(chunkSize, in.length - i));
+			while (p.hasNext())
+				l.add(p.next());
+		}
+		p.end();
+		while (p.hasNext())
+			l.add(p.next());
+		return l;
+	}
+
+	private static byte[] utf8(String s) throws Exception {
+		return s.getBytes("UTF-8");
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// JSON
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_json_bean() throws Exception {
+		byte[] in = utf8(JsonSerializer.DEFAULT.serialize(A.create(3)));
+		String expected = JsonSerializer.DEFAULT.serialize(A.create(3));
+		for (int chunkSize : new int[]{1, 2, 7, 100, in.length}) {
+			List<A> l = feed(JsonParser.DEFAULT.pushParser(A.class), in, chunkSize);
+			assertEquals(1, l.size());
+			assertEquals(expected, JsonSerializer.DEFAULT.serialize(l.get(0)));
+		}
+	}
+
+	@Test
+	public void a02_json_multipleValues() throws Exception {
+		byte[] in = utf8(" {a:'}'}\n[1,[2]]\n'x\\'y' /*{*/ \"z\" 123 // ]\ntrue\nnull\n-4.5");
+		for (int chunkSize : new int[]{1, 3, 1000}) {
+			List<Object> l = feed(JsonParser.DEFAULT.pushParser(Object.class), in, chunkSize);
+			assertObject(l).json().is("[{a:'}'},[1,[2]],'x\\'y','z',123,true,null,-4.5]");
+		}
+	}
+
+	@Test
+	public void a03_json_utf8() throws Exception {
+		byte[] in = utf8("['é中😀']");
+		List<String[]> l = feed(JsonParser.DEFAULT.pushParser(String[].class), in, 1);
+		assertEquals("é中😀", l.get(0)[0]);
+	}
+
+	@Test
+	public void a04_json_incomplete() throws Exception {
+		PushParser<Object> p = JsonParser.DEFAULT.pushParser(Object.class);
+		p.feed(utf8("{a:[1,2]"));
+		assertFalse(p.hasNext());
+		assertThrown(()->p.end()).contains("Unexpected end of input");
+		assertThrown(()->p.feed(utf8("}"))).isType(IllegalStateException.class);
+	}
+
+	@Test
+	public void a05_json_malformed() throws Exception {
+		PushParser<A> p = JsonParser.DEFAULT.pushParser(A.class);
+		assertThrown(()->p.feed(utf8("{f2:'foo'}"))).isType(ParseException.class);
+		assertTrue(p.isEnded());
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// MessagePack
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_msgPack_bean() throws Exception {
+		byte[] in = MsgPackSerializer.DEFAULT.serialize(A.create(3));
+		for (int chunkSize : new int[]{1, 2, 7, 100, in.length}) {
+			List<A> l = feed(MsgPackParser.DEFAULT.pushParser(A.class), in, chunkSize);
+			assertEquals(1, l.size());
+			assertEquals(JsonSerializer.DEFAULT.serialize(A.create(3)), JsonSerializer.DEFAULT.serialize(l.get(0)));
+		}
+	}
+
+	@Test
+	public void b02_msgPack_multipleValues() throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		Object[] values = {
+			1, -1, 300, -300, 70000, 5000000000L, 1.5f, 2.5d, true, false, null, "", "abc", repeat('x', 300), repeat('y', 70000),
+			new byte[0], new byte[300], OList.of(), OList.of(1, OList.of(2)), OMap.of(), OMap.of("a", OMap.of("b", 1))
+		};
+		for (Object o : values)
+			baos.write(MsgPackSerializer.DEFAULT.serialize(o));
+		byte[] in = baos.toByteArray();
+		for (int chunkSize : new int[]{1, 5, 1000, in.length}) {
+			List<Object> l = feed(MsgPackParser.DEFAULT.pushParser(Object.class), in, chunkSize);
+			assertEquals(values.length, l.size());
+			for (int i = 0; i < values.length; i++)
+				assertEquals(JsonSerializer.DEFAULT.serialize(values[i]), JsonSerializer.DEFAULT.serialize(l.get(i)));
+		}
+	}
+
+	@Test
+	public void b03_msgPack_incomplete() throws Exception {
+		byte[] in = MsgPackSerializer.DEFAULT.serialize(OMap.of("a", repeat('x', 1000)));
+		PushParser<Object> p = MsgPackParser.DEFAULT.pushParser(Object.class);
+		p.feed(in, 0, in.length - 1);
+		assertFalse(p.hasNext());
+		assertThrown(()->p.end()).contains("Unexpected end of input");
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Other
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_byteBuffers() throws Exception {
+		byte[] in = utf8("{f1:'foo',f2:123}");
+		for (ByteBuffer bb : new ByteBuffer[]{ByteBuffer.wrap(in), (ByteBuffer)ByteBuffer.allocateDirect(in.length).put(in).flip()}) {
+			PushParser<A> p = JsonParser.DEFAULT.pushParser(A.class);
+			p.feed(bb);
+			assertEquals(0, bb.remaining());
+			assertTrue(p.hasNext());
+			assertEquals(123, p.next().f2);
+			assertFalse(p.hasNext());
+			assertThrown(()->p.next()).isType(NoSuchElementException.class);
+		}
+	}
+
+	@Test
+	public void c02_unsupported() throws Exception {
+		assertThrown(()->XmlParser.DEFAULT.pushParser(A.class)).isType(UnsupportedOperationException.class);
+	}
+}
@@ -0,0 +1,129 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.util.*;
+
+import org.apache.juneau.collections.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.uon.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+/**
+ * Tests that values of unknown bean properties are skipped correctly when they're discarded.
+ */
+@FixMethodOrder(NAME_ASCENDING)
+public class UnknownPropertySkipTest {
+
+	private static final Serializer[] SERIALIZERS = {
+		SimpleJsonSerializer.DEFAULT, UonSerializer.DEFAULT, MsgPackSerializer.DEFAULT, XmlSerializer.DEFAULT
+	};
+
+	private static final Parser[] PARSERS = {
+		JsonParser.create().ignoreUnknownBeanProperties().build(),
+		UonParser.create().ignoreUnknownBeanProperties().build(),
+		MsgPackParser.create().ignoreUnknownBeanProperties().build(),
+		XmlParser.create().ignoreUnknownBeanProperties().build()
+	};
+
+	private static final Parser[] LISTENER_PARSERS = {
+		JsonParser.create().ignoreUnknownBeanProperties().listener(L.class).build(),
+		UonParser.create().ignoreUnknownBeanProperties().listener(L.class).build(),
+		MsgPackParser.create().ignoreUnknownBeanProperties().listener(L.class).build(),
+		XmlParser.create().ignoreUnknownBeanProperties().listener(L.class).build()
+	};
+
+	public static class A {
+		public String f1;
+		public int f2;
+		public A f3;
+	}
+
+	public static class L extends ParserListener {
+		static final List<String> events = new ArrayList<>();
+
+		@Override /* ParserListener */
+		public <T> void onUnknownBeanProperty(ParserSession session, String propertyName, Class<T> beanClass, T bean) {
+			events.add(propertyName);
+		}
+	}
+
+	private static OMap input() {
+		return OMap.of(
+			"u1", "x,y)(z'\"}{][~",
+			"f1", "foo",
+			"u2", OMap.of("a", OList.of(1, "(b)", OMap.of("c", null, "d", "'e'")), "f", true),
+			"f2", 123,
+			"u3", OList.of(OList.of(), OMap.of(), "", null, 1.5),
+			"f3", OMap.of("u4", OMap.of("g", "h"), "f1", "bar", "u5", false, "f2", 456),
+			"u6", -1
+		);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Tests
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_skipUnknown() throws Exception {
+		for (int i = 0; i < PARSERS.length; i++) {
+			String name = PARSERS[i].getClass().getSimpleName();
+			A a = PARSERS[i].parse(SERIALIZERS[i].serialize(input()), A.class);
+			assertEquals(name, "foo", a.f1);
+			assertEquals(name, 123, a.f2);
+			assertEquals(name, "bar", a.f3.f1);
+			assertEquals(name, 456, a.f3.f2);
+		}
+	}
+
+	@Test
+	public void a02_listenerStillNotified() throws Exception {
+		for (int i = 0; i < LISTENER_PARSERS.length; i++) {
+			L.events.clear();
+			A a = LISTENER_PARSERS[i].parse(SERIALIZERS[i].serialize(input()), A.class);
+			assertEquals(456, a.f3.f2);
+			assertObject(L.events).json().is("['u1','u2','u3','u4','u5','u6']");
+		}
+	}
+
+	@Test
+	public void a03_lax() throws Exception {
+		A a = PARSERS[0].parse("{u1:[{a:'}'},/*]*/'x'+'y'],f1:'foo',u2:{b:[1,2]},f2:1,u3:abc,u4:null,u5:-1.5e3}", A.class);
+		assertEquals("foo", a.f1);
+		assertEquals(1, a.f2);
+
+		a = PARSERS[1].parse("(u1=@((a=')'),~'x),f1=foo,u2=a(b,f2=1,u3=null)", A.class);
+		assertEquals("foo", a.f1);
+		assertEquals(1, a.f2);
+	}
+
+	@Test
+	public void a04_malformed() throws Exception {
+		assertThrown(()->PARSERS[0].parse("{u1:{a:[1,2},f1:'foo'}", A.class)).isType(ParseException.class);
+		assertThrown(()->PARSERS[0].parse("{u1:[1,{a:'b'}", A.class)).isType(ParseException.class);
+		assertThrown(()->PARSERS[1].parse("(u1=(a=(b=c),f1=foo", A.class)).isType(ParseException.class);
+	}
+
+	@Test
+	public void a05_notIgnored() throws Exception {
+		assertThrown(()->JsonParser.DEFAULT.parse("{u1:{a:1},f1:'foo'}", A.class)).contains("Unknown property 'u1'");
+		assertThrown(()->UonParser.DEFAULT.parse("(u1=(a=1),f1=foo)", A.class)).contains("Unknown property 'u1'");
+	}
+}
@@ -385,4 +385,33 @@ public class ReflectionMapTest {
 		assertObject(ReflectionMap.splitNames("foo(bar,baz),bar(baz,qux)")).json().is("['foo(bar,baz)','bar(baz,qux)']");
 		assertObject(ReflectionMap.splitNames(" foo(bar,baz) , bar(baz,qux) ")).json().is("['foo(bar,baz)','bar(baz,qux)']");
 	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Ordering across different name forms.
+	//------------------------------------------------------------------------------------------------------------------
+
+	static ReflectionMap<Number> RM_I = create()
+		.append("A1", 1)
+		.append("A2", 2)
+		.append("org.apache.juneau.utils.ReflectionMapTest$A1", 3)
+		.append("*", 4)
+		.append("ReflectionMapTest$A1", 5)
+		.append("B1.m1", 6)
+		.append("org.apache.juneau.utils.ReflectionMapTest$B1.m1(int)", 7)
+		.append("B1.m2", 8)
+		.append("*.m1()", 9)
+		.append("C1.f1", 10)
+		.append("C1.f2", 11)
+		.build();
+
+	@Test
+	public void i01_ordering() throws Exception {
+		assertObject(RM_I.findAll(A1.class)).json().is("[1,3,4,5]");
+		assertObject(RM_I.findAll(A2.class)).json().is("[2,4]");
+		assertObject(RM_I.find(A1.class)).json().is("1");
+		assertObject(RM_I.findAll(B1.class.getMethod("m1"))).json().is("[6,9]");
+		assertObject(RM_I.findAll(B1.class.getMethod("m1", int.class))).json().is("[6,7]");
+		assertObject(RM_I.findAll(C1.class.getField("f2"))).json().is("[11]");
+		assertObject(RM_I.findAll(D1.class.getConstructor())).json().is("[]");
+	}
 }
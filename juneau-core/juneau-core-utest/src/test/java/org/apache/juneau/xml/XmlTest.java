@@ -20,11 +20,13 @@ import static org.junit.runners.MethodSorters.*;
 import java.net.*;
 import java.util.*;
 
+import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
 import org.apache.juneau.collections.*;
 import org.apache.juneau.jena.annotation.*;
 import org.apache.juneau.json.*;
 import org.apache.juneau.testutils.XmlUtils;
+import org.apache.juneau.transform.*;
 import org.apache.juneau.xml.annotation.*;
 import org.apache.juneau.xml.xml1a.*;
 import org.apache.juneau.xml.xml1b.*;
@@ -1028,4 +1030,83 @@ public class XmlTest {
 			f3 = "f3";
 		}
 	}
-}
\ No newline at end of file
+
+	//====================================================================================================
+	// Namespaces detected from declared types, subclasses, and swapped values.
+	//====================================================================================================
+	@Test
+	public void testNamespacesFromDeclaredTypes() throws Exception {
+		XmlSerializer s = XmlSerializer.create().sq().ns().addNamespaceUrisToRoot().build();
+
+		// Namespaces are determined from the declared types, so null properties contribute theirs too.
+		R t = new R();
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:r1='http://r1' xmlns:r2='http://r2' xmlns:s='http://s'/>", s.serialize(t));
+		XmlUtils.validateXml(t, s);
+
+		t.f4 = new ArrayList<>(Arrays.asList(new S(), new S()));
+		t.f4.get(1).f1 = "x";
+		String r = s.serialize(t);
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:r1='http://r1' xmlns:r2='http://r2' xmlns:s='http://s'><f4><object/><object><s:f1>x</s:f1></object></f4></object>", r);
+		XmlUtils.validateXml(t, s);
+
+		// Namespaces only used by subclasses of the declared types are declared where they're used.
+		t = new R();
+		t.f3 = new R2();
+		r = s.serialize(t);
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:r1='http://r1' xmlns:r2='http://r2' xmlns:s='http://s'><f3 _type='object' xmlns:bar='http://bar' bar:f6='y' bar:f7='z'><foo:f5 xmlns:foo='http://foo'>x</foo:f5></f3></object>", r);
+		XmlUtils.validateXml(t, s);
+
+		// Values of Object properties are crawled.
+		T t2 = new T();
+		S s2 = new S();
+		s2.f1 = "x";
+		t2.f1 = s2;
+		r = s.serialize(t2);
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:s='http://s'><f1 _type='object'><s:f1>x</s:f1></f1></object>", r);
+		XmlUtils.validateXml(t2, s);
+
+		// Swapped values are crawled.
+		s = XmlSerializer.create().sq().ns().addNamespaceUrisToRoot().swaps(SSwap.class).build();
+		t = new R();
+		t.f4 = new ArrayList<>(Arrays.asList(new S()));
+		r = s.serialize(t);
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:foo='http://foo' xmlns:bar='http://bar'><f4><object bar:f6='y' bar:f7='z'><foo:f5>x</foo:f5></object></f4></object>", r);
+		XmlUtils.validateXml(t, s);
+	}
+
+	public static class R {
+		@Xml(prefix="r1", namespace="http://r1")
+		public String f0;
+		@Xml(prefix="r2", namespace="http://r2")
+		public List<R> f1;
+		@Xml(prefix="r1", namespace="http://r1")
+		public R[] f2;
+		public R f3;
+		public List<S> f4;
+	}
+
+	public static class R2 extends R {
+		@Xml(prefix="foo", namespace="http://foo")
+		public String f5 = "x";
+		@Xml(format=ATTR, prefix="bar", namespace="http://bar")
+		public String f6 = "y";
+		@Xml(format=ATTR, prefix="bar", namespace="http://bar")
+		public String f7 = "z";
+	}
+
+	public static final class S {
+		@Xml(prefix="s", namespace="http://s")
+		public String f1;
+	}
+
+	public static class T {
+		public Object f1;
+	}
+
+	public static class SSwap extends PojoSwap<S,R2> {
+		@Override /* PojoSwap */
+		public R2 swap(BeanSession session, S o) {
+			return new R2();
+		}
+	}
+}
@@ -912,4 +912,65 @@ public interface RdfCommon {
 	 * </p>
 	 */
 	public static final String RDF_looseCollections = PREFIX + ".looseCollections.b";
+
+	/**
+	 * Configuration property:  Stream triples instead of building an in-memory model.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.jena.RdfCommon#RDF_streaming RDF_streaming}
+	 * 	<li><b>Name:</b>  <js>"RdfCommon.streaming.b"</js>
+	 * 	<li><b>Data type:</b>  <jk>boolean</jk>
+	 * 	<li><b>System property:</b>  <c>RdfCommon.streaming</c>
+	 * 	<li><b>Environment variable:</b>  <c>RDFCOMMON_STREAMING</c>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link org.apache.juneau.jena.annotation.RdfConfig#streaming()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.jena.RdfSerializerBuilder#streaming(boolean)}
+	 * 			<li class='jm'>{@link org.apache.juneau.jena.RdfSerializerBuilder#streaming()}
+	 * 			<li class='jm'>{@link org.apache.juneau.jena.RdfParserBuilder#streaming(boolean)}
+	 * 			<li class='jm'>{@link org.apache.juneau.jena.RdfParserBuilder#streaming()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * When enabled, the line-oriented languages (<js>"N-TRIPLE"</js>, <js>"TURTLE"</js> and the <js>"N3"</js>
+	 * variants) are handled without building a complete Jena model.
+	 *
+	 * <p>
+	 * The serializer writes each triple as an N-Triples statement as soon as it's generated (N-Triples is a subset of
+	 * Turtle and N3, so the output is valid in all three languages).
+	 * <br>The parser reads statements as they arrive and, when combined with {@link #RDF_looseCollections}, converts
+	 * each root resource into a POJO as soon as its root marker is read and then discards its statements.
+	 * <br>Memory usage is therefore bounded by the size of the largest element instead of the whole document.
+	 *
+	 * <p>
+	 * This setting is ignored for RDF/XML.
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		Streamed output contains no namespace prefixes.
+	 * 	<li>
+	 * 		Loose collections are written with a root marker on each element so that they can be parsed incrementally.
+	 * 		<br>The resources of each element must not be shared with other elements.
+	 * </ul>
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	WriterSerializer s = RdfSerializer.<jsm>create</jsm>().ntriple().looseCollections().streaming().build();
+	 * 	ReaderParser p = RdfParser.<jsm>create</jsm>().ntriple().looseCollections().streaming().build();
+	 *
+	 * 	<jc>// Write a large list of beans without holding all the triples in memory.</jc>
+	 * 	s.serialize(l, writer);
+	 *
+	 * 	<jc>// Parse it back one bean at a time.</jc>
+	 * 	l = p.parse(reader, LinkedList.<jk>class</jk>, MyBean.<jk>class</jk>);
+	 * </p>
+	 */
+	public static final String RDF_streaming = PREFIX + ".streaming.b";
 }
@@ -105,7 +105,7 @@ public class RdfParser extends ReaderParser implements RdfCommon, RdfMetaProvide
 	// Instance
 	//-------------------------------------------------------------------------------------------------------------------
 
-	private final boolean trimWhitespace, looseCollections;
+	private final boolean trimWhitespace, looseCollections, streaming;
 	private final String rdfLanguage;
 	private final Namespace juneauNs, juneauBpNs;
 	private final RdfCollectionFormat collectionFormat;
@@ -130,6 +130,7 @@ public class RdfParser extends ReaderParser implements RdfCommon, RdfMetaProvide
 		super(ps, consumes);
 		trimWhitespace = getBooleanProperty(RDF_trimWhitespace);
 		looseCollections = getBooleanProperty(RDF_looseCollections);
+		streaming = getBooleanProperty(RDF_streaming);
 		rdfLanguage = getStringProperty(RDF_language, "RDF/XML-ABBREV");
 		juneauNs = getInstanceProperty(RDF_juneauNs, Namespace.class, DEFAULT_JUNEAU_NS);
 		juneauBpNs = getInstanceProperty(RDF_juneauBpNs, Namespace.class, DEFAULT_JUNEAUBP_NS);
@@ -321,6 +322,17 @@ public class RdfParser extends ReaderParser implements RdfCommon, RdfMetaProvide
 		return looseCollections;
 	}
 
+	/**
+	 * Stream triples instead of building an in-memory model.
+	 *
+	 * @see #RDF_streaming
+	 * @return
+	 * 	<jk>true</jk> if triples are streamed for the line-oriented languages instead of being built up in a Jena model.
+	 */
+	protected final boolean isStreaming() {
+		return streaming;
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Jena properties
 	//-----------------------------------------------------------------------------------------------------------------
@@ -360,6 +372,7 @@ public class RdfParser extends ReaderParser implements RdfCommon, RdfMetaProvide
 			.a("RdfParser", new DefaultFilteringOMap()
 				.a("trimWhitespace", trimWhitespace)
 				.a("looseCollections", looseCollections)
+				.a("streaming", streaming)
 				.a("rdfLanguage", rdfLanguage)
 				.a("juneauNs", juneauNs)
 				.a("juneauBpNs", juneauBpNs)
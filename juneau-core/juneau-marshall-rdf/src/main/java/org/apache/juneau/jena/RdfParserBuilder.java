@@ -647,6 +647,44 @@ public class RdfParserBuilder extends ReaderParserBuilder {
 		return set(RDF_looseCollections);
 	}
 
+	/**
+	 * <i><l>RdfParser</l> configuration property:&emsp;</i>  Stream triples instead of building an in-memory model.
+	 *
+	 * <p>
+	 * When enabled, the line-oriented languages (N-Triples, Turtle, N3) are read incrementally instead of through a
+	 * complete Jena model.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RdfParser#RDF_streaming}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RdfParserBuilder streaming(boolean value) {
+		return set(RDF_streaming, value);
+	}
+
+	/**
+	 * <i><l>RdfParser</l> configuration property:&emsp;</i>  Stream triples instead of building an in-memory model.
+	 *
+	 * <p>
+	 * Shortcut for <code>streaming(<jk>true</jk>)</code>.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RdfParser#RDF_streaming}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RdfParserBuilder streaming() {
+		return set(RDF_streaming);
+	}
+
 	/**
 	 * <i><l>RdfParser</l> configuration property:&emsp;</i>  RDF language.
 	 *
@@ -1230,6 +1268,12 @@ public class RdfParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - ReaderParserBuilder */
+	public RdfParserBuilder bufferSize(int value) {
+		super.bufferSize(value);
+		return this;
+	}
+
 	@Override /* GENERATED - ReaderParserBuilder */
 	public RdfParserBuilder fileCharset(Charset value) {
 		super.fileCharset(value);
@@ -15,10 +15,15 @@ package org.apache.juneau.jena;
 import static org.apache.juneau.internal.StringUtils.*;
 import static org.apache.juneau.jena.Constants.*;
 
-import java.io.IOException;
+import java.io.*;
 import java.util.*;
 
+import org.apache.jena.graph.*;
+import org.apache.jena.n3.turtle.TurtleEventHandler;
+import org.apache.jena.n3.turtle.parser.TokenMgrError;
+import org.apache.jena.n3.turtle.parser.TurtleParser;
 import org.apache.jena.rdf.model.*;
+import org.apache.jena.shared.*;
 import org.apache.jena.util.iterator.*;
 import org.apache.juneau.*;
 import org.apache.juneau.collections.*;
@@ -40,6 +45,7 @@ public class RdfParserSession extends ReaderParserSession {
 	private final Property pRoot, pValue, pType, pRdfType;
 	private final Model model;
 	private final RDFReader rdfReader;
+	private final boolean streaming, isXml;
 	private final Set<Resource> urisVisited = new HashSet<>();
 
 	/**
@@ -62,6 +68,8 @@ public class RdfParserSession extends ReaderParserSession {
 		pType = model.createProperty(ctx.getJuneauBpNs().getUri(), RDF_juneauNs_TYPE);
 		pRdfType = model.createProperty("http://www.w3.org/1999/02/22-rdf-syntax-ns#type");
 		rdfReader = model.getReader(ctx.getLanguage());
+		isXml = "rdfXml.".equals(RdfCommon.LANG_PROP_MAP.get(ctx.getLanguage()));
+		streaming = isStreaming() && ! isXml;
 
 		// Note: NTripleReader throws an exception if you try to set any properties on it.
 		if (! ctx.getLanguage().equals(LANG_NTRIPLE)) {
@@ -73,14 +81,9 @@ public class RdfParserSession extends ReaderParserSession {
 	@Override /* ReaderParserSession */
 	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws IOException, ParseException, ExecutableException {
 
-		RDFReader r = rdfReader;
-		r.read(model, pipe.getBufferedReader(), null);
-
-		List<Resource> roots = getRoots(model);
-
 		// Special case where we're parsing a loose collection of resources.
+		Collection c = null;
 		if (isLooseCollections() && type.isCollectionOrArray()) {
-			Collection c = null;
 			if (type.isArray() || type.isArgs())
 				c = new ArrayList();
 			else
@@ -89,11 +92,23 @@ public class RdfParserSession extends ReaderParserSession {
 					? (Collection<?>)type.newInstance(getOuter())
 					: new OList(this)
 				);
+		}
+
+		// The jena-core N-Triples/Turtle readers don't understand the "\UXXXXXXXX" escapes written when streaming.
+		Reader r = pipe.getBufferedReader();
+		if (! isXml)
+			r = new UnicodeEscapeReader(r);
+
+		if (streaming)
+			readStreaming(r, type, c);
+		else
+			rdfReader.read(model, r, null);
+
+		List<Resource> roots = getRoots(model);
 
-			int argIndex = 0;
+		if (c != null) {
 			for (Resource resource : roots)
-				c.add(parseAnything(type.isArgs() ? type.getArg(argIndex++) : type.getElementType(), resource,
-					getOuter(), null));
+				addLooseElement(c, type, resource);
 
 			if (type.isArray() || type.isArgs())
 				return (T)toArray(type, c);
@@ -110,6 +125,69 @@ public class RdfParserSession extends ReaderParserSession {
 		return parseAnything(type, resource, getOuter(), null);
 	}
 
+	/*
+	 * Reads the input one statement at a time using the Jena Turtle parser (which also handles N-Triples and the subset
+	 * of N3 produced by the serializers).
+	 * When parsing a loose collection, each resource is converted as soon as its root marker is read and its
+	 * statements are then discarded, so only a single element is held in the model at any time.
+	 */
+	private void readStreaming(Reader r, ClassMeta<?> type, Collection c) throws IOException, ParseException, ExecutableException {
+		Graph g = model.getGraph();
+		Node root = pRoot.asNode();
+		TurtleParser p = new TurtleParser(r);
+		p.setEventHandler(new TurtleEventHandler() {
+			@Override /* TurtleEventHandler */
+			public void triple(int line, int col, Triple t) {
+				g.add(t);
+				if (c != null && root.equals(t.getPredicate())) {
+					try {
+						addLooseElement(c, type, model.asRDFNode(t.getSubject()));
+					} catch (IOException | ParseException | ExecutableException e) {
+						throw new StreamingAbort(e);
+					}
+					model.removeAll();
+					urisVisited.clear();
+				}
+			}
+
+			@Override /* TurtleEventHandler */
+			public void prefix(int line, int col, String prefix, String iri) {}
+
+			@Override /* TurtleEventHandler */
+			public void startFormula(int line, int col) {}
+
+			@Override /* TurtleEventHandler */
+			public void endFormula(int line, int col) {}
+		});
+		try {
+			p.parse();
+		} catch (StreamingAbort e) {
+			Throwable t = e.getCause();
+			if (t instanceof IOException)
+				throw (IOException)t;
+			if (t instanceof ParseException)
+				throw (ParseException)t;
+			throw (ExecutableException)t;
+		} catch (org.apache.jena.n3.turtle.parser.ParseException | TokenMgrError | JenaException e) {
+			throw new ParseException(this, e, "Could not parse RDF input.");
+		}
+	}
+
+	private void addLooseElement(Collection c, ClassMeta<?> type, RDFNode n) throws IOException, ParseException, ExecutableException {
+		c.add(parseAnything(type.isArgs() ? type.getArg(c.size()) : type.getElementType(), n, getOuter(), null));
+	}
+
+	/*
+	 * Used to pass checked exceptions out of the Turtle parser event handler.
+	 */
+	private static final class StreamingAbort extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		StreamingAbort(Exception cause) {
+			super(cause);
+		}
+	}
+
 	private final void addModelPrefix(Namespace ns) {
 		model.setNsPrefix(ns.getName(), ns.getUri());
 	}
@@ -501,6 +579,17 @@ public class RdfParserSession extends ReaderParserSession {
 		return ctx.isLooseCollections();
 	}
 
+	/**
+	 * Configuration property:  Stream triples instead of building an in-memory model.
+	 *
+	 * @see RdfParser#RDF_streaming
+	 * @return
+	 * 	<jk>true</jk> if triples are streamed for the line-oriented languages instead of being built up in a Jena model.
+	 */
+	protected final boolean isStreaming() {
+		return ctx.isStreaming();
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Jena properties
 	//-----------------------------------------------------------------------------------------------------------------
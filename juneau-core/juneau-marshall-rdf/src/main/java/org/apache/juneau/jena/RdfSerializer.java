@@ -245,6 +245,7 @@ public class RdfSerializer extends WriterSerializer implements RdfCommon, RdfMet
 		addRootProperty,
 		useXmlNamespaces,
 		looseCollections,
+		streaming,
 		autoDetectNamespaces,
 		addBeanTypes;
 	private final String rdfLanguage;
@@ -294,6 +295,7 @@ public class RdfSerializer extends WriterSerializer implements RdfCommon, RdfMet
 		addRootProperty = getBooleanProperty(RDF_addRootProperty);
 		useXmlNamespaces = ! getBooleanProperty(RDF_disableUseXmlNamespaces);
 		looseCollections = getBooleanProperty(RDF_looseCollections);
+		streaming = getBooleanProperty(RDF_streaming);
 		autoDetectNamespaces = ! getBooleanProperty(RDF_disableAutoDetectNamespaces);
 		rdfLanguage = getStringProperty(RDF_language, "RDF/XML-ABBREV");
 		juneauNs = getProperty(RDF_juneauNs, Namespace.class, DEFAULT_JUNEAU_NS);
@@ -489,6 +491,17 @@ public class RdfSerializer extends WriterSerializer implements RdfCommon, RdfMet
 		return looseCollections;
 	}
 
+	/**
+	 * Stream triples instead of building an in-memory model.
+	 *
+	 * @see #RDF_streaming
+	 * @return
+	 * 	<jk>true</jk> if triples are streamed for the line-oriented languages instead of being built up in a Jena model.
+	 */
+	protected final boolean isStreaming() {
+		return streaming;
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Jena properties
 	//-----------------------------------------------------------------------------------------------------------------
@@ -589,6 +602,7 @@ public class RdfSerializer extends WriterSerializer implements RdfCommon, RdfMet
 				.a("addRootProperty", addRootProperty)
 				.a("useXmlNamespaces", useXmlNamespaces)
 				.a("looseCollections", looseCollections)
+				.a("streaming", streaming)
 				.a("autoDetectNamespaces", autoDetectNamespaces)
 				.a("rdfLanguage", rdfLanguage)
 				.a("juneauNs", juneauNs)
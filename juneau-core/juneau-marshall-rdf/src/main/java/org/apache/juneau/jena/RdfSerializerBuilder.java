@@ -754,6 +754,44 @@ public class RdfSerializerBuilder extends WriterSerializerBuilder {
 		return set(RDF_looseCollections);
 	}
 
+	/**
+	 * <i><l>RdfSerializer</l> configuration property:&emsp;</i>  Stream triples instead of building an in-memory model.
+	 *
+	 * <p>
+	 * When enabled, the line-oriented languages (N-Triples, Turtle, N3) are written incrementally instead of through a
+	 * complete Jena model.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RdfSerializer#RDF_streaming}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RdfSerializerBuilder streaming(boolean value) {
+		return set(RDF_streaming, value);
+	}
+
+	/**
+	 * <i><l>RdfSerializer</l> configuration property:&emsp;</i>  Stream triples instead of building an in-memory model.
+	 *
+	 * <p>
+	 * Shortcut for <code>streaming(<jk>true</jk>)</code>.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RdfSerializer#RDF_streaming}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RdfSerializerBuilder streaming() {
+		return set(RDF_streaming);
+	}
+
 	/**
 	 * <i><l>RdfSerializer</l> configuration property:&emsp;</i>  RDF language.
 	 *
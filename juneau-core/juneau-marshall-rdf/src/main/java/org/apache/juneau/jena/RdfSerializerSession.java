@@ -15,10 +15,11 @@ package org.apache.juneau.jena;
 import static org.apache.juneau.jena.Constants.*;
 import static org.apache.juneau.jena.RdfSerializer.*;
 
-import java.io.IOException;
+import java.io.*;
 import java.util.*;
 
 import org.apache.jena.rdf.model.*;
+import org.apache.jena.vocabulary.*;
 import org.apache.juneau.*;
 import org.apache.juneau.collections.*;
 import org.apache.juneau.internal.*;
@@ -42,6 +43,7 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 	private final Property pRoot, pValue;
 	private final Model model;
 	private final RDFWriter writer;
+	private final RdfStreamGraph streamGraph;
 	private final Namespace[] namespaces;
 
 	/**
@@ -60,8 +62,14 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 		super(ctx, args);
 		this.ctx = ctx;
 
+		// Only apply properties with this prefix!
+		String propPrefix = RdfCommon.LANG_PROP_MAP.get(ctx.getLanguage());
+		if (propPrefix == null)
+			throw new BasicRuntimeException("Unknown RDF language encountered: ''{0}''", ctx.getLanguage());
+
 		namespaces = getInstanceArrayProperty(RDF_namespaces, Namespace.class, ctx.namespaces);
-		model = ModelFactory.createDefaultModel();
+		streamGraph = isStreaming() && ! propPrefix.equals("rdfXml.") ? new RdfStreamGraph() : null;
+		model = streamGraph == null ? ModelFactory.createDefaultModel() : ModelFactory.createModelForGraph(streamGraph);
 		addModelPrefix(ctx.getJuneauNs());
 		addModelPrefix(ctx.getJuneauBpNs());
 		for (Namespace ns : this.namespaces)
@@ -70,11 +78,6 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 		pValue = model.createProperty(ctx.getJuneauNs().getUri(), RDF_juneauNs_VALUE);
 		writer = model.getWriter(ctx.getLanguage());
 
-		// Only apply properties with this prefix!
-		String propPrefix = RdfCommon.LANG_PROP_MAP.get(ctx.getLanguage());
-		if (propPrefix == null)
-			throw new BasicRuntimeException("Unknown RDF language encountered: ''{0}''", ctx.getLanguage());
-
 		// RDF/XML specific properties.
 		if (propPrefix.equals("rdfXml.")) {
 			writer.setProperty("tab", isUseWhitespace() ? 2 : 0);
@@ -116,14 +119,36 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 
 	@Override /* Serializer */
 	protected void doSerialize(SerializerPipe out, Object o) throws IOException, SerializeException {
+		if (streamGraph != null) {
+			streamGraph.setWriter(out.getWriter());
+			try {
+				serializeRoot(o);
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			} finally {
+				streamGraph.setWriter(null);
+			}
+			return;
+		}
+
+		serializeRoot(o);
+		writer.write(model, out.getWriter(), "http://unknown/");
+	}
+
+	private void serializeRoot(Object o) throws IOException, SerializeException {
 
 		Resource r = null;
 
 		ClassMeta<?> cm = getClassMetaForObject(o);
 		if (isLooseCollections() && cm != null && cm.isCollectionOrArray()) {
 			Collection c = sort(cm.isCollection() ? (Collection)o : toList(cm.getInnerClass(), o));
-			for (Object o2 : c)
-				serializeAnything(o2, false, object(), "root", null, null);
+			for (Object o2 : c) {
+				RDFNode n = serializeAnything(o2, false, object(), "root", null, null);
+
+				// When streaming, each element is marked as a root so that parsers know when it's complete.
+				if (streamGraph != null && n != null && n.isResource())
+					n.asResource().addProperty(pRoot, "true");
+			}
 		} else {
 			RDFNode n = serializeAnything(o, false, getExpectedRootType(o), "root", null, null);
 			if (n.isLiteral()) {
@@ -136,8 +161,6 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 			if (isAddRootProp())
 				r.addProperty(pRoot, "true");
 		}
-
-		writer.write(model, out.getWriter(), "http://unknown/");
 	}
 
 	private RDFNode serializeAnything(Object o, boolean isURI, ClassMeta<?> eType,
@@ -259,10 +282,10 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 				f = bpRdf.getCollectionFormat();
 
 			switch (f) {
-				case BAG: n = serializeToContainer(c, eType, m.createBag()); break;
+				case BAG: n = serializeToContainer(c, eType, RDF.Bag); break;
 				case LIST: n = serializeToList(c, eType); break;
 				case MULTI_VALUED: serializeToMultiProperties(c, eType, bpm, attrName, parentResource); break;
-				default: n = serializeToContainer(c, eType, m.createSeq());
+				default: n = serializeToContainer(c, eType, RDF.Seq);
 			}
 
 		} else if (sType.isReader() || sType.isInputStream()) {
@@ -347,23 +370,36 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 	}
 
 
-	private Container serializeToContainer(Collection c, ClassMeta<?> type, Container list) throws IOException, SerializeException {
+	/*
+	 * Container membership properties are numbered here instead of using Container.add(), since the latter counts the
+	 * existing members in the model which isn't possible when streaming.
+	 */
+	private Resource serializeToContainer(Collection c, ClassMeta<?> type, Resource containerType) throws IOException, SerializeException {
 
 		ClassMeta<?> elementType = type.getElementType();
+		Resource list = model.createResource(containerType);
+		int i = 1;
 		for (Object e : c) {
 			RDFNode n = serializeAnything(e, false, elementType, null, null, null);
-			list = list.add(n);
+			list.addProperty(RDF.li(i++), n);
 		}
 		return list;
 	}
 
-	private RDFList serializeToList(Collection c, ClassMeta<?> type) throws IOException, SerializeException {
+	private RDFNode serializeToList(Collection c, ClassMeta<?> type) throws IOException, SerializeException {
 		ClassMeta<?> elementType = type.getElementType();
 		List<RDFNode> l = new ArrayList<>(c.size());
 		for (Object e : c) {
 			l.add(serializeAnything(e, false, elementType, null, null, null));
 		}
-		return model.createList(l.iterator());
+		if (streamGraph == null)
+			return model.createList(l.iterator());
+
+		// Same cells as Model.createList(), but without reading them back from the model.
+		Resource list = RDF.nil;
+		for (ListIterator<RDFNode> i = l.listIterator(l.size()); i.hasPrevious();)
+			list = model.createResource().addProperty(RDF.first, i.previous()).addProperty(RDF.rest, list);
+		return list;
 	}
 
 	private void serializeToMultiProperties(Collection c, ClassMeta<?> sType,
@@ -448,6 +484,17 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 		return ctx.isLooseCollections();
 	}
 
+	/**
+	 * Configuration property:  Stream triples instead of building an in-memory model.
+	 *
+	 * @see RdfSerializer#RDF_streaming
+	 * @return
+	 * 	<jk>true</jk> if triples are streamed for the line-oriented languages instead of being built up in a Jena model.
+	 */
+	protected final boolean isStreaming() {
+		return ctx.isStreaming();
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Jena properties
 	//-----------------------------------------------------------------------------------------------------------------
@@ -0,0 +1,150 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.jena;
+
+import java.io.*;
+
+import org.apache.jena.datatypes.*;
+import org.apache.jena.datatypes.xsd.*;
+import org.apache.jena.graph.*;
+import org.apache.jena.graph.impl.*;
+import org.apache.jena.util.iterator.*;
+
+/**
+ * Write-only Jena graph that writes every added triple immediately as an N-Triples statement.
+ *
+ * <p>
+ * Nothing is retained, so the graph always appears empty to queries.
+ * <br>Callers must therefore not rely on Jena operations that inspect the graph (e.g. {@link
+ * org.apache.jena.rdf.model.Container#add(org.apache.jena.rdf.model.RDFNode)}).
+ *
+ * <p>
+ * I/O errors are rethrown as {@link UncheckedIOException}.
+ */
+final class RdfStreamGraph extends GraphBase {
+
+	private Writer out;
+
+	/**
+	 * Sets the writer that triples are written to.
+	 *
+	 * @param out The writer that triples are written to.
+	 */
+	void setWriter(Writer out) {
+		this.out = out;
+	}
+
+	@Override /* GraphBase */
+	public void performAdd(Triple t) {
+		try {
+			writeNode(t.getSubject());
+			out.write(' ');
+			writeNode(t.getPredicate());
+			out.write(' ');
+			writeNode(t.getObject());
+			out.write(" .\n");
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override /* GraphBase */
+	protected ExtendedIterator<Triple> graphBaseFind(Triple triplePattern) {
+		return NullIterator.instance();
+	}
+
+	private void writeNode(Node n) throws IOException {
+		if (n.isURI()) {
+			out.write('<');
+			writeEscaped(n.getURI(), false);
+			out.write('>');
+		} else if (n.isBlank()) {
+			out.write("_:b");
+			writeLabel(n.getBlankNodeLabel());
+		} else if (n.isLiteral()) {
+			out.write('"');
+			writeEscaped(n.getLiteralLexicalForm(), true);
+			out.write('"');
+			String lang = n.getLiteralLanguage();
+			RDFDatatype dt = n.getLiteralDatatype();
+			if (lang != null && ! lang.isEmpty()) {
+				out.write('@');
+				out.write(lang);
+			} else if (dt != null && dt != XSDDatatype.XSDstring) {
+				out.write("^^<");
+				writeEscaped(dt.getURI(), false);
+				out.write('>');
+			}
+		} else {
+			throw new IOException("Cannot stream node: " + n);
+		}
+	}
+
+	/*
+	 * Blank node labels can contain characters that aren't valid in N-Triples, so anything other than letters and
+	 * digits is hex-encoded (including the escape character itself so that the mapping is one-to-one).
+	 */
+	private void writeLabel(String s) throws IOException {
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (c != 'x' && ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')))
+				out.write(c);
+			else
+				writeHex('x', c);
+		}
+	}
+
+	/*
+	 * Iterates by code point since characters outside the Basic Multilingual Plane must be written as a single
+	 * "\UXXXXXXXX" escape instead of a pair of surrogate escapes.
+	 */
+	private void writeEscaped(String s, boolean literal) throws IOException {
+		for (int i = 0; i < s.length();) {
+			int c = s.codePointAt(i);
+			i += Character.charCount(c);
+			if (literal && c == '\\')
+				out.write("\\\\");
+			else if (literal && c == '"')
+				out.write("\\\"");
+			else if (literal && c == '\n')
+				out.write("\\n");
+			else if (literal && c == '\r')
+				out.write("\\r");
+			else if (literal && c == '\t')
+				out.write("\\t");
+			else if (c > 0xffff)
+				writeHex('\\', 'U', c, 8);
+			else if (c < 0x20 || c >= 0x7f || (! literal && (c == '<' || c == '>' || c == '"' || c == '\\')))
+				writeHex('\\', 'u', c, 4);
+			else
+				out.write(c);
+		}
+	}
+
+	private void writeHex(char prefix, int c) throws IOException {
+		writeHex(prefix, c, 4);
+	}
+
+	private void writeHex(char prefix, int c, int width) throws IOException {
+		out.write(prefix);
+		String h = Integer.toHexString(c);
+		for (int i = h.length(); i < width; i++)
+			out.write('0');
+		out.write(h);
+	}
+
+	private void writeHex(char prefix, char type, int c, int width) throws IOException {
+		out.write(prefix);
+		writeHex(type, c, width);
+	}
+}
@@ -0,0 +1,133 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.jena;
+
+import java.io.*;
+
+/**
+ * Reader that rewrites N-Triples/Turtle <js>"&#92;UXXXXXXXX"</js> escapes as <js>"&#92;uXXXX"</js> escapes.
+ *
+ * <p>
+ * The N-Triples and Turtle readers in jena-core only understand <js>"&#92;u"</js> escapes, so supplementary code points
+ * written by {@link RdfStreamGraph} are converted to their UTF-16 surrogate pair.
+ * <br>All other characters and escapes are passed through unchanged.
+ */
+final class UnicodeEscapeReader extends FilterReader {
+
+	private final char[] pending = new char[12];
+	private int pendingPos, pendingLen;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param in The reader being wrapped.
+	 */
+	UnicodeEscapeReader(Reader in) {
+		super(in.markSupported() ? in : new BufferedReader(in));
+	}
+
+	@Override /* Reader */
+	public int read() throws IOException {
+		if (pendingPos < pendingLen)
+			return pending[pendingPos++];
+		int c = in.read();
+		if (c != '\\')
+			return c;
+		in.mark(10);
+		int c2 = in.read();
+		if (c2 == 'U') {
+			char[] hex = new char[8];
+			int n = 0;
+			while (n < 8 && isHex(hex[n] = (char)in.read()))
+				n++;
+			if (n == 8) {
+				int cp = Integer.parseInt(new String(hex), 16);
+				if (Character.isValidCodePoint(cp)) {
+					pendingPos = pendingLen = 0;
+					for (char x : Character.toChars(cp))
+						addEscape(x);
+					pendingPos = 1;
+					return '\\';
+				}
+			}
+			in.reset();
+			in.read();
+			pending[0] = 'U';
+			pendingPos = 0;
+			pendingLen = 1;
+			return '\\';
+		}
+		// Pass through other escapes in pairs so that an escaped backslash isn't treated as the start of an escape.
+		if (c2 == -1)
+			return '\\';
+		pending[0] = (char)c2;
+		pendingPos = 0;
+		pendingLen = 1;
+		return '\\';
+	}
+
+	@Override /* Reader */
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		if (len == 0)
+			return 0;
+		int n = 0;
+		while (n < len) {
+			if (n > 0 && pendingPos == pendingLen && ! in.ready())
+				break;
+			int c = read();
+			if (c == -1)
+				return n == 0 ? -1 : n;
+			cbuf[off + n++] = (char)c;
+		}
+		return n;
+	}
+
+	@Override /* Reader */
+	public long skip(long n) throws IOException {
+		long i = 0;
+		while (i < n && read() != -1)
+			i++;
+		return i;
+	}
+
+	@Override /* Reader */
+	public boolean ready() throws IOException {
+		return pendingPos < pendingLen || in.ready();
+	}
+
+	@Override /* Reader */
+	public boolean markSupported() {
+		return false;
+	}
+
+	@Override /* Reader */
+	public void mark(int readAheadLimit) throws IOException {
+		throw new IOException("mark() not supported");
+	}
+
+	@Override /* Reader */
+	public void reset() throws IOException {
+		throw new IOException("reset() not supported");
+	}
+
+	private void addEscape(char c) {
+		pending[pendingLen++] = '\\';
+		pending[pendingLen++] = 'u';
+		for (int i = 12; i >= 0; i -= 4)
+			pending[pendingLen++] = Character.forDigit((c >> i) & 0xf, 16);
+	}
+
+	private static boolean isHex(char c) {
+		return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+	}
+}
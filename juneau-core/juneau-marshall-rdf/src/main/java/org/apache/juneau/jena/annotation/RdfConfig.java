@@ -627,6 +627,30 @@ public @interface RdfConfig {
 	 */
 	String looseCollections() default "";
 
+	/**
+	 * Configuration property:  Stream triples instead of building an in-memory model.
+	 *
+	 * <p>
+	 * If <js>"true"</js>, the line-oriented languages (N-Triples, Turtle, N3) are serialized and parsed incrementally
+	 * instead of through a complete Jena model.
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		Possible values:
+	 * 		<ul>
+	 * 			<li><js>"true"</js>
+	 * 			<li><js>"false"</js> (default)
+	 * 		</ul>
+	 * 	<li>
+	 * 		Supports {@doc DefaultVarResolver} (e.g. <js>"$C{myConfigVar}"</js>).
+	 * </ul>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RdfCommon#RDF_streaming}
+	 * </ul>
+	 */
+	String streaming() default "";
+
 	//-------------------------------------------------------------------------------------------------------------------
 	// RdfParser
 	//-------------------------------------------------------------------------------------------------------------------
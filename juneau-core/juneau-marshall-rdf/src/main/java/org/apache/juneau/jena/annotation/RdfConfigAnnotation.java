@@ -99,6 +99,8 @@ public class RdfConfigAnnotation {
 				psb.set(RDF_collectionFormat, string(a.collectionFormat()));
 			if (! a.looseCollections().isEmpty())
 				psb.set(RDF_looseCollections, bool(a.looseCollections()));
+			if (! a.streaming().isEmpty())
+				psb.set(RDF_streaming, bool(a.streaming()));
 
 			if (! a.addBeanTypes().isEmpty())
 				psb.set(RDF_addBeanTypes, bool(a.addBeanTypes()));
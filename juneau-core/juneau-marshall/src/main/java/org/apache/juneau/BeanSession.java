@@ -733,8 +733,14 @@ public class BeanSession extends Session {
 			return null;
 		ClassMeta<?> componentType = type.isArgs() ? object() : type.getElementType();
 		Object array = Array.newInstance(componentType.getInnerClass(), list.size());
+		Class<?> wrapperType = componentType.isPrimitive() ? componentType.getInfo().getWrapperIfPrimitive() : null;
 		int i = 0;
 		for (Object o : list) {
+			if (o != null && o.getClass() == wrapperType) {
+				// Already the boxed form of the primitive component type.
+				Array.set(array, i++, o);
+				continue;
+			}
 			if (! type.getInnerClass().isInstance(o)) {
 				if (componentType.isArray() && o instanceof Collection)
 					o = toArray(componentType, (Collection<?>)o);
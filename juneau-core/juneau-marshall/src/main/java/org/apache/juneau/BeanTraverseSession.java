@@ -40,8 +40,13 @@ import org.apache.juneau.collections.*;
 public class BeanTraverseSession extends BeanSession {
 
 	private final BeanTraverseContext ctx;
-	private final Map<Object,Object> set;                                           // Contains the current objects in the current branch of the model.
-	private final LinkedList<StackElement> stack = new LinkedList<>();              // Contains the current objects in the current branch of the model.
+	private static final int SCAN_DEPTH = 16;                                       // Stack depth up to which recursion is detected by a linear scan.
+
+	private StackElement[] stack = new StackElement[SCAN_DEPTH];                    // Contains the current objects in the current branch of the model.
+	private int stackSize;
+	private Map<Object,Object> deepSet;                                             // Contains the objects in the stack beyond SCAN_DEPTH.
+	private Class<?> lastClass;                                                     // The last class looked up in push().
+	private ClassMeta<?> lastClassMeta;
 
 	// Writable properties
 	private boolean isBottom;                                                       // If 'true', then we're at a leaf in the model (i.e. a String, Number, Boolean, or null).
@@ -72,11 +77,6 @@ public class BeanTraverseSession extends BeanSession {
 		args = args == null ? BeanSessionArgs.DEFAULT : args;
 		this.ctx = ctx;
 		this.indent = getInitialDepth();
-		if (isDetectRecursions() || isDebug()) {
-			set = new IdentityHashMap<>();
-		} else {
-			set = Collections.emptyMap();
-		}
 	}
 
 	/**
@@ -115,7 +115,7 @@ public class BeanTraverseSession extends BeanSession {
 		if (o == null)
 			return null;
 		Class<?> c = o.getClass();
-		ClassMeta<?> cm = (eType != null && c == eType.getInnerClass()) ? eType : ((o instanceof ClassMeta) ? (ClassMeta<?>)o : getClassMeta(c));
+		ClassMeta<?> cm = (eType != null && c == eType.getInnerClass()) ? eType : ((o instanceof ClassMeta) ? (ClassMeta<?>)o : getLastClassMeta(c));
 		if (cm.isCharSequence() || cm.isNumber() || cm.isBoolean())
 			return cm;
 		if (depth > getMaxDepth())
@@ -124,12 +124,44 @@ public class BeanTraverseSession extends BeanSession {
 			if (willRecurse(attrName, o, cm))
 				return null;
 			isBottom = false;
-			stack.add(new StackElement(stack.size(), attrName, o, cm));
-			set.put(o, o);
+			addStackElement(attrName, o, cm);
 		}
 		return cm;
 	}
 
+	/*
+	 * Same as getClassMeta(Class) but remembers the last lookup since collections are typically homogeneous.
+	 */
+	private ClassMeta<?> getLastClassMeta(Class<?> c) {
+		if (c != lastClass) {
+			lastClassMeta = getClassMeta(c);
+			lastClass = c;
+		}
+		return lastClassMeta;
+	}
+
+	private void addStackElement(String attrName, Object o, ClassMeta<?> cm) {
+		if (stackSize == stack.length)
+			stack = Arrays.copyOf(stack, stackSize * 2);
+		StackElement e = stack[stackSize];
+		if (e == null)
+			e = stack[stackSize] = new StackElement();
+		e.set(stackSize, attrName, o, cm);
+		if (stackSize >= SCAN_DEPTH) {
+			if (deepSet == null)
+				deepSet = new IdentityHashMap<>();
+			deepSet.put(o, o);
+		}
+		stackSize++;
+	}
+
+	private boolean stackContains(Object o) {
+		for (int i = 0, n = Math.min(stackSize, SCAN_DEPTH); i < n; i++)
+			if (stack[i].o == o)
+				return true;
+		return deepSet != null && deepSet.containsKey(o);
+	}
+
 	/**
 	 * Returns <jk>true</jk> if we're processing the root node.
 	 *
@@ -155,12 +187,12 @@ public class BeanTraverseSession extends BeanSession {
 	protected final boolean willRecurse(String attrName, Object o, ClassMeta<?> cm) throws BeanRecursionException {
 		if (! (isDetectRecursions() || isDebug()))
 			return false;
-		if (! set.containsKey(o))
+		if (! stackContains(o))
 			return false;
 		if (isIgnoreRecursions() && ! isDebug())
 			return true;
 
-		stack.add(new StackElement(stack.size(), attrName, o, cm));
+		addStackElement(attrName, o, cm);
 		throw new BeanRecursionException("Recursion occurred, stack={0}", getStack(true));
 	}
 
@@ -180,11 +212,10 @@ public class BeanTraverseSession extends BeanSession {
 		indent--;
 		depth--;
 		if ((isDetectRecursions() || isDebug()) && ! isBottom)  {
-			Object o = stack.removeLast().o;
-			Object o2 = set.remove(o);
-			if (o2 == null)
-				onError(null, "Couldn't remove object of type ''{0}'' on attribute ''{1}'' from object stack.",
-					o.getClass().getName(), stack);
+			StackElement e = stack[--stackSize];
+			if (stackSize >= SCAN_DEPTH)
+				deepSet.remove(e.o);
+			e.set(0, null, null, null);
 		}
 		isBottom = false;
 	}
@@ -237,16 +268,17 @@ public class BeanTraverseSession extends BeanSession {
 	}
 
 	private final class StackElement {
-		final int depth;
-		final String name;
-		final Object o;
-		final ClassMeta<?> aType;
+		int depth;
+		String name;
+		Object o;
+		ClassMeta<?> aType;
 
-		StackElement(int depth, String name, Object o, ClassMeta<?> aType) {
+		StackElement set(int depth, String name, Object o, ClassMeta<?> aType) {
 			this.depth = depth;
 			this.name = name;
 			this.o = o;
 			this.aType = aType;
+			return this;
 		}
 
 		String toString(boolean simple) {
@@ -268,7 +300,8 @@ public class BeanTraverseSession extends BeanSession {
 	 */
 	protected String getStack(boolean full) {
 		StringBuilder sb = new StringBuilder();
-		for (StackElement e : stack) {
+		for (int j = 0; j < stackSize; j++) {
+			StackElement e = stack[j];
 			if (full) {
 				sb.append("\n\t");
 				for (int i = 1; i < e.depth; i++)
@@ -292,7 +325,19 @@ public class BeanTraverseSession extends BeanSession {
 		return OMap.of()
 			.asn("currentClass", currentClass)
 			.asn("currentProperty", currentProperty)
-			.ase("stack", stack);
+			.ase("stack", getStackElements());
+	}
+
+	/*
+	 * Returns a copy of the stack since the stack elements are reused.
+	 */
+	private List<StackElement> getStackElements() {
+		List<StackElement> l = new ArrayList<>(stackSize);
+		for (int i = 0; i < stackSize; i++) {
+			StackElement e = stack[i];
+			l.add(new StackElement().set(e.depth, e.name, e.o, e.aType));
+		}
+		return l;
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
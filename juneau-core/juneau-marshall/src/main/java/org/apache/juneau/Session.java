@@ -103,7 +103,10 @@ public abstract class Session {
 		Object o = properties.get(key);
 		if (o == null)
 			return def;
-		type = (Class<T>)ClassInfo.of(type).getWrapperIfPrimitive();
+		if (type.isPrimitive())
+			type = (Class<T>)ClassInfo.of(type).getWrapperIfPrimitive();
+		if (type.isInstance(o))
+			return (T)o;
 		T t = properties.get(key, type);
 		return t == null ? def : t;
 	}
@@ -16,6 +16,7 @@ import static org.apache.juneau.internal.FileUtils.*;
 import static org.apache.juneau.internal.StringUtils.*;
 
 import java.io.*;
+import java.net.*;
 import java.util.*;
 import java.util.ResourceBundle.*;
 
@@ -87,6 +88,50 @@ public class BasicResourceFinder implements ResourceFinder {
 		return is;
 	}
 
+	/**
+	 * Returns the file backing the resource with the specified name.
+	 *
+	 * <p>
+	 * Resources are searched for in the same order as {@link #findResource(Class, String, Locale)}, but only resources
+	 * located on the file system or in an exploded classpath directory (i.e. not inside a jar) are returned.
+	 *
+	 * @param baseClass The class to use to retrieve the resource.
+	 * @param name The resource name.
+	 * @param locale
+	 * 	The locale of the resource to retrieve.
+	 * 	<br>If <jk>null</jk>, won't look for localized file names.
+	 * @return The file, or <jk>null</jk> if the resource was not found or is not backed by a file.
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	public File findFile(Class<?> baseClass, String name, Locale locale) throws IOException {
+		if (isInvalidName(name))
+			return null;
+		if (includeFileSystem) {
+			for (String n2 : getCandidateFileNames(name, locale)) {
+				File f = new File(n2);
+				if (f.exists() && f.isFile() && f.canRead() && ! f.isAbsolute())
+					return f;
+			}
+		}
+		while (baseClass != null) {
+			for (String n2 : getCandidateFileNames(name, locale)) {
+				URL url = baseClass.getResource(n2);
+				if (url != null) {
+					if (! "file".equals(url.getProtocol()))
+						return null;
+					try {
+						File f = new File(url.toURI());
+						return f.isFile() ? f : null;
+					} catch (URISyntaxException | IllegalArgumentException e) {
+						return null;
+					}
+				}
+			}
+			baseClass = recursive ? baseClass.getSuperclass() : null;
+		}
+		return null;
+	}
+
 	/**
 	 * Workhorse method for retrieving a resource from the classpath.
 	 *
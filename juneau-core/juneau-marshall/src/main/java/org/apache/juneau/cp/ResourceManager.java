@@ -108,6 +108,26 @@ public final class ResourceManager {
 		return r == null ? null : new ByteArrayInputStream(r);
 	}
 
+	/**
+	 * Finds the file backing the resource with the given name.
+	 *
+	 * <p>
+	 * Only resources found by a {@link BasicResourceFinder} on the file system or in an exploded classpath directory
+	 * are backed by files.
+	 * <br>The in-memory cache is never consulted, so this can be used to serve large resources without loading them
+	 * into memory.
+	 *
+	 * @param name Name of the desired resource.
+	 * @param locale The locale.  Can be <jk>null</jk>.
+	 * @return The file, or <jk>null</jk> if the resource could not be found or is not backed by a file.
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	public File getFile(String name, Locale locale) throws IOException {
+		if (isEmpty(name) || ! (resourceFinder instanceof BasicResourceFinder))
+			return null;
+		return ((BasicResourceFinder)resourceFinder).findFile(baseClass, name, locale);
+	}
+
 	/**
 	 * Finds the resource with the given name and converts it to a simple string.
 	 *
@@ -14,6 +14,7 @@ package org.apache.juneau.csv;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.function.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
@@ -21,7 +22,22 @@ import org.apache.juneau.collections.*;
 import org.apache.juneau.parser.*;
 
 /**
- * TODO - Work in progress.  CSV parser.
+ * Parses CSV into collections and arrays of beans or maps.
+ *
+ * <h5 class='topic'>Media types</h5>
+ *
+ * Handles <c>Content-Type</c> types:  <bc>text/csv</bc>
+ *
+ * <h5 class='topic'>Description</h5>
+ *
+ * The first row contains the column names, and each following row is converted into a bean or map.
+ * Fields can be quoted in order to contain commas, line breaks, or quotes escaped as two consecutive quotes.
+ * Unquoted empty fields and unquoted <js>"null"</js> are converted to <jk>null</jk>.
+ *
+ * <p>
+ * The {@link #parseRows(Object, Class, Consumer)} method processes rows one at a time as they're read, and
+ * {@link #parseRowsParallel(CharSequence, Class, Consumer, int)} splits in-memory input into chunks that are parsed
+ * concurrently.
  */
 @ConfigurableContext
 public class CsvParser extends ReaderParser implements CsvMetaProvider, CsvCommon {
@@ -84,6 +100,140 @@ public class CsvParser extends ReaderParser implements CsvMetaProvider, CsvCommo
 		return new CsvParserSession(this, args);
 	}
 
+	/**
+	 * Parses CSV input one row at a time, passing each row to the specified consumer as soon as it's been read.
+	 *
+	 * <p>
+	 * Shortcut for calling <c>createSession().parseRows(input, type, action)</c>.
+	 *
+	 * @param <T> The row type.
+	 * @param input The input.  See {@link CsvParserSession#parse(Object, ClassMeta)} for supported input types.
+	 * @param type The row type.  Can be a bean, a map, or <c>Object</c> for {@link OMap OMaps}.
+	 * @param action The consumer of the parsed rows.
+	 * @throws ParseException Malformed input encountered.
+	 * @see CsvParserSession#parseRows(Object, Class, Consumer)
+	 */
+	public final <T> void parseRows(Object input, Class<T> type, Consumer<? super T> action) throws ParseException {
+		createSession().parseRows(input, type, action);
+	}
+
+	/**
+	 * Parses in-memory CSV input by splitting it into chunks at row boundaries and parsing the chunks concurrently.
+	 *
+	 * <p>
+	 * The column names are parsed once from the first row and shared by all the chunks.
+	 * The chunks are parsed on the {@link ForkJoinPool#commonPool() common fork/join pool}, and this method returns
+	 * once they've all been parsed.
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		The consumer is called from multiple threads and must be thread safe.
+	 * 	<li>
+	 * 		Rows are not passed to the consumer in input order.
+	 * 	<li>
+	 * 		Row boundaries are located by a sequential scan for line breaks outside of quoted fields, which is
+	 * 		considerably cheaper than parsing.
+	 * 		<br>The scan follows the same quoting rules as the parser: a quote only starts a quoted field at the
+	 * 		beginning of a field, and two consecutive quotes inside a quoted field are an escaped quote.
+	 * 		Input that only uses <js>'\r'</js> as a line break is parsed as a single chunk.
+	 * </ul>
+	 *
+	 * @param <T> The row type.
+	 * @param input The input.
+	 * @param type The row type.  Can be a bean, a map, or <c>Object</c> for {@link OMap OMaps}.
+	 * @param action The consumer of the parsed rows.
+	 * @param chunks
+	 * 	The maximum number of chunks to split the input into.
+	 * 	<br>If <c>0</c> or less, defaults to the number of available processors.
+	 * @throws ParseException Malformed input encountered.
+	 */
+	public final <T> void parseRowsParallel(CharSequence input, Class<T> type, Consumer<? super T> action, int chunks) throws ParseException {
+		if (input == null)
+			return;
+		if (chunks <= 0)
+			chunks = Runtime.getRuntime().availableProcessors();
+
+		int len = input.length();
+		List<Integer> bounds = new ArrayList<>();
+
+		// Find the end of the header row.
+		int i = nextRow(input, 0, len);
+		if (i == -1 || chunks == 1) {
+			parseRows(input, type, action);
+			return;
+		}
+		bounds.add(i);
+
+		// Find the start of each chunk.
+		int chunkSize = Math.max((len - i) / chunks, 1), next = i + chunkSize;
+		while (bounds.size() < chunks && (i = nextRow(input, i, len)) != -1) {
+			if (i > next) {
+				bounds.add(i);
+				next = i + chunkSize;
+			}
+		}
+		bounds.add(len);
+
+		CsvParserSession session = createSession();
+		String[] header = session.parseHeader(input.subSequence(0, bounds.get(0)));
+		if (header == null) {
+			parseRows(input, type, action);
+			return;
+		}
+		ClassMeta<T> cm = session.getClassMeta(type);
+
+		List<ForkJoinTask<?>> tasks = new ArrayList<>(bounds.size());
+		for (int j = 1; j < bounds.size(); j++) {
+			CharSequence chunk = input.subSequence(bounds.get(j-1), bounds.get(j));
+			tasks.add(ForkJoinPool.commonPool().submit(() -> {
+				createSession().parseRows(chunk, header, cm, action);
+				return null;
+			}));
+		}
+		ParseException pe = null;
+		for (ForkJoinTask<?> t : tasks) {
+			try {
+				t.get();
+			} catch (ExecutionException e) {
+				if (pe == null)
+					pe = e.getCause() instanceof ParseException ? (ParseException)e.getCause() : new ParseException(e.getCause());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new ParseException(e);
+			}
+		}
+		if (pe != null)
+			throw pe;
+	}
+
+	/*
+	 * Returns the index following the next line break that isn't inside a quoted field, or -1 if there isn't one.
+	 * The scan must start at the beginning of a row.
+	 */
+	private static int nextRow(CharSequence input, int i, int len) {
+		boolean fieldStart = true;
+		for (; i < len; i++) {
+			char c = input.charAt(i);
+			if (c == '"' && fieldStart) {
+				// Skip to the closing quote, treating "" as an escaped quote.
+				for (i++; i < len; i++) {
+					if (input.charAt(i) == '"') {
+						if (i+1 < len && input.charAt(i+1) == '"')
+							i++;
+						else
+							break;
+					}
+				}
+				fieldStart = false;
+			} else if (c == '\n') {
+				return i+1;
+			} else {
+				fieldStart = c == ',' || c == '\r';
+			}
+		}
+		return -1;
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Extended metadata
 	//-----------------------------------------------------------------------------------------------------------------
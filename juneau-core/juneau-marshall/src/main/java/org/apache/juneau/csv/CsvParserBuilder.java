@@ -523,6 +523,12 @@ public class CsvParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - ReaderParserBuilder */
+	public CsvParserBuilder bufferSize(int value) {
+		super.bufferSize(value);
+		return this;
+	}
+
 	@Override /* GENERATED - ReaderParserBuilder */
 	public CsvParserBuilder fileCharset(Charset value) {
 		super.fileCharset(value);
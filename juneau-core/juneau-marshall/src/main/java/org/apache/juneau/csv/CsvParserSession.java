@@ -12,11 +12,15 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.csv;
 
-import java.io.IOException;
+import java.io.*;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.function.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.collections.*;
 import org.apache.juneau.parser.*;
+import org.apache.juneau.transform.*;
 
 /**
  * Session object that lives for the duration of a single use of {@link CsvParser}.
@@ -25,8 +29,12 @@ import org.apache.juneau.parser.*;
  * This class is NOT thread safe.
  * It is typically discarded after one-time use although it can be reused against multiple inputs.
  */
+@SuppressWarnings({ "unchecked", "rawtypes" })
 public final class CsvParserSession extends ReaderParserSession {
 
+	private int term;         // The character that ended the last field read (',', '\n', or -1).
+	private boolean quoted;   // Whether the last field read was quoted.
+
 	/**
 	 * Create a new session using properties specified in the context.
 	 *
@@ -41,17 +49,351 @@ public final class CsvParserSession extends ReaderParserSession {
 	}
 
 	@Override /* ParserSession */
-	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws IOException, ParseException {
+	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws IOException, ParseException, ExecutableException {
 		try (ParserReader r = pipe.getParserReader()) {
 			if (r == null)
 				return null;
-			return parseAnything(type, r, getOuter(), null);
+			return parseAnything(type, r, getOuter());
+		}
+	}
+
+	@Override /* ParserSession */
+	protected <E> Collection<E> doParseIntoCollection(ParserPipe pipe, Collection<E> c, Type elementType) throws Exception {
+		try (ParserReader r = pipe.getParserReader()) {
+			if (r != null)
+				parseRows(r, null, (ClassMeta<E>)getClassMeta(elementType), getOuter(), c::add);
+			return c;
+		}
+	}
+
+	@Override /* ParserSession */
+	protected <E> ParserIterator<E> doParseIterator(ParserPipe pipe, ClassMeta<E> elementType) throws Exception {
+		ParserReader r = pipe.getParserReader();
+		String[] header = readHeader(r);
+		RowReader<E> rr = header == null ? null : new RowReader<>(r, header, elementType, getOuter());
+		return new ParserIterator<E>(this, pipe) {
+
+			@Override /* ParserIterator */
+			protected boolean advance() throws IOException, ParseException {
+				return rr != null && rr.hasNext();
+			}
+
+			@Override /* ParserIterator */
+			protected E parseEntry() throws IOException, ParseException, ExecutableException {
+				return rr.next();
+			}
+		};
+	}
+
+	/**
+	 * Parses CSV input one row at a time, passing each row to the specified consumer as soon as it's been read.
+	 *
+	 * <p>
+	 * Unlike {@link #parse(Object, Class)}, rows are not collected, so arbitrarily large inputs can be processed in
+	 * constant memory.
+	 *
+	 * <p>
+	 * The first row of the input contains the column names.
+	 * They're resolved against the row type once before the remaining rows are parsed.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jk>try</jk> (Reader r = <jk>new</jk> FileReader(<js>"orders.csv"</js>)) {
+	 * 		CsvParser.<jsf>DEFAULT</jsf>.createSession().parseRows(r, Order.<jk>class</jk>, x -&gt; <jsm>process</jsm>(x));
+	 * 	}
+	 * </p>
+	 *
+	 * @param <T> The row type.
+	 * @param input The input.  See {@link #parse(Object, ClassMeta)} for supported input types.
+	 * @param type The row type.  Can be a bean, a map, or <c>Object</c> for {@link OMap OMaps}.
+	 * @param action The consumer of the parsed rows.
+	 * @throws ParseException Malformed input encountered.
+	 */
+	public final <T> void parseRows(Object input, Class<T> type, Consumer<? super T> action) throws ParseException {
+		parseRows(input, null, getClassMeta(type), action);
+	}
+
+	/*
+	 * Same as parseRows(Object,Class,Consumer) but with the column names already known.
+	 * Used for parsing chunks of a larger input in parallel.
+	 */
+	<T> void parseRows(Object input, String[] header, ClassMeta<T> type, Consumer<? super T> action) throws ParseException {
+		try (ParserPipe pipe = createPipe(input); ParserReader r = pipe.getParserReader()) {
+			if (r != null)
+				parseRows(r, header, type, getOuter(), action);
+		} catch (ParseException e) {
+			throw e;
+		} catch (IOException e) {
+			throw new ParseException(this, e, "I/O exception occurred.  exception={0}, message={1}.",
+				e.getClass().getSimpleName(), e.getLocalizedMessage());
+		} catch (Exception e) {
+			throw new ParseException(this, e, "Exception occurred.  exception={0}, message={1}.",
+				e.getClass().getSimpleName(), e.getLocalizedMessage());
+		} finally {
+			checkForWarnings();
 		}
 	}
 
-	@SuppressWarnings({})
-	private <T> T parseAnything(ClassMeta<T> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws ParseException {
-		throw new ParseException("Not implemented.");
+	/*
+	 * Parses the column names from the first row of the specified input.
+	 */
+	String[] parseHeader(Object input) throws ParseException {
+		try (ParserPipe pipe = createPipe(input); ParserReader r = pipe.getParserReader()) {
+			return r == null ? null : readHeader(r);
+		} catch (ParseException e) {
+			throw e;
+		} catch (IOException e) {
+			throw new ParseException(this, e);
+		}
+	}
+
+	private <T> T parseAnything(ClassMeta<?> eType, ParserReader r, Object outer) throws IOException, ParseException, ExecutableException {
+
+		if (eType == null)
+			eType = object();
+		PojoSwap<T,Object> swap = (PojoSwap<T,Object>)eType.getSwap(this);
+		ClassMeta<?> sType = swap == null ? eType : swap.getSwapClassMeta(this);
+
+		setCurrentClass(sType);
+
+		// Empty input.
+		String[] header = readHeader(r);
+		if (header == null)
+			return null;
+
+		Object o = null;
+
+		if (sType.isObject()) {
+			OList l = new OList(this);
+			parseRows(r, header, object(), outer, l::add);
+			o = l;
+		} else if (sType.isCollection()) {
+			Collection l = (
+				sType.canCreateNewInstance(outer)
+				? (Collection)sType.newInstance(outer)
+				: new OList(this)
+			);
+			parseRows(r, header, sType.getElementType(), outer, l::add);
+			o = l;
+		} else if (sType.isArray()) {
+			ArrayList l = new ArrayList();
+			parseRows(r, header, sType.getElementType(), outer, l::add);
+			o = toArray(sType, l);
+		} else {
+			throw new ParseException(this, "Class ''{0}'' could not be instantiated.  Reason: ''{1}''",
+				sType.getInnerClass().getName(), "CSV input can only be parsed into collections or arrays of rows.");
+		}
+
+		if (swap != null && o != null)
+			o = unswap(swap, o, eType);
+
+		return (T)o;
+	}
+
+	/*
+	 * Reads rows until the end of the input, passing each one to the specified action.
+	 * If the column names aren't specified, they're read from the first row.
+	 */
+	private <E> void parseRows(ParserReader r, String[] header, ClassMeta<E> rowType, Object outer, Consumer<? super E> action) throws IOException, ParseException, ExecutableException {
+		if (header == null)
+			header = readHeader(r);
+		if (header == null)
+			return;
+		RowReader<E> rr = new RowReader<>(r, header, rowType, outer);
+		while (rr.hasNext())
+			action.accept(rr.next());
+	}
+
+	/*
+	 * Reads rows one at a time, with the columns resolved against the row type once up front.
+	 */
+	private final class RowReader<E> {
+		private final ParserReader r;
+		private final String[] header;
+		private final ClassMeta<E> rowType;
+		private final Object outer;
+		private BeanPropertyMeta[] pMetas;
+		private boolean[] convert;
+		private Object[] keys;
+		private ClassMeta<?> valueType;
+		private String first;         // First field of the next row, read by hasNext().
+		private boolean firstQuoted, end;
+
+		RowReader(ParserReader r, String[] header, ClassMeta<E> rowType, Object outer) throws IOException, ParseException, ExecutableException {
+			if (rowType == null)
+				rowType = (ClassMeta<E>)object();
+			this.r = r;
+			this.header = header;
+			this.rowType = rowType;
+			this.outer = outer;
+
+			int n = header.length;
+			if (rowType.isBean()) {
+				BeanMeta<E> bm = rowType.getBeanMeta();
+				pMetas = new BeanPropertyMeta[n];
+				convert = new boolean[n];
+				for (int i = 0; i < n; i++) {
+					BeanPropertyMeta pMeta = bm.getPropertyMeta(header[i]);
+					pMetas[i] = pMeta;
+					convert[i] = pMeta != null && isConvertibleFromString(pMeta.getClassMeta());
+				}
+			} else if (rowType.isMap() || rowType.isObject()) {
+				ClassMeta<?> keyType = rowType.isMap() ? rowType.getKeyType() : string();
+				valueType = rowType.isMap() ? rowType.getValueType() : object();
+				keys = new Object[n];
+				for (int i = 0; i < n; i++)
+					keys[i] = convertAttrToType(null, header[i], keyType);
+			} else {
+				throw new ParseException(CsvParserSession.this, "Class ''{0}'' could not be instantiated.  Reason: ''{1}''",
+					rowType.getInnerClass().getName(), rowType.getNotABeanReason());
+			}
+		}
+
+		/*
+		 * Reads up to the end of the first field of the next non-blank row.
+		 */
+		boolean hasNext() throws IOException, ParseException {
+			if (first != null)
+				return true;
+			while (! end) {
+				String s = readField(r);
+				if (term != ',' && s.isEmpty() && ! quoted) {
+					end = term == -1;
+					continue;
+				}
+				first = s;
+				firstQuoted = quoted;
+				return true;
+			}
+			return false;
+		}
+
+		/*
+		 * Reads the remainder of the row found by hasNext().
+		 */
+		E next() throws IOException, ParseException, ExecutableException {
+			String s = first;
+			boolean q = firstQuoted;
+			first = null;
+
+			BeanMap<E> bm = null;
+			Map m = null;
+			if (pMetas != null)
+				bm = newBeanMap(outer, rowType.getInnerClass());
+			else
+				m = rowType.canCreateNewInstance(outer) ? (Map)rowType.newInstance(outer) : new OMap(CsvParserSession.this);
+
+			int n = header.length;
+			for (int i = 0; ; i++) {
+				if (i > 0) {
+					s = readField(r);
+					q = quoted;
+				}
+				if (i >= n)
+					throw new ParseException(CsvParserSession.this, "Row contains more than the {0} columns defined in the header.", n);
+				if (! q && (s.isEmpty() || "null".equals(s)))
+					s = null;
+				if (bm != null) {
+					BeanPropertyMeta pMeta = pMetas[i];
+					if (pMeta == null) {
+						onUnknownProperty(header[i], bm, s);
+					} else {
+						ClassMeta<?> cm = pMeta.getClassMeta();
+						Object value = convert[i] ? convertAttrToType(bm, s, cm) : s;
+						if (value == null && cm.isPrimitive())
+							value = cm.getPrimitiveDefault();
+						setCurrentProperty(pMeta);
+						pMeta.set(bm, header[i], value);
+						setCurrentProperty(null);
+					}
+				} else {
+					m.put(keys[i], convertAttrToType(m, s, valueType));
+				}
+				if (term != ',')
+					break;
+			}
+			end = term == -1;
+
+			return bm != null ? bm.getBean() : (E)m;
+		}
+	}
+
+	/*
+	 * Returns true if values of the specified type can be created by convertAttrToType().
+	 * Other types are passed to the bean property as strings to be converted there.
+	 */
+	private boolean isConvertibleFromString(ClassMeta<?> type) {
+		PojoSwap<?,?> swap = type.getSwap(this);
+		ClassMeta<?> sType = swap == null ? type : swap.getSwapClassMeta(this);
+		return sType.isCharSequence() || sType.isObject() || sType.isNumber() || sType.isBoolean() || sType.isChar()
+			|| sType.canCreateNewInstanceFromString(null);
+	}
+
+	/*
+	 * Reads the column names from the first non-blank row, or returns null if the input is empty.
+	 */
+	private String[] readHeader(ParserReader r) throws IOException, ParseException {
+		List<String> l = new ArrayList<>();
+		while (true) {
+			String s = readField(r);
+			if (l.isEmpty() && term != ',' && s.isEmpty() && ! quoted) {
+				if (term == -1)
+					return null;
+				continue;
+			}
+			l.add(s);
+			if (term != ',')
+				return l.toArray(new String[l.size()]);
+		}
+	}
+
+	/*
+	 * Reads the next field in the current row.
+	 * Quoted fields can contain commas, line breaks, and quotes escaped as two consecutive quotes.
+	 * Sets 'term' to the character that ended the field and 'quoted' to whether the field was quoted.
+	 */
+	private String readField(ParserReader r) throws IOException, ParseException {
+		r.mark();
+		int c = r.read();
+		if (c == '"') {
+			quoted = true;
+			r.mark();
+			while (true) {
+				c = r.read();
+				if (c == -1)
+					throw new ParseException(this, "Unmatched quote in field.");
+				if (c == '"') {
+					if (r.peek() != '"')
+						break;
+					r.read();
+					r.delete();
+				}
+			}
+			String s = r.getMarked(0, -1);
+			c = r.read();
+			if (c != ',' && c != '\n' && c != '\r' && c != -1)
+				throw new ParseException(this, "Expected ',' or end of line after closing quote but found ''{0}''.", (char)c);
+			term = readTerminator(r, c);
+			return s;
+		}
+		quoted = false;
+		while (c != ',' && c != '\n' && c != '\r' && c != -1)
+			c = r.read();
+		String s = c == -1 ? r.getMarked() : r.getMarked(0, -1);
+		term = readTerminator(r, c);
+		return s;
+	}
+
+	/*
+	 * Converts a line break into '\n', consuming the '\n' of a "\r\n" sequence.
+	 */
+	private static int readTerminator(ParserReader r, int c) throws IOException {
+		if (c == '\r') {
+			if (r.peek() == '\n')
+				r.read();
+			return '\n';
+		}
+		return c;
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
@@ -90,14 +90,14 @@ public final class CsvSerializerSession extends WriterSerializerSession {
 			w.append("null");
 		else {
 			String s = o.toString();
-			boolean mustQuote = false;
+			boolean mustQuote = s.isEmpty() || "null".equals(s);
 			for (int i = 0; i < s.length() && ! mustQuote; i++) {
 				char c = s.charAt(i);
-				if (Character.isWhitespace(c) || c == ',')
+				if (Character.isWhitespace(c) || c == ',' || c == '"')
 					mustQuote = true;
 			}
 			if (mustQuote)
-				w.append('"').append(s).append('"');
+				w.append('"').append(s.replace("\"", "\"\"")).append('"');
 			else
 				w.append(s);
 		}
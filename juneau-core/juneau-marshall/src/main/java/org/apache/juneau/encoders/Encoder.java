@@ -51,4 +51,17 @@ public abstract class Encoder {
 	 * @return The codings that this encoder handles.
 	 */
 	public abstract String[] getCodings();
+
+	/**
+	 * Returns the minimum size of content in bytes for which this encoding should be applied.
+	 *
+	 * <p>
+	 * Callers that can defer the choice of encoding until the content size is known (e.g. HTTP responses that haven't
+	 * been committed yet) send smaller content unencoded.
+	 *
+	 * @return The minimum size of content in bytes, or <c>0</c> if this encoding should always be applied.
+	 */
+	public int getMinimumSize() {
+		return 0;
+	}
 }
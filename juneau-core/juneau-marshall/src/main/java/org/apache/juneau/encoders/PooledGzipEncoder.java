@@ -0,0 +1,244 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.encoders;
+
+import java.io.*;
+import java.util.concurrent.*;
+import java.util.zip.*;
+
+/**
+ * Encoder for handling <js>"gzip"</js> encoding that reuses {@link Deflater} instances between streams.
+ *
+ * <p>
+ * {@link GzipEncoder} creates a new {@link GZIPOutputStream} (and therefore a new native {@link Deflater}) for every
+ * stream and relies on finalization to free the native memory.
+ * <br>This encoder instead borrows deflaters from a bounded pool and returns them when the stream is finished or
+ * closed.
+ * <br>The compression level, strategy and buffer size are also configurable.
+ *
+ * <p>
+ * Content smaller than the {@link Builder#minimumSize(int) minimum size} is sent unencoded when the caller supports
+ * it (see {@link Encoder#getMinimumSize()}).
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jc>// Fast compression of responses larger than 2KB.</jc>
+ * 	Encoder e = PooledGzipEncoder
+ * 		.<jsm>create</jsm>()
+ * 		.level(Deflater.<jsf>BEST_SPEED</jsf>)
+ * 		.minimumSize(2048)
+ * 		.build();
+ *
+ * 	EncoderGroup g = EncoderGroup.<jsm>create</jsm>().append(e).build();
+ * </p>
+ *
+ * <ul class='notes'>
+ * 	<li>
+ * 		Streams must be finished or closed for the deflater to be returned to the pool.
+ * 		<br>Abandoned streams are still cleaned up by garbage collection.
+ * </ul>
+ */
+public class PooledGzipEncoder extends GzipEncoder {
+
+	private static final byte[] HEADER = {(byte)0x1f, (byte)0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0};
+
+	private final int level, strategy, bufferSize, minimumSize;
+	private final BlockingQueue<Deflater> pool;
+
+	/**
+	 * Creates a new builder for this object.
+	 *
+	 * @return A new builder.
+	 */
+	public static Builder create() {
+		return new Builder();
+	}
+
+	/**
+	 * Builder class.
+	 */
+	public static class Builder {
+		int level = Deflater.DEFAULT_COMPRESSION, strategy = Deflater.DEFAULT_STRATEGY, bufferSize = 8192, minimumSize = 1024;
+		int poolSize = Runtime.getRuntime().availableProcessors() * 2;
+
+		/**
+		 * Sets the compression level.
+		 *
+		 * @param value
+		 * 	The new value for this setting.
+		 * 	<br>Between <c>0</c> and <c>9</c>, or {@link Deflater#DEFAULT_COMPRESSION}.
+		 * 	<br>The default is {@link Deflater#DEFAULT_COMPRESSION}.
+		 * @return This object (for method chaining).
+		 */
+		public Builder level(int value) {
+			this.level = value;
+			return this;
+		}
+
+		/**
+		 * Sets the compression strategy.
+		 *
+		 * @param value
+		 * 	The new value for this setting.
+		 * 	<br>One of {@link Deflater#DEFAULT_STRATEGY}, {@link Deflater#FILTERED} or {@link Deflater#HUFFMAN_ONLY}.
+		 * 	<br>The default is {@link Deflater#DEFAULT_STRATEGY}.
+		 * @return This object (for method chaining).
+		 */
+		public Builder strategy(int value) {
+			this.strategy = value;
+			return this;
+		}
+
+		/**
+		 * Sets the size of the output buffer used by the compressing stream.
+		 *
+		 * @param value
+		 * 	The new value for this setting.
+		 * 	<br>The default is <c>8192</c>.
+		 * @return This object (for method chaining).
+		 */
+		public Builder bufferSize(int value) {
+			this.bufferSize = value;
+			return this;
+		}
+
+		/**
+		 * Sets the minimum content size in bytes below which content is sent unencoded.
+		 *
+		 * @param value
+		 * 	The new value for this setting.
+		 * 	<br>Use <c>0</c> to always compress.
+		 * 	<br>The default is <c>1024</c>.
+		 * @return This object (for method chaining).
+		 */
+		public Builder minimumSize(int value) {
+			this.minimumSize = value;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum number of idle deflaters kept in the pool.
+		 *
+		 * @param value
+		 * 	The new value for this setting.
+		 * 	<br>The default is twice the number of available processors.
+		 * @return This object (for method chaining).
+		 */
+		public Builder poolSize(int value) {
+			this.poolSize = value;
+			return this;
+		}
+
+		/**
+		 * Instantiates the encoder.
+		 *
+		 * @return A new encoder.
+		 */
+		public PooledGzipEncoder build() {
+			return new PooledGzipEncoder(this);
+		}
+	}
+
+	/**
+	 * Constructor using default settings.
+	 */
+	public PooledGzipEncoder() {
+		this(create());
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param builder The builder containing the settings for this encoder.
+	 */
+	protected PooledGzipEncoder(Builder builder) {
+		this.level = builder.level;
+		this.strategy = builder.strategy;
+		this.bufferSize = builder.bufferSize;
+		this.minimumSize = builder.minimumSize;
+		this.pool = new ArrayBlockingQueue<>(Math.max(1, builder.poolSize));
+	}
+
+	@Override /* Encoder */
+	public OutputStream getOutputStream(OutputStream os) throws IOException {
+		return new PooledGZIPOutputStream(os, acquire());
+	}
+
+	@Override /* Encoder */
+	public int getMinimumSize() {
+		return minimumSize;
+	}
+
+	/**
+	 * Returns the number of idle deflaters currently in the pool.
+	 *
+	 * @return The number of idle deflaters currently in the pool.
+	 */
+	public int getPoolCount() {
+		return pool.size();
+	}
+
+	private Deflater acquire() {
+		Deflater d = pool.poll();
+		if (d == null) {
+			d = new Deflater(level, true);
+			d.setStrategy(strategy);
+		}
+		return d;
+	}
+
+	private void release(Deflater d) {
+		d.reset();
+		if (! pool.offer(d))
+			d.end();
+	}
+
+	private class PooledGZIPOutputStream extends DeflaterOutputStream implements Finishable {
+		private final CRC32 crc = new CRC32();
+		private boolean finished;
+
+		PooledGZIPOutputStream(OutputStream out, Deflater def) throws IOException {
+			super(out, def, bufferSize);
+			out.write(HEADER);
+		}
+
+		@Override /* OutputStream */
+		public synchronized void write(byte[] b, int off, int len) throws IOException {
+			if (finished)
+				throw new IOException("Write beyond end of stream");
+			super.write(b, off, len);
+			crc.update(b, off, len);
+		}
+
+		@Override /* Finishable */
+		public void finish() throws IOException {
+			if (finished)
+				return;
+			finished = true;
+			try {
+				super.finish();
+				writeInt((int)crc.getValue());
+				writeInt((int)def.getBytesRead());
+			} finally {
+				release(def);
+			}
+		}
+
+		private void writeInt(int i) throws IOException {
+			out.write(i & 0xff);
+			out.write((i >> 8) & 0xff);
+			out.write((i >> 16) & 0xff);
+			out.write((i >> 24) & 0xff);
+		}
+	}
+}
@@ -14,6 +14,8 @@ package org.apache.juneau.html;
 
 import static org.apache.juneau.html.AsideFloat.*;
 
+import java.util.regex.*;
+
 import org.apache.juneau.internal.*;
 
 /**
@@ -24,6 +26,8 @@ import org.apache.juneau.internal.*;
  */
 public class BasicHtmlDocTemplate implements HtmlDocTemplate {
 
+	private static final Pattern NAVLINK_PATTERN = Pattern.compile("(?s)\\S+\\:.*");
+
 	@Override /* HtmlDocTemplate */
 	public void writeTo(HtmlDocSerializerSession session, HtmlWriter w, Object o) throws Exception {
 		w.sTag("html").nl(0);
@@ -46,9 +50,11 @@ public class BasicHtmlDocTemplate implements HtmlDocTemplate {
 	 */
 	protected void head(HtmlDocSerializerSession session, HtmlWriter w, Object o) throws Exception {
 
-		String[] head = session.getHead();
-		for (int i = 0; i < head.length; i++)
-			w.sIf(i > 0).appendln(2, session.resolve(head[i]));
+		if (! write(session, w, session.getHeadFragment(), true)) {
+			String[] head = session.getHead();
+			for (int i = 0; i < head.length; i++)
+				w.sIf(i > 0).appendln(2, session.resolve(head[i]));
+		}
 
 		if (hasStyle(session)) {
 			w.sTag(2, "style").nl(2);
@@ -76,8 +82,13 @@ public class BasicHtmlDocTemplate implements HtmlDocTemplate {
 			w.sIf(i++ > 0).append(3, "@import ").q().append(session.resolveUri(session.resolve(s))).q().appendln(";");
 		if (session.isNowrap())
 			w.appendln(3, "div.data * {white-space:nowrap;} ");
-		for (String s : session.getStyle())
-			w.sIf(i++ > 0).appendln(3, session.resolve(s));
+		HtmlDocFragment f = session.getStyleFragment();
+		if (write(session, w, f, i == 0)) {
+			i += f.size();
+		} else {
+			for (String s : session.getStyle())
+				w.sIf(i++ > 0).appendln(3, session.resolve(s));
+		}
 		for (HtmlWidget hw : session.getWidgets())
 			w.sIf(i++ > 0).appendln(3, session.resolve(hw.getStyle(session.getVarResolver())));
 	}
@@ -92,8 +103,13 @@ public class BasicHtmlDocTemplate implements HtmlDocTemplate {
 	 */
 	protected void script(HtmlDocSerializerSession session, HtmlWriter w, Object o) throws Exception {
 		int i = 0;
-		for (String s : session.getScript())
-			w.sIf(i++ > 0).append(3, session.resolve(s)).append('\n'); // Must always append a newline even if whitespace disabled!
+		HtmlDocFragment f = session.getScriptFragment();
+		if (write(session, w, f, true)) {
+			i += f.size();
+		} else {
+			for (String s : session.getScript())
+				w.sIf(i++ > 0).append(3, session.resolve(s)).append('\n'); // Must always append a newline even if whitespace disabled!
+		}
 		for (HtmlWidget hw : session.getWidgets())
 			w.sIf(i++ > 0).append(3, session.resolve(hw.getScript(session.getVarResolver()))).append('\n'); // Must always append a newline even if whitespace disabled!
 	}
@@ -176,6 +192,8 @@ public class BasicHtmlDocTemplate implements HtmlDocTemplate {
 	 */
 	protected void header(HtmlDocSerializerSession session, HtmlWriter w, Object o) throws Exception {
 		// Write the title of the page.
+		if (write(session, w, session.getHeaderFragment(), true))
+			return;
 		String[] header = session.getHeader();
 		for (int i = 0; i < header.length; i++)
 			w.sIf(i > 0).appendln(3, session.resolve(header[i]));
@@ -196,7 +214,7 @@ public class BasicHtmlDocTemplate implements HtmlDocTemplate {
 			for (String l : links) {
 				w.sTag(4, "li");
 				l = session.resolve(l);
-				if (l.matches("(?s)\\S+\\:.*")) {
+				if (NAVLINK_PATTERN.matcher(l).matches()) {
 					int i = l.indexOf(':');
 					String key = l.substring(0, i);
 					String val = l.substring(i+1).trim();
@@ -212,6 +230,8 @@ public class BasicHtmlDocTemplate implements HtmlDocTemplate {
 			}
 			w.eTag(3, "ol").nl(3);
 		}
+		if (write(session, w, session.getNavFragment(), true))
+			return;
 		String[] nav = session.getNav();
 		if (nav.length > 0) {
 			for (int i = 0; i < nav.length; i++)
@@ -228,6 +248,8 @@ public class BasicHtmlDocTemplate implements HtmlDocTemplate {
 	 * @throws Exception Any exception can be thrown.
 	 */
 	protected void aside(HtmlDocSerializerSession session, HtmlWriter w, Object o) throws Exception {
+		if (write(session, w, session.getAsideFragment(), true))
+			return;
 		String[] aside = session.getAside();
 		for (int i = 0; i < aside.length; i++)
 			w.sIf(i > 0).appendln(4, session.resolve(aside[i]));
@@ -272,6 +294,8 @@ public class BasicHtmlDocTemplate implements HtmlDocTemplate {
 	 * @throws Exception Any exception can be thrown.
 	 */
 	protected void footer(HtmlDocSerializerSession session, HtmlWriter w, Object o) throws Exception {
+		if (write(session, w, session.getFooterFragment(), true))
+			return;
 		String[] footer = session.getFooter();
 		for (int i = 0; i < footer.length; i++)
 			w.sIf(i > 0).appendln(3, session.resolve(footer[i]));
@@ -341,6 +365,16 @@ public class BasicHtmlDocTemplate implements HtmlDocTemplate {
 		return session.getFooter().length > 0;
 	}
 
+	/*
+	 * Writes a section pre-rendered by the serializer if it's available and was rendered for this writer.
+	 */
+	private static boolean write(HtmlDocSerializerSession session, HtmlWriter w, HtmlDocFragment f, boolean first) throws Exception {
+		if (f == null || ! f.isRenderedFor(w))
+			return false;
+		f.write(session, w, first);
+		return true;
+	}
+
 	private static boolean exists(String s) {
 		return s != null && ! "NONE".equals(s);
 	}
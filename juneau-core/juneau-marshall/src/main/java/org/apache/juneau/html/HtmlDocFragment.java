@@ -0,0 +1,227 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.html;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Pre-rendered lines of a section of an HTML page.
+ *
+ * <p>
+ * Created once by {@link HtmlDocSerializer} so that sessions don't need to resolve and format the section again on
+ * every serialization.
+ * <br>Only the variables in a line (e.g. <js>"$R{resourceTitle}"</js> in <js>"&lt;h1&gt;$R{resourceTitle}&lt;/h1&gt;"</js>)
+ * are resolved per session.  Everything around them is rendered up front.
+ */
+final class HtmlDocFragment {
+
+	private final String[] first, next;
+	private final Line[] lines;
+	private final int size, maxIndent;
+	private final boolean useWhitespace;
+
+	/**
+	 * Pre-renders the specified lines the same way {@link BasicHtmlDocTemplate} does.
+	 *
+	 * @param lines The lines to render.
+	 * @param indent The indentation of each line.
+	 * @param newline Always end lines with a newline even if whitespace is disabled.
+	 * @param useWhitespace The {@link org.apache.juneau.serializer.WriterSerializer#WSERIALIZER_useWhitespace} setting.
+	 * @param maxIndent The {@link org.apache.juneau.serializer.WriterSerializer#WSERIALIZER_maxIndent} setting.
+	 * @return The rendered fragment, or <jk>null</jk> if any of the lines are <jk>null</jk>.
+	 */
+	static HtmlDocFragment of(Collection<String> lines, int indent, boolean newline, boolean useWhitespace, int maxIndent) {
+		for (String s : lines)
+			if (s == null)
+				return null;
+		try {
+			List<String> first = new ArrayList<>(), next = new ArrayList<>();
+			List<Line> vars = new ArrayList<>();
+			StringWriter f = new StringWriter(), n = new StringWriter();
+			int i = 0;
+			for (String s : lines) {
+				String[] parts = split(s);
+				if (parts == null) {
+					render(f, s, indent, newline, useWhitespace, maxIndent, i > 0);
+					render(n, s, indent, newline, useWhitespace, maxIndent, true);
+				} else {
+					first.add(f.toString());
+					next.add(n.toString());
+					f = new StringWriter();
+					n = new StringWriter();
+					vars.add(new Line(parts, i, indent, newline, useWhitespace, maxIndent));
+				}
+				i++;
+			}
+			first.add(f.toString());
+			next.add(n.toString());
+			return new HtmlDocFragment(
+				first.toArray(new String[first.size()]),
+				next.toArray(new String[next.size()]),
+				vars.toArray(new Line[vars.size()]),
+				lines.size(),
+				useWhitespace,
+				maxIndent
+			);
+		} catch (IOException e) {
+			return null;  // Not possible with a StringWriter.
+		}
+	}
+
+	private static void render(StringWriter sw, String s, int indent, boolean newline, boolean useWhitespace, int maxIndent, boolean separate) throws IOException {
+		HtmlWriter w = new HtmlWriter(sw, useWhitespace, maxIndent, false, '\'', null);
+		if (newline)
+			w.sIf(separate).append(indent, s).append('\n');
+		else
+			w.sIf(separate).appendln(indent, s);
+	}
+
+	/*
+	 * Splits a line into static text (even indices) and variables (odd indices) the same way VarResolverSession
+	 * parses them, or returns null if the line has no variables.
+	 * Lines with escape characters are resolved as a whole.
+	 */
+	private static String[] split(String s) {
+		if (s.indexOf('$') == -1 && s.indexOf('\\') == -1)
+			return null;
+		if (s.indexOf('\\') != -1)
+			return new String[]{"", s, ""};
+
+		List<String> l = new ArrayList<>();
+		int state = 1, depth = 0, x = 0, x2 = 0;
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (state == 1) {
+				if (c == '$') {
+					x2 = i;
+					state = 2;
+				}
+			} else if (state == 2) {
+				if (c == '{')
+					state = 3;
+				else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a'))  // False trigger "$X "
+					state = 1;
+			} else if (c == '{') {
+				depth++;
+			} else if (c == '}') {
+				if (depth > 0) {
+					depth--;
+				} else {
+					l.add(s.substring(x, x2));
+					l.add(s.substring(x2, i+1));
+					x = i+1;
+					state = 1;
+				}
+			}
+		}
+		if (l.isEmpty())
+			return null;
+		l.add(s.substring(x));
+		return l.toArray(new String[l.size()]);
+	}
+
+	private HtmlDocFragment(String[] first, String[] next, Line[] lines, int size, boolean useWhitespace, int maxIndent) {
+		this.first = first;
+		this.next = next;
+		this.lines = lines;
+		this.size = size;
+		this.useWhitespace = useWhitespace;
+		this.maxIndent = maxIndent;
+	}
+
+	/**
+	 * Writes the rendered lines, resolving any variables in them against the specified session.
+	 *
+	 * @param session The current serializer session.
+	 * @param w The writer to write to.
+	 * @param first Whether these are the first lines written in the section.
+	 * @throws IOException Thrown by the underlying stream.
+	 */
+	void write(HtmlDocSerializerSession session, HtmlWriter w, boolean first) throws IOException {
+		String[] text = first ? this.first : next;
+		for (int i = 0; i < lines.length; i++) {
+			w.append(text[i]);
+			lines[i].write(session, w, ! first || lines[i].index > 0);
+		}
+		w.append(text[lines.length]);
+	}
+
+	/**
+	 * Returns the number of lines in this fragment.
+	 *
+	 * @return The number of lines in this fragment.
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this fragment was rendered with the same settings as the specified writer.
+	 *
+	 * @param w The writer being written to.
+	 * @return <jk>true</jk> if this fragment can be written as-is to the specified writer.
+	 */
+	boolean isRenderedFor(HtmlWriter w) {
+		return w.isFormattedWith(useWhitespace, maxIndent);
+	}
+
+	/*
+	 * A line containing variables.
+	 */
+	private static final class Line {
+		private final String[] parts;
+		private final int index, indent;
+		private final boolean newline, indented;
+		private final String prefixFirst, prefix, suffix;
+
+		Line(String[] parts, int index, int indent, boolean newline, boolean useWhitespace, int maxIndent) throws IOException {
+			this.parts = parts;
+			this.index = index;
+			this.indent = indent;
+			this.newline = newline;
+			this.indented = useWhitespace && indent <= maxIndent;
+			StringWriter sw = new StringWriter();
+			new HtmlWriter(sw, useWhitespace, maxIndent, false, '\'', null).append(indent, "");
+			this.prefixFirst = sw.toString();
+			this.prefix = (useWhitespace ? "" : " ") + prefixFirst;
+			this.suffix = newline || indented ? "\n" : "";
+		}
+
+		void write(HtmlDocSerializerSession session, HtmlWriter w, boolean separate) throws IOException {
+			String[] r = new String[parts.length];
+			boolean multiline = false;
+			for (int i = 0; i < parts.length; i++) {
+				r[i] = i % 2 == 0 ? parts[i] : session.resolve(parts[i]);
+				multiline |= r[i].indexOf('\n') != -1;
+			}
+
+			// Multi-line text is indented line by line, so it has to be written as a whole.
+			if (multiline && indented) {
+				StringBuilder sb = new StringBuilder();
+				for (String s : r)
+					sb.append(s);
+				if (newline)
+					w.sIf(separate).append(indent, sb.toString()).append('\n');
+				else
+					w.sIf(separate).appendln(indent, sb.toString());
+				return;
+			}
+
+			w.append(separate ? prefix : prefixFirst);
+			for (String s : r)
+				w.append(s);
+			w.append(suffix);
+		}
+	}
+}
@@ -752,6 +752,8 @@ public class HtmlDocSerializer extends HtmlStrippedDocSerializer {
 	private final boolean nowrap;
 	private final HtmlDocTemplate template;
 	private final Map<String,HtmlWidget> widgets;
+	private final Set<String> styleSet, stylesheetSet, scriptSet;
+	private final HtmlDocFragment headFragment, headerFragment, navFragment, asideFragment, footerFragment, styleFragment, scriptFragment;
 
 	private volatile HtmlSchemaDocSerializer schemaSerializer;
 
@@ -811,6 +813,22 @@ public class HtmlDocSerializer extends HtmlStrippedDocSerializer {
 		for (HtmlWidget w : getInstanceArrayProperty(HTMLDOC_widgets, HtmlWidget.class))
 			widgets.put(w.getName(), w);
 		this.widgets = Collections.unmodifiableMap(widgets);
+
+		// These can contain dups after variable resolution, so de-dup them with hashsets.
+		styleSet = Collections.unmodifiableSet(ASet.of(style));
+		stylesheetSet = Collections.unmodifiableSet(ASet.of(stylesheet));
+		scriptSet = Collections.unmodifiableSet(ASet.of(script));
+
+		// Pre-render the sections so that sessions only have to resolve the variables in them.
+		boolean ws = isUseWhitespace();
+		int mi = getMaxIndent();
+		headFragment = HtmlDocFragment.of(Arrays.asList(head), 2, false, ws, mi);
+		headerFragment = HtmlDocFragment.of(Arrays.asList(header), 3, false, ws, mi);
+		navFragment = HtmlDocFragment.of(Arrays.asList(nav), 3, false, ws, mi);
+		asideFragment = HtmlDocFragment.of(Arrays.asList(aside), 4, false, ws, mi);
+		footerFragment = HtmlDocFragment.of(Arrays.asList(footer), 3, false, ws, mi);
+		styleFragment = HtmlDocFragment.of(styleSet, 3, false, ws, mi);
+		scriptFragment = HtmlDocFragment.of(scriptSet, 3, true, ws, mi);
 	}
 
 	@Override /* Context */
@@ -1009,6 +1027,52 @@ public class HtmlDocSerializer extends HtmlStrippedDocSerializer {
 		return widgets;
 	}
 
+	/*
+	 * De-duped values of the style, stylesheet, and script settings shared by all sessions that don't override them.
+	 */
+	Set<String> getStyleSet() {
+		return styleSet;
+	}
+
+	Set<String> getStylesheetSet() {
+		return stylesheetSet;
+	}
+
+	Set<String> getScriptSet() {
+		return scriptSet;
+	}
+
+	/*
+	 * Pre-rendered sections, or null if the section contains variables.
+	 */
+	HtmlDocFragment getHeadFragment() {
+		return headFragment;
+	}
+
+	HtmlDocFragment getHeaderFragment() {
+		return headerFragment;
+	}
+
+	HtmlDocFragment getNavFragment() {
+		return navFragment;
+	}
+
+	HtmlDocFragment getAsideFragment() {
+		return asideFragment;
+	}
+
+	HtmlDocFragment getFooterFragment() {
+		return footerFragment;
+	}
+
+	HtmlDocFragment getStyleFragment() {
+		return styleFragment;
+	}
+
+	HtmlDocFragment getScriptFragment() {
+		return scriptFragment;
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Other methods
 	//-----------------------------------------------------------------------------------------------------------------
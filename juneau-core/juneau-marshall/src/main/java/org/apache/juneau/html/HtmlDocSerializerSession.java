@@ -40,6 +40,7 @@ public class HtmlDocSerializerSession extends HtmlStrippedDocSerializerSession {
 	private final AsideFloat asideFloat;
 	private final Set<String> style, stylesheet, script;
 	private final boolean nowrap;
+	private final HtmlDocFragment headFragment, headerFragment, navFragment, asideFragment, footerFragment, styleFragment, scriptFragment;
 
 	/**
 	 * Create a new session using properties specified in the context.
@@ -62,13 +63,26 @@ public class HtmlDocSerializerSession extends HtmlStrippedDocSerializerSession {
 		navlinks = getProperty(HTMLDOC_navlinks, String[].class, ctx.getNavlinks());
 
 		// These can contain dups after variable resolution, so de-dup them with hashsets.
-		style = ASet.of(getProperty(HTMLDOC_style, String[].class, ctx.getStyle()));
-		stylesheet = ASet.of(getProperty(HTMLDOC_stylesheet, String[].class, ctx.getStylesheet()));
-		script = ASet.of(getProperty(HTMLDOC_script, String[].class, ctx.getScript()));
+		// Reuse the context's sets unless they're overridden on this session.
+		String[] s = getProperty(HTMLDOC_style, String[].class, ctx.getStyle());
+		style = s == ctx.getStyle() ? ctx.getStyleSet() : ASet.of(s);
+		s = getProperty(HTMLDOC_stylesheet, String[].class, ctx.getStylesheet());
+		stylesheet = s == ctx.getStylesheet() ? ctx.getStylesheetSet() : ASet.of(s);
+		s = getProperty(HTMLDOC_script, String[].class, ctx.getScript());
+		script = s == ctx.getScript() ? ctx.getScriptSet() : ASet.of(s);
 
 		head = getProperty(HTMLDOC_head, String[].class, ctx.getHead());
 		nowrap = getProperty(HTMLDOC_nowrap, boolean.class, ctx.isNowrap());
 
+		// Reuse the sections pre-rendered by the context unless they're overridden on this session.
+		headFragment = head == ctx.getHead() ? ctx.getHeadFragment() : null;
+		headerFragment = header == ctx.getHeader() ? ctx.getHeaderFragment() : null;
+		navFragment = nav == ctx.getNav() ? ctx.getNavFragment() : null;
+		asideFragment = aside == ctx.getAside() ? ctx.getAsideFragment() : null;
+		footerFragment = footer == ctx.getFooter() ? ctx.getFooterFragment() : null;
+		styleFragment = style == ctx.getStyleSet() ? ctx.getStyleFragment() : null;
+		scriptFragment = script == ctx.getScriptSet() ? ctx.getScriptFragment() : null;
+
 		varSessionObject(HtmlWidgetVar.SESSION_htmlWidgets, ctx.getWidgets());
 	}
 
@@ -272,6 +286,38 @@ public class HtmlDocSerializerSession extends HtmlStrippedDocSerializerSession {
 		return ctx.getWidgets().values();
 	}
 
+	/*
+	 * Pre-rendered sections, or null if the section must be rendered on this session.
+	 * Templates must also check HtmlDocFragment.isRenderedFor(HtmlWriter) before using them.
+	 */
+	HtmlDocFragment getHeadFragment() {
+		return headFragment;
+	}
+
+	HtmlDocFragment getHeaderFragment() {
+		return headerFragment;
+	}
+
+	HtmlDocFragment getNavFragment() {
+		return navFragment;
+	}
+
+	HtmlDocFragment getAsideFragment() {
+		return asideFragment;
+	}
+
+	HtmlDocFragment getFooterFragment() {
+		return footerFragment;
+	}
+
+	HtmlDocFragment getStyleFragment() {
+		return styleFragment;
+	}
+
+	HtmlDocFragment getScriptFragment() {
+		return scriptFragment;
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Other methods
 	//-----------------------------------------------------------------------------------------------------------------
@@ -526,6 +526,12 @@ public class HtmlParserBuilder extends XmlParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - ReaderParserBuilder */
+	public HtmlParserBuilder bufferSize(int value) {
+		super.bufferSize(value);
+		return this;
+	}
+
 	@Override /* GENERATED - ReaderParserBuilder */
 	public HtmlParserBuilder fileCharset(Charset value) {
 		super.fileCharset(value);
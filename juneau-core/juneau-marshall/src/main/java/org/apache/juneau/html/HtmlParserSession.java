@@ -79,6 +79,11 @@ public final class HtmlParserSession extends XmlParserSession {
 		return parseIntoCollection(getXmlReader(pipe), c, getClassMeta(elementType), null);
 	}
 
+	@Override /* ParserSession */
+	protected <E> ParserIterator<E> doParseIterator(ParserPipe pipe, ClassMeta<E> elementType) throws Exception {
+		throw new UnsupportedOperationException("Parser '"+getClass().getName()+"' does not support this method.");
+	}
+
 	/*
 	 * Reads anything starting at the current event.
 	 * <p>
@@ -343,4 +343,11 @@ public class HtmlWriter extends XmlWriter {
 		super.append(c);
 		return this;
 	}
+
+	/*
+	 * Returns true if this writer formats output with the specified settings.
+	 */
+	boolean isFormattedWith(boolean useWhitespace, int maxIndent) {
+		return this.useWhitespace == useWhitespace && this.maxIndent == maxIndent;
+	}
 }
@@ -19,6 +19,7 @@ import java.util.function.*;
 
 import org.apache.http.*;
 import org.apache.juneau.*;
+import org.apache.juneau.encoders.*;
 import org.apache.juneau.http.header.*;
 import org.apache.juneau.httppart.*;
 import org.apache.juneau.internal.*;
@@ -26,10 +27,17 @@ import org.apache.juneau.serializer.*;
 
 /**
  * HttpEntity for serializing POJOs as the body of HTTP requests.
+ *
+ * <p>
+ * When an {@link #encoder(Encoder) encoder} is set, the content is compressed as it's serialized and the
+ * <c>Content-Encoding</c> header is set to the coding of the encoder.
  */
 public class SerializedHttpEntity extends BasicHttpEntity {
 	private final Serializer serializer;
 	private HttpPartSchema schema;
+	private Encoder encoder;
+	private Boolean encode;
+	private byte[] unencoded;  // Content found to be smaller than the encoder minimum size.
 
 	/**
 	 * Creator.
@@ -79,30 +87,100 @@ public class SerializedHttpEntity extends BasicHttpEntity {
 		return this;
 	}
 
+	/**
+	 * Sets the encoder to use to compress the serialized content.
+	 *
+	 * <p>
+	 * The content is written through the encoder as it's serialized, so it's never held in memory in full.
+	 * <br>If the encoder has a {@link Encoder#getMinimumSize() minimum size}, the content is first serialized into a
+	 * buffer of that size to find out whether it's large enough to be worth encoding.  Smaller content is sent
+	 * unencoded with a known <c>Content-Length</c>.
+	 *
+	 * <p>
+	 * Value is ignored if the content is a {@link Reader}, {@link InputStream}, or {@link File}.
+	 *
+	 * @param value The encoder, or <jk>null</jk> to send the content unencoded.
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public SerializedHttpEntity encoder(Encoder value) {
+		this.encoder = value;
+		this.encode = null;
+		this.unencoded = null;
+		return this;
+	}
+
 	@Override /* BasicHttpEntity */
 	public void writeTo(OutputStream os) throws IOException {
 		if (isSerializable()) {
-			try {
-				os = new NoCloseOutputStream(os);
-				Object o = getRawContent();
-				if (serializer == null) {
-					os.write(o.toString().getBytes());
-					os.close();
-				} else {
-					SerializerSessionArgs sArgs = SerializerSessionArgs.create().schema(schema);
-					SerializerSession session = serializer.createSession(sArgs);
-					try (Closeable c = session.isWriterSerializer() ? new OutputStreamWriter(os, UTF8) : os) {
-						session.serialize(o, c);
-					}
+			if (isEncoded()) {
+				// Buffered since stream serializers write a byte at a time.
+				try (OutputStream os2 = new BufferedOutputStream(encoder.getOutputStream(new NoCloseOutputStream(os)), 8192)) {
+					serialize(os2);
 				}
-			} catch (SerializeException e) {
-				throw new BasicRuntimeException(e, "Serialization error on request body.");
+			} else if (unencoded != null) {
+				os.write(unencoded);
+			} else {
+				serialize(os);
 			}
 		} else {
 			super.writeTo(os);
 		}
 	}
 
+	private void serialize(OutputStream os) throws IOException {
+		try {
+			os = new NoCloseOutputStream(os);
+			Object o = getRawContent();
+			if (serializer == null) {
+				os.write(o.toString().getBytes());
+				os.close();
+			} else {
+				SerializerSessionArgs sArgs = SerializerSessionArgs.create().schema(schema);
+				SerializerSession session = serializer.createSession(sArgs);
+				try (Closeable c = session.isWriterSerializer() ? new OutputStreamWriter(os, UTF8) : os) {
+					session.serialize(o, c);
+				}
+			}
+		} catch (SerializeException e) {
+			throw new BasicRuntimeException(e, "Serialization error on request body.");
+		}
+	}
+
+	/*
+	 * Returns true if the content should be written through the encoder.
+	 * Content that turns out to be smaller than the encoder's minimum size is kept so it doesn't need to be
+	 * serialized again.
+	 */
+	private boolean isEncoded() {
+		if (encoder == null || ! isSerializable())
+			return false;
+		if (encode == null) {
+			int min = encoder.getMinimumSize();
+			if (min <= 0) {
+				encode = true;
+			} else {
+				ThresholdBuffer b = new ThresholdBuffer(min);
+				try {
+					serialize(b);
+					unencoded = b.toByteArray();
+					encode = false;
+				} catch (Exception e) {
+					// Any other error is thrown again when the content is written.
+					encode = b.isExceeded();
+				}
+			}
+		}
+		return encode;
+	}
+
+	@Override /* BasicHttpEntity */
+	public Header getContentEncoding() {
+		if (isEncoded())
+			return ContentEncoding.of(encoder.getCodings()[0]);
+		return super.getContentEncoding();
+	}
+
 	@Override /* BasicHttpEntity */
 	public boolean isRepeatable() {
 		if (isSerializable())
@@ -113,7 +191,7 @@ public class SerializedHttpEntity extends BasicHttpEntity {
 	@Override /* BasicHttpEntity */
 	public long getContentLength() {
 		if (isSerializable())
-			return -1;
+			return isEncoded() || unencoded == null ? -1 : unencoded.length;
 		return super.getContentLength();
 	}
 
@@ -136,6 +214,37 @@ public class SerializedHttpEntity extends BasicHttpEntity {
 		return ! (o instanceof InputStream || o instanceof Reader || o instanceof File);
 	}
 
+	/*
+	 * Buffer that refuses to grow to the specified size.
+	 */
+	private static class ThresholdBuffer extends ByteArrayOutputStream {
+		private final int threshold;
+		private boolean exceeded;
+
+		ThresholdBuffer(int threshold) {
+			super(Math.min(threshold, 8192));
+			this.threshold = threshold;
+		}
+
+		@Override /* OutputStream */
+		public void write(int b) {
+			write(new byte[]{(byte)b}, 0, 1);
+		}
+
+		@Override /* OutputStream */
+		public void write(byte[] b, int off, int len) {
+			if (count + len >= threshold) {
+				exceeded = true;
+				throw new BasicRuntimeException("Content reached threshold of {0} bytes.", threshold);
+			}
+			super.write(b, off, len);
+		}
+
+		boolean isExceeded() {
+			return exceeded;
+		}
+	}
+
 	// <FluentSetters>
 
 	@Override /* GENERATED - BasicHttpEntity */
@@ -0,0 +1,382 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static java.time.format.DateTimeFormatter.*;
+
+import java.time.*;
+import java.time.format.*;
+import java.time.temporal.*;
+
+/**
+ * Wraps a {@link DateTimeFormatter} and provides hand-written formatting and parsing for the common ISO-8601 forms.
+ *
+ * <p>
+ * The following predefined formatters have fast paths:
+ * <ul>
+ * 	<li>{@link DateTimeFormatter#ISO_INSTANT}
+ * 	<li>{@link DateTimeFormatter#ISO_LOCAL_DATE}
+ * 	<li>{@link DateTimeFormatter#ISO_LOCAL_TIME}
+ * 	<li>{@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}
+ * 	<li>{@link DateTimeFormatter#ISO_OFFSET_DATE_TIME}
+ * </ul>
+ *
+ * <p>
+ * The fast paths produce exactly the same output as the wrapped formatter.
+ * Anything they don't recognize (other formatters, other temporal types, years outside <c>0000-9999</c>, lenient
+ * input such as lowercase <js>'t'</js> separators, invalid values, etc.) is passed through to the wrapped formatter.
+ */
+public final class IsoDateTimeFormatter {
+
+	private static final int
+		NONE = 0,
+		INSTANT = 1,
+		LOCAL_DATE = 2,
+		LOCAL_TIME = 3,
+		LOCAL_DATE_TIME = 4,
+		OFFSET_DATE_TIME = 5;
+
+	private final DateTimeFormatter formatter;
+	private final int kind;
+
+	/**
+	 * Creates a wrapper around the specified formatter.
+	 *
+	 * @param formatter The formatter to wrap.
+	 * @return A new wrapper.
+	 */
+	public static IsoDateTimeFormatter of(DateTimeFormatter formatter) {
+		return new IsoDateTimeFormatter(formatter);
+	}
+
+	private IsoDateTimeFormatter(DateTimeFormatter formatter) {
+		this.formatter = formatter;
+		if (formatter == ISO_INSTANT)
+			kind = INSTANT;
+		else if (formatter == ISO_LOCAL_DATE)
+			kind = LOCAL_DATE;
+		else if (formatter == ISO_LOCAL_TIME)
+			kind = LOCAL_TIME;
+		else if (formatter == ISO_LOCAL_DATE_TIME)
+			kind = LOCAL_DATE_TIME;
+		else if (formatter == ISO_OFFSET_DATE_TIME)
+			kind = OFFSET_DATE_TIME;
+		else
+			kind = NONE;
+	}
+
+	/**
+	 * Returns the wrapped formatter.
+	 *
+	 * @return The wrapped formatter.
+	 */
+	public DateTimeFormatter getFormatter() {
+		return formatter;
+	}
+
+	/**
+	 * Same as {@link DateTimeFormatter#format(TemporalAccessor)}.
+	 *
+	 * @param t The temporal object to format.
+	 * @return The formatted string.
+	 */
+	public String format(TemporalAccessor t) {
+		String s = kind == NONE ? null : fastFormat(t);
+		return s != null ? s : formatter.format(t);
+	}
+
+	/**
+	 * Same as {@link DateTimeFormatter#parse(CharSequence)}.
+	 *
+	 * <p>
+	 * Strings handled by the fast path are returned as the corresponding <c>java.time</c> value (e.g. {@link Instant}
+	 * for {@link DateTimeFormatter#ISO_INSTANT}) which answers the same field and query requests as the result of the
+	 * wrapped formatter.
+	 *
+	 * @param s The string to parse.
+	 * @return The parsed temporal object.
+	 */
+	public TemporalAccessor parse(CharSequence s) {
+		TemporalAccessor t = kind == NONE ? null : fastParse(s);
+		return t != null ? t : formatter.parse(s);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Formatting
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private String fastFormat(TemporalAccessor t) {
+		LocalDateTime ldt = null;
+		ZoneOffset offset = null;
+		if (t instanceof ZonedDateTime) {
+			ZonedDateTime z = (ZonedDateTime)t;
+			ldt = z.toLocalDateTime();
+			offset = z.getOffset();
+		} else if (t instanceof OffsetDateTime) {
+			OffsetDateTime o = (OffsetDateTime)t;
+			ldt = o.toLocalDateTime();
+			offset = o.getOffset();
+		} else if (t instanceof LocalDateTime) {
+			ldt = (LocalDateTime)t;
+		}
+
+		char[] b = new char[40];
+		int i = 0;
+
+		switch (kind) {
+			case INSTANT: {
+				if (t instanceof Instant) {
+					Instant in = (Instant)t;
+					ldt = LocalDateTime.ofEpochSecond(in.getEpochSecond(), in.getNano(), ZoneOffset.UTC);
+				} else if (offset == null) {
+					return null;
+				} else if (offset.getTotalSeconds() != 0) {
+					ldt = LocalDateTime.ofEpochSecond(ldt.toEpochSecond(offset), ldt.getNano(), ZoneOffset.UTC);
+				}
+				i = writeDate(b, i, ldt.toLocalDate());
+				if (i == -1)
+					return null;
+				b[i++] = 'T';
+				i = writeTime(b, i, ldt.toLocalTime(), true);
+				b[i++] = 'Z';
+				break;
+			}
+			case LOCAL_DATE: {
+				i = writeDate(b, i, t instanceof LocalDate ? (LocalDate)t : ldt == null ? null : ldt.toLocalDate());
+				break;
+			}
+			case LOCAL_TIME: {
+				LocalTime lt = t instanceof LocalTime ? (LocalTime)t : ldt == null ? null : ldt.toLocalTime();
+				if (lt == null)
+					return null;
+				i = writeTime(b, i, lt, false);
+				break;
+			}
+			case LOCAL_DATE_TIME:
+			case OFFSET_DATE_TIME: {
+				if (ldt == null || (kind == OFFSET_DATE_TIME && offset == null))
+					return null;
+				i = writeDate(b, i, ldt.toLocalDate());
+				if (i == -1)
+					return null;
+				b[i++] = 'T';
+				i = writeTime(b, i, ldt.toLocalTime(), false);
+				if (kind == OFFSET_DATE_TIME) {
+					String id = offset.getId();
+					id.getChars(0, id.length(), b, i);
+					i += id.length();
+				}
+				break;
+			}
+			default:
+				return null;
+		}
+
+		return i == -1 ? null : new String(b, 0, i);
+	}
+
+	/*
+	 * Writes "yyyy-MM-dd".
+	 * Returns -1 if the year requires a sign or more than 4 digits.
+	 */
+	private static int writeDate(char[] b, int i, LocalDate d) {
+		if (d == null)
+			return -1;
+		int year = d.getYear();
+		if (year < 0 || year > 9999)
+			return -1;
+		i = write(b, i, year, 4);
+		b[i++] = '-';
+		i = write(b, i, d.getMonthValue(), 2);
+		b[i++] = '-';
+		return write(b, i, d.getDayOfMonth(), 2);
+	}
+
+	/*
+	 * Writes "HH:mm:ss" followed by the fraction.
+	 * ISO_INSTANT writes the fraction in groups of 3 digits, the other formatters strip trailing zeros.
+	 */
+	private static int writeTime(char[] b, int i, LocalTime t, boolean groupsOfThree) {
+		i = write(b, i, t.getHour(), 2);
+		b[i++] = ':';
+		i = write(b, i, t.getMinute(), 2);
+		b[i++] = ':';
+		i = write(b, i, t.getSecond(), 2);
+		int nano = t.getNano();
+		if (nano == 0)
+			return i;
+		b[i++] = '.';
+		if (groupsOfThree) {
+			if (nano % 1_000_000 == 0)
+				return write(b, i, nano / 1_000_000, 3);
+			if (nano % 1_000 == 0)
+				return write(b, i, nano / 1_000, 6);
+			return write(b, i, nano, 9);
+		}
+		int digits = 9;
+		while (nano % 10 == 0) {
+			nano /= 10;
+			digits--;
+		}
+		return write(b, i, nano, digits);
+	}
+
+	/*
+	 * Writes a non-negative value zero-padded to the specified number of digits.
+	 */
+	private static int write(char[] b, int i, int value, int digits) {
+		for (int j = i + digits - 1; j >= i; j--) {
+			b[j] = (char)('0' + value % 10);
+			value /= 10;
+		}
+		return i + digits;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Parsing
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private TemporalAccessor fastParse(CharSequence s) {
+		int len = s.length();
+		try {
+			switch (kind) {
+				case LOCAL_DATE:
+					return len == 10 ? parseDate(s) : null;
+				case LOCAL_TIME:
+					return parseTime(s, 0, len, false);
+				case LOCAL_DATE_TIME: {
+					LocalDate d = parseDateTimeDate(s);
+					LocalTime t = d == null ? null : parseTime(s, 11, len, false);
+					return t == null ? null : LocalDateTime.of(d, t);
+				}
+				case INSTANT: {
+					if (len == 0 || s.charAt(len-1) != 'Z')
+						return null;
+					LocalDate d = parseDateTimeDate(s);
+					LocalTime t = d == null ? null : parseTime(s, 11, len-1, true);
+					return t == null ? null : LocalDateTime.of(d, t).toInstant(ZoneOffset.UTC);
+				}
+				case OFFSET_DATE_TIME: {
+					int o = offsetStart(s, len);
+					LocalDate d = o == -1 ? null : parseDateTimeDate(s);
+					LocalTime t = d == null ? null : parseTime(s, 11, o, false);
+					ZoneOffset zo = t == null ? null : parseOffset(s, o, len);
+					return zo == null ? null : OffsetDateTime.of(d, t, zo);
+				}
+				default:
+					return null;
+			}
+		} catch (DateTimeException e) {
+			// Out-of-range field values.  Let the wrapped formatter produce the error.
+			return null;
+		}
+	}
+
+	/*
+	 * Parses "yyyy-MM-dd" at the start of the string.
+	 */
+	private static LocalDate parseDate(CharSequence s) {
+		int y = digits(s, 0, 4), m = digits(s, 5, 2), d = digits(s, 8, 2);
+		if (y == -1 || m == -1 || d == -1 || s.charAt(4) != '-' || s.charAt(7) != '-')
+			return null;
+		return LocalDate.of(y, m, d);
+	}
+
+	/*
+	 * Parses "yyyy-MM-dd" at the start of a "yyyy-MM-ddT..." string.
+	 */
+	private static LocalDate parseDateTimeDate(CharSequence s) {
+		if (s.length() < 11 || s.charAt(10) != 'T')
+			return null;
+		return parseDate(s);
+	}
+
+	/*
+	 * Parses "HH:mm[:ss[.fraction]]" between the specified positions.
+	 */
+	private static LocalTime parseTime(CharSequence s, int start, int end, boolean secondsRequired) {
+		int len = end - start;
+		if (len < 5 || (secondsRequired && len < 8))
+			return null;
+		int h = digits(s, start, 2), m = digits(s, start+3, 2), sec = 0, nano = 0;
+		if (h == -1 || m == -1 || s.charAt(start+2) != ':')
+			return null;
+		if (len > 5) {
+			sec = digits(s, start+6, 2);
+			if (len < 8 || sec == -1 || s.charAt(start+5) != ':')
+				return null;
+			if (len > 8) {
+				int digits = len - 9;
+				if (s.charAt(start+8) != '.' || digits < 1 || digits > 9)
+					return null;
+				nano = digits(s, start+9, digits);
+				if (nano == -1)
+					return null;
+				for (int i = digits; i < 9; i++)
+					nano *= 10;
+			}
+		}
+		return LocalTime.of(h, m, sec, nano);
+	}
+
+	/*
+	 * Returns the position of the trailing "Z", "+HH:MM" or "+HH:MM:ss" offset, or -1 if there isn't one.
+	 */
+	private static int offsetStart(CharSequence s, int len) {
+		if (len > 0 && s.charAt(len-1) == 'Z')
+			return len-1;
+		for (int i = len-9; i <= len-6; i += 3) {
+			if (i >= 0) {
+				char c = s.charAt(i);
+				if (c == '+' || c == '-')
+					return i;
+			}
+		}
+		return -1;
+	}
+
+	private static ZoneOffset parseOffset(CharSequence s, int start, int end) {
+		int len = end - start;
+		if (len == 1)
+			return ZoneOffset.UTC;
+		int h = digits(s, start+1, 2), m = digits(s, start+4, 2), sec = 0;
+		if (h == -1 || m == -1 || s.charAt(start+3) != ':')
+			return null;
+		if (len == 9) {
+			sec = digits(s, start+7, 2);
+			if (sec == -1 || s.charAt(start+6) != ':')
+				return null;
+		} else if (len != 6) {
+			return null;
+		}
+		if (s.charAt(start) == '-')
+			return ZoneOffset.ofHoursMinutesSeconds(-h, -m, -sec);
+		return ZoneOffset.ofHoursMinutesSeconds(h, m, sec);
+	}
+
+	/*
+	 * Parses the specified number of decimal digits, or returns -1 if they're not all digits.
+	 */
+	private static int digits(CharSequence s, int start, int count) {
+		if (start + count > s.length())
+			return -1;
+		int v = 0;
+		for (int i = start; i < start + count; i++) {
+			char c = s.charAt(i);
+			if (c < '0' || c > '9')
+				return -1;
+			v = v * 10 + (c - '0');
+		}
+		return v;
+	}
+}
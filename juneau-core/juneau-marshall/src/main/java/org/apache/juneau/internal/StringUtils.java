@@ -108,6 +108,21 @@ public final class StringUtils {
 	 * @throws IOException Thrown by underlying stream.
 	 */
 	public static String parseNumberString(ParserReader r) throws IOException {
+		markNumberString(r);
+		return r.getMarked();
+	}
+
+	/**
+	 * Same as {@link #parseNumberString(ParserReader)} but leaves the numeric string marked on the reader instead of
+	 * creating a string from it.
+	 *
+	 * <p>
+	 * Callers are expected to follow up with {@link ParserReader#getMarked()} or {@link ParserReader#getMarkedAsLong()}.
+	 *
+	 * @param r The reader to read form.
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	public static void markNumberString(ParserReader r) throws IOException {
 		r.mark();
 		int c = 0;
 		while (true) {
@@ -119,7 +134,6 @@ public final class StringUtils {
 				break;
 			}
 		}
-		return r.getMarked();
 	}
 
 	/**
@@ -177,9 +191,11 @@ public final class StringUtils {
 
 			if (type == Double.class || type == Double.TYPE) {
 				Double d = Double.valueOf(s);
-				Float f = Float.valueOf(s);
-				if (isAutoDetect && (!isDecimal) && d.toString().equals(f.toString()))
-					return f;
+				if (isAutoDetect && (!isDecimal)) {
+					Float f = Float.valueOf(s);
+					if (d.toString().equals(f.toString()))
+						return f;
+				}
 				return d;
 			}
 			if (type == Float.class || type == Float.TYPE)
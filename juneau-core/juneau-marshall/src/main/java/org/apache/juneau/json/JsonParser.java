@@ -12,6 +12,7 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.json;
 
+import java.io.*;
 import java.util.*;
 import java.util.concurrent.*;
 
@@ -249,6 +250,20 @@ public class JsonParser extends ReaderParser implements JsonMetaProvider, JsonCo
 		return new JsonParserSession(this, args);
 	}
 
+	/**
+	 * Creates a {@link JsonReader} for reading the specified input one token at a time.
+	 *
+	 * <p>
+	 * Shortcut for calling <c>createSession().getJsonReader(input)</c>.
+	 *
+	 * @param input The input.  See {@link ParserSession#parse(Object, ClassMeta)} for supported input types.
+	 * @return A new reader.
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	public final JsonReader getJsonReader(Object input) throws IOException {
+		return createSession().getJsonReader(input);
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Extended metadata
 	//-----------------------------------------------------------------------------------------------------------------
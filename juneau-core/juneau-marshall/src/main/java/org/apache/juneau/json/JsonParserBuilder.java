@@ -543,6 +543,12 @@ public class JsonParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - ReaderParserBuilder */
+	public JsonParserBuilder bufferSize(int value) {
+		super.bufferSize(value);
+		return this;
+	}
+
 	@Override /* GENERATED - ReaderParserBuilder */
 	public JsonParserBuilder fileCharset(Charset value) {
 		super.fileCharset(value);
@@ -13,7 +13,6 @@
 package org.apache.juneau.json;
 
 import static org.apache.juneau.internal.StringUtils.*;
-
 import java.io.*;
 import java.lang.reflect.*;
 import java.util.*;
@@ -34,8 +33,6 @@ import org.apache.juneau.transform.*;
 @SuppressWarnings({ "unchecked", "rawtypes" })
 public final class JsonParserSession extends ReaderParserSession {
 
-	private static final AsciiSet decChars = AsciiSet.create().ranges("0-9").build();
-
 	private final JsonParser ctx;
 
 	/**
@@ -85,34 +82,103 @@ public final class JsonParserSession extends ReaderParserSession {
 
 	@Override /* ParserSession */
 	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws IOException, ParseException, ExecutableException {
-		try (ParserReader r = pipe.getParserReader()) {
-			if (r == null)
-				return null;
-			T o = parseAnything(type, r, getOuter(), null);
-			validateEnd(r);
-			return o;
-		}
+		JsonReader r = getJsonReader(pipe);
+		if (r == null)
+			return null;
+		T o = parseAnything(type, r, getOuter(), null);
+		r.validateEnd();
+		return o;
 	}
 
 	@Override /* ReaderParserSession */
 	protected <K,V> Map<K,V> doParseIntoMap(ParserPipe pipe, Map<K,V> m, Type keyType, Type valueType) throws IOException, ParseException, ExecutableException {
-		try (ParserReader r = pipe.getParserReader()) {
-			m = parseIntoMap2(r, m, (ClassMeta<K>)getClassMeta(keyType), (ClassMeta<V>)getClassMeta(valueType), null);
-			validateEnd(r);
-			return m;
-		}
+		JsonReader r = getJsonReader(pipe);
+		m = parseIntoMap2(r, m, (ClassMeta<K>)getClassMeta(keyType), (ClassMeta<V>)getClassMeta(valueType), null);
+		r.validateEnd();
+		return m;
 	}
 
 	@Override /* ReaderParserSession */
 	protected <E> Collection<E> doParseIntoCollection(ParserPipe pipe, Collection<E> c, Type elementType) throws IOException, ParseException, ExecutableException {
-		try (ParserReader r = pipe.getParserReader()) {
-			c = parseIntoCollection2(r, c, getClassMeta(elementType), null);
-			validateEnd(r);
-			return c;
-		}
+		JsonReader r = getJsonReader(pipe);
+		c = parseIntoCollection2(r, c, getClassMeta(elementType), null);
+		r.validateEnd();
+		return c;
+	}
+
+	@Override /* ParserSession */
+	protected <E> ParserIterator<E> doParseIterator(ParserPipe pipe, ClassMeta<E> elementType) throws IOException, ParseException {
+		JsonReader r = getJsonReader(pipe);
+		r.skipCommentsAndSpace();
+		int c0 = r.read();
+		if (c0 != '[' && c0 != -1)
+			throw new ParseException(this, "Expected '[' at beginning of JSON array.");
+
+		return new ParserIterator<E>(this, pipe) {
+			boolean first = true, end = c0 == -1;
+
+			@Override /* ParserIterator */
+			protected boolean advance() throws IOException, ParseException {
+				if (end)
+					return false;
+				r.skipCommentsAndSpace();
+				int c = r.read();
+				if (c == ']') {
+					r.validateEnd();
+					return false;
+				}
+				if (c == -1)
+					throw new ParseException(JsonParserSession.this, first ? "Expected one of the following characters: {,[,',\",LITERAL." : "Expected ',' or ']'.");
+				if (first) {
+					first = false;
+					r.unread();
+				} else if (c != ',') {
+					throw new ParseException(JsonParserSession.this, "Expected ',' or ']'.");
+				} else {
+					r.skipCommentsAndSpace();
+					c = r.peek();
+					if (c == ']')
+						throw new ParseException(JsonParserSession.this, "Unexpected trailing comma in array.");
+					if (c == -1)
+						throw new ParseException(JsonParserSession.this, "Expected one of the following characters: {,[,',\",LITERAL.");
+				}
+				return true;
+			}
+
+			@Override /* ParserIterator */
+			protected E parseEntry() throws IOException, ParseException, ExecutableException {
+				return parseAnything(elementType, r, getOuter(), null);
+			}
+		};
+	}
+
+	@Override /* ParserSession */
+	protected <T> PushParser<T> doPushParser(ClassMeta<T> type) {
+		return new JsonPushParser<>(this, type);
+	}
+
+	/**
+	 * Creates a {@link JsonReader} for reading the specified input one token at a time.
+	 *
+	 * <p>
+	 * The reader uses the same syntax rules as this session (e.g. {@link Parser#PARSER_strict}).
+	 * It should be closed when no longer needed in order to close the input.
+	 *
+	 * @param input The input.  See {@link #parse(Object, ClassMeta)} for supported input types.
+	 * @return A new reader.
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	public final JsonReader getJsonReader(Object input) throws IOException {
+		ParserPipe pipe = createPipe(input == null ? "" : input);
+		return new JsonReader(this, pipe, pipe.getParserReader(), isStrict(), isTrimStrings());
+	}
+
+	private JsonReader getJsonReader(ParserPipe pipe) throws IOException {
+		ParserReader r = pipe.getParserReader();
+		return r == null ? null : new JsonReader(this, pipe, r, isStrict(), isTrimStrings());
 	}
 
-	private <T> T parseAnything(ClassMeta<?> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws IOException, ParseException, ExecutableException {
+	private <T> T parseAnything(ClassMeta<?> eType, JsonReader r, Object outer, BeanPropertyMeta pMeta) throws IOException, ParseException, ExecutableException {
 
 		if (eType == null)
 			eType = object();
@@ -134,7 +200,7 @@ public final class JsonParserSession extends ReaderParserSession {
 
 		Object o = null;
 
-		skipCommentsAndSpace(r);
+		r.skipCommentsAndSpace();
 		if (wrapperAttr != null)
 			skipWrapperAttrStart(r, wrapperAttr);
 		int c = r.peek();
@@ -148,7 +214,7 @@ public final class JsonParserSession extends ReaderParserSession {
 			// Handle bug in Cognos 10.2.1 that can product non-existent values.
 			// Let o be null;
 		} else if (c == 'n') {
-			parseKeyword("null", r);
+			r.parseKeyword("null");
 		} else if (sType.isObject()) {
 			if (c == '{') {
 				OMap m2 = new OMap(this);
@@ -157,24 +223,24 @@ public final class JsonParserSession extends ReaderParserSession {
 			} else if (c == '[') {
 				o = parseIntoCollection2(r, new OList(this), object(), pMeta);
 			} else if (c == '\'' || c == '"') {
-				o = parseString(r);
+				o = r.parseString();
 				if (sType.isChar())
 					o = parseCharacter(o);
 			} else if (c >= '0' && c <= '9' || c == '-' || c == '.') {
 				o = parseNumber(r, null);
 			} else if (c == 't') {
-				parseKeyword("true", r);
+				r.parseKeyword("true");
 				o = Boolean.TRUE;
 			} else {
-				parseKeyword("false", r);
+				r.parseKeyword("false");
 				o = Boolean.FALSE;
 			}
 		} else if (sType.isBoolean()) {
 			o = parseBoolean(r);
 		} else if (sType.isCharSequence()) {
-			o = parseString(r);
+			o = r.parseString();
 		} else if (sType.isChar()) {
-			o = parseCharacter(parseString(r));
+			o = parseCharacter(r.parseString());
 		} else if (sType.isNumber()) {
 			o = parseNumber(r, (Class<? extends Number>)sType.getInnerClass());
 		} else if (sType.isMap()) {
@@ -196,12 +262,14 @@ public final class JsonParserSession extends ReaderParserSession {
 			BeanMap m = newBeanMap(outer, sType.getInnerClass());
 			o = parseIntoBeanMap2(r, m).getBean();
 		} else if (sType.canCreateNewInstanceFromString(outer) && (c == '\'' || c == '"')) {
-			o = sType.newInstanceFromString(outer, parseString(r));
+			o = sType.newInstanceFromString(outer, r.parseString());
 		} else if (sType.isArray() || sType.isArgs()) {
 			if (c == '{') {
 				OMap m = new OMap(this);
 				parseIntoMap2(r, m, string(), object(), pMeta);
 				o = cast(m, pMeta, eType);
+			} else if (isPrimitiveNumberArray(sType)) {
+				o = parseIntoNumberArray(r, sType, pMeta);
 			} else {
 				ArrayList l = (ArrayList)parseIntoCollection2(r, new ArrayList(), sType, pMeta);
 				o = toArray(sType, l);
@@ -217,7 +285,7 @@ public final class JsonParserSession extends ReaderParserSession {
 				throw new ParseException(this, "Class ''{0}'' could not be instantiated.  Reason: ''{1}''",
 						sType.getInnerClass().getName(), sType.getNotABeanReason());
 		} else if (sType.canCreateNewInstanceFromString(outer) && ! isStrict()) {
-			o = sType.newInstanceFromString(outer, parseString(r));
+			o = sType.newInstanceFromString(outer, r.parseString());
 		} else {
 			throw new ParseException(this, "Unrecognized syntax for class type ''{0}'', starting character ''{1}''",
 				sType, (char)c);
@@ -235,69 +303,49 @@ public final class JsonParserSession extends ReaderParserSession {
 		return (T)o;
 	}
 
-	private Number parseNumber(ParserReader r, Class<? extends Number> type) throws IOException, ParseException {
+	private Number parseNumber(JsonReader r, Class<? extends Number> type) throws IOException, ParseException {
 		int c = r.peek();
 		if (c == '\'' || c == '"')
-			return parseNumber(r, parseString(r), type);
-		return parseNumber(r, parseNumberString(r), type);
+			return parseNumber(r, r.parseString(), type);
+		if (type == null || type == Number.class || type == Integer.class || type == Integer.TYPE || type == Long.class || type == Long.TYPE) {
+			r.markNumber();
+			long l = r.getMarkedAsLong();
+			if (l == Long.MIN_VALUE)
+				return parseNumber(r, r.getMarked(), type);
+			if (type == Long.class || type == Long.TYPE)
+				return l;
+			if (l >= Integer.MIN_VALUE && l <= Integer.MAX_VALUE)
+				return (int)l;
+			if (type == null || type == Number.class)
+				return l;
+			// Integer overflow.  Let the string-based parser produce the error.
+			return parseNumber(r, String.valueOf(l), type);
+		}
+		return parseNumber(r, r.readNumberString(), type);
 	}
 
-	private Number parseNumber(ParserReader r, String s, Class<? extends Number> type) throws ParseException {
-
-		// JSON has slightly different number rules from Java.
-		// Strict mode enforces these different rules, lax does not.
-		if (isStrict()) {
-
-			// Lax allows blank strings to represent 0.
-			// Strict does not allow blank strings.
-			if (s.length() == 0)
-				throw new ParseException(this, "Invalid JSON number: ''{0}''", s);
-
-			// Need to weed out octal and hexadecimal formats:  0123,-0123,0x123,-0x123.
-			// Don't weed out 0 or -0.
-			boolean isNegative = false;
-			char c = s.charAt(0);
-			if (c == '-') {
-				isNegative = true;
-				c = (s.length() == 1 ? 'x' : s.charAt(1));
-			}
-
-			// JSON doesn't allow '.123' and '-.123'.
-			if (c == '.')
-				throw new ParseException(this, "Invalid JSON number: ''{0}''", s);
-
-			// '01' is not a valid number, but '0.1', '0e1', '0e+1' are valid.
-			if (c == '0' && s.length() > (isNegative ? 2 : 1)) {
-				char c2 = s.charAt((isNegative ? 2 : 1));
-				if (c2 != '.' && c2 != 'e' && c2 != 'E')
-					throw new ParseException(this, "Invalid JSON number: ''{0}''", s);
-			}
-
-			// JSON doesn't allow '1.' or '0.e1'.
-			int i = s.indexOf('.');
-			if (i != -1 && (s.length() == (i+1) || ! decChars.contains(s.charAt(i+1))))
-				throw new ParseException(this, "Invalid JSON number: ''{0}''", s);
-
-		}
+	private Number parseNumber(JsonReader r, String s, Class<? extends Number> type) throws ParseException {
+		if (isStrict())
+			r.validateStrictNumber(s);
 		return StringUtils.parseNumber(s, type);
 	}
 
-	private Boolean parseBoolean(ParserReader r) throws IOException, ParseException {
+	private Boolean parseBoolean(JsonReader r) throws IOException, ParseException {
 		int c = r.peek();
 		if (c == '\'' || c == '"')
-			return Boolean.valueOf(parseString(r));
+			return Boolean.valueOf(r.parseString());
 		if (c == 't') {
-			parseKeyword("true", r);
+			r.parseKeyword("true");
 			return Boolean.TRUE;
 		} else if (c == 'f') {
-			parseKeyword("false", r);
+			r.parseKeyword("false");
 			return Boolean.FALSE;
 		} else {
 			throw new ParseException(this, "Unrecognized syntax.  Expected boolean value, actual=''{0}''", r.read(100));
 		}
 	}
 
-	private <K,V> Map<K,V> parseIntoMap2(ParserReader r, Map<K,V> m, ClassMeta<K> keyType,
+	private <K,V> Map<K,V> parseIntoMap2(JsonReader r, Map<K,V> m, ClassMeta<K> keyType,
 			ClassMeta<V> valueType, BeanPropertyMeta pMeta) throws IOException, ParseException, ExecutableException {
 
 		if (keyType == null)
@@ -310,7 +358,7 @@ public final class JsonParserSession extends ReaderParserSession {
 		int S5=5; // Looking for , or }
 		int S6=6; // Found , looking for attr start.
 
-		skipCommentsAndSpace(r);
+		r.skipCommentsAndSpace();
 		int state = S0;
 		String currAttr = null;
 		int c = 0;
@@ -325,9 +373,9 @@ public final class JsonParserSession extends ReaderParserSession {
 				if (c == '}') {
 					return m;
 				} else if (isCommentOrWhitespace(c)) {
-					skipCommentsAndSpace(r.unread());
+					r.unread().skipCommentsAndSpace();
 				} else {
-					currAttr = parseFieldName(r.unread());
+					currAttr = r.unread().parseFieldName();
 					state = S3;
 				}
 			} else if (state == S3) {
@@ -335,7 +383,7 @@ public final class JsonParserSession extends ReaderParserSession {
 					state = S4;
 			} else if (state == S4) {
 				if (isCommentOrWhitespace(c)) {
-					skipCommentsAndSpace(r.unread());
+					r.unread().skipCommentsAndSpace();
 				} else {
 					K key = convertAttrToType(m, currAttr, keyType);
 					V value = parseAnything(valueType, r.unread(), m, pMeta);
@@ -347,7 +395,7 @@ public final class JsonParserSession extends ReaderParserSession {
 				if (c == ',') {
 					state = S6;
 				} else if (isCommentOrWhitespace(c)) {
-					skipCommentsAndSpace(r.unread());
+					r.unread().skipCommentsAndSpace();
 				} else if (c == '}') {
 					return m;
 				} else {
@@ -357,9 +405,9 @@ public final class JsonParserSession extends ReaderParserSession {
 				if (c == '}') {
 					break;
 				} else if (isCommentOrWhitespace(c)) {
-					skipCommentsAndSpace(r.unread());
+					r.unread().skipCommentsAndSpace();
 				} else {
-					currAttr = parseFieldName(r.unread());
+					currAttr = r.unread().parseFieldName();
 					state = S3;
 				}
 			}
@@ -380,34 +428,7 @@ public final class JsonParserSession extends ReaderParserSession {
 		return null; // Unreachable.
 	}
 
-	/*
-	 * Parse a JSON attribute from the character array at the specified position, then
-	 * set the position marker to the last character in the field name.
-	 */
-	private String parseFieldName(ParserReader r) throws IOException, ParseException {
-		int c = r.peek();
-		if (c == '\'' || c == '"')
-			return parseString(r);
-		if (isStrict())
-			throw new ParseException(this, "Unquoted attribute detected.");
-		if (! VALID_BARE_CHARS.contains(c))
-			throw new ParseException(this, "Could not find the start of the field name.");
-		r.mark();
-		// Look for whitespace.
-		while (c != -1) {
-			c = r.read();
-			if (! VALID_BARE_CHARS.contains(c)) {
-				r.unread();
-				String s = r.getMarked().intern();
-				return s.equals("null") ? null : s;
-			}
-		}
-		throw new ParseException(this, "Could not find the end of the field name.");
-	}
-
-	private static final AsciiSet VALID_BARE_CHARS = AsciiSet.create().range('A','Z').range('a','z').range('0','9').chars("$_-.").build();
-
-	private <E> Collection<E> parseIntoCollection2(ParserReader r, Collection<E> l,
+	private <E> Collection<E> parseIntoCollection2(JsonReader r, Collection<E> l,
 			ClassMeta<?> type, BeanPropertyMeta pMeta) throws IOException, ParseException, ExecutableException {
 
 		int S0=0; // Looking for outermost [
@@ -425,14 +446,14 @@ public final class JsonParserSession extends ReaderParserSession {
 				if (c == '[')
 					state = S1;
 				else if (isCommentOrWhitespace(c))
-					skipCommentsAndSpace(r.unread());
+					r.unread().skipCommentsAndSpace();
 				else
 					break;  // Invalid character found.
 			} else if (state == S1) {
 				if (c == ']') {
 					return l;
 				} else if (isCommentOrWhitespace(c)) {
-					skipCommentsAndSpace(r.unread());
+					r.unread().skipCommentsAndSpace();
 				} else if (c != -1) {
 					l.add((E)parseAnything(type.isArgs() ? type.getArg(argIndex++) : type.getElementType(), r.unread(), l, pMeta));
 					state = S2;
@@ -441,7 +462,7 @@ public final class JsonParserSession extends ReaderParserSession {
 				if (c == ',') {
 					state = S3;
 				} else if (isCommentOrWhitespace(c)) {
-					skipCommentsAndSpace(r.unread());
+					r.unread().skipCommentsAndSpace();
 				} else if (c == ']') {
 					return l;
 				} else {
@@ -449,7 +470,7 @@ public final class JsonParserSession extends ReaderParserSession {
 				}
 			} else if (state == S3) {
 				if (isCommentOrWhitespace(c)) {
-					skipCommentsAndSpace(r.unread());
+					r.unread().skipCommentsAndSpace();
 				} else if (c == ']') {
 					break;
 				} else if (c != -1) {
@@ -470,7 +491,131 @@ public final class JsonParserSession extends ReaderParserSession {
 		return null;  // Unreachable.
 	}
 
-	private <T> BeanMap<T> parseIntoBeanMap2(ParserReader r, BeanMap<T> m) throws IOException, ParseException, ExecutableException {
+	/*
+	 * Returns true if the specified type is an int/long/short/byte/float/double array whose elements can be parsed
+	 * directly into the array.
+	 */
+	private boolean isPrimitiveNumberArray(ClassMeta<?> type) {
+		if (! type.isArray())
+			return false;
+		ClassMeta<?> et = type.getElementType();
+		return et.isPrimitive() && et.isNumber() && et.getSwap(this) == null && et.getBuilderSwap(this) == null
+			&& getJsonClassMeta(et).getWrapperAttr() == null;
+	}
+
+	/*
+	 * Same as parseIntoCollection2() followed by toArray() but parses plain decimal numbers directly into the primitive
+	 * array instead of creating intermediate boxed values.
+	 * Anything else (e.g. quoted numbers, nulls, hexadecimal) goes through parseAnything().
+	 */
+	private Object parseIntoNumberArray(JsonReader r, ClassMeta<?> type, BeanPropertyMeta pMeta) throws IOException, ParseException, ExecutableException {
+
+		int S0=0; // Looking for outermost [
+		int S1=1; // Looking for starting [ or { or " or ' or LITERAL or ]
+		int S2=2; // Looking for , or ]
+		int S3=3; // Looking for starting [ or { or " or ' or LITERAL
+
+		ClassMeta<?> et = type.getElementType();
+		Object a = Array.newInstance(et.getInnerClass(), 16);
+		int size = 0;
+
+		int state = S0;
+		int c = 0;
+		while (c != -1) {
+			c = r.read();
+			if (state == S0) {
+				if (c == '[')
+					state = S1;
+				else if (isCommentOrWhitespace(c))
+					r.unread().skipCommentsAndSpace();
+				else
+					break;  // Invalid character found.
+			} else if (state == S1 || state == S3) {
+				if (isCommentOrWhitespace(c)) {
+					r.unread().skipCommentsAndSpace();
+				} else if (c == ']') {
+					if (state == S3)
+						break;
+					return size == Array.getLength(a) ? a : copyOf(a, size);
+				} else if (c != -1) {
+					if (size == Array.getLength(a))
+						a = copyOf(a, size * 2);
+					parseNumberElement(r.unread(), a, size++, et, pMeta);
+					state = S2;
+				}
+			} else if (state == S2) {
+				if (c == ',') {
+					state = S3;
+				} else if (isCommentOrWhitespace(c)) {
+					r.unread().skipCommentsAndSpace();
+				} else if (c == ']') {
+					return size == Array.getLength(a) ? a : copyOf(a, size);
+				} else {
+					break;  // Invalid character found.
+				}
+			}
+		}
+		if (state == S0)
+			throw new ParseException(this, "Expected '[' at beginning of JSON array.");
+		if (state == S1)
+			throw new ParseException(this, "Expected one of the following characters: {,[,',\",LITERAL.");
+		if (state == S2)
+			throw new ParseException(this, "Expected ',' or ']'.");
+		if (state == S3)
+			throw new ParseException(this, "Unexpected trailing comma in array.");
+
+		return null;  // Unreachable.
+	}
+
+	private void parseNumberElement(JsonReader r, Object a, int i, ClassMeta<?> et, BeanPropertyMeta pMeta) throws IOException, ParseException, ExecutableException {
+		int c = r.peek();
+		if ((c >= '0' && c <= '9') || c == '-') {
+			r.markNumber();
+			String s = null;
+			if (a instanceof int[] || a instanceof long[]) {
+				long l = r.getMarkedAsLong();
+				if (l != Long.MIN_VALUE) {
+					if (a instanceof long[]) {
+						((long[])a)[i] = l;
+						return;
+					}
+					if (l >= Integer.MIN_VALUE && l <= Integer.MAX_VALUE) {
+						((int[])a)[i] = (int)l;
+						return;
+					}
+					s = String.valueOf(l);
+				}
+			}
+			if (s == null)
+				s = r.getMarked();
+			if (isStrict())
+				r.validateStrictNumber(s);
+			if (a instanceof double[])
+				((double[])a)[i] = parseDouble(s);
+			else
+				Array.set(a, i, StringUtils.parseNumber(s, (Class<? extends Number>)et.getInnerClass()));
+		} else {
+			Object o = parseAnything(et, r, null, pMeta);
+			if (o != null)
+				Array.set(a, i, o);
+		}
+	}
+
+	private double parseDouble(String s) throws ParseException {
+		try {
+			return Double.parseDouble(s);
+		} catch (NumberFormatException e) {
+			return StringUtils.parseNumber(s, Double.class).doubleValue();
+		}
+	}
+
+	private static Object copyOf(Object a, int size) {
+		Object a2 = Array.newInstance(a.getClass().getComponentType(), size);
+		System.arraycopy(a, 0, a2, 0, Math.min(size, Array.getLength(a)));
+		return a2;
+	}
+
+	private <T> BeanMap<T> parseIntoBeanMap2(JsonReader r, BeanMap<T> m) throws IOException, ParseException, ExecutableException {
 
 		int S0=0; // Looking for outer {
 		int S1=1; // Looking for attrName start.
@@ -489,7 +634,7 @@ public final class JsonParserSession extends ReaderParserSession {
 					if (c == '{') {
 						state = S1;
 					} else if (isCommentOrWhitespace(c)) {
-						skipCommentsAndSpace(r.unread());
+						r.unread().skipCommentsAndSpace();
 					} else {
 						break;
 					}
@@ -497,11 +642,11 @@ public final class JsonParserSession extends ReaderParserSession {
 					if (c == '}') {
 						return m;
 					} else if (isCommentOrWhitespace(c)) {
-						skipCommentsAndSpace(r.unread());
+						r.unread().skipCommentsAndSpace();
 					} else {
 						r.unread();
 						mark();
-						currAttr = parseFieldName(r);
+						currAttr = r.parseFieldName();
 						state = S3;
 					}
 				} else if (state == S3) {
@@ -509,13 +654,18 @@ public final class JsonParserSession extends ReaderParserSession {
 						state = S4;
 				} else if (state == S4) {
 					if (isCommentOrWhitespace(c)) {
-						skipCommentsAndSpace(r.unread());
+						r.unread().skipCommentsAndSpace();
 					} else {
 						if (! currAttr.equals(getBeanTypePropertyName(m.getClassMeta()))) {
 							BeanPropertyMeta pMeta = m.getPropertyMeta(currAttr);
 							setCurrentProperty(pMeta);
 							if (pMeta == null) {
-								onUnknownProperty(currAttr, m, parseAnything(object(), r.unread(), m.getBean(false), null));
+								if (isSkipUnknownValues()) {
+									r.unread().skipUnknownValue();
+									onUnknownProperty(currAttr, m, null);
+								} else {
+									onUnknownProperty(currAttr, m, parseAnything(object(), r.unread(), m.getBean(false), null));
+								}
 								unmark();
 							} else {
 								unmark();
@@ -537,7 +687,7 @@ public final class JsonParserSession extends ReaderParserSession {
 					if (c == ',')
 						state = S1;
 					else if (isCommentOrWhitespace(c))
-						skipCommentsAndSpace(r.unread());
+						r.unread().skipCommentsAndSpace();
 					else if (c == '}') {
 						return m;
 					}
@@ -560,134 +710,11 @@ public final class JsonParserSession extends ReaderParserSession {
 		return null; // Unreachable.
 	}
 
-	/*
-	 * Starting from the specified position in the character array, returns the
-	 * position of the character " or '.
-	 * If the string consists of a concatenation of strings (e.g. 'AAA' + "BBB"), this method
-	 * will automatically concatenate the strings and return the result.
-	 */
-	private String parseString(ParserReader r) throws IOException, ParseException {
-		r.mark();
-		int qc = r.read();		// The quote character being used (" or ')
-		if (qc != '"' && isStrict()) {
-			String msg = (
-				qc == '\''
-				? "Invalid quote character \"{0}\" being used."
-				: "Did not find quote character marking beginning of string.  Character=\"{0}\""
-			);
-			throw new ParseException(this, msg, (char)qc);
-		}
-		final boolean isQuoted = (qc == '\'' || qc == '"');
-		String s = null;
-		boolean isInEscape = false;
-		int c = 0;
-		while (c != -1) {
-			c = r.read();
-			// Strict syntax requires that all control characters be escaped.
-			if (isStrict() && c <= 0x1F)
-				throw new ParseException(this, "Unescaped control character encountered: ''0x{0}''", String.format("%04X", c));
-			if (isInEscape) {
-				switch (c) {
-					case 'n': r.replace('\n'); break;
-					case 'r': r.replace('\r'); break;
-					case 't': r.replace('\t'); break;
-					case 'f': r.replace('\f'); break;
-					case 'b': r.replace('\b'); break;
-					case '\\': r.replace('\\'); break;
-					case '/': r.replace('/'); break;
-					case '\'': r.replace('\''); break;
-					case '"': r.replace('"'); break;
-					case 'u': {
-						String n = r.read(4);
-						try {
-							r.replace(Integer.parseInt(n, 16), 6);
-						} catch (NumberFormatException e) {
-							throw new ParseException(this, "Invalid Unicode escape sequence in string.");
-						}
-						break;
-					}
-					default:
-						throw new ParseException(this, "Invalid escape sequence in string.");
-				}
-				isInEscape = false;
-			} else {
-				if (c == '\\') {
-					isInEscape = true;
-					r.delete();
-				} else if (isQuoted) {
-					if (c == qc) {
-						s = r.getMarked(1, -1);
-						break;
-					}
-				} else {
-					if (c == ',' || c == '}' || c == ']' || isWhitespace(c)) {
-						s = r.getMarked(0, -1);
-						r.unread();
-						break;
-					} else if (c == -1) {
-						s = r.getMarked(0, 0);
-						break;
-					}
-				}
-			}
-		}
-		if (s == null)
-			throw new ParseException(this, "Could not find expected end character ''{0}''.", (char)qc);
-
-		// Look for concatenated string (i.e. whitespace followed by +).
-		skipCommentsAndSpace(r);
-		if (r.peek() == '+') {
-			if (isStrict())
-				throw new ParseException(this, "String concatenation detected.");
-			r.read();	// Skip past '+'
-			skipCommentsAndSpace(r);
-			s += parseString(r);
-		}
-		return trim(s); // End of input reached.
-	}
-
-	/*
-	 * Looks for the keywords true, false, or null.
-	 * Throws an exception if any of these keywords are not found at the specified position.
-	 */
-	private void parseKeyword(String keyword, ParserReader r) throws IOException, ParseException {
-		try {
-			String s = r.read(keyword.length());
-			if (s.equals(keyword))
-				return;
-			throw new ParseException(this, "Unrecognized syntax.  Expected=''{0}'', Actual=''{1}''", keyword, s);
-		} catch (IndexOutOfBoundsException e) {
-			throw new ParseException(this, "Unrecognized syntax.  Expected=''{0}'', found end-of-file.", keyword);
-		}
-	}
-
-	/*
-	 * Doesn't actually parse anything, but moves the position beyond any whitespace or comments.
-	 * If positionOnNext is 'true', then the cursor will be set to the point immediately after
-	 * the comments and whitespace.  Otherwise, the cursor will be set to the last position of
-	 * the comments and whitespace.
-	 */
-	private void skipCommentsAndSpace(ParserReader r) throws IOException, ParseException {
-		int c = 0;
-		while ((c = r.read()) != -1) {
-			if (! isWhitespace(c)) {
-				if (c == '/') {
-					if (isStrict())
-						throw new ParseException(this, "Javascript comment detected.");
-					skipComments(r);
-				} else {
-					r.unread();
-					return;
-				}
-			}
-		}
-	}
-
 	/*
 	 * Doesn't actually parse anything, but moves the position beyond the construct "{wrapperAttr:" when
 	 * the @Json(wrapperAttr) annotation is used on a class.
 	 */
-	private void skipWrapperAttrStart(ParserReader r, String wrapperAttr) throws IOException, ParseException {
+	private void skipWrapperAttrStart(JsonReader r, String wrapperAttr) throws IOException, ParseException {
 
 		int S0=0; // Looking for outer {
 		int S1=1; // Looking for attrName start.
@@ -704,9 +731,9 @@ public final class JsonParserSession extends ReaderParserSession {
 					state = S1;
 			} else if (state == S1) {
 				if (isCommentOrWhitespace(c)) {
-					skipCommentsAndSpace(r.unread());
+					r.unread().skipCommentsAndSpace();
 				} else {
-					currAttr = parseFieldName(r.unread());
+					currAttr = r.unread().parseFieldName();
 					if (! currAttr.equals(wrapperAttr))
 						throw new ParseException(this,
 							"Expected to find wrapper attribute ''{0}'' but found attribute ''{1}''", wrapperAttr, currAttr);
@@ -717,7 +744,7 @@ public final class JsonParserSession extends ReaderParserSession {
 					state = S4;
 			} else if (state == S4) {
 				if (isCommentOrWhitespace(c)) {
-					skipCommentsAndSpace(r.unread());
+					r.unread().skipCommentsAndSpace();
 				} else {
 					r.unread();
 					return;
@@ -738,14 +765,14 @@ public final class JsonParserSession extends ReaderParserSession {
 	 * Doesn't actually parse anything, but moves the position beyond the construct "}" when
 	 * the @Json(wrapperAttr) annotation is used on a class.
 	 */
-	private void skipWrapperAttrEnd(ParserReader r) throws ParseException, IOException {
+	private void skipWrapperAttrEnd(JsonReader r) throws ParseException, IOException {
 		int c = 0;
 		while ((c = r.read()) != -1) {
 			if (! isWhitespace(c)) {
 				if (c == '/') {
 					if (isStrict())
 						throw new ParseException(this, "Javascript comment detected.");
-					skipComments(r);
+					r.skipComments();
 				} else if (c == '}') {
 					return;
 				} else {
@@ -755,42 +782,6 @@ public final class JsonParserSession extends ReaderParserSession {
 		}
 	}
 
-	/*
-	 * Doesn't actually parse anything, but when positioned at the beginning of comment,
-	 * it will move the pointer to the last character in the comment.
-	 */
-	private void skipComments(ParserReader r) throws ParseException, IOException {
-		int c = r.read();
-		//  "/* */" style comments
-		if (c == '*') {
-			while (c != -1)
-				if ((c = r.read()) == '*')
-					if ((c = r.read()) == '/')
-						return;
-		//  "//" style comments
-		} else if (c == '/') {
-			while (c != -1) {
-				c = r.read();
-				if (c == -1 || c == '\n')
-					return;
-			}
-		}
-		throw new ParseException(this, "Open ended comment.");
-	}
-
-	/*
-	 * Call this method after you've finished a parsing a string to make sure that if there's any
-	 * remainder in the input, that it consists only of whitespace and comments.
-	 */
-	private void validateEnd(ParserReader r) throws IOException, ParseException {
-		if (! isValidateEnd())
-			return;
-		skipCommentsAndSpace(r);
-		int c = r.read();
-		if (c != -1 && c != ';')  // var x = {...}; expressions can end with a semicolon.
-			throw new ParseException(this, "Remainder after parse: ''{0}''.", (char)c);
-	}
-
 	//-----------------------------------------------------------------------------------------------------------------
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
@@ -0,0 +1,120 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * Push parser for JSON.
+ *
+ * <p>
+ * Finds the end of each top-level value by tracking nesting, quotes, escapes and comments across chunks.
+ * <br>Top-level values that aren't objects, arrays or quoted strings (e.g. numbers) end at the next whitespace or
+ * at the end of input.
+ *
+ * @param <T> The type of values being parsed.
+ */
+final class JsonPushParser<T> extends PushParser<T> {
+
+	private static final int
+		NONE = 0,        // Not in a comment.
+		SLASH = 1,       // Found '/', might be the start of a comment.
+		LINE = 2,        // In a "//" comment.
+		BLOCK = 3,       // In a "/* */" comment.
+		BLOCK_STAR = 4;  // Found '*' in a "/* */" comment.
+
+	private final JsonParserSession session;
+	private int depth, quote, comment;
+	private boolean escape, literal;
+
+	JsonPushParser(JsonParserSession session, ClassMeta<T> type) {
+		super(session, type);
+		this.session = session;
+	}
+
+	@Override /* PushParser */
+	protected int scan(byte[] b, int off, int len) {
+		int end = off + len;
+		for (int i = off; i < end; i++) {
+			int c = b[i];  // Bytes of multi-byte UTF-8 sequences are negative and never match.
+			if (comment != NONE) {
+				if (comment == SLASH) {
+					comment = NONE;
+					if (c == '*') {
+						comment = BLOCK;
+						continue;
+					} else if (c == '/') {
+						comment = LINE;
+						continue;
+					}
+					if (depth == 0)
+						literal = true;
+				} else {
+					if (comment == LINE)
+						comment = c == '\n' ? NONE : LINE;
+					else if (comment == BLOCK)
+						comment = c == '*' ? BLOCK_STAR : BLOCK;
+					else
+						comment = c == '/' ? NONE : c == '*' ? BLOCK_STAR : BLOCK;
+					continue;
+				}
+			}
+			if (quote != 0) {
+				if (escape)
+					escape = false;
+				else if (c == '\\')
+					escape = true;
+				else if (c == quote) {
+					quote = 0;
+					if (depth == 0)
+						return i + 1 - off;
+				}
+			} else if (literal) {
+				if (isWhitespace(c))
+					return done(i - off);
+			} else if (c == '{' || c == '[') {
+				depth++;
+			} else if (c == '}' || c == ']') {
+				if (--depth <= 0)
+					return done(i + 1 - off);  // Unbalanced brackets are reported by the parser.
+			} else if (c == '"' || c == '\'') {
+				quote = c;
+			} else if (c == '/') {
+				comment = SLASH;
+			} else if (depth == 0 && ! isWhitespace(c)) {
+				literal = true;
+			}
+		}
+		return -1;
+	}
+
+	@Override /* PushParser */
+	protected boolean endOfInput() throws ParseException {
+		if (depth > 0 || quote != 0 || comment == BLOCK || comment == BLOCK_STAR)
+			throw new ParseException(session, "Unexpected end of input.");
+		boolean b = literal;
+		done(0);
+		return b;
+	}
+
+	private int done(int n) {
+		depth = 0;
+		literal = false;
+		return n;
+	}
+
+	private static boolean isWhitespace(int c) {
+		return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+	}
+}
@@ -0,0 +1,965 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import static org.apache.juneau.json.JsonToken.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.internal.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * Pull-style reader for JSON input.
+ *
+ * <p>
+ * Reads JSON one token at a time without creating any POJOs so that individual values can be extracted from large
+ * documents cheaply.
+ * This is the same tokenizer that {@link JsonParserSession} uses internally, so it accepts the same syntax as the
+ * parser that created it (e.g. comments, single quotes and unquoted strings unless the parser is strict).
+ *
+ * <p>
+ * {@link #nextToken()} consumes the structural tokens (<js>'{'</js>, <js>'}'</js>, <js>'['</js>, <js>']'</js>).
+ * For all other tokens, the reader is left positioned on the token so that it can be read with one of the
+ * <c>read*()</c> methods, matched using {@link #matchFieldName(String...)}, or skipped by calling
+ * {@link #skipValue()} or {@link #nextToken()}.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jk>static final</jk> String[] <jsf>FIELDS</jsf> = {<js>"id"</js>,<js>"name"</js>};
+ *
+ * 	<jk>try</jk> (JsonReader r = JsonParser.<jsf>DEFAULT</jsf>.getJsonReader(input)) {
+ * 		r.nextToken();  <jc>// START_OBJECT</jc>
+ * 		<jk>while</jk> (r.nextToken() == JsonToken.<jsf>FIELD_NAME</jsf>) {
+ * 			<jk>switch</jk> (r.matchFieldName(<jsf>FIELDS</jsf>)) {
+ * 				<jk>case</jk> 0: id = r.readLong(); <jk>break</jk>;
+ * 				<jk>case</jk> 1: name = r.readString(); <jk>break</jk>;
+ * 				<jk>default</jk>: r.skipValue();
+ * 			}
+ * 		}
+ * 	}
+ * </p>
+ *
+ * <ul class='notes'>
+ * 	<li>
+ * 		{@link #nextToken()}, {@link #skipValue()}, {@link #matchFieldName(String...)}, {@link #readLong()} and
+ * 		{@link #readInt()} don't create any objects for typical input.
+ * 	<li>
+ * 		Tokens are identified by their first character, so unquoted strings starting with <js>'t'</js>,
+ * 		<js>'f'</js> or <js>'n'</js> are reported as {@link JsonToken#BOOLEAN} or {@link JsonToken#NULL}.
+ * 		<br>They can still be read with {@link #readString()} or skipped.
+ * 	<li>
+ * 		Skipped values are only checked for correct nesting and quoting, not for full syntactic validity.
+ * 	<li>
+ * 		Multiple top-level values are read one after the other until {@link JsonToken#END} is returned.
+ * 	<li>
+ * 		This class is NOT thread safe.
+ * </ul>
+ */
+public final class JsonReader implements Closeable {
+
+	private static final int
+		TOP = 0,           // Looking for top-level value or end of input.
+		ARRAY_FIRST = 1,   // Looking for first array entry or ]
+		ARRAY = 2,         // Looking for , or ]
+		OBJECT_FIRST = 3,  // Looking for first attribute name or }
+		OBJECT = 4,        // Looking for , or }
+		OBJECT_VALUE = 5;  // Found attribute name, looking for : followed by value.
+
+	private static final AsciiSet
+		VALID_BARE_CHARS = AsciiSet.create().range('A','Z').range('a','z').range('0','9').chars("$_-.").build(),
+		NUMBER_CHARS = AsciiSet.create("-xX.+-#pP0123456789abcdefABCDEF"),
+		DEC_CHARS = AsciiSet.create().ranges("0-9").build();
+
+	private final JsonParserSession session;
+	private final ParserPipe pipe;
+	private final ParserReader r;
+	private final boolean strict, trimStrings;
+
+	private int context = TOP, depth;
+	private int[] stack;  // Only created when tokens are read, not when used by JsonParserSession.
+	private JsonToken token;
+	private boolean pending;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param session The session that created this reader.
+	 * @param pipe The parser input.
+	 * @param r The reader on the parser input.
+	 * @param strict Whether strict syntax is enforced.
+	 * @param trimStrings Whether strings are trimmed.
+	 */
+	JsonReader(JsonParserSession session, ParserPipe pipe, ParserReader r, boolean strict, boolean trimStrings) {
+		this.session = session;
+		this.pipe = pipe;
+		this.r = r;
+		this.strict = strict;
+		this.trimStrings = trimStrings;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Token methods
+	//-----------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Moves to the next token.
+	 *
+	 * <p>
+	 * If the current token is a value or attribute name that hasn't been read yet, it's skipped first.
+	 *
+	 * @return The next token.  Never <jk>null</jk>.
+	 * @throws IOException Thrown by underlying stream.
+	 * @throws ParseException Malformed input encountered.
+	 */
+	public JsonToken nextToken() throws IOException, ParseException {
+		if (pending) {
+			pending = false;
+			skipCurrent();
+		}
+		skipCommentsAndSpace();
+		int c = r.peek();
+		switch (context) {
+			case ARRAY_FIRST:
+				if (c == ']')
+					return end(END_ARRAY);
+				context = ARRAY;
+				return value(c);
+			case ARRAY:
+				if (c == ']')
+					return end(END_ARRAY);
+				if (c != ',')
+					throw new ParseException(session, "Expected ',' or ']'.");
+				if (skipSeparator() == ']')
+					throw new ParseException(session, "Unexpected trailing comma in array.");
+				return value(r.peek());
+			case OBJECT_FIRST:
+				if (c == '}')
+					return end(END_OBJECT);
+				return fieldName(c);
+			case OBJECT:
+				if (c == '}')
+					return end(END_OBJECT);
+				if (c != ',')
+					throw new ParseException(session, "Could not find '}' marking end of JSON object.");
+				if (skipSeparator() == '}')
+					throw new ParseException(session, "Unexpected '}' found in JSON object.");
+				return fieldName(r.peek());
+			case OBJECT_VALUE:
+				if (c != ':')
+					throw new ParseException(session, "Could not find ':' following attribute name on JSON object.");
+				context = OBJECT;
+				return value(skipSeparator());
+			default:
+				if (c == -1)
+					return token(END);
+				return value(c);
+		}
+	}
+
+	/**
+	 * Skips the next value.
+	 *
+	 * <p>
+	 * If the current token is {@link JsonToken#START_OBJECT} or {@link JsonToken#START_ARRAY} returned by the last
+	 * call to {@link #nextToken()}, skips to the end of that object or array.
+	 * <br>If the current token is an unread attribute name, skips the attribute name and its value.
+	 * <br>Otherwise skips the current unread value or the value following it.
+	 *
+	 * @throws IOException Thrown by underlying stream.
+	 * @throws ParseException Malformed input encountered or there's no value to skip.
+	 */
+	public void skipValue() throws IOException, ParseException {
+		if (pending && (token == START_OBJECT || token == START_ARRAY)) {
+			pending = false;
+			skipContainer();
+			return;
+		}
+		JsonToken t = current();
+		if (t == START_OBJECT || t == START_ARRAY) {
+			skipContainer();
+		} else if (t == FIELD_NAME) {
+			skipCurrent();
+			skipValue();
+		} else if (t == END_OBJECT || t == END_ARRAY || t == END) {
+			throw unexpected(t, "value");
+		} else {
+			skipCurrent();
+		}
+	}
+
+	/**
+	 * Reads the current or next token as a string.
+	 *
+	 * <p>
+	 * Numbers and booleans are returned as strings if the parser is not strict.
+	 *
+	 * @return The string value, or <jk>null</jk> if the token was {@link JsonToken#NULL}.
+	 * @throws IOException Thrown by underlying stream.
+	 * @throws ParseException Malformed input encountered or the token is not a string.
+	 */
+	public String readString() throws IOException, ParseException {
+		JsonToken t = current();
+		if (t == STRING || t == NUMBER || t == BOOLEAN)
+			return parseString();
+		if (t == NULL) {
+			if (strict) {
+				parseKeyword("null");
+				return null;
+			}
+			String s = parseString();
+			return "null".equals(s) ? null : s;
+		}
+		if (t == FIELD_NAME)
+			return parseFieldName();
+		throw unexpected(t, "string");
+	}
+
+	/**
+	 * Reads the current or next token as an attribute name.
+	 *
+	 * @return The attribute name.
+	 * @throws IOException Thrown by underlying stream.
+	 * @throws ParseException Malformed input encountered or the token is not an attribute name.
+	 */
+	public String readFieldName() throws IOException, ParseException {
+		JsonToken t = current();
+		if (t != FIELD_NAME)
+			throw unexpected(t, "field name");
+		return parseFieldName();
+	}
+
+	/**
+	 * Reads the current or next token as an attribute name and returns its position in the specified list of names.
+	 *
+	 * <p>
+	 * The name is compared while it's being read, so nothing is allocated unless there are more than 64 names or
+	 * the name contains string concatenation.
+	 *
+	 * @param names The names to match against.
+	 * @return The index of the matching name, or <c>-1</c> if the attribute name isn't in the list.
+	 * @throws IOException Thrown by underlying stream.
+	 * @throws ParseException Malformed input encountered or the token is not an attribute name.
+	 */
+	public int matchFieldName(String...names) throws IOException, ParseException {
+		JsonToken t = current();
+		if (t != FIELD_NAME)
+			throw unexpected(t, "field name");
+		if (trimStrings || names.length > 64)
+			return indexOf(parseFieldName(), names);
+
+		long mask = names.length == 64 ? -1L : (1L << names.length) - 1;
+		int len = 0;
+		int qc = r.read();
+		if (qc != '\'' && qc != '"') {
+			if (strict)
+				throw new ParseException(session, "Unquoted attribute detected.");
+			if (! VALID_BARE_CHARS.contains(qc))
+				throw new ParseException(session, "Could not find the start of the field name.");
+			int c = qc;
+			while (VALID_BARE_CHARS.contains(c)) {
+				mask = match(names, mask, len++, c);
+				c = r.read();
+			}
+			if (c != -1)
+				r.unread();
+			int i = matched(names, mask, len);
+			return i != -1 && names[i].equals("null") ? -1 : i;
+		}
+		checkQuote(qc);
+		while (true) {
+			int c = r.read();
+			if (c == qc)
+				break;
+			if (c == -1)
+				throw new ParseException(session, "Could not find expected end character ''{0}''.", (char)qc);
+			if (strict && c <= 0x1F)
+				throw controlCharacter(c);
+			if (c == '\\')
+				c = readEscape();
+			mask = match(names, mask, len++, c);
+		}
+		skipCommentsAndSpace();
+		if (r.peek() == '+') {
+			// Concatenated strings.
+			if (strict)
+				throw new ParseException(session, "String concatenation detected.");
+			r.read();
+			skipCommentsAndSpace();
+			String s = parseString();
+			for (int i = 0; i < s.length(); i++)
+				mask = match(names, mask, len++, s.charAt(i));
+		}
+		return matched(names, mask, len);
+	}
+
+	/**
+	 * Reads the current or next token as a <jk>long</jk>.
+	 *
+	 * @return The value.
+	 * @throws IOException Thrown by underlying stream.
+	 * @throws ParseException Malformed input encountered or the token is not a number.
+	 */
+	public long readLong() throws IOException, ParseException {
+		return readInteger(Long.class);
+	}
+
+	/**
+	 * Reads the current or next token as an <jk>int</jk>.
+	 *
+	 * @return The value.
+	 * @throws IOException Thrown by underlying stream.
+	 * @throws ParseException Malformed input encountered or the token is not a number.
+	 */
+	public int readInt() throws IOException, ParseException {
+		return (int)readInteger(Integer.class);
+	}
+
+	/**
+	 * Reads the current or next token as a <jk>double</jk>.
+	 *
+	 * @return The value.
+	 * @throws IOException Thrown by underlying stream.
+	 * @throws ParseException Malformed input encountered or the token is not a number.
+	 */
+	public double readDouble() throws IOException, ParseException {
+		return readNumber(Double.class).doubleValue();
+	}
+
+	/**
+	 * Reads the current or next token as a number of the best matching type.
+	 *
+	 * @return The value.  Either an {@link Integer}, {@link Long}, {@link Float} or {@link Double}.
+	 * @throws IOException Thrown by underlying stream.
+	 * @throws ParseException Malformed input encountered or the token is not a number.
+	 */
+	public Number readNumber() throws IOException, ParseException {
+		return readNumber(null);
+	}
+
+	/**
+	 * Reads the current or next token as a <jk>boolean</jk>.
+	 *
+	 * @return The value.
+	 * @throws IOException Thrown by underlying stream.
+	 * @throws ParseException Malformed input encountered or the token is not a boolean.
+	 */
+	public boolean readBoolean() throws IOException, ParseException {
+		JsonToken t = current();
+		if (t == BOOLEAN) {
+			if (r.peek() == 't') {
+				parseKeyword("true");
+				return true;
+			}
+			parseKeyword("false");
+			return false;
+		}
+		if (t == STRING)
+			return Boolean.valueOf(parseString());
+		throw unexpected(t, "boolean");
+	}
+
+	/**
+	 * Closes the input.
+	 */
+	@Override /* Closeable */
+	public void close() {
+		pipe.close();
+	}
+
+	private JsonToken token(JsonToken t) {
+		token = t;
+		pending = true;
+		return t;
+	}
+
+	/*
+	 * Returns the current token if it's an unread value or attribute name, otherwise moves to the next token.
+	 */
+	private JsonToken current() throws IOException, ParseException {
+		if (! pending || token == START_OBJECT || token == START_ARRAY)
+			nextToken();
+		pending = false;
+		return token;
+	}
+
+	private JsonToken value(int c) throws IOException, ParseException {
+		if (c == '{') {
+			r.read();
+			push(OBJECT_FIRST);
+			return token(START_OBJECT);
+		}
+		if (c == '[') {
+			r.read();
+			push(ARRAY_FIRST);
+			return token(START_ARRAY);
+		}
+		if (c == '\'' || c == '"')
+			return token(STRING);
+		if (c >= '0' && c <= '9' || c == '-' || c == '.')
+			return token(NUMBER);
+		if (c == 't' || c == 'f')
+			return token(BOOLEAN);
+		if (c == 'n')
+			return token(NULL);
+		if (c == -1 || c == ',' || c == ':' || c == '}' || c == ']' || strict)
+			throw new ParseException(session, "Expected one of the following characters: {,[,',\",LITERAL.");
+		return token(STRING);
+	}
+
+	private JsonToken fieldName(int c) throws IOException, ParseException {
+		if (c == -1)
+			throw new ParseException(session, "Could not find attribute name on JSON object.");
+		context = OBJECT_VALUE;
+		return token(FIELD_NAME);
+	}
+
+	private JsonToken end(JsonToken t) throws IOException {
+		r.read();
+		context = stack[--depth];
+		token = t;
+		return t;
+	}
+
+	private void push(int newContext) {
+		if (stack == null)
+			stack = new int[16];
+		else if (depth == stack.length)
+			stack = Arrays.copyOf(stack, depth << 1);
+		stack[depth++] = context;
+		context = newContext;
+	}
+
+	/*
+	 * Moves past a ',' or ':' and any following whitespace and comments, and returns the next character.
+	 */
+	private int skipSeparator() throws IOException, ParseException {
+		r.read();
+		skipCommentsAndSpace();
+		return r.peek();
+	}
+
+	/*
+	 * Skips the current unread value or attribute name.
+	 */
+	private void skipCurrent() throws IOException, ParseException {
+		switch (token) {
+			case FIELD_NAME: skipFieldName(); break;
+			case STRING: skipString(); break;
+			case NUMBER: skipNumber(); break;
+			case BOOLEAN:
+			case NULL:
+				if (strict)
+					parseKeyword(token == NULL ? "null" : r.peek() == 't' ? "true" : "false");
+				else
+					skipString();  // Unquoted strings can start with the same characters.
+				break;
+			default: break;
+		}
+	}
+
+	/*
+	 * Skips to the end of the object or array just started, only looking at nesting, quotes and comments.
+	 */
+	private void skipContainer() throws IOException, ParseException {
+		int end = depth - 1;
+		boolean key = context == OBJECT_FIRST;
+		while (depth > end) {
+			int c = r.read();
+			if (c == -1) {
+				throw new ParseException(session, isObject() ? "Could not find '}' marking end of JSON object." : "Expected ',' or ']'.");
+			} else if (c == '{') {
+				push(OBJECT_FIRST);
+				key = true;
+			} else if (c == '[') {
+				push(ARRAY_FIRST);
+				key = false;
+			} else if (c == '}' || c == ']') {
+				context = stack[--depth];
+			} else if (c == ',') {
+				key = isObject();
+			} else if (c == ':') {
+				key = false;
+			} else if (c == '/') {
+				if (strict)
+					throw new ParseException(session, "Javascript comment detected.");
+				skipComments();
+			} else if (! session.isWhitespace(c)) {
+				r.unread();
+				if (key)
+					skipFieldName();
+				else if (c == '\'' || c == '"')
+					skipString();
+				else
+					skipLiteral();
+			}
+		}
+	}
+
+	private boolean isObject() {
+		return context == OBJECT_FIRST || context == OBJECT;
+	}
+
+	/*
+	 * Skips a number, keyword or unquoted string.
+	 */
+	private void skipLiteral() throws IOException {
+		for (int c = r.read(); c != -1; c = r.read()) {
+			if (c == ',' || c == '}' || c == ']' || session.isWhitespace(c)) {
+				r.unread();
+				break;
+			}
+		}
+	}
+
+	private void skipString() throws IOException, ParseException {
+		int qc = r.read();
+		if (qc == '\'' || qc == '"') {
+			checkQuote(qc);
+			while (true) {
+				int c = r.read();
+				if (c == qc)
+					break;
+				if (c == -1)
+					throw new ParseException(session, "Could not find expected end character ''{0}''.", (char)qc);
+				if (strict && c <= 0x1F)
+					throw controlCharacter(c);
+				if (c == '\\')
+					readEscape();
+			}
+		} else {
+			checkQuote(qc);
+			for (int c = qc; c != -1; c = r.read()) {
+				if (c == ',' || c == '}' || c == ']' || session.isWhitespace(c)) {
+					r.unread();
+					break;
+				}
+			}
+		}
+		skipCommentsAndSpace();
+		if (r.peek() == '+') {
+			if (strict)
+				throw new ParseException(session, "String concatenation detected.");
+			r.read();
+			skipCommentsAndSpace();
+			skipString();
+		}
+	}
+
+	private void skipFieldName() throws IOException, ParseException {
+		int c = r.peek();
+		if (c == '\'' || c == '"') {
+			skipString();
+			return;
+		}
+		if (strict)
+			throw new ParseException(session, "Unquoted attribute detected.");
+		if (! VALID_BARE_CHARS.contains(c))
+			throw new ParseException(session, "Could not find the start of the field name.");
+		while (VALID_BARE_CHARS.contains(c))
+			c = r.read();
+		if (c != -1)
+			r.unread();
+	}
+
+	private void skipNumber() throws IOException, ParseException {
+		if (strict) {
+			validateStrictNumber(readNumberString());
+		} else {
+			int c = r.read();
+			while (c != -1 && NUMBER_CHARS.contains(c))
+				c = r.read();
+			if (c != -1)
+				r.unread();
+		}
+	}
+
+	private long readInteger(Class<? extends Number> type) throws IOException, ParseException {
+		JsonToken t = current();
+		if (t == NUMBER) {
+			markNumber();
+			long l = r.getMarkedAsLong();
+			if (l != Long.MIN_VALUE && (type == Long.class || l >= Integer.MIN_VALUE && l <= Integer.MAX_VALUE))
+				return l;
+			return parseNumber(l == Long.MIN_VALUE ? r.getMarked() : String.valueOf(l), type).longValue();
+		}
+		if (t == STRING)
+			return parseNumber(parseString(), type).longValue();
+		throw unexpected(t, "number");
+	}
+
+	private Number readNumber(Class<? extends Number> type) throws IOException, ParseException {
+		JsonToken t = current();
+		if (t == NUMBER)
+			return parseNumber(readNumberString(), type);
+		if (t == STRING)
+			return parseNumber(parseString(), type);
+		throw unexpected(t, "number");
+	}
+
+	private Number parseNumber(String s, Class<? extends Number> type) throws ParseException {
+		if (strict)
+			validateStrictNumber(s);
+		return StringUtils.parseNumber(s, type);
+	}
+
+	private int readEscape() throws IOException, ParseException {
+		int c = r.read();
+		switch (c) {
+			case 'n': return '\n';
+			case 'r': return '\r';
+			case 't': return '\t';
+			case 'f': return '\f';
+			case 'b': return '\b';
+			case '\\':
+			case '/':
+			case '\'':
+			case '"': return c;
+			case 'u': {
+				int v = 0;
+				for (int i = 0; i < 4; i++) {
+					int d = Character.digit(r.read(), 16);
+					if (d == -1)
+						throw new ParseException(session, "Invalid Unicode escape sequence in string.");
+					v = (v << 4) | d;
+				}
+				return v;
+			}
+			default:
+				throw new ParseException(session, "Invalid escape sequence in string.");
+		}
+	}
+
+	private void checkQuote(int qc) throws ParseException {
+		if (qc != '"' && strict) {
+			String msg = (
+				qc == '\''
+				? "Invalid quote character \"{0}\" being used."
+				: "Did not find quote character marking beginning of string.  Character=\"{0}\""
+			);
+			throw new ParseException(session, msg, (char)qc);
+		}
+	}
+
+	private ParseException controlCharacter(int c) {
+		return new ParseException(session, "Unescaped control character encountered: ''0x{0}''", String.format("%04X", c));
+	}
+
+	private ParseException unexpected(JsonToken t, String expected) {
+		return new ParseException(session, "Expected {0} but found {1}.", expected, t);
+	}
+
+	private static long match(String[] names, long mask, int pos, int c) {
+		for (long m = mask; m != 0; m &= m - 1) {
+			int i = Long.numberOfTrailingZeros(m);
+			String n = names[i];
+			if (pos >= n.length() || n.charAt(pos) != c)
+				mask &= ~(1L << i);
+		}
+		return mask;
+	}
+
+	private static int matched(String[] names, long mask, int len) {
+		for (; mask != 0; mask &= mask - 1) {
+			int i = Long.numberOfTrailingZeros(mask);
+			if (names[i].length() == len)
+				return i;
+		}
+		return -1;
+	}
+
+	private static int indexOf(String s, String[] names) {
+		for (int i = 0; i < names.length; i++)
+			if (names[i].equals(s))
+				return i;
+		return -1;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Lexical methods shared with JsonParserSession.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	int read() throws IOException {
+		return r.read();
+	}
+
+	String read(int num) throws IOException {
+		return r.read(num);
+	}
+
+	int peek() throws IOException {
+		return r.peek();
+	}
+
+	JsonReader unread() throws IOException {
+		r.unread();
+		return this;
+	}
+
+	void mark() {
+		r.mark();
+	}
+
+	String getMarked() {
+		return r.getMarked();
+	}
+
+	long getMarkedAsLong() {
+		return r.getMarkedAsLong();
+	}
+
+	void markNumber() throws IOException {
+		StringUtils.markNumberString(r);
+	}
+
+	String readNumberString() throws IOException {
+		return StringUtils.parseNumberString(r);
+	}
+
+	/*
+	 * Starting from the specified position in the character array, returns the
+	 * position of the character " or '.
+	 * If the string consists of a concatenation of strings (e.g. 'AAA' + "BBB"), this method
+	 * will automatically concatenate the strings and return the result.
+	 */
+	String parseString() throws IOException, ParseException {
+		r.mark();
+		int qc = r.read();		// The quote character being used (" or ')
+		checkQuote(qc);
+		final boolean isQuoted = (qc == '\'' || qc == '"');
+		String s = null;
+		boolean isInEscape = false;
+		int c = 0;
+		while (c != -1) {
+			c = r.read();
+			// Strict syntax requires that all control characters be escaped.
+			if (strict && c <= 0x1F)
+				throw controlCharacter(c);
+			if (isInEscape) {
+				switch (c) {
+					case 'n': r.replace('\n'); break;
+					case 'r': r.replace('\r'); break;
+					case 't': r.replace('\t'); break;
+					case 'f': r.replace('\f'); break;
+					case 'b': r.replace('\b'); break;
+					case '\\': r.replace('\\'); break;
+					case '/': r.replace('/'); break;
+					case '\'': r.replace('\''); break;
+					case '"': r.replace('"'); break;
+					case 'u': {
+						String n = r.read(4);
+						try {
+							r.replace(Integer.parseInt(n, 16), 6);
+						} catch (NumberFormatException e) {
+							throw new ParseException(session, "Invalid Unicode escape sequence in string.");
+						}
+						break;
+					}
+					default:
+						throw new ParseException(session, "Invalid escape sequence in string.");
+				}
+				isInEscape = false;
+			} else {
+				if (c == '\\') {
+					isInEscape = true;
+					r.delete();
+				} else if (isQuoted) {
+					if (c == qc) {
+						s = r.getMarked(1, -1);
+						break;
+					}
+				} else {
+					if (c == ',' || c == '}' || c == ']' || session.isWhitespace(c)) {
+						s = r.getMarked(0, -1);
+						r.unread();
+						break;
+					} else if (c == -1) {
+						s = r.getMarked(0, 0);
+						break;
+					}
+				}
+			}
+		}
+		if (s == null)
+			throw new ParseException(session, "Could not find expected end character ''{0}''.", (char)qc);
+
+		// Look for concatenated string (i.e. whitespace followed by +).
+		skipCommentsAndSpace();
+		if (r.peek() == '+') {
+			if (strict)
+				throw new ParseException(session, "String concatenation detected.");
+			r.read();	// Skip past '+'
+			skipCommentsAndSpace();
+			s += parseString();
+		}
+		return trimStrings ? s.trim() : s; // End of input reached.
+	}
+
+	/*
+	 * Parse a JSON attribute from the character array at the specified position, then
+	 * set the position marker to the last character in the field name.
+	 */
+	String parseFieldName() throws IOException, ParseException {
+		int c = r.peek();
+		if (c == '\'' || c == '"')
+			return parseString();
+		if (strict)
+			throw new ParseException(session, "Unquoted attribute detected.");
+		if (! VALID_BARE_CHARS.contains(c))
+			throw new ParseException(session, "Could not find the start of the field name.");
+		r.mark();
+		// Look for whitespace.
+		while (c != -1) {
+			c = r.read();
+			if (! VALID_BARE_CHARS.contains(c)) {
+				r.unread();
+				String s = r.getMarked().intern();
+				return s.equals("null") ? null : s;
+			}
+		}
+		throw new ParseException(session, "Could not find the end of the field name.");
+	}
+
+	/*
+	 * Looks for the keywords true, false, or null.
+	 * Throws an exception if any of these keywords are not found at the specified position.
+	 */
+	void parseKeyword(String keyword) throws IOException, ParseException {
+		int len = keyword.length();
+		for (int i = 0; i < len; i++) {
+			int c = r.read();
+			if (c != keyword.charAt(i)) {
+				String actual = keyword.substring(0, i) + (c == -1 ? "" : (char)c + r.read(len - i - 1));
+				throw new ParseException(session, "Unrecognized syntax.  Expected=''{0}'', Actual=''{1}''", keyword, actual);
+			}
+		}
+	}
+
+	/*
+	 * Doesn't actually parse anything, but moves the position beyond any whitespace or comments.
+	 * If positionOnNext is 'true', then the cursor will be set to the point immediately after
+	 * the comments and whitespace.  Otherwise, the cursor will be set to the last position of
+	 * the comments and whitespace.
+	 */
+	void skipCommentsAndSpace() throws IOException, ParseException {
+		int c = 0;
+		while ((c = r.read()) != -1) {
+			if (! session.isWhitespace(c)) {
+				if (c == '/') {
+					if (strict)
+						throw new ParseException(session, "Javascript comment detected.");
+					skipComments();
+				} else {
+					r.unread();
+					return;
+				}
+			}
+		}
+	}
+
+	/*
+	 * Doesn't actually parse anything, but when positioned at the beginning of comment,
+	 * it will move the pointer to the last character in the comment.
+	 */
+	void skipComments() throws ParseException, IOException {
+		int c = r.read();
+		//  "/* */" style comments
+		if (c == '*') {
+			while (c != -1)
+				if ((c = r.read()) == '*')
+					if ((c = r.read()) == '/')
+						return;
+		//  "//" style comments
+		} else if (c == '/') {
+			while (c != -1) {
+				c = r.read();
+				if (c == -1 || c == '\n')
+					return;
+			}
+		}
+		throw new ParseException(session, "Open ended comment.");
+	}
+
+	/*
+	 * Skips the value starting at the current position without creating any objects.
+	 * Used for values that would be discarded anyway (e.g. unknown bean properties).
+	 */
+	void skipUnknownValue() throws IOException, ParseException {
+		int c = r.peek();
+		if (c == '{' || c == '[') {
+			r.read();
+			push(c == '{' ? OBJECT_FIRST : ARRAY_FIRST);
+			skipContainer();
+		} else if (c == '\'' || c == '"') {
+			skipString();
+		} else if (c >= '0' && c <= '9' || c == '-' || c == '.') {
+			skipNumber();
+		} else if (strict && (c == 't' || c == 'f' || c == 'n')) {
+			parseKeyword(c == 'n' ? "null" : c == 't' ? "true" : "false");
+		} else if (c == -1 || c == ',' || c == ':' || c == '}' || c == ']' || strict) {
+			throw new ParseException(session, "Expected one of the following characters: {,[,',\",LITERAL.");
+		} else {
+			skipString();  // Unquoted string.
+		}
+	}
+
+	void validateStrictNumber(String s) throws ParseException {
+
+		// JSON has slightly different number rules from Java.
+		// Strict mode enforces these different rules, lax does not.
+
+		// Lax allows blank strings to represent 0.
+		// Strict does not allow blank strings.
+		if (s.length() == 0)
+			throw new ParseException(session, "Invalid JSON number: ''{0}''", s);
+
+		// Need to weed out octal and hexadecimal formats:  0123,-0123,0x123,-0x123.
+		// Don't weed out 0 or -0.
+		boolean isNegative = false;
+		char c = s.charAt(0);
+		if (c == '-') {
+			isNegative = true;
+			c = (s.length() == 1 ? 'x' : s.charAt(1));
+		}
+
+		// JSON doesn't allow '.123' and '-.123'.
+		if (c == '.')
+			throw new ParseException(session, "Invalid JSON number: ''{0}''", s);
+
+		// '01' is not a valid number, but '0.1', '0e1', '0e+1' are valid.
+		if (c == '0' && s.length() > (isNegative ? 2 : 1)) {
+			char c2 = s.charAt((isNegative ? 2 : 1));
+			if (c2 != '.' && c2 != 'e' && c2 != 'E')
+				throw new ParseException(session, "Invalid JSON number: ''{0}''", s);
+		}
+
+		// JSON doesn't allow '1.' or '0.e1'.
+		int i = s.indexOf('.');
+		if (i != -1 && (s.length() == (i+1) || ! DEC_CHARS.contains(s.charAt(i+1))))
+			throw new ParseException(session, "Invalid JSON number: ''{0}''", s);
+	}
+
+	/*
+	 * Call this method after you've finished a parsing a string to make sure that if there's any
+	 * remainder in the input, that it consists only of whitespace and comments.
+	 */
+	void validateEnd() throws IOException, ParseException {
+		if (! session.isValidateEnd())
+			return;
+		skipCommentsAndSpace();
+		int c = r.read();
+		if (c != -1 && c != ';')  // var x = {...}; expressions can end with a semicolon.
+			throw new ParseException(session, "Remainder after parse: ''{0}''.", (char)c);
+	}
+}
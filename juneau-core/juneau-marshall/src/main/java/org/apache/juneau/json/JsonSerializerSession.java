@@ -13,6 +13,7 @@
 package org.apache.juneau.json;
 
 import java.io.*;
+import java.lang.reflect.*;
 import java.util.*;
 
 import org.apache.juneau.*;
@@ -137,7 +138,9 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		// '\0' characters are considered null.
 		if (o == null || (sType.isChar() && ((Character)o).charValue() == 0)) {
 			out.append("null");
-		} else if (sType.isNumber() || sType.isBoolean()) {
+		} else if (sType.isNumber()) {
+			appendNumber(out, (Number)o);
+		} else if (sType.isBoolean()) {
 			out.append(o);
 		} else if (sType.isBean()) {
 			serializeBeanMap(out, toBeanMap(o), typeName);
@@ -149,9 +152,21 @@ public class JsonSerializerSession extends WriterSerializerSession {
 			else
 				serializeMap(out, (Map)o, eType);
 		} else if (sType.isCollection()) {
-			serializeCollection(out, (Collection) o, eType);
+			Class<?> nc = getDirectNumberClass(eType);
+			if (nc != null && getJsonClassMeta(getClassMeta(nc)).getWrapperAttr() == null)
+				serializeNumberCollection(out, (Collection) o, nc, eType);
+			else
+				serializeCollection(out, (Collection) o, eType);
 		} else if (sType.isArray()) {
-			serializeCollection(out, toList(sType.getInnerClass(), o), eType);
+			Class<?> nc = getDirectNumberClass(sType);
+			if (nc != null && getJsonClassMeta(getClassMeta(nc)).getWrapperAttr() == null) {
+				if (nc.isPrimitive())
+					serializeNumberArray(out, o);
+				else
+					serializeNumberCollection(out, Arrays.asList((Object[])o), nc, sType);
+			} else {
+				serializeCollection(out, toList(sType.getInnerClass(), o), eType);
+			}
 		} else if (sType.isReader() || sType.isInputStream()) {
 			IOUtils.pipe(o, out);
 		} else {
@@ -251,6 +266,35 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		return out;
 	}
 
+	private SerializerWriter serializeNumberArray(JsonWriter out, Object array) throws IOException {
+		int len = Array.getLength(array);
+		out.append('[');
+		for (int i = 0; i < len; i++) {
+			out.cr(indent);
+			appendNumber(out, array, i);
+			if (i < len - 1)
+				out.append(',').smi(indent);
+		}
+		out.cre(indent-1).append(']');
+		return out;
+	}
+
+	private SerializerWriter serializeNumberCollection(JsonWriter out, Collection<?> c, Class<?> numberClass, ClassMeta<?> type) throws IOException, SerializeException {
+		out.append('[');
+		for (Iterator<?> i = c.iterator(); i.hasNext();) {
+			Object value = i.next();
+			out.cr(indent);
+			if (value == null || value.getClass() == numberClass)
+				appendNumber(out, (Number)value);
+			else
+				serializeAnything(out, value, type.getElementType(), "<iterator>", null);
+			if (i.hasNext())
+				out.append(',').smi(indent);
+		}
+		out.cre(indent-1).append(']');
+		return out;
+	}
+
 	/**
 	 * Converts the specified output target object to an {@link JsonWriter}.
 	 *
@@ -0,0 +1,69 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+/**
+ * The token types returned by {@link JsonReader#nextToken()}.
+ */
+public enum JsonToken {
+
+	/**
+	 * Beginning of an object (<js>'{'</js>).
+	 */
+	START_OBJECT,
+
+	/**
+	 * End of an object (<js>'}'</js>).
+	 */
+	END_OBJECT,
+
+	/**
+	 * Beginning of an array (<js>'['</js>).
+	 */
+	START_ARRAY,
+
+	/**
+	 * End of an array (<js>']'</js>).
+	 */
+	END_ARRAY,
+
+	/**
+	 * An object attribute name.
+	 */
+	FIELD_NAME,
+
+	/**
+	 * A quoted string, or an unquoted string if the parser is not strict.
+	 */
+	STRING,
+
+	/**
+	 * A number.
+	 */
+	NUMBER,
+
+	/**
+	 * <jk>true</jk> or <jk>false</jk>.
+	 */
+	BOOLEAN,
+
+	/**
+	 * <jk>null</jk>.
+	 */
+	NULL,
+
+	/**
+	 * End of input.
+	 */
+	END;
+}
@@ -285,6 +285,12 @@ public final class JsonWriter extends SerializerWriter {
 		return this;
 	}
 
+	@Override /* SerializerWriter */
+	public JsonWriter appendLong(long value) throws IOException {
+		super.appendLong(value);
+		return this;
+	}
+
 	@Override /* SerializerWriter */
 	public JsonWriter appendIf(boolean b, String text) throws IOException {
 		super.appendIf(b, text);
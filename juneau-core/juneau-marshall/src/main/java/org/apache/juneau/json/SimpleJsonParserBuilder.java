@@ -522,6 +522,12 @@ public class SimpleJsonParserBuilder extends JsonParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - ReaderParserBuilder */
+	public SimpleJsonParserBuilder bufferSize(int value) {
+		super.bufferSize(value);
+		return this;
+	}
+
 	@Override /* GENERATED - ReaderParserBuilder */
 	public SimpleJsonParserBuilder fileCharset(Charset value) {
 		super.fileCharset(value);
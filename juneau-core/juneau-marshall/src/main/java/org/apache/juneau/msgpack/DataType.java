@@ -14,9 +14,47 @@ package org.apache.juneau.msgpack;
 
 /**
  * Constants for the MessagePack format.
+ *
+ * <p>
+ * Returned by {@link MsgPackInputStream#readDataType()}.
  */
-enum DataType {
-	NULL, BOOLEAN, INT, LONG, FLOAT, DOUBLE, STRING, BIN, EXT, ARRAY, MAP, INVALID;
+public enum DataType {
+
+	/** <jk>nil</jk> */
+	NULL,
+
+	/** <jk>true</jk> or <jk>false</jk>. */
+	BOOLEAN,
+
+	/** Integer that fits in an <jk>int</jk>. */
+	INT,
+
+	/** 32-bit unsigned or 64-bit integer. */
+	LONG,
+
+	/** 32-bit floating point. */
+	FLOAT,
+
+	/** 64-bit floating point. */
+	DOUBLE,
+
+	/** UTF-8 string. */
+	STRING,
+
+	/** Byte array. */
+	BIN,
+
+	/** Extension type. */
+	EXT,
+
+	/** Array.  {@link MsgPackInputStream#readLength()} is the number of entries. */
+	ARRAY,
+
+	/** Map.  {@link MsgPackInputStream#readLength()} is the number of key/value pairs. */
+	MAP,
+
+	/** Never-used flag <c>0xC1</c>. */
+	INVALID;
 
 	boolean isOneOf(DataType...dataTypes) {
 		for (DataType dt : dataTypes)
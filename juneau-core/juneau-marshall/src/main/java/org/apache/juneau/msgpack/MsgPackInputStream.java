@@ -16,23 +16,56 @@ import static org.apache.juneau.internal.IOUtils.*;
 import static org.apache.juneau.msgpack.DataType.*;
 
 import java.io.*;
+import java.util.*;
 
 import org.apache.juneau.parser.*;
 
 /**
  * Specialized input stream for parsing MessagePack streams.
  *
+ * <p>
+ * Besides being used internally by {@link MsgPackParserSession}, this class can be used to read MessagePack input
+ * one value at a time without creating any POJOs.
+ * {@link #readDataType()} reads the header of the next value, after which the value itself is read with one of the
+ * other <c>read*()</c> methods, matched using {@link #matchString(String...)}, or skipped using {@link #skipValue()}.
+ * The entries of arrays and maps are read by calling {@link #readDataType()} again {@link #readLength()} times
+ * (twice per entry for maps).
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jk>static final</jk> String[] <jsf>FIELDS</jsf> = {<js>"id"</js>,<js>"name"</js>};
+ *
+ * 	<jk>try</jk> (MsgPackInputStream is = MsgPackParser.<jsf>DEFAULT</jsf>.getMsgPackInputStream(input)) {
+ * 		<jk>long</jk> size = is.readDataType() == DataType.<jsf>MAP</jsf> ? is.readLength() : 0;
+ * 		<jk>for</jk> (<jk>long</jk> i = 0; i &lt; size; i++) {
+ * 			<jk>switch</jk> (is.matchString(<jsf>FIELDS</jsf>)) {
+ * 				<jk>case</jk> 0: id = is.readLong(); <jk>break</jk>;
+ * 				<jk>case</jk> 1: name = is.readString(); <jk>break</jk>;
+ * 				<jk>default</jk>: is.skipValue();
+ * 			}
+ * 		}
+ * 	}
+ * </p>
+ *
  * <ul class='notes'>
  * 	<li>
- * 		This class is not intended for external use.
+ * 		The <c>read*()</c> and {@link #matchString(String...)} methods read the header of the next value first if the
+ * 		current value has already been read, or is a <jk>null</jk>, array or map.
+ * 		<br>{@link #skipValue()} skips the current value if its header was just read by {@link #readDataType()}.
+ * 	<li>
+ * 		{@link #skipValue()} and {@link #matchString(String...)} don't create any objects.
+ * 	<li>
+ * 		This class is NOT thread safe.
  * </ul>
  */
 public final class MsgPackInputStream extends ParserInputStream {
 
+	private final ParserPipe pipe;
 	private DataType currentDataType;
 	private long length;
 	private int lastByte;
 	private int extType;
+	private boolean pending;
 	int pos = 0;
 
 	// Data type quick-lookup table.
@@ -63,6 +96,7 @@ public final class MsgPackInputStream extends ParserInputStream {
 	 */
 	protected MsgPackInputStream(ParserPipe pipe) throws IOException {
 		super(pipe);
+		this.pipe = pipe;
 	}
 
 	/**
@@ -70,14 +104,23 @@ public final class MsgPackInputStream extends ParserInputStream {
 	 *
 	 * <p>
 	 * This is the byte that indicates what kind of data follows.
+	 *
+	 * @return The data type of the next value.
+	 * @throws IOException Thrown by underlying stream or end of file reached.
 	 */
-	DataType readDataType() throws IOException {
+	public DataType readDataType() throws IOException {
 		int i = read();
 		if (i == -1)
 			throw new IOException("Unexpected end of file found at position " + pos);
 		currentDataType = TYPES[i];
+		lastByte = i;
+		pending = true;
 		switch (currentDataType) {
 			case NULL:
+			case BOOLEAN: {
+				length = 0;
+				break;
+			}
 			case FLOAT: {
 				length = 4;
 				break;
@@ -86,10 +129,6 @@ public final class MsgPackInputStream extends ParserInputStream {
 				length = 8;
 				break;
 			}
-			case BOOLEAN: {
-				lastByte = i;
-				break;
-			}
 			case INT: {
 				//	positive fixnum stores 7-bit positive integer
 				//	+--------+
@@ -143,7 +182,6 @@ public final class MsgPackInputStream extends ParserInputStream {
 				//	+--------+--------+--------+--------+--------+--------+--------+--------+--------+
 				//	|  0xd3  |ZZZZZZZZ|ZZZZZZZZ|ZZZZZZZZ|ZZZZZZZZ|ZZZZZZZZ|ZZZZZZZZ|ZZZZZZZZ|ZZZZZZZZ|
 				//	+--------+--------+--------+--------+--------+--------+--------+--------+--------+
-				lastByte = i;
 				if (i <= POSFIXINT_U)
 					length = 0;
 				else if (i >= NEGFIXINT_L)
@@ -377,70 +415,179 @@ public final class MsgPackInputStream extends ParserInputStream {
 	 * For ints/floats/bins/strings, this is the number of bytes that the field takes up (minus the data-type flag).
 	 * For arrays, it's the number of array entries.
 	 * For maps, it's the number of map entries.
+	 *
+	 * @return The length value of the current value.
 	 */
-	long readLength() {
+	public long readLength() {
 		return length;
 	}
 
 	/**
 	 * Read a boolean from the stream.
+	 *
+	 * @return The value.
+	 * @throws IOException Thrown by underlying stream or the value is not a boolean.
 	 */
-	boolean readBoolean() {
+	public boolean readBoolean() throws IOException {
+		if (current() != BOOLEAN)
+			throw unexpected(BOOLEAN);
 		return lastByte == TRUE;
 	}
 
 	/**
 	 * Read a string from the stream.
+	 *
+	 * @return The value.
+	 * @throws IOException Thrown by underlying stream or the value is not a string.
 	 */
-	String readString() throws IOException {
-		return new String(readBinary(), UTF8);
+	public String readString() throws IOException {
+		if (current() != STRING)
+			throw unexpected(STRING);
+		return new String(readBytes(), UTF8);
 	}
 
 	/**
 	 * Read a binary field from the stream.
+	 *
+	 * @return The value.
+	 * @throws IOException Thrown by underlying stream or the value is not a binary field.
 	 */
-	byte[] readBinary() throws IOException {
-		byte[] b = new byte[(int)length];
-		read(b);
-		return b;
+	public byte[] readBinary() throws IOException {
+		if (current() != BIN)
+			throw unexpected(BIN);
+		return readBytes();
 	}
 
 	/**
 	 * Read an integer from the stream.
+	 *
+	 * @return The value.
+	 * @throws IOException Thrown by underlying stream or the value is not an integer.
 	 */
-	int readInt() throws IOException {
-		if (length == 0)
-			return lastByte;
-		if (length == 1)
-			return read();
-		if (length == 2)
-			return (read() << 8) | read();
-		int i = read(); i <<= 8; i |= read(); i <<= 8; i |= read(); i <<= 8; i |= read();
-		return i;
+	public int readInt() throws IOException {
+		if (current() != INT)
+			throw unexpected(INT);
+		return readInt4();
 	}
 
 	/**
 	 * Read a float from the stream.
+	 *
+	 * @return The value.
+	 * @throws IOException Thrown by underlying stream or the value is not a float.
 	 */
-	float readFloat() throws IOException {
-		return Float.intBitsToFloat(readInt());
+	public float readFloat() throws IOException {
+		if (current() != FLOAT)
+			throw unexpected(FLOAT);
+		return Float.intBitsToFloat(readInt4());
 	}
 
 	/**
 	 * Read a double from the stream.
+	 *
+	 * @return The value.
+	 * @throws IOException Thrown by underlying stream or the value is not a double.
 	 */
-	double readDouble() throws IOException {
-		return Double.longBitsToDouble(readLong());
+	public double readDouble() throws IOException {
+		if (current() != DOUBLE)
+			throw unexpected(DOUBLE);
+		return Double.longBitsToDouble(readLong8());
 	}
 
 	/**
-	 * Read 64-bit long from the stream.
+	 * Read a 64-bit long from the stream.
+	 *
+	 * @return The value.
+	 * @throws IOException Thrown by underlying stream or the value is not an integer.
 	 */
-	long readLong() throws IOException {
-		if (length == 4)
-			return readUInt4();
-		long l = read(); l <<= 8; l |= read(); l <<= 8; l |= read(); l <<= 8; l |= read(); l <<= 8; l |= read(); l <<= 8; l |= read(); l <<= 8; l |= read(); l <<= 8; l |= read();
-		return l;
+	public long readLong() throws IOException {
+		DataType dt = current();
+		if (dt == INT)
+			return readInt4();
+		if (dt != LONG)
+			throw unexpected(LONG);
+		return readLong8();
+	}
+
+	/**
+	 * Skips the next value, including all the entries of arrays and maps.
+	 *
+	 * <p>
+	 * If the header of the current value has been read but not its contents, skips the current value instead.
+	 *
+	 * @throws IOException Thrown by underlying stream or end of file reached.
+	 */
+	public void skipValue() throws IOException {
+		if (! pending)
+			readDataType();
+		long remaining = 1;
+		while (true) {
+			pending = false;
+			remaining--;
+			if (currentDataType == ARRAY)
+				remaining += length;
+			else if (currentDataType == MAP)
+				remaining += length * 2;
+			else
+				skipBytes(Math.max(length, 0));
+			if (remaining == 0)
+				return;
+			readDataType();
+		}
+	}
+
+	/**
+	 * Reads a string from the stream and returns its position in the specified list of strings.
+	 *
+	 * <p>
+	 * The string is compared while it's being read, so nothing is allocated unless there are more than 64 names.
+	 *
+	 * @param names The strings to match against.
+	 * @return The index of the matching string, or <c>-1</c> if the string isn't in the list.
+	 * @throws IOException Thrown by underlying stream or the value is not a string.
+	 */
+	public int matchString(String...names) throws IOException {
+		if (names.length > 64)
+			return Arrays.asList(names).indexOf(readString());
+		if (current() != STRING)
+			throw unexpected(STRING);
+		long mask = names.length == 64 ? -1L : (1L << names.length) - 1;
+		int len = 0;
+		for (long remaining = length; remaining > 0; remaining--) {
+			int c = readByte();
+			if (c >= 0x80) {
+				// Decode UTF-8 multi-byte sequence.
+				int n = c >= 0xF0 ? 3 : c >= 0xE0 ? 2 : c >= 0xC0 ? 1 : 0;
+				if (n == 0 || n >= remaining) {
+					c = 0xFFFD;
+				} else {
+					c &= (0x3F >> n);
+					for (int i = 0; i < n; i++)
+						c = (c << 6) | (readByte() & 0x3F);
+					remaining -= n;
+				}
+			}
+			if (c > 0xFFFF) {
+				mask = match(names, mask, len++, Character.highSurrogate(c));
+				mask = match(names, mask, len++, Character.lowSurrogate(c));
+			} else {
+				mask = match(names, mask, len++, c);
+			}
+		}
+		for (; mask != 0; mask &= mask - 1) {
+			int i = Long.numberOfTrailingZeros(mask);
+			if (names[i].length() == len)
+				return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * Closes the input.
+	 */
+	@Override /* InputStream */
+	public void close() {
+		pipe.close();
 	}
 
 	/**
@@ -451,6 +598,80 @@ public final class MsgPackInputStream extends ParserInputStream {
 		return extType;
 	}
 
+	/*
+	 * Reads the header of the next value if the current one has already been read or has no contents to read.
+	 */
+	private DataType current() throws IOException {
+		if (! pending || currentDataType == NULL || currentDataType == ARRAY || currentDataType == MAP)
+			readDataType();
+		pending = false;
+		return currentDataType;
+	}
+
+	private IOException unexpected(DataType expected) {
+		return new IOException("Expected " + expected + " but found " + currentDataType + ".");
+	}
+
+	/*
+	 * Reads a signed integer of 'length' bytes, or a fixint stored in the header.
+	 */
+	private int readInt4() throws IOException {
+		if (length == 0)
+			return lastByte;
+		if (length == 1)
+			return lastByte == INT8 ? (byte)read() : read();
+		if (length == 2)
+			return lastByte == INT16 ? (short)readUInt2() : readUInt2();
+		int i = read(); i <<= 8; i |= read(); i <<= 8; i |= read(); i <<= 8; i |= read();
+		return i;
+	}
+
+	private long readLong8() throws IOException {
+		if (length == 4)
+			return readUInt4();
+		long l = read(); l <<= 8; l |= read(); l <<= 8; l |= read(); l <<= 8; l |= read(); l <<= 8; l |= read(); l <<= 8; l |= read(); l <<= 8; l |= read(); l <<= 8; l |= read();
+		return l;
+	}
+
+	private byte[] readBytes() throws IOException {
+		byte[] b = new byte[(int)length];
+		for (int off = 0; off < b.length;) {
+			int i = read(b, off, b.length - off);
+			if (i == -1)
+				throw new IOException("Unexpected end of file.");
+			off += i;
+		}
+		return b;
+	}
+
+	private void skipBytes(long n) throws IOException {
+		while (n > 0) {
+			long i = skip(n);
+			if (i <= 0) {
+				readByte();
+				i = 1;
+			}
+			n -= i;
+		}
+	}
+
+	private int readByte() throws IOException {
+		int i = read();
+		if (i == -1)
+			throw new IOException("Unexpected end of file.");
+		return i;
+	}
+
+	private static long match(String[] names, long mask, int pos, int c) {
+		for (long m = mask; m != 0; m &= m - 1) {
+			int i = Long.numberOfTrailingZeros(m);
+			String n = names[i];
+			if (pos >= n.length() || n.charAt(pos) != c)
+				mask &= ~(1L << i);
+		}
+		return mask;
+	}
+
 	/**
 	 * Read one byte from the stream.
 	 */
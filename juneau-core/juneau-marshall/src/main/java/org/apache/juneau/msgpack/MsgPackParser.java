@@ -12,6 +12,7 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.msgpack;
 
+import java.io.*;
 import java.util.*;
 import java.util.concurrent.*;
 
@@ -130,6 +131,20 @@ public class MsgPackParser extends InputStreamParser implements MsgPackMetaProvi
 		return new MsgPackParserSession(this, args);
 	}
 
+	/**
+	 * Creates a {@link MsgPackInputStream} for reading the specified input one value at a time.
+	 *
+	 * <p>
+	 * Shortcut for calling <c>createSession().getMsgPackInputStream(input)</c>.
+	 *
+	 * @param input The input.  See {@link ParserSession#parse(Object, ClassMeta)} for supported input types.
+	 * @return A new stream.
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	public final MsgPackInputStream getMsgPackInputStream(Object input) throws IOException {
+		return createSession().getMsgPackInputStream(input);
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Extended metadata
 	//-----------------------------------------------------------------------------------------------------------------
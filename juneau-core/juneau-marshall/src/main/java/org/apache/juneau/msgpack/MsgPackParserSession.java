@@ -47,9 +47,50 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 
 	@Override /* ParserSession */
 	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws IOException, ParseException, ExecutableException {
-		try (MsgPackInputStream is = new MsgPackInputStream(pipe)) {
-			return parseAnything(type, is, getOuter(), null);
-		}
+		return parseAnything(type, new MsgPackInputStream(pipe), getOuter(), null);
+	}
+
+	@Override /* ParserSession */
+	protected <E> ParserIterator<E> doParseIterator(ParserPipe pipe, ClassMeta<E> elementType) throws IOException, ParseException {
+		MsgPackInputStream is = new MsgPackInputStream(pipe);
+		DataType dt = is.readDataType();
+		int length = (int)is.readLength();
+		if (dt != ARRAY && dt != DataType.NULL)
+			throw new ParseException(this, "Invalid data type {0} encountered for parse type {1}", dt, "array");
+
+		return new ParserIterator<E>(this, pipe) {
+			int remaining = dt == ARRAY ? length : 0;
+
+			@Override /* ParserIterator */
+			protected boolean advance() {
+				return remaining > 0;
+			}
+
+			@Override /* ParserIterator */
+			protected E parseEntry() throws IOException, ParseException, ExecutableException {
+				remaining--;
+				return parseAnything(elementType, is, getOuter(), null);
+			}
+		};
+	}
+
+	@Override /* ParserSession */
+	protected <T> PushParser<T> doPushParser(ClassMeta<T> type) {
+		return new MsgPackPushParser<>(this, type);
+	}
+
+	/**
+	 * Creates a {@link MsgPackInputStream} for reading the specified input one value at a time.
+	 *
+	 * <p>
+	 * The stream should be closed when no longer needed in order to close the input.
+	 *
+	 * @param input The input.  See {@link #parse(Object, ClassMeta)} for supported input types.
+	 * @return A new stream.
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	public final MsgPackInputStream getMsgPackInputStream(Object input) throws IOException {
+		return new MsgPackInputStream(createPipe(input == null ? new byte[0] : input));
 	}
 
 	/*
@@ -130,10 +171,14 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 						String pName = parseAnything(string(), is, m.getBean(false), null);
 						BeanPropertyMeta bpm = m.getPropertyMeta(pName);
 						if (bpm == null) {
-							if (pName.equals(getBeanTypePropertyName(eType)))
-								parseAnything(string(), is, null, null);
-							else
+							if (pName.equals(getBeanTypePropertyName(eType))) {
+								is.skipValue();
+							} else if (isSkipUnknownValues()) {
+								is.skipValue();
+								onUnknownProperty(pName, m, null);
+							} else {
 								onUnknownProperty(pName, m, parseAnything(string(), is, null, null));
+							}
 						} else {
 							ClassMeta<?> cm = bpm.getClassMeta();
 							Object value = parseAnything(cm, is, m.getBean(false), bpm);
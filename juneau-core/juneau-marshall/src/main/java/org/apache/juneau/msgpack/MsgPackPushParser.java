@@ -0,0 +1,125 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.msgpack;
+
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+
+/**
+ * Push parser for MessagePack.
+ *
+ * <p>
+ * Finds the end of each top-level value by decoding only the headers of the values it contains, keeping partially
+ * read headers and the number of values and payload bytes still expected across chunks.
+ *
+ * @param <T> The type of values being parsed.
+ */
+final class MsgPackPushParser<T> extends PushParser<T> {
+
+	private static final int
+		PAYLOAD = 0,   // Length is followed by that many bytes.
+		EXT = 1,       // Length is followed by a type byte and that many bytes.
+		ARRAY = 2,     // Length is the number of array entries.
+		MAP = 3;       // Length is the number of map entries.
+
+	private final MsgPackParserSession session;
+	private long values, skip, length;
+	private int lengthBytes, lengthKind;
+
+	MsgPackPushParser(MsgPackParserSession session, ClassMeta<T> type) {
+		super(session, type);
+		this.session = session;
+	}
+
+	@Override /* PushParser */
+	protected int scan(byte[] b, int off, int len) throws ParseException {
+		int end = off + len;
+		int i = off;
+		while (i < end) {
+			if (skip > 0) {
+				int n = (int)Math.min(skip, end - i);
+				skip -= n;
+				i += n;
+			} else if (lengthBytes > 0) {
+				length = (length << 8) | (b[i++] & 0xFF);
+				if (--lengthBytes == 0)
+					length();
+			} else {
+				if (values == 0)
+					values = 1;
+				values--;
+				header(b[i++] & 0xFF);
+			}
+			if (values == 0 && skip == 0 && lengthBytes == 0)
+				return i - off;
+		}
+		return -1;
+	}
+
+	@Override /* PushParser */
+	protected boolean endOfInput() throws ParseException {
+		if (values > 0 || skip > 0 || lengthBytes > 0)
+			throw new ParseException(session, "Unexpected end of input.");
+		return false;
+	}
+
+	private void header(int c) throws ParseException {
+		if (c <= 0x7F || c >= 0xE0 || c == 0xC0 || c == 0xC2 || c == 0xC3)
+			return;                                            // fixint, nil, boolean
+		if (c <= 0x8F)
+			values += (c & 0x0F) * 2L;                         // fixmap
+		else if (c <= 0x9F)
+			values += c & 0x0F;                                // fixarray
+		else if (c <= 0xBF)
+			skip = c & 0x1F;                                   // fixstr
+		else if (c >= 0xC4 && c <= 0xC6)
+			length(1 << (c - 0xC4), PAYLOAD);                  // bin 8/16/32
+		else if (c >= 0xC7 && c <= 0xC9)
+			length(1 << (c - 0xC7), EXT);                      // ext 8/16/32
+		else if (c == 0xCA)
+			skip = 4;                                          // float 32
+		else if (c == 0xCB)
+			skip = 8;                                          // float 64
+		else if (c >= 0xCC && c <= 0xCF)
+			skip = 1 << (c - 0xCC);                            // uint 8/16/32/64
+		else if (c >= 0xD0 && c <= 0xD3)
+			skip = 1 << (c - 0xD0);                            // int 8/16/32/64
+		else if (c >= 0xD4 && c <= 0xD8)
+			skip = 1 + (1 << (c - 0xD4));                      // fixext 1/2/4/8/16
+		else if (c >= 0xD9 && c <= 0xDB)
+			length(1 << (c - 0xD9), PAYLOAD);                  // str 8/16/32
+		else if (c == 0xDC || c == 0xDD)
+			length(c == 0xDC ? 2 : 4, ARRAY);                  // array 16/32
+		else if (c == 0xDE || c == 0xDF)
+			length(c == 0xDE ? 2 : 4, MAP);                    // map 16/32
+		else
+			throw new ParseException(session, "Invalid flag 0xC1 encountered.");
+	}
+
+	private void length(int bytes, int kind) {
+		length = 0;
+		lengthBytes = bytes;
+		lengthKind = kind;
+	}
+
+	private void length() {
+		if (lengthKind == PAYLOAD)
+			skip = length;
+		else if (lengthKind == EXT)
+			skip = length + 1;
+		else if (lengthKind == ARRAY)
+			values += length;
+		else
+			values += length * 2;
+	}
+}
@@ -129,10 +129,20 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 				serializeMap(out, (Map)o, eType);
 		}
 		else if (sType.isCollection()) {
-			serializeCollection(out, (Collection) o, eType);
+			Class<?> nc = getDirectNumberClass(eType);
+			if (nc != null)
+				serializeNumberCollection(out, (Collection) o, nc, eType);
+			else
+				serializeCollection(out, (Collection) o, eType);
 		}
 		else if (sType.isArray()) {
-			serializeCollection(out, toList(sType.getInnerClass(), o), eType);
+			Class<?> nc = getDirectNumberClass(sType);
+			if (nc != null && nc.isPrimitive())
+				serializeNumberArray(out, o);
+			else if (nc != null)
+				serializeNumberCollection(out, Arrays.asList((Object[])o), nc, sType);
+			else
+				serializeCollection(out, toList(sType.getInnerClass(), o), eType);
 		}
 		else if (sType.isReader() || sType.isInputStream()) {
 			IOUtils.pipe(o, out);
@@ -235,6 +245,54 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 			serializeAnything(out, o, elementType, "<iterator>", null);
 	}
 
+	private void serializeNumberArray(MsgPackOutputStream out, Object array) throws IOException {
+		if (array instanceof int[]) {
+			int[] a = (int[])array;
+			out.startArray(a.length);
+			for (int i : a)
+				out.appendInt(i);
+		} else if (array instanceof long[]) {
+			long[] a = (long[])array;
+			out.startArray(a.length);
+			for (long l : a)
+				out.appendLong(l);
+		} else if (array instanceof double[]) {
+			double[] a = (double[])array;
+			out.startArray(a.length);
+			for (double d : a)
+				out.appendDouble(d);
+		} else if (array instanceof float[]) {
+			float[] a = (float[])array;
+			out.startArray(a.length);
+			for (float f : a)
+				out.appendFloat(f);
+		} else if (array instanceof short[]) {
+			short[] a = (short[])array;
+			out.startArray(a.length);
+			for (short s : a)
+				out.appendInt(s);
+		} else {
+			byte[] a = (byte[])array;
+			out.startArray(a.length);
+			for (byte b : a)
+				out.appendInt(b);
+		}
+	}
+
+	private void serializeNumberCollection(MsgPackOutputStream out, Collection<?> c, Class<?> numberClass, ClassMeta<?> type) throws IOException, SerializeException {
+		// The collection size may change as we're iterating over it, so grab a snapshot.
+		Object[] a = c.toArray();
+		out.startArray(a.length);
+		for (Object value : a) {
+			if (value == null)
+				out.appendNull();
+			else if (value.getClass() == numberClass)
+				out.appendNumber((Number)value);
+			else
+				serializeAnything(out, value, type.getElementType(), "<iterator>", null);
+		}
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
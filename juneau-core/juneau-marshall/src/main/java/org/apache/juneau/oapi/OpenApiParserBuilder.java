@@ -638,6 +638,12 @@ public class OpenApiParserBuilder extends UonParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - ReaderParserBuilder */
+	public OpenApiParserBuilder bufferSize(int value) {
+		super.bufferSize(value);
+		return this;
+	}
+
 	@Override /* GENERATED - ReaderParserBuilder */
 	public OpenApiParserBuilder fileCharset(Charset value) {
 		super.fileCharset(value);
@@ -15,6 +15,7 @@ package org.apache.juneau.parser;
 import java.io.*;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.stream.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
@@ -858,6 +859,61 @@ public abstract class Parser extends BeanContext {
 		return createSession().parseIntoCollection(input, c, elementType);
 	}
 
+	/**
+	 * Parses an array in the input one entry at a time.
+	 *
+	 * <p>
+	 * Shortcut for calling <c>createSession().parseIterator(input, elementType, args)</c>.
+	 *
+	 * @param <E> The entry type.
+	 * @param input The input.  See {@link #parse(Object, ClassMeta)} for supported input types.
+	 * @param elementType The entry type.
+	 * @param args The type arguments of the entry type if it's a collection or map.
+	 * @return A new iterator over the entries of the array.
+	 * @throws ParseException Malformed input encountered at the beginning of the array.
+	 * @throws UnsupportedOperationException If not implemented.
+	 * @see ParserSession#parseIterator(Object, Type, Type...)
+	 */
+	public final <E> ParserIterator<E> parseIterator(Object input, Type elementType, Type...args) throws ParseException {
+		return createSession().parseIterator(input, elementType, args);
+	}
+
+	/**
+	 * Same as {@link #parseIterator(Object, Type, Type...)} but returns the entries as a sequential stream.
+	 *
+	 * <p>
+	 * Shortcut for calling <c>createSession().parseStream(input, elementType, args)</c>.
+	 *
+	 * @param <E> The entry type.
+	 * @param input The input.  See {@link #parse(Object, ClassMeta)} for supported input types.
+	 * @param elementType The entry type.
+	 * @param args The type arguments of the entry type if it's a collection or map.
+	 * @return A new stream over the entries of the array.
+	 * @throws ParseException Malformed input encountered at the beginning of the array.
+	 * @throws UnsupportedOperationException If not implemented.
+	 * @see ParserSession#parseStream(Object, Type, Type...)
+	 */
+	public final <E> Stream<E> parseStream(Object input, Type elementType, Type...args) throws ParseException {
+		return createSession().parseStream(input, elementType, args);
+	}
+
+	/**
+	 * Creates a parser that's fed input in chunks as it arrives instead of reading it from a stream.
+	 *
+	 * <p>
+	 * Shortcut for calling <c>createSession().pushParser(type, args)</c>.
+	 *
+	 * @param <T> The type of values being parsed.
+	 * @param type The type of values being parsed.
+	 * @param args The type arguments of the type if it's a collection or map.
+	 * @return A new push parser.
+	 * @throws UnsupportedOperationException If not implemented.
+	 * @see ParserSession#pushParser(Type, Type...)
+	 */
+	public final <T> PushParser<T> pushParser(Type type, Type...args) {
+		return createSession().pushParser(type, args);
+	}
+
 	/**
 	 * Parses the specified array input with each entry in the object defined by the {@code argTypes}
 	 * argument.
@@ -312,6 +312,25 @@ public class ParserGroupBuilder extends BeanContextBuilder {
 		return set(PARSER_unbuffered);
 	}
 
+	/**
+	 * Configuration property:  Buffer size.
+	 *
+	 * <p>
+	 * The initial size in characters of the buffer used to read from <c>Readers</c>, <c>InputStreams</c>, and <c>Files</c>.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link ReaderParser#RPARSER_bufferSize}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default value is <c>1024</c>.
+	 * @return This object (for method chaining).
+	 */
+	public ParserGroupBuilder bufferSize(int value) {
+		return set(RPARSER_bufferSize, value);
+	}
+
 	/**
 	 * Configuration property:  File charset.
 	 *
@@ -47,6 +47,22 @@ public class ParserInputStream extends InputStream implements Positionable {
 		return i;
 	}
 
+	@Override /* InputStream */
+	public int read(byte[] b, int off, int len) throws IOException {
+		int i = is.read(b, off, len);
+		if (i > 0)
+			pos += i;
+		return i;
+	}
+
+	@Override /* InputStream */
+	public long skip(long n) throws IOException {
+		long i = is.skip(n);
+		if (i > 0)
+			pos += i;
+		return i;
+	}
+
 	@Override /* Positionable */
 	public Position getPosition() {
 		return new Position(pos);
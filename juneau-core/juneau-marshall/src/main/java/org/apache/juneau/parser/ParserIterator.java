@@ -0,0 +1,154 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+import java.io.*;
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * Iterates over the entries of an array in the input, parsing each entry only when it's requested.
+ *
+ * <p>
+ * Returned by {@link ParserSession#parseIterator(Object, java.lang.reflect.Type, java.lang.reflect.Type...)}.
+ * Allows arbitrarily large arrays to be processed in constant memory since only one entry exists at a time.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jk>try</jk> (ParserIterator&lt;MyBean&gt; i = JsonParser.<jsf>DEFAULT</jsf>.parseIterator(reader, MyBean.<jk>class</jk>)) {
+ * 		<jk>while</jk> (i.hasNext())
+ * 			<jsm>process</jsm>(i.next());
+ * 	}
+ * </p>
+ *
+ * <ul class='notes'>
+ * 	<li>
+ * 		The input is closed once the end of the array is reached, when an error occurs, or when {@link #close()} is
+ * 		called.
+ * 	<li>
+ * 		Since {@link Iterator} methods can't throw checked exceptions, {@link ParseException ParseExceptions} are
+ * 		wrapped in {@link UncheckedParseException UncheckedParseExceptions} and {@link IOException IOExceptions} in
+ * 		{@link UncheckedIOException UncheckedIOExceptions}.
+ * 	<li>
+ * 		This class is NOT thread safe.
+ * </ul>
+ *
+ * @param <E> The entry type.
+ */
+public abstract class ParserIterator<E> implements Iterator<E>, Closeable {
+
+	private static final int UNKNOWN = 0, READY = 1, DONE = 2;
+
+	private final ParserSession session;
+	private final ParserPipe pipe;
+	private int state = UNKNOWN;
+	private boolean closed;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param session The session doing the parsing.
+	 * @param pipe The parser input.  Closed when iteration is finished.
+	 */
+	protected ParserIterator(ParserSession session, ParserPipe pipe) {
+		this.session = session;
+		this.pipe = pipe;
+	}
+
+	/**
+	 * Moves past any whitespace and separators to the start of the next entry.
+	 *
+	 * @return <jk>false</jk> if the end of the array was reached instead.
+	 * @throws Exception Malformed input encountered or thrown by the underlying stream.
+	 */
+	protected abstract boolean advance() throws Exception;
+
+	/**
+	 * Parses the entry at the current position.
+	 *
+	 * <p>
+	 * Only called after {@link #advance()} has returned <jk>true</jk>.
+	 *
+	 * @return The parsed entry.
+	 * @throws Exception Malformed input encountered or thrown by the underlying stream.
+	 */
+	protected abstract E parseEntry() throws Exception;
+
+	@Override /* Iterator */
+	public boolean hasNext() {
+		if (state == UNKNOWN) {
+			try {
+				state = advance() ? READY : DONE;
+			} catch (Exception e) {
+				throw toRuntimeException(e);
+			} catch (StackOverflowError e) {
+				throw toRuntimeException(new ParseException(session, "Depth too deep.  Stack overflow occurred."));
+			}
+			if (state == DONE)
+				close();
+		}
+		return state == READY;
+	}
+
+	@Override /* Iterator */
+	public E next() {
+		if (! hasNext())
+			throw new NoSuchElementException();
+		state = UNKNOWN;
+		try {
+			return parseEntry();
+		} catch (Exception e) {
+			throw toRuntimeException(e);
+		} catch (StackOverflowError e) {
+			throw toRuntimeException(new ParseException(session, "Depth too deep.  Stack overflow occurred."));
+		}
+	}
+
+	/**
+	 * Returns a sequential stream over the remaining entries.
+	 *
+	 * <p>
+	 * Closing the stream closes this iterator.
+	 *
+	 * @return A new stream.
+	 */
+	public Stream<E> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false).onClose(this::close);
+	}
+
+	/**
+	 * Closes the input.
+	 *
+	 * <p>
+	 * Can be called any number of times.
+	 */
+	@Override /* Closeable */
+	public void close() {
+		state = DONE;
+		if (! closed) {
+			closed = true;
+			pipe.close();
+			session.checkForWarnings();
+		}
+	}
+
+	private RuntimeException toRuntimeException(Exception e) {
+		if (! (e instanceof ParseException || e instanceof IOException))
+			e = new ParseException(session, e, "Exception occurred.  exception={0}, message={1}.",
+				e.getClass().getSimpleName(), e.getLocalizedMessage());
+		close();
+		if (e instanceof IOException)
+			return new UncheckedIOException((IOException)e);
+		return new UncheckedParseException((ParseException)e);
+	}
+}
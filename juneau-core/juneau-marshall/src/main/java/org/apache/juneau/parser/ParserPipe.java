@@ -51,8 +51,11 @@ import org.apache.juneau.internal.*;
  */
 public final class ParserPipe implements Closeable {
 
+	static final int DEFAULT_BUFFER_SIZE = 1024, MIN_BUFFER_SIZE = 20;
+
 	private final Object input;
 	final boolean debug, strict, autoCloseStreams, unbuffered;
+	private final int bufferSize;
 	private final Charset charset;
 
 	private String inputString;
@@ -87,12 +90,44 @@ public final class ParserPipe implements Closeable {
 	 * 	The charset to expect when reading from {@link InputStream InputStreams}.
 	 */
 	public ParserPipe(Object input, boolean debug, boolean strict, boolean autoCloseStreams, boolean unbuffered, Charset streamCharset, Charset fileCharset) {
+		this(input, debug, strict, autoCloseStreams, unbuffered, DEFAULT_BUFFER_SIZE, streamCharset, fileCharset);
+	}
+
+	/**
+	 * Constructor for reader-based parsers with a specific read buffer size.
+	 *
+	 * @param input The parser input object.
+	 * @param debug
+	 * 	If <jk>true</jk>, the input contents will be copied locally and accessible via the {@link #getInputAsString()}
+	 * 	method.
+	 * 	This allows the contents of the pipe to be accessed when a problem occurs.
+	 * @param strict
+	 * 	If <jk>true</jk>, sets {@link CodingErrorAction#REPORT} on {@link CharsetDecoder#onMalformedInput(CodingErrorAction)}
+	 * 	and {@link CharsetDecoder#onUnmappableCharacter(CodingErrorAction)}.
+	 * 	Otherwise, sets them to {@link CodingErrorAction#REPLACE}.
+	 * @param autoCloseStreams
+	 * 	Automatically close {@link InputStream InputStreams} and {@link Reader Readers} when passed in as input.
+	 * @param unbuffered
+	 * 	If <jk>true</jk>, we read one character at a time from underlying readers when the readers are expected to be parsed
+	 * 	multiple times.
+	 * 	<br>Otherwise, we read character data into a reusable buffer.
+	 * @param bufferSize
+	 * 	The initial size in characters of the buffer used by {@link ParserReader} to read from non-string input.
+	 * 	<br>Values less than <c>20</c> are rounded up to <c>20</c>.
+	 * 	<br>Zero or negative values use the default of <c>1024</c>.
+	 * @param fileCharset
+	 * 	The charset to expect when reading from {@link File Files}.
+	 * @param streamCharset
+	 * 	The charset to expect when reading from {@link InputStream InputStreams}.
+	 */
+	public ParserPipe(Object input, boolean debug, boolean strict, boolean autoCloseStreams, boolean unbuffered, int bufferSize, Charset streamCharset, Charset fileCharset) {
 		boolean isFile = input instanceof File;
 		this.input = input;
 		this.debug = debug;
 		this.strict = strict;
 		this.autoCloseStreams = autoCloseStreams;
 		this.unbuffered = unbuffered;
+		this.bufferSize = bufferSize <= 0 ? DEFAULT_BUFFER_SIZE : Math.max(bufferSize, MIN_BUFFER_SIZE);
 		Charset cs = isFile ? fileCharset : streamCharset;
 		if (cs == null)
 			cs = (isFile ? Charset.defaultCharset() : UTF8);
@@ -124,6 +159,7 @@ public final class ParserPipe implements Closeable {
 		this.strict = false;
 		this.autoCloseStreams = autoCloseStreams;
 		this.unbuffered = unbuffered;
+		this.bufferSize = DEFAULT_BUFFER_SIZE;
 		this.charset = null;
 		if (input instanceof CharSequence)
 			this.inputString = input.toString();
@@ -318,6 +354,15 @@ public final class ParserPipe implements Closeable {
 		return parserReader;
 	}
 
+	/**
+	 * Returns the initial size in characters of the buffer used to read from non-string input.
+	 *
+	 * @return The buffer size.
+	 */
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
 	/**
 	 * Returns <jk>true</jk> if the contents passed into this pipe was a {@link CharSequence}.
 	 *
@@ -351,6 +396,10 @@ public final class ParserPipe implements Closeable {
 	@Override /* Closeable */
 	public void close() {
 		try {
+			// Readers constructed from this pipe register themselves as the positionable.
+			// Readers passed in as input do not, so they can continue to be used after this pipe is closed.
+			if (positionable instanceof ParserReader && positionable != input)
+				((ParserReader)positionable).release();
 			if (doClose)
 				IOUtils.close(reader, inputStream);
 		} catch (IOException e) {
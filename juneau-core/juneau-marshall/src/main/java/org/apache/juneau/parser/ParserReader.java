@@ -31,10 +31,15 @@ import org.apache.juneau.internal.*;
  */
 public class ParserReader extends Reader implements Positionable {
 
+	// Largest buffer that's kept around for reuse by the next reader created on the same thread.
+	private static final int MAX_POOLED_BUFFER_SIZE = 0x10000;
+	private static final ThreadLocal<char[]> BUFFER_POOL = new ThreadLocal<>();
+
 	/** Wrapped reader */
 	protected final Reader r;
 
 	private char[] buff;       // Internal character buffer
+	private String src;        // Input string when reading directly from it instead of from the buffer
 	private int line = 1;      // Current line number
 	private int column;        // Current column number
 	private int iCurrent = 0;  // Current pointer into character buffer
@@ -42,6 +47,7 @@ public class ParserReader extends Reader implements Positionable {
 	private int iEnd = 0;      // The last good character position in the buffer
 	private boolean endReached, holesExist;
 	private final boolean unbuffered;
+	private final int bufferSize;
 
 	/**
 	 * Constructor.
@@ -51,21 +57,64 @@ public class ParserReader extends Reader implements Positionable {
 	 */
 	public ParserReader(ParserPipe pipe) throws IOException {
 		this.unbuffered = pipe.unbuffered;
+		this.bufferSize = pipe.getBufferSize();
 		if (pipe.isString()) {
 			String in = pipe.getInputAsString();
 			this.r = new CharSequenceReader(in);
-			this.buff = new char[in.length() < 1024 ? in.length() : 1024];
+			if (getClass() == ParserReader.class) {
+				// The input is already in memory, so read the characters directly from the string.
+				// Subclasses that filter the input through read(char[],int,int) can't do this.
+				this.src = in;
+				this.iEnd = in.length();
+				this.endReached = true;
+			} else {
+				this.buff = allocate(in.length() < bufferSize ? in.length() : bufferSize);
+			}
 		} else {
 			Reader _r = pipe.getReader();
 			if (_r instanceof ParserReader)
 				this.r = ((ParserReader)_r).r;
 			else
 				this.r = _r;
-			this.buff = new char[1024];
+			this.buff = allocate(bufferSize);
 		}
 		pipe.setPositionable(this);
 	}
 
+	/*
+	 * Returns a buffer of at least the specified size, reusing the last released buffer on this thread if it's large
+	 * enough.
+	 */
+	private static char[] allocate(int size) {
+		char[] b = BUFFER_POOL.get();
+		if (b != null && b.length >= size) {
+			BUFFER_POOL.set(null);
+			return b;
+		}
+		return new char[size];
+	}
+
+	/**
+	 * Makes the internal buffer of this reader available for reuse by the next reader created on the current thread.
+	 *
+	 * <p>
+	 * Called by {@link ParserPipe#close()} on readers that it created.
+	 * This reader must not be read from afterwards.
+	 */
+	final void release() {
+		char[] b = buff;
+		buff = null;
+		src = null;
+		iCurrent = iEnd = 0;
+		iMark = -1;
+		endReached = true;
+		if (b != null && b.length <= MAX_POOLED_BUFFER_SIZE) {
+			char[] b2 = BUFFER_POOL.get();
+			if (b2 == null || b2.length < b.length)
+				BUFFER_POOL.set(b);
+		}
+	}
+
 	/**
 	 * Reads a single character.
 	 *
@@ -79,7 +128,14 @@ public class ParserReader extends Reader implements Positionable {
 	 */
 	@Override /* Reader */
 	public final int read() throws IOException {
-		int c = readFromBuff();
+		// Buffered fast path is inlined here to keep this method shallow for callers that wrap it.
+		int c;
+		if (src != null)
+			c = iCurrent < iEnd ? src.charAt(iCurrent++) : -1;
+		else if (iCurrent < iEnd)
+			c = buff[iCurrent++];
+		else
+			c = readFromBuff();
 		if (c == -1)
 			return -1;
 		if (c == '\n') {
@@ -125,6 +181,8 @@ public class ParserReader extends Reader implements Positionable {
 	}
 
 	private final int readFromBuff() throws IOException {
+		if (src != null)
+			return iCurrent < iEnd ? src.charAt(iCurrent++) : -1;
 		while (iCurrent >= iEnd) {
 			if (endReached)
 				return -1;
@@ -189,6 +247,26 @@ public class ParserReader extends Reader implements Positionable {
 		return buff[iCurrent++];
 	}
 
+	/*
+	 * Switches from reading the input string directly to reading it through the buffer so that characters can be
+	 * modified in place by delete() and replace().
+	 * Only the marked characters (or the last few characters so that unread() still works) are copied.
+	 */
+	private void detach() {
+		int start = Math.max(iCurrent - 10, 0);
+		if (iMark >= 0 && iMark < start)
+			start = iMark;
+		int len = iCurrent - start;
+		buff = allocate(Math.max(len << 1, bufferSize));
+		src.getChars(start, iCurrent, buff, 0);
+		((CharSequenceReader)r).skip(iCurrent);
+		src = null;
+		endReached = false;
+		iCurrent = iEnd = len;
+		if (iMark >= 0)
+			iMark -= start;
+	}
+
 	/**
 	 * Start buffering the calls to read() so that the text can be gathered from the mark point on calling {@code getFromMarked()}.
 	 */
@@ -240,6 +318,15 @@ public class ParserReader extends Reader implements Positionable {
 	 * @throws IOException If a problem occurred trying to read from the reader.
 	 */
 	public final String read(int num) throws IOException {
+
+		// If the characters are already in memory, create the string directly from them.
+		if (iEnd - iCurrent >= num) {
+			int start = iCurrent;
+			for (int i = 0; i < num; i++)
+				read();
+			return src != null ? src.substring(start, start + num) : new String(buff, start, num);
+		}
+
 		char[] c = new char[num];
 		for (int i = 0; i < num; i++) {
 			int c2 = read();
@@ -317,11 +404,46 @@ public class ParserReader extends Reader implements Positionable {
 			holesExist = false;
 		}
 		int start = iMark + offsetStart, len = iCurrent - iMark + offsetEnd - offsetStart - offset;
-		String s = new String(buff, start, len);
+		String s = src != null ? src.substring(start, start + len) : new String(buff, start, len);
 		iMark = -1;
 		return s;
 	}
 
+	/**
+	 * Interprets the contents of the marking buffer as a plain decimal integer without creating a string.
+	 *
+	 * <p>
+	 * Only succeeds if the marked characters consist of an optional <js>'-'</js> followed by 1 to 18 decimal digits
+	 * with no leading zeros, in which case the buffer is reset the same as {@link #getMarked()}.
+	 * Otherwise the buffer is left untouched so that the caller can fall back to {@link #getMarked()}.
+	 *
+	 * @return The parsed value, or {@link Long#MIN_VALUE} if the marked characters are not a plain decimal integer.
+	 */
+	public final long getMarkedAsLong() {
+		if (holesExist || iMark < 0)
+			return Long.MIN_VALUE;
+		int i = iMark;
+		boolean negative = i < iCurrent && charAt(i) == '-';
+		if (negative)
+			i++;
+		int len = iCurrent - i;
+		if (len == 0 || len > 18 || (len > 1 && charAt(i) == '0'))
+			return Long.MIN_VALUE;
+		long l = 0;
+		for (; i < iCurrent; i++) {
+			char c = charAt(i);
+			if (c < '0' || c > '9')
+				return Long.MIN_VALUE;
+			l = l * 10 + (c - '0');
+		}
+		iMark = -1;
+		return negative ? -l : l;
+	}
+
+	private char charAt(int i) {
+		return src != null ? src.charAt(i) : buff[i];
+	}
+
 	/**
 	 * Trims off the last character in the marking buffer.
 	 *
@@ -342,6 +464,8 @@ public class ParserReader extends Reader implements Positionable {
 	 * @return This object (for method chaining).
 	 */
 	public final ParserReader delete(int count) {
+		if (src != null)
+			detach();
 		for (int i = 0; i < count; i++)
 			buff[iCurrent-i-1] = 127;
 		holesExist = true;
@@ -361,6 +485,8 @@ public class ParserReader extends Reader implements Positionable {
 	 * @throws IOException Thrown by underlying stream.
 	 */
 	public final ParserReader replace(int c, int offset) throws IOException {
+		if (src != null)
+			detach();
 		if (c < 0x10000) {
 			if (offset < 1)
 				throw new IOException("Buffer underflow.");
@@ -18,6 +18,7 @@ import static org.apache.juneau.parser.Parser.*;
 import java.io.*;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.stream.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
@@ -334,6 +335,25 @@ public abstract class ParserSession extends BeanSession {
 			listener.onUnknownBeanProperty(this, propertyName, beanMap.getClassMeta().getInnerClass(), beanMap.getBean());
 	}
 
+	/**
+	 * Returns <jk>true</jk> if values of unknown bean properties can be skipped over without being parsed.
+	 *
+	 * <p>
+	 * This is the case when {@link BeanContext#BEAN_ignoreUnknownBeanProperties} is enabled since the value is then
+	 * discarded by {@link #onUnknownProperty(String, BeanMap, Object)}.
+	 * <br>Listeners don't prevent skipping since {@link ParserListener#onUnknownBeanProperty(ParserSession, String, Class, Object)}
+	 * isn't passed the value.
+	 *
+	 * <p>
+	 * Subclasses should skip the value structurally (e.g. by matching brackets and quotes) and then call
+	 * {@link #onUnknownProperty(String, BeanMap, Object)} with a <jk>null</jk> value.
+	 *
+	 * @return <jk>true</jk> if values of unknown bean properties can be skipped over without being parsed.
+	 */
+	protected final boolean isSkipUnknownValues() {
+		return isIgnoreUnknownBeanProperties();
+	}
+
 	/**
 	 * Parses input into the specified object type.
 	 *
@@ -724,6 +744,149 @@ public abstract class ParserSession extends BeanSession {
 		throw new UnsupportedOperationException("Parser '"+getClass().getName()+"' does not support this method.");
 	}
 
+	/**
+	 * Parses an array in the input one entry at a time.
+	 *
+	 * <p>
+	 * Unlike {@link #parse(Object, Type, Type...)}, the entries are not collected, and each entry is only parsed
+	 * when it's requested from the iterator.
+	 * This allows arbitrarily large arrays to be processed in constant memory while they're still being read.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jk>try</jk> (ParserIterator&lt;MyBean&gt; i = session.parseIterator(reader, MyBean.<jk>class</jk>)) {
+	 * 		<jk>while</jk> (i.hasNext())
+	 * 			<jsm>process</jsm>(i.next());
+	 * 	}
+	 * </p>
+	 *
+	 * <p>
+	 * The iterator must be closed if it's not read to the end in order to close the input.
+	 *
+	 * @param <E> The entry type.
+	 * @param input The input.  See {@link #parse(Object, ClassMeta)} for supported input types.
+	 * @param elementType
+	 * 	The entry type.
+	 * 	<br>Can be any of the following: {@link ClassMeta}, {@link Class}, {@link ParameterizedType}, {@link GenericArrayType}
+	 * @param args
+	 * 	The type arguments of the entry type if it's a collection or map.
+	 * 	<br>Can be any of the following: {@link ClassMeta}, {@link Class}, {@link ParameterizedType}, {@link GenericArrayType}
+	 * @return A new iterator over the entries of the array.
+	 * @throws ParseException Malformed input encountered at the beginning of the array.
+	 * @throws UnsupportedOperationException If not implemented.
+	 */
+	public final <E> ParserIterator<E> parseIterator(Object input, Type elementType, Type...args) throws ParseException {
+		ParserPipe pipe = createPipe(input);
+		try {
+			ClassMeta<E> cm = getClassMeta(elementType, args);
+			if (input == null)
+				return new ParserIterator<E>(this, pipe) {
+					@Override /* ParserIterator */
+					protected boolean advance() {
+						return false;
+					}
+					@Override /* ParserIterator */
+					protected E parseEntry() {
+						return null;
+					}
+				};
+			return doParseIterator(pipe, cm);
+		} catch (ParseException | UnsupportedOperationException e) {
+			pipe.close();
+			throw e;
+		} catch (IOException e) {
+			pipe.close();
+			throw new ParseException(this, e, "I/O exception occurred.  exception={0}, message={1}.",
+				e.getClass().getSimpleName(), e.getLocalizedMessage());
+		} catch (Exception e) {
+			pipe.close();
+			throw new ParseException(this, e, "Exception occurred.  exception={0}, message={1}.",
+				e.getClass().getSimpleName(), e.getLocalizedMessage());
+		}
+	}
+
+	/**
+	 * Same as {@link #parseIterator(Object, Type, Type...)} but returns the entries as a sequential stream.
+	 *
+	 * <p>
+	 * The stream should be closed (e.g. by using it in a <jk>try</jk>-with-resources block) if it's not consumed to
+	 * the end in order to close the input.
+	 *
+	 * @param <E> The entry type.
+	 * @param input The input.  See {@link #parse(Object, ClassMeta)} for supported input types.
+	 * @param elementType
+	 * 	The entry type.
+	 * 	<br>Can be any of the following: {@link ClassMeta}, {@link Class}, {@link ParameterizedType}, {@link GenericArrayType}
+	 * @param args
+	 * 	The type arguments of the entry type if it's a collection or map.
+	 * 	<br>Can be any of the following: {@link ClassMeta}, {@link Class}, {@link ParameterizedType}, {@link GenericArrayType}
+	 * @return A new stream over the entries of the array.
+	 * @throws ParseException Malformed input encountered at the beginning of the array.
+	 * @throws UnsupportedOperationException If not implemented.
+	 */
+	public final <E> Stream<E> parseStream(Object input, Type elementType, Type...args) throws ParseException {
+		return this.<E>parseIterator(input, elementType, args).stream();
+	}
+
+	/**
+	 * Implementation method.
+	 *
+	 * <p>
+	 * Implementations should read up to the beginning of the array and return an iterator that parses the entries.
+	 *
+	 * <p>
+	 * Default implementation throws an {@link UnsupportedOperationException}.
+	 *
+	 * @param pipe The parser input.
+	 * @param elementType The entry type.
+	 * @return A new iterator over the entries of the array.
+	 * @throws Exception If thrown from underlying stream, or if the input contains a syntax error or is malformed.
+	 */
+	protected <E> ParserIterator<E> doParseIterator(ParserPipe pipe, ClassMeta<E> elementType) throws Exception {
+		throw new UnsupportedOperationException("Parser '"+getClass().getName()+"' does not support this method.");
+	}
+
+	/**
+	 * Creates a parser that's fed input in chunks as it arrives instead of reading it from a stream.
+	 *
+	 * <p>
+	 * Allows input to be parsed on non-blocking I/O threads without blocking and without buffering the entire input.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	PushParser&lt;MyBean&gt; p = session.pushParser(MyBean.<jk>class</jk>);
+	 * 	p.feed(byteBuffer);
+	 * 	<jk>while</jk> (p.hasNext())
+	 * 		<jsm>process</jsm>(p.next());
+	 * </p>
+	 *
+	 * @param <T> The type of values being parsed.
+	 * @param type
+	 * 	The type of values being parsed.
+	 * 	<br>Can be any of the following: {@link ClassMeta}, {@link Class}, {@link ParameterizedType}, {@link GenericArrayType}
+	 * @param args
+	 * 	The type arguments of the type if it's a collection or map.
+	 * 	<br>Can be any of the following: {@link ClassMeta}, {@link Class}, {@link ParameterizedType}, {@link GenericArrayType}
+	 * @return A new push parser.
+	 * @throws UnsupportedOperationException If not implemented.
+	 */
+	public final <T> PushParser<T> pushParser(Type type, Type...args) {
+		return doPushParser(this.<T>getClassMeta(type, args));
+	}
+
+	/**
+	 * Implementation method.
+	 *
+	 * <p>
+	 * Default implementation throws an {@link UnsupportedOperationException}.
+	 *
+	 * @param type The type of values being parsed.
+	 * @return A new push parser.
+	 */
+	protected <T> PushParser<T> doPushParser(ClassMeta<T> type) {
+		throw new UnsupportedOperationException("Parser '"+getClass().getName()+"' does not support this method.");
+	}
+
 	/**
 	 * Parses the specified array input with each entry in the object defined by the {@code argTypes}
 	 * argument.
@@ -0,0 +1,250 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+
+/**
+ * Parses input that's pushed to it in chunks as it arrives instead of pulling it from a stream.
+ *
+ * <p>
+ * Returned by {@link ParserSession#pushParser(java.lang.reflect.Type, java.lang.reflect.Type...)}.
+ * Intended for non-blocking I/O (e.g. servlet <c>ReadListener</c> callbacks or asynchronous HTTP clients) where a
+ * thread can't wait on an {@link InputStream}.
+ *
+ * <p>
+ * Each chunk is scanned as it's fed, keeping just enough state between chunks to find where the current top-level
+ * value ends.
+ * <br>When a value is complete, it's parsed into the requested type and made available through {@link #next()}.
+ * <br>Multiple top-level values (e.g. newline-delimited JSON) are made available one at a time.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	PushParser&lt;MyBean&gt; p = JsonParser.<jsf>DEFAULT</jsf>.pushParser(MyBean.<jk>class</jk>);
+ *
+ * 	<jc>// Called on the I/O thread whenever data arrives.</jc>
+ * 	p.feed(byteBuffer);
+ * 	<jk>while</jk> (p.hasNext())
+ * 		<jsm>process</jsm>(p.next());
+ *
+ * 	<jc>// Called when there's no more input.</jc>
+ * 	p.end();
+ * 	<jk>while</jk> (p.hasNext())
+ * 		<jsm>process</jsm>(p.next());
+ * </p>
+ *
+ * <ul class='notes'>
+ * 	<li>
+ * 		The bytes of a value are retained until the value is complete, so memory use is bounded by the size of the
+ * 		largest top-level value, not by the size of the input.
+ * 		<br>Values contained entirely within a single chunk are parsed directly from the chunk without being copied.
+ * 	<li>
+ * 		Text input must be in an ASCII-compatible encoding such as UTF-8.
+ * 	<li>
+ * 		Once a {@link ParseException} has been thrown, no more input can be fed.
+ * 	<li>
+ * 		This class is NOT thread safe.
+ * </ul>
+ *
+ * @param <T> The type of values being parsed.
+ */
+public abstract class PushParser<T> {
+
+	private final ParserSession session;
+	private final ClassMeta<T> type;
+	private final LinkedList<T> values = new LinkedList<>();
+	private byte[] buff, chunk;
+	private int len;
+	private boolean ended;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param session The session that parses completed values.
+	 * @param type The type of values being parsed.
+	 */
+	protected PushParser(ParserSession session, ClassMeta<T> type) {
+		this.session = session;
+		this.type = type;
+	}
+
+	/**
+	 * Scans the next chunk of input looking for the end of the current top-level value.
+	 *
+	 * <p>
+	 * Implementations must keep whatever state they need to resume scanning in the next chunk, and reset it once the
+	 * end of a value has been found.
+	 *
+	 * @param b The input.
+	 * @param off The start position of the chunk in the input.
+	 * @param len The length of the chunk.
+	 * @return
+	 * 	The number of bytes at the start of the chunk that complete the current value, or <c>-1</c> if the value
+	 * 	doesn't end in this chunk.
+	 * @throws ParseException Malformed input encountered.
+	 */
+	protected abstract int scan(byte[] b, int off, int len) throws ParseException;
+
+	/**
+	 * Called when the end of input has been reached.
+	 *
+	 * @return
+	 * 	<jk>true</jk> if the input scanned since the last complete value contains a value that's terminated by the end
+	 * 	of input (e.g. a top-level JSON number).
+	 * 	<br><jk>false</jk> if it doesn't contain a value (e.g. it's only whitespace).
+	 * @throws ParseException If the input ends in the middle of a value.
+	 */
+	protected abstract boolean endOfInput() throws ParseException;
+
+	/**
+	 * Feeds the remaining bytes in the specified buffer to this parser.
+	 *
+	 * <p>
+	 * The buffer position is moved to its limit.
+	 *
+	 * @param b The next chunk of input.
+	 * @return This object (for method chaining).
+	 * @throws ParseException Malformed input encountered.
+	 */
+	public final PushParser<T> feed(ByteBuffer b) throws ParseException {
+		if (b.hasArray()) {
+			feed(b.array(), b.arrayOffset() + b.position(), b.remaining());
+			b.position(b.limit());
+		} else {
+			if (chunk == null)
+				chunk = new byte[8192];
+			while (b.hasRemaining()) {
+				int n = Math.min(b.remaining(), chunk.length);
+				b.get(chunk, 0, n);
+				feed(chunk, 0, n);
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Feeds the specified bytes to this parser.
+	 *
+	 * <p>
+	 * The array is not retained, so it can be reused by the caller after this method returns.
+	 *
+	 * @param b The input.
+	 * @param off The start position of the chunk in the input.
+	 * @param len The length of the chunk.
+	 * @return This object (for method chaining).
+	 * @throws ParseException Malformed input encountered.
+	 */
+	public final PushParser<T> feed(byte[] b, int off, int len) throws ParseException {
+		if (ended)
+			throw new IllegalStateException("No more input can be fed to this parser.");
+		try {
+			while (len > 0) {
+				int n = scan(b, off, len);
+				if (n == -1) {
+					append(b, off, len);
+					break;
+				}
+				if (this.len == 0) {
+					add(b, off, n);
+				} else {
+					append(b, off, n);
+					add(buff, 0, this.len);
+				}
+				off += n;
+				len -= n;
+			}
+		} catch (ParseException | RuntimeException e) {
+			ended = true;
+			throw e;
+		}
+		return this;
+	}
+
+	/**
+	 * Same as {@link #feed(byte[], int, int)} but feeds the whole array.
+	 *
+	 * @param b The input.
+	 * @return This object (for method chaining).
+	 * @throws ParseException Malformed input encountered.
+	 */
+	public final PushParser<T> feed(byte[] b) throws ParseException {
+		return feed(b, 0, b.length);
+	}
+
+	/**
+	 * Signals that there's no more input.
+	 *
+	 * <p>
+	 * Can be called any number of times.
+	 *
+	 * @throws ParseException If the input ended in the middle of a value.
+	 */
+	public final void end() throws ParseException {
+		if (ended)
+			return;
+		ended = true;
+		if (endOfInput())
+			add(buff, 0, len);
+		len = 0;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if there are completed values that haven't been retrieved by {@link #next()} yet.
+	 *
+	 * @return <jk>true</jk> if there are completed values that haven't been retrieved yet.
+	 */
+	public final boolean hasNext() {
+		return ! values.isEmpty();
+	}
+
+	/**
+	 * Returns the next completed value.
+	 *
+	 * @return The next completed value.  Can be <jk>null</jk> if the input contained a null value.
+	 * @throws NoSuchElementException If there are no completed values available.
+	 */
+	public final T next() {
+		return values.removeFirst();
+	}
+
+	/**
+	 * Returns <jk>true</jk> if {@link #end()} has been called or an error has occurred.
+	 *
+	 * @return <jk>true</jk> if {@link #end()} has been called or an error has occurred.
+	 */
+	public final boolean isEnded() {
+		return ended;
+	}
+
+	private void append(byte[] b, int off, int n) {
+		if (buff == null)
+			buff = new byte[Math.max(n, 1024)];
+		else if (len + n > buff.length)
+			buff = Arrays.copyOf(buff, Math.max(len + n, buff.length << 1));
+		System.arraycopy(b, off, buff, len, n);
+		len += n;
+	}
+
+	private void add(byte[] b, int off, int n) throws ParseException {
+		len = 0;
+		try {
+			values.add(session.parse(new ByteArrayInputStream(b, off, n), type));
+		} catch (IOException e) {
+			throw new ParseException(e);  // Shouldn't happen.
+		}
+	}
+}
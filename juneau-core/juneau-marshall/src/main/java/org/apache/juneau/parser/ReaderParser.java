@@ -39,6 +39,56 @@ public abstract class ReaderParser extends Parser {
 
 	static final String PREFIX = "ReaderParser";
 
+	/**
+	 * Configuration property:  Buffer size.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.parser.ReaderParser#RPARSER_bufferSize RPARSER_bufferSize}
+	 * 	<li><b>Name:</b>  <js>"ReaderParser.bufferSize.i"</js>
+	 * 	<li><b>Data type:</b>  <jk>int</jk>
+	 * 	<li><b>System property:</b>  <c>ReaderParser.bufferSize</c>
+	 * 	<li><b>Environment variable:</b>  <c>READERPARSER_BUFFERSIZE</c>
+	 * 	<li><b>Default:</b>  <c>1024</c>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link org.apache.juneau.parser.annotation.ParserConfig#bufferSize()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.parser.ReaderParserBuilder#bufferSize(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 *
+	 * <p>
+	 * The initial size in characters of the buffer used to read from <c>Readers</c>, <c>InputStreams</c>, and <c>Files</c>.
+	 *
+	 * <p>
+	 * The buffer grows as needed to hold long tokens, so a larger value mainly reduces the number of reads and buffer
+	 * shifts when parsing large inputs.
+	 * <br>String inputs are not affected since they're read directly.
+	 * <br>Values less than <c>20</c> are rounded up to <c>20</c>.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a parser that reads input in 64k chunks.</jc>
+	 * 	ReaderParser p = JsonParser
+	 * 		.<jsm>create</jsm>()
+	 * 		.bufferSize(65536)
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	ReaderParser p = JsonParser
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>RPARSER_bufferSize</jsf>, 65536)
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String RPARSER_bufferSize = PREFIX + ".bufferSize.i";
+
 	/**
 	 * Configuration property:  File charset.
 	 *
@@ -154,6 +204,7 @@ public abstract class ReaderParser extends Parser {
 	//-------------------------------------------------------------------------------------------------------------------
 
 	private final Charset streamCharset, fileCharset;
+	private final int bufferSize;
 
 	/**
 	 * Constructor.
@@ -166,6 +217,7 @@ public abstract class ReaderParser extends Parser {
 
 		streamCharset = getProperty(RPARSER_streamCharset, Charset.class, IOUtils.UTF8);
 		fileCharset = getProperty(RPARSER_fileCharset, Charset.class, Charset.defaultCharset());
+		bufferSize = getIntegerProperty(RPARSER_bufferSize, ParserPipe.DEFAULT_BUFFER_SIZE);
 	}
 
 	@Override /* Parser */
@@ -177,6 +229,17 @@ public abstract class ReaderParser extends Parser {
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
 
+	/**
+	 * Buffer size.
+	 *
+	 * @see #RPARSER_bufferSize
+	 * @return
+	 * 	The initial size in characters of the buffer used to read from <c>Readers</c>, <c>InputStreams</c>, and <c>Files</c>.
+	 */
+	protected final int getBufferSize() {
+		return bufferSize;
+	}
+
 	/**
 	 * File charset.
 	 *
@@ -207,6 +270,7 @@ public abstract class ReaderParser extends Parser {
 	public OMap toMap() {
 		return super.toMap()
 			.a("ReaderParser", new DefaultFilteringOMap()
+				.a("bufferSize", bufferSize)
 				.a("fileCharset", fileCharset)
 				.a("streamCharset", streamCharset)
 			);
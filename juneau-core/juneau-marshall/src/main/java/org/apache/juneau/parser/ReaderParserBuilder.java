@@ -50,6 +50,38 @@ public abstract class ReaderParserBuilder extends ParserBuilder {
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
 
+	/**
+	 * <i><l>ReaderParser</l> configuration property:&emsp;</i>  Buffer size.
+	 *
+	 * <p>
+	 * The initial size in characters of the buffer used to read from <c>Readers</c>, <c>InputStreams</c>, and <c>Files</c>.
+	 *
+	 * <p>
+	 * String inputs are not affected since they're read directly.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a parser that reads input in 64k chunks.</jc>
+	 * 	ReaderParser p = JsonParser
+	 * 		.<jsm>create</jsm>()
+	 * 		.bufferSize(65536)
+	 * 		.build();
+	 * </p>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link ReaderParser#RPARSER_bufferSize}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default value is <c>1024</c>.
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public ReaderParserBuilder bufferSize(int value) {
+		return set(RPARSER_bufferSize, value);
+	}
+
 	/**
 	 * <i><l>ReaderParser</l> configuration property:&emsp;</i>  File charset.
 	 *
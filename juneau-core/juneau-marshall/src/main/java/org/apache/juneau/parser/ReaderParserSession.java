@@ -31,6 +31,7 @@ public abstract class ReaderParserSession extends ParserSession {
 
 	private final ReaderParser ctx;
 	private final Charset fileCharset, streamCharset;
+	private final int bufferSize;
 
 	/**
 	 * Create a new session using properties specified in the context.
@@ -46,6 +47,7 @@ public abstract class ReaderParserSession extends ParserSession {
 		this.ctx = ctx;
 		this.fileCharset = getProperty(RPARSER_fileCharset, Charset.class, ctx.getFileCharset());
 		this.streamCharset = getProperty(RPARSER_streamCharset, Charset.class, ctx.getStreamCharset());
+		this.bufferSize = getProperty(RPARSER_bufferSize, Integer.class, ctx.getBufferSize());
 	}
 
 	/**
@@ -88,13 +90,22 @@ public abstract class ReaderParserSession extends ParserSession {
 	@SuppressWarnings("resource")
 	@Override /* ParserSesson */
 	public final ParserPipe createPipe(Object input) {
-		return setPipe(new ParserPipe(input, isDebug(), ctx.isStrict(), ctx.isAutoCloseStreams(), ctx.isUnbuffered(), streamCharset, fileCharset));
+		return setPipe(new ParserPipe(input, isDebug(), ctx.isStrict(), ctx.isAutoCloseStreams(), ctx.isUnbuffered(), bufferSize, streamCharset, fileCharset));
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
 
+	/**
+	 * Returns the buffer size defined on this session.
+	 *
+	 * @return the buffer size defined on this session.
+	 */
+	protected int getBufferSize() {
+		return bufferSize;
+	}
+
 	/**
 	 * Returns the file charset defined on this session.
 	 *
@@ -121,6 +132,7 @@ public abstract class ReaderParserSession extends ParserSession {
 	public OMap toMap() {
 		return super.toMap()
 			.a("ReaderParserSession", new DefaultFilteringOMap()
+				.a("bufferSize", bufferSize)
 				.a("fileCharset", fileCharset)
 				.a("streamCharset", streamCharset)
 			);
@@ -0,0 +1,47 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+
+/**
+ * Wraps a {@link ParseException} with an unchecked exception.
+ *
+ * <p>
+ * Thrown by methods that can't throw checked exceptions, such as the {@link Iterator} methods of {@link ParserIterator}.
+ */
+public class UncheckedParseException extends BasicRuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param cause The parse exception being wrapped.
+	 */
+	public UncheckedParseException(ParseException cause) {
+		super(cause, null);
+	}
+
+	/**
+	 * Returns the parse exception wrapped by this exception.
+	 *
+	 * @return The parse exception wrapped by this exception.
+	 */
+	@Override /* Throwable */
+	public synchronized ParseException getCause() {
+		return (ParseException)super.getCause();
+	}
+}
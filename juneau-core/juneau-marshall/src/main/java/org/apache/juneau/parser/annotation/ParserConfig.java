@@ -256,6 +256,25 @@ public @interface ParserConfig {
 	// ReaderParser
 	//-------------------------------------------------------------------------------------------------------------------
 
+	/**
+	 * Configuration property:  Buffer size.
+	 *
+	 * <p>
+	 * The initial size in characters of the buffer used to read from <c>Readers</c>, <c>InputStreams</c>, and <c>Files</c>.
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		Format: integer
+	 * 	<li>
+	 * 		Supports {@doc DefaultVarResolver} (e.g. <js>"$C{myConfigVar}"</js>).
+	 * </ul>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link ReaderParser#RPARSER_bufferSize}
+	 * </ul>
+	 */
+	String bufferSize() default "";
+
 	/**
 	 * Configuration property:  File charset.
 	 *
@@ -61,6 +61,8 @@ public class ParserConfigAnnotation {
 			if (! a.binaryFormat().isEmpty())
 				psb.set(ISPARSER_binaryFormat, string(a.binaryFormat()));
 
+			if (! a.bufferSize().isEmpty())
+				psb.set(RPARSER_bufferSize, integer(a.bufferSize(), "bufferSize"));
 			if (! a.fileCharset().isEmpty())
 				psb.set(RPARSER_fileCharset, charset(a.fileCharset()));
 			if (! a.streamCharset().isEmpty())
@@ -523,6 +523,12 @@ public class PlainTextParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - ReaderParserBuilder */
+	public PlainTextParserBuilder bufferSize(int value) {
+		super.bufferSize(value);
+		return this;
+	}
+
 	@Override /* GENERATED - ReaderParserBuilder */
 	public PlainTextParserBuilder fileCharset(Charset value) {
 		super.fileCharset(value);
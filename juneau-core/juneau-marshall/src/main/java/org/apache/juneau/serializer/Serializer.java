@@ -791,6 +791,7 @@ public abstract class Serializer extends BeanTraverseContext {
 	private final UriContext uriContext;
 	private final UriResolution uriResolution;
 	private final UriRelativity uriRelativity;
+	private final UriResolver uriResolver;
 	private final Class<? extends SerializerListener> listener;
 
 	private final MediaRanges accept;
@@ -837,6 +838,7 @@ public abstract class Serializer extends BeanTraverseContext {
 		uriContext = getProperty(SERIALIZER_uriContext, UriContext.class, UriContext.DEFAULT);
 		uriResolution = getProperty(SERIALIZER_uriResolution, UriResolution.class, UriResolution.NONE);
 		uriRelativity = getProperty(SERIALIZER_uriRelativity, UriRelativity.class, UriRelativity.RESOURCE);
+		uriResolver = UriResolver.of(uriResolution, uriRelativity, uriContext);
 		listener = getClassProperty(SERIALIZER_listener, SerializerListener.class);
 
 		this.produces = MediaType.of(produces);
@@ -1146,6 +1148,19 @@ public abstract class Serializer extends BeanTraverseContext {
 		return uriResolution;
 	}
 
+	/**
+	 * URI resolver.
+	 *
+	 * <p>
+	 * Shared by all sessions that don't override the URI context.
+	 *
+	 * @return
+	 * 	The resolver built from the URI context, resolution, and relativity settings on this serializer.
+	 */
+	protected final UriResolver getUriResolver() {
+		return uriResolver;
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Other methods
 	//-----------------------------------------------------------------------------------------------------------------
@@ -78,7 +78,8 @@ public abstract class SerializerSession extends BeanTraverseSession {
 		this.ctx = ctx;
 		args = args == null ? SerializerSessionArgs.DEFAULT : args;
 		this.javaMethod = args.javaMethod;
-		this.uriResolver = UriResolver.of(ctx.getUriResolution(), ctx.getUriRelativity(), getProperty(SERIALIZER_uriContext, UriContext.class, ctx.getUriContext()));
+		UriContext uriContext = getProperty(SERIALIZER_uriContext, UriContext.class, (UriContext)null);
+		this.uriResolver = uriContext == null ? ctx.getUriResolver() : UriResolver.of(ctx.getUriResolution(), ctx.getUriRelativity(), uriContext);
 		this.listener = castOrCreate(SerializerListener.class, ctx.getListener());
 		this.vrs = args.resolver;
 	}
@@ -392,6 +393,87 @@ public abstract class SerializerSession extends BeanTraverseSession {
 		return c;
 	}
 
+	/**
+	 * Returns the element class of the specified array or collection type if the elements can be written directly as
+	 * numbers.
+	 *
+	 * <p>
+	 * This is the case for primitive number arrays and arrays or collections of boxed numbers (e.g.
+	 * <c><jk>int</jk>[]</c>, <c>Long[]</c>, <c>List&lt;Double&gt;</c>) when no swap is defined on the number type
+	 * and collections aren't being sorted.
+	 * <br>Serializers use this to bypass the per-element type resolution of large numeric arrays.
+	 *
+	 * @param type The array or collection type.  Can be <jk>null</jk>.
+	 * @return
+	 * 	The element class (e.g. <c><jk>int</jk>.<jk>class</jk></c>, <c>Long.<jk>class</jk></c>), or <jk>null</jk>
+	 * 	if the elements need to be serialized individually.
+	 */
+	protected final Class<?> getDirectNumberClass(ClassMeta<?> type) {
+		if (type == null || ! (type.isArray() || type.isCollection()) || isSortCollections())
+			return null;
+		ClassMeta<?> et = type.getElementType();
+		if (et == null)
+			return null;
+		Class<?> c = et.getInnerClass(), w = DIRECT_NUMBER_CLASSES.get(c);
+		if (w == null || et.getSwap(this) != null || getClassMeta(w).getSwap(this) != null)
+			return null;
+		return c;
+	}
+
+	private static final Map<Class<?>,Class<?>> DIRECT_NUMBER_CLASSES = new HashMap<>();
+	static {
+		for (Class<?> c : new Class<?>[]{Integer.class, Long.class, Short.class, Byte.class, Float.class, Double.class})
+			DIRECT_NUMBER_CLASSES.put(c, c);
+		DIRECT_NUMBER_CLASSES.put(int.class, Integer.class);
+		DIRECT_NUMBER_CLASSES.put(long.class, Long.class);
+		DIRECT_NUMBER_CLASSES.put(short.class, Short.class);
+		DIRECT_NUMBER_CLASSES.put(byte.class, Byte.class);
+		DIRECT_NUMBER_CLASSES.put(float.class, Float.class);
+		DIRECT_NUMBER_CLASSES.put(double.class, Double.class);
+	}
+
+	/**
+	 * Writes the element at the specified index of a primitive number array.
+	 *
+	 * @param out The output writer.
+	 * @param array The <jk>int</jk>, <jk>long</jk>, <jk>short</jk>, <jk>byte</jk>, <jk>float</jk>, or <jk>double</jk> array.
+	 * @param index The array index.
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	protected static final void appendNumber(SerializerWriter out, Object array, int index) throws IOException {
+		if (array instanceof int[])
+			out.appendLong(((int[])array)[index]);
+		else if (array instanceof long[])
+			out.appendLong(((long[])array)[index]);
+		else if (array instanceof double[])
+			out.append(Double.toString(((double[])array)[index]));
+		else if (array instanceof float[])
+			out.append(Float.toString(((float[])array)[index]));
+		else if (array instanceof short[])
+			out.appendLong(((short[])array)[index]);
+		else
+			out.appendLong(((byte[])array)[index]);
+	}
+
+	/**
+	 * Writes the specified boxed number.
+	 *
+	 * <p>
+	 * Integral primitive wrappers are written without creating an intermediate string.
+	 *
+	 * @param out The output writer.
+	 * @param n The number.  Can be <jk>null</jk>.
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	protected static final void appendNumber(SerializerWriter out, Number n) throws IOException {
+		if (n == null)
+			out.append("null");
+		else if (n instanceof Integer || n instanceof Long || n instanceof Short || n instanceof Byte)
+			out.appendLong(n.longValue());
+		else
+			out.append(n.toString());
+	}
+
 	/**
 	 * Converts the contents of the specified object array to a list.
 	 *
@@ -50,6 +50,8 @@ public class SerializerWriter extends Writer {
 	/** The URI resolver of the request. */
 	protected final UriResolver uriResolver;
 
+	private char[] numberBuffer;
+
 	/**
 	 * @param out The writer being wrapped.
 	 * @param useWhitespace
@@ -319,6 +321,38 @@ public class SerializerWriter extends Writer {
 		return this;
 	}
 
+	/**
+	 * Writes the specified integer value to the writer.
+	 *
+	 * <p>
+	 * Same as <c>append(String.valueOf(value))</c> but doesn't create intermediate strings.
+	 *
+	 * @param value The value to write.
+	 * @throws IOException If a problem occurred trying to write to the writer.
+	 * @return This object (for method chaining).
+	 */
+	public SerializerWriter appendLong(long value) throws IOException {
+		if (value == Long.MIN_VALUE) {
+			out.write("-9223372036854775808");
+			return this;
+		}
+		if (numberBuffer == null)
+			numberBuffer = new char[20];
+		char[] b = numberBuffer;
+		int i = b.length;
+		boolean negative = value < 0;
+		if (negative)
+			value = -value;
+		do {
+			b[--i] = (char)('0' + (value % 10));
+			value /= 10;
+		} while (value != 0);
+		if (negative)
+			b[--i] = '-';
+		out.write(b, i, b.length - i);
+		return this;
+	}
+
 	/**
 	 * Writes the specified text to the writer.
 	 *
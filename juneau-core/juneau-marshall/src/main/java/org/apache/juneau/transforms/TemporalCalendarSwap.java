@@ -270,7 +270,7 @@ public class TemporalCalendarSwap extends StringSwap<Calendar> {
 	};
 
 
-	private final DateTimeFormatter formatter;
+	private final IsoDateTimeFormatter formatter;
 
 	/**
 	 * Constructor.
@@ -279,7 +279,7 @@ public class TemporalCalendarSwap extends StringSwap<Calendar> {
 	 */
 	public TemporalCalendarSwap(String pattern) {
 		super(Calendar.class);
-		this.formatter = DateUtils.getFormatter(pattern);
+		this.formatter = IsoDateTimeFormatter.of(DateUtils.getFormatter(pattern));
 	}
 
 	@Override /* PojoSwap */
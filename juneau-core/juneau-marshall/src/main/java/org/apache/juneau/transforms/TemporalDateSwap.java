@@ -270,7 +270,7 @@ public class TemporalDateSwap extends StringSwap<Date> {
 	};
 
 
-	private final DateTimeFormatter formatter;
+	private final IsoDateTimeFormatter formatter;
 
 	/**
 	 * Constructor.
@@ -279,7 +279,7 @@ public class TemporalDateSwap extends StringSwap<Date> {
 	 */
 	public TemporalDateSwap(String pattern) {
 		super(Date.class);
-		this.formatter = DateUtils.getFormatter(pattern);
+		this.formatter = IsoDateTimeFormatter.of(DateUtils.getFormatter(pattern));
 	}
 
 	@Override /* PojoSwap */
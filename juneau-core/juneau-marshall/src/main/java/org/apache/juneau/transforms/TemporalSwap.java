@@ -337,7 +337,7 @@ public class TemporalSwap extends StringSwap<Temporal> {
 		return m;
 	}
 
-	private final DateTimeFormatter formatter;
+	private final IsoDateTimeFormatter formatter;
 	private final boolean zoneOptional;
 
 	/**
@@ -348,7 +348,7 @@ public class TemporalSwap extends StringSwap<Temporal> {
 	 */
 	public TemporalSwap(String pattern, boolean zoneOptional) {
 		super(Temporal.class);
-		this.formatter = DateUtils.getFormatter(pattern);
+		this.formatter = IsoDateTimeFormatter.of(DateUtils.getFormatter(pattern));
 		this.zoneOptional = zoneOptional;
 	}
 
@@ -387,7 +387,7 @@ public class TemporalSwap extends StringSwap<Temporal> {
 
 		// Instant is always serialized in GMT.
 		if (tc == Instant.class)
-			return ZonedDateTime.from(defaulting(t, Z));
+			return ((Instant)t).atZone(Z);
 
 		// These can handle any pattern.
 		if (tc == ZonedDateTime.class || tc == OffsetDateTime.class)
@@ -402,6 +402,9 @@ public class TemporalSwap extends StringSwap<Temporal> {
 			return LocalDateTime.from(defaulting(t, zoneId));
 		}
 
+		if (tc == LocalDateTime.class)
+			return ((LocalDateTime)t).atZone(zoneId);
+
 		return ZonedDateTime.from(defaulting(t, zoneId));
 	}
 
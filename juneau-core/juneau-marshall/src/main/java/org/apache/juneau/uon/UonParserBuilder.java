@@ -582,6 +582,12 @@ public class UonParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - ReaderParserBuilder */
+	public UonParserBuilder bufferSize(int value) {
+		super.bufferSize(value);
+		return this;
+	}
+
 	@Override /* GENERATED - ReaderParserBuilder */
 	public UonParserBuilder fileCharset(Charset value) {
 		super.fileCharset(value);
@@ -107,6 +107,79 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 		}
 	}
 
+	@Override /* ParserSession */
+	protected <E> ParserIterator<E> doParseIterator(ParserPipe pipe, ClassMeta<E> elementType) throws Exception {
+		UonReader r = getUonReader(pipe, decoding);
+		int c0 = r.readSkipWs();
+		if (c0 == 'n')
+			parseNull(r);
+		else if (c0 != -1 && c0 != AMP && c0 != '@')
+			throw new ParseException(this, "Could not find '(' marking beginning of collection.");
+		else if (c0 == '@')
+			r.read();
+
+		return new ParserIterator<E>(this, pipe) {
+			final int S1=1; // Looking for starting of first entry.
+			final int S2=2; // Looking for starting of subsequent entries.
+			final int S3=3; // Looking for , or ) after first entry.
+			final int S4=4; // Found ) after an empty last entry.
+			final int S5=5; // Done.
+
+			int state = c0 == '@' ? S1 : S5;
+
+			@Override /* ParserIterator */
+			protected boolean advance() throws IOException, ParseException {
+				if (state == S4) {
+					r.read();
+					state = S5;
+				}
+				if (state == S5) {
+					validateEnd(r);
+					return false;
+				}
+				while (true) {
+					int c = r.read();
+					if (c == -1 || c == AMP) {
+						if (state == S3)
+							throw new ParseException(UonParserSession.this, "Could not find end of entry in array.");
+						throw new ParseException(UonParserSession.this, "Could not find start of entry in array.");
+					}
+					if (state == S1 || state == S2) {
+						if (c == ')') {
+							if (state == S1) {
+								state = S5;
+								validateEnd(r);
+								return false;
+							}
+							r.unread();
+							state = S4;
+							return true;
+						} else if (Character.isWhitespace(c)) {
+							skipSpace(r);
+						} else {
+							r.unread();
+							state = S3;
+							return true;
+						}
+					} else if (state == S3) {
+						if (c == ',') {
+							state = S2;
+						} else if (c == ')') {
+							state = S5;
+							validateEnd(r);
+							return false;
+						}
+					}
+				}
+			}
+
+			@Override /* ParserIterator */
+			protected E parseEntry() throws IOException, ParseException, ExecutableException {
+				return parseAnything(elementType, r, getOuter(), false, null);
+			}
+		};
+	}
+
 	@Override /* HttpPartParser */
 	public <T> T parse(HttpPartType partType, HttpPartSchema schema, String in, ClassMeta<T> toType) throws ParseException, SchemaValidationException {
 		if (in == null)
@@ -561,7 +634,12 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 							if (! currAttr.equals(getBeanTypePropertyName(m.getClassMeta()))) {
 								BeanPropertyMeta pMeta = m.getPropertyMeta(currAttr);
 								if (pMeta == null) {
-									onUnknownProperty(currAttr, m, parseAnything(object(), r.unread(), m.getBean(false), false, null));
+									if (isSkipUnknownValues()) {
+										skipValue(r.unread());
+										onUnknownProperty(currAttr, m, null);
+									} else {
+										onUnknownProperty(currAttr, m, parseAnything(object(), r.unread(), m.getBean(false), false, null));
+									}
 									unmark();
 								} else {
 									unmark();
@@ -605,6 +683,63 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 		return null; // Unreachable.
 	}
 
+	/*
+	 * Skips the value starting at the current position without creating any objects.
+	 * Only nesting, quotes and escapes are looked at.
+	 * Leaves the reader positioned on the ',' or ')' following the value.
+	 */
+	private void skipValue(UonReader r) throws IOException, ParseException {
+		int depth = 0;
+		boolean start = true;  // At the start of a value or attribute name, where quotes and '(' are significant.
+		while (true) {
+			int c = r.read();
+			if (c == -1 || c == AMP) {
+				if (depth > 0)
+					throw new ParseException(this, "Could not find ')' marking end of object.");
+				if (c != -1)
+					r.unread();
+				return;
+			}
+			if (c == '~' && escapedChars.contains(r.peek())) {
+				r.read();
+				start = false;
+			} else if (start && c == '\'') {
+				skipPString(r);
+				start = false;
+			} else if (start && c == '(') {
+				depth++;
+			} else if (start && c == '@' && r.peek() == '(') {
+				// Array:  Opening '(' handled next.
+			} else if (c == ')' || c == ',') {
+				if (depth == 0) {
+					r.unread();
+					return;
+				}
+				if (c == ')' && --depth == 0)
+					return;
+				start = c == ',';
+			} else if ((c == '=' || c == EQ) && depth > 0) {
+				start = true;
+			} else if (! Character.isWhitespace(c)) {
+				start = false;
+			}
+		}
+	}
+
+	/*
+	 * Skips the rest of a string of the form "'foo'" after the opening quote has been read.
+	 */
+	private void skipPString(UonReader r) throws IOException, ParseException {
+		int c = 0;
+		while ((c = r.read()) != -1) {
+			if (c == '\'')
+				return;
+			if (c == '~' && escapedChars.contains(r.peek()))
+				r.read();
+		}
+		throw new ParseException(this, "Unmatched parenthesis");
+	}
+
 	private Object parseNull(UonReader r) throws IOException, ParseException {
 		String s = parseString(r, false);
 		if ("ull".equals(s))
@@ -48,11 +48,12 @@ public final class UonReader extends ParserReader {
 	public UonReader(ParserPipe pipe, boolean decodeChars) throws IOException {
 		super(pipe);
 		this.decodeChars = decodeChars;
+		int bufferSize = pipe.getBufferSize();
 		if (pipe.isString()) {
 			String in = pipe.getInputAsString();
-			this.buff = new char[in.length() < 1024 ? in.length() : 1024];
+			this.buff = new char[in.length() < bufferSize ? in.length() : bufferSize];
 		} else {
-			this.buff = new char[1024];
+			this.buff = new char[bufferSize];
 		}
 	}
 
@@ -13,6 +13,7 @@
 package org.apache.juneau.uon;
 
 import java.io.*;
+import java.lang.reflect.*;
 import java.util.*;
 
 import org.apache.juneau.*;
@@ -156,10 +157,20 @@ public class UonSerializerSession extends WriterSerializerSession implements Htt
 				serializeMap(out, (Map)o, eType);
 		}
 		else if (sType.isCollection()) {
-			serializeCollection(out, (Collection) o, eType);
+			Class<?> nc = getDirectNumberClass(eType);
+			if (nc != null)
+				serializeNumberCollection(out, (Collection) o, nc, eType);
+			else
+				serializeCollection(out, (Collection) o, eType);
 		}
 		else if (sType.isArray()) {
-			serializeCollection(out, toList(sType.getInnerClass(), o), eType);
+			Class<?> nc = getDirectNumberClass(sType);
+			if (nc != null && nc.isPrimitive())
+				serializeNumberArray(out, o);
+			else if (nc != null)
+				serializeNumberCollection(out, Arrays.asList((Object[])o), nc, sType);
+			else
+				serializeCollection(out, toList(sType.getInnerClass(), o), eType);
 		}
 		else if (sType.isReader() || sType.isInputStream()) {
 			IOUtils.pipe(o, out);
@@ -269,6 +280,43 @@ public class UonSerializerSession extends WriterSerializerSession implements Htt
 		return out;
 	}
 
+	private SerializerWriter serializeNumberArray(UonWriter out, Object array) throws IOException {
+		int len = Array.getLength(array);
+		if (! plainTextParams)
+			out.append('@').append('(');
+		for (int i = 0; i < len; i++) {
+			out.cr(indent);
+			appendNumber(out, array, i);
+			if (i < len - 1)
+				out.append(',');
+		}
+		if (len > 0)
+			out.cre(indent-1);
+		if (! plainTextParams)
+			out.append(')');
+		return out;
+	}
+
+	private SerializerWriter serializeNumberCollection(UonWriter out, Collection<?> c, Class<?> numberClass, ClassMeta<?> type) throws IOException, SerializeException {
+		if (! plainTextParams)
+			out.append('@').append('(');
+		for (Iterator<?> i = c.iterator(); i.hasNext();) {
+			Object value = i.next();
+			out.cr(indent);
+			if (value == null || value.getClass() == numberClass)
+				appendNumber(out, (Number)value);
+			else
+				serializeAnything(out, value, type.getElementType(), "<iterator>", null);
+			if (i.hasNext())
+				out.append(',');
+		}
+		if (c.size() > 0)
+			out.cre(indent-1);
+		if (! plainTextParams)
+			out.append(')');
+		return out;
+	}
+
 	@Override /* HttpPartSerializer */
 	public String serialize(HttpPartType type, HttpPartSchema schema, Object value) throws SerializeException, SchemaValidationException {
 		try {
@@ -147,7 +147,10 @@ public final class UonWriter extends SerializerWriter {
 	 * @throws IOException Thrown by underlying stream.
 	 */
 	protected UonWriter appendNumber(Object o) throws IOException {
-		append(o.toString());
+		if (o instanceof Integer || o instanceof Long || o instanceof Short || o instanceof Byte)
+			appendLong(((Number)o).longValue());
+		else
+			append(o.toString());
 		return this;
 	}
 
@@ -244,6 +247,12 @@ public final class UonWriter extends SerializerWriter {
 		return this;
 	}
 
+	@Override /* SerializerWriter */
+	public UonWriter appendLong(long value) throws IOException {
+		super.appendLong(value);
+		return this;
+	}
+
 	@Override /* SerializerWriter */
 	public UonWriter appendIf(boolean b, String text) throws IOException {
 		super.appendIf(b, text);
@@ -543,6 +543,12 @@ public class UrlEncodingParserBuilder extends UonParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - ReaderParserBuilder */
+	public UrlEncodingParserBuilder bufferSize(int value) {
+		super.bufferSize(value);
+		return this;
+	}
+
 	@Override /* GENERATED - ReaderParserBuilder */
 	public UrlEncodingParserBuilder fileCharset(Charset value) {
 		super.fileCharset(value);
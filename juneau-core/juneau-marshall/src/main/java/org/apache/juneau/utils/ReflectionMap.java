@@ -17,6 +17,7 @@ import static java.lang.Character.*;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.function.*;
 
 import org.apache.juneau.collections.*;
 
@@ -125,6 +126,10 @@ public class ReflectionMap<V> {
 	private final List<MethodEntry<V>> methodEntries;
 	private final List<FieldEntry<V>> fieldEntries;
 	private final List<ConstructorEntry<V>> constructorEntries;
+	private final Index<ClassEntry<V>> classIndex;
+	private final Index<MethodEntry<V>> methodIndex;
+	private final Index<FieldEntry<V>> fieldIndex;
+	private final Index<ConstructorEntry<V>> constructorIndex;
 	final boolean noClassEntries, noMethodEntries, noFieldEntries, noConstructorEntries;
 
 	/**
@@ -141,6 +146,10 @@ public class ReflectionMap<V> {
 		this.noMethodEntries = methodEntries.isEmpty();
 		this.noFieldEntries = fieldEntries.isEmpty();
 		this.noConstructorEntries = constructorEntries.isEmpty();
+		this.classIndex = new Index<>(classEntries, e -> e.simpleName, e -> e.fullName, e -> null);
+		this.methodIndex = new Index<>(methodEntries, e -> e.simpleClassName, e -> e.fullClassName, e -> e.methodName);
+		this.fieldIndex = new Index<>(fieldEntries, e -> e.simpleClassName, e -> e.fullClassName, e -> e.fieldName);
+		this.constructorIndex = new Index<>(constructorEntries, e -> e.simpleClassName, e -> e.fullClassName, e -> null);
 	}
 
 	/**
@@ -256,7 +265,7 @@ public class ReflectionMap<V> {
 	 */
 	public Optional<V> find(Class<?> c, Class<? extends V> ofType) {
 		if (! noClassEntries)
-			for (ClassEntry<V> e : classEntries)
+			for (ClassEntry<V> e : classIndex.candidates(c))
 				if (e.matches(c))
 					if (ofType == null || ofType.isInstance(e.value))
 						return Optional.ofNullable(e.value);
@@ -306,7 +315,7 @@ public class ReflectionMap<V> {
 		if (l == null)
 			l = AList.of();
 		if (! noClassEntries)
-			for (ClassEntry<V> e : classEntries)
+			for (ClassEntry<V> e : classIndex.candidates(c))
 				if (e.matches(c) && e.value != null)
 					if (ofType == null || ofType.isInstance(e.value))
 						l.add(e.value);
@@ -322,7 +331,7 @@ public class ReflectionMap<V> {
 	 */
 	public Optional<V> find(Method m, Class<? extends V> ofType) {
 		if (! noMethodEntries)
-			for (MethodEntry<V> e : methodEntries)
+			for (MethodEntry<V> e : methodIndex.candidates(m))
 				if (e.matches(m))
 					if (ofType == null || ofType.isInstance(e.value))
 						return Optional.ofNullable(e.value);
@@ -372,7 +381,7 @@ public class ReflectionMap<V> {
 		if (l == null)
 			l = AList.of();
 		if (! noMethodEntries)
-			for (MethodEntry<V> e : methodEntries)
+			for (MethodEntry<V> e : methodIndex.candidates(m))
 				if (e.matches(m) && e.value != null)
 					if (ofType == null || ofType.isInstance(e.value))
 						l.add(e.value);
@@ -388,7 +397,7 @@ public class ReflectionMap<V> {
 	 */
 	public Optional<V> find(Field f, Class<? extends V> ofType) {
 		if (! noFieldEntries)
-			for (FieldEntry<V> e : fieldEntries)
+			for (FieldEntry<V> e : fieldIndex.candidates(f))
 				if (e.matches(f))
 					if (ofType == null || ofType.isInstance(e.value))
 						return Optional.ofNullable(e.value);
@@ -438,7 +447,7 @@ public class ReflectionMap<V> {
 		if (l == null)
 			l = AList.of();
 		if (! noFieldEntries)
-			for (FieldEntry<V> e : fieldEntries)
+			for (FieldEntry<V> e : fieldIndex.candidates(f))
 				if (e.matches(f) && e.value != null)
 					if (ofType == null || ofType.isInstance(e.value))
 						l.add(e.value);
@@ -454,7 +463,7 @@ public class ReflectionMap<V> {
 	 */
 	public Optional<V> find(Constructor<?> c, Class<? extends V> ofType) {
 		if (! noConstructorEntries)
-			for (ConstructorEntry<V> e : constructorEntries)
+			for (ConstructorEntry<V> e : constructorIndex.candidates(c))
 				if (e.matches(c))
 					if (ofType == null || ofType.isInstance(e.value))
 						return Optional.ofNullable(e.value);
@@ -504,7 +513,7 @@ public class ReflectionMap<V> {
 		if (l == null)
 			l = AList.of();
 		if (! noConstructorEntries)
-			for (ConstructorEntry<V> e : constructorEntries)
+			for (ConstructorEntry<V> e : constructorIndex.candidates(c))
 				if (e.matches(c) && e.value != null)
 					if (ofType == null || ofType.isInstance(e.value))
 						l.add(e.value);
@@ -728,6 +737,91 @@ public class ReflectionMap<V> {
 		return false;
 	}
 
+	/*
+	 * The entries of one kind hashed by the class names (and member names) they can match, so that lookups only
+	 * need to check the few entries that could match instead of every entry.
+	 */
+	static final class Index<E> {
+		private final List<E> entries;
+		private final Map<String,List<Integer>> bySimpleName = new HashMap<>(), byFullName = new HashMap<>();
+
+		Index(List<E> entries, Function<E,String> simpleName, Function<E,String> fullName, Function<E,String> memberName) {
+			this.entries = entries;
+			for (int i = 0; i < entries.size(); i++) {
+				E e = entries.get(i);
+				String n = memberName.apply(e), suffix = n == null ? "" : '#' + n;
+				if (simpleName.apply(e) != null)
+					add(bySimpleName, simpleName.apply(e) + suffix, i);
+				add(byFullName, fullName.apply(e) + suffix, i);
+			}
+		}
+
+		private static void add(Map<String,List<Integer>> m, String key, int i) {
+			List<Integer> l = m.get(key);
+			if (l == null) {
+				l = new ArrayList<>(1);
+				m.put(key, l);
+			}
+			l.add(i);
+		}
+
+		List<E> candidates(Class<?> c) {
+			return candidates(c, null);
+		}
+
+		List<E> candidates(Member m) {
+			if (m == null)
+				return Collections.emptyList();
+			return candidates(m.getDeclaringClass(), m instanceof Constructor ? null : m.getName());
+		}
+
+		/*
+		 * Returns the entries that may match the specified class and member name, in the order they were added.
+		 * Mirrors the name comparisons made in classMatches(String,String,Class).
+		 */
+		List<E> candidates(Class<?> c, String memberName) {
+			if (c == null || entries.isEmpty())
+				return Collections.emptyList();
+			String suffix = memberName == null ? "" : '#' + memberName, cFull = c.getName();
+			List<List<Integer>> hits = new ArrayList<>(2);
+			hit(hits, byFullName, cFull + suffix);
+			if (! bySimpleName.isEmpty()) {
+				hit(hits, bySimpleName, c.getSimpleName() + suffix);
+				hit(hits, bySimpleName, "*" + suffix);
+				if (cFull.indexOf('$') != -1) {
+					Package p = c.getPackage();
+					if (p != null)
+						cFull = cFull.substring(p.getName().length() + 1);
+					hit(hits, bySimpleName, cFull + suffix);
+					int i = cFull.indexOf('$');
+					while (i != -1) {
+						cFull = cFull.substring(i+1);
+						hit(hits, bySimpleName, cFull + suffix);
+						i = cFull.indexOf('$');
+					}
+				}
+			}
+			if (hits.isEmpty())
+				return Collections.emptyList();
+			Collection<Integer> indexes = hits.get(0);
+			if (hits.size() > 1) {
+				indexes = new TreeSet<>();
+				for (List<Integer> h : hits)
+					indexes.addAll(h);
+			}
+			List<E> l = new ArrayList<>(indexes.size());
+			for (Integer i : indexes)
+				l.add(entries.get(i));
+			return l;
+		}
+
+		private static void hit(List<List<Integer>> hits, Map<String,List<Integer>> m, String key) {
+			List<Integer> l = m.get(key);
+			if (l != null)
+				hits.add(l);
+		}
+	}
+
 	@Override /* Object */
 	public String toString() {
 		return OMap.of(
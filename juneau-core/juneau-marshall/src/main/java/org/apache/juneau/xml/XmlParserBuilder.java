@@ -671,6 +671,12 @@ public class XmlParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - ReaderParserBuilder */
+	public XmlParserBuilder bufferSize(int value) {
+		super.bufferSize(value);
+		return this;
+	}
+
 	@Override /* GENERATED - ReaderParserBuilder */
 	public XmlParserBuilder fileCharset(Charset value) {
 		super.fileCharset(value);
@@ -266,6 +266,34 @@ public class XmlParserSession extends ReaderParserSession {
 		return parseIntoCollection(pipe, c, cm.getElementType());
 	}
 
+	@Override /* ParserSession */
+	protected <E> ParserIterator<E> doParseIterator(ParserPipe pipe, ClassMeta<E> elementType) throws Exception {
+		XmlReader r = getXmlReader(pipe);
+		int jsonType = getJsonType(r.getAttributeValue(null, getBeanTypePropertyName(elementType)));
+		if (jsonType == 0)
+			jsonType = getJsonType(getElementName(r));
+		boolean isNull = jsonType == NULL || "true".equals(r.getAttributeValue(null, "nil"));
+
+		return new ParserIterator<E>(this, pipe) {
+			boolean end = isNull;
+
+			@Override /* ParserIterator */
+			protected boolean advance() throws XMLStreamException {
+				if (end)
+					return false;
+				if (r.nextTag() == START_ELEMENT)
+					return true;
+				end = true;
+				return false;
+			}
+
+			@Override /* ParserIterator */
+			protected E parseEntry() throws IOException, ParseException, ExecutableException, XMLStreamException {
+				return parseAnything(elementType, null, r, getOuter(), false, null);
+			}
+		};
+	}
+
 	/**
 	 * Workhorse method.
 	 *
@@ -587,8 +615,13 @@ public class XmlParserSession extends ReaderParserSession {
 						currAttr = getElementName(r);
 					BeanPropertyMeta pMeta = xmlMeta.getPropertyMeta(currAttr);
 					if (pMeta == null) {
-						Object value = parseAnything(object(), currAttr, r, m.getBean(false), false, null);
-						onUnknownProperty(currAttr, m, value);
+						if (isSkipUnknownValues()) {
+							skipElement(r);
+							onUnknownProperty(currAttr, m, null);
+						} else {
+							Object value = parseAnything(object(), currAttr, r, m.getBean(false), false, null);
+							onUnknownProperty(currAttr, m, value);
+						}
 					} else {
 						setCurrentProperty(pMeta);
 						XmlFormat xf = getXmlBeanPropertyMeta(pMeta).getXmlFormat();
@@ -643,6 +676,23 @@ public class XmlParserSession extends ReaderParserSession {
 		return m;
 	}
 
+	/*
+	 * Skips over the current element and all its content without creating any objects.
+	 * Leaves the reader positioned on the matching END_ELEMENT.
+	 */
+	private void skipElement(XmlReader r) throws ParseException, XMLStreamException {
+		int depth = 0;
+		while (true) {
+			int event = r.next();
+			if (event == START_ELEMENT)
+				depth++;
+			else if (event == END_ELEMENT && depth-- == 0)
+				return;
+			else if (event == END_DOCUMENT)
+				throw new ParseException(this, "Unexpected end of document when reading element text content");
+		}
+	}
+
 	private boolean isSpecialAttr(String key) {
 		return key.equals(getBeanTypePropertyName(null)) || key.equals(getNamePropertyName());
 	}
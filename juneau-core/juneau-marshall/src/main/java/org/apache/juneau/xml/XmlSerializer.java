@@ -260,9 +260,17 @@ public class XmlSerializer extends WriterSerializer implements XmlMetaProvider,
 	 * <p>
 	 * This setting is ignored if {@link #XML_enableNamespaces} is not enabled.
 	 *
+	 * <p>
+	 * Namespaces are determined from the declared types of bean properties, collection elements, and map values where
+	 * possible, and these results are cached per class.
+	 * <br>The data structure is only crawled below values whose declared types are <c>Object</c>, interfaces, abstract
+	 * classes, or types with swaps.
+	 * <br>Namespaces used by a subclass of a declared type but not by the declared type itself are declared on the
+	 * elements that use them instead of on the root element.
+	 *
 	 * <ul class='notes'>
 	 * 	<li>
-	 * 		Auto-detection of namespaces can be costly performance-wise.
+	 * 		Auto-detection of namespaces can be costly performance-wise when the data structure needs to be crawled.
 	 * 		<br>In high-performance environments, it's recommended that namespace detection be
 	 * 		disabled, and that namespaces be manually defined through the {@link #XML_namespaces} property.
 	 * </ul>
@@ -474,6 +482,9 @@ public class XmlSerializer extends WriterSerializer implements XmlMetaProvider,
 	private final Map<ClassMeta<?>,XmlClassMeta> xmlClassMetas = new ConcurrentHashMap<>();
 	private final Map<BeanMeta<?>,XmlBeanMeta> xmlBeanMetas = new ConcurrentHashMap<>();
 	private final Map<BeanPropertyMeta,XmlBeanPropertyMeta> xmlBeanPropertyMetas = new ConcurrentHashMap<>();
+	private final Map<ClassMeta<?>,Namespace[]> reachableNamespaces = new ConcurrentHashMap<>();
+
+	private static final Namespace[] DYNAMIC_NAMESPACES = new Namespace[0];
 
 	/**
 	 * Constructor.
@@ -586,6 +597,82 @@ public class XmlSerializer extends WriterSerializer implements XmlMetaProvider,
 		return m;
 	}
 
+	/**
+	 * Returns the namespaces that can be encountered when serializing a value of the specified type.
+	 *
+	 * <p>
+	 * Determined once per type by following the types of bean properties, collection elements, and map values.
+	 *
+	 * @param cm The type of the value being serialized.
+	 * @param session The session used to look up swaps.
+	 * @return
+	 * 	The namespaces in the order they're first encountered, or <jk>null</jk> if they depend on the actual values
+	 * 	because <c>Object</c>, interface, or abstract types, or types with swaps, are reachable.
+	 */
+	final Namespace[] getReachableNamespaces(ClassMeta<?> cm, BeanSession session) {
+
+		// Class metas are equal if their classes are, so collections, arrays, maps, and optionals are unwrapped and only
+		// the results for their element types are cached.
+		Set<Namespace> outer = null;
+		while (cm != null && (cm.isCollection() || cm.isArray() || cm.isMap() || cm.isOptional())) {
+			if (cm.isDelegate() || cm.getSwap(session) != null)
+				return null;
+			Namespace ns = getXmlClassMeta(cm).getNamespace();
+			if (ns != null && ns.uri != null) {
+				if (outer == null)
+					outer = new LinkedHashSet<>();
+				outer.add(ns);
+			}
+			cm = cm.isMap() ? cm.getValueType() : cm.getElementType();
+		}
+		if (cm == null)
+			return null;
+
+		Namespace[] n = reachableNamespaces.get(cm);
+		if (n == null) {
+			Set<Namespace> s = new LinkedHashSet<>();
+			n = findReachableNamespaces(cm, session, s, new HashSet<ClassMeta<?>>()) ? s.toArray(new Namespace[s.size()]) : DYNAMIC_NAMESPACES;
+			reachableNamespaces.put(cm, n);
+		}
+		if (n == DYNAMIC_NAMESPACES)
+			return null;
+		if (outer == null)
+			return n;
+		outer.addAll(Arrays.asList(n));
+		return outer.toArray(new Namespace[outer.size()]);
+	}
+
+	private boolean findReachableNamespaces(ClassMeta<?> cm, BeanSession session, Set<Namespace> s, Set<ClassMeta<?>> visited) {
+		if (cm == null || cm.isObject() || cm.isDelegate() || cm.getSwap(session) != null)
+			return false;
+		addNamespace(s, getXmlClassMeta(cm).getNamespace());
+		if (cm.isMap())
+			return findReachableNamespaces(cm.getValueType(), session, s, visited);
+		if (cm.isCollection() || cm.isArray() || cm.isOptional())
+			return findReachableNamespaces(cm.getElementType(), session, s, visited);
+		if (cm.isPrimitive() || cm.isNumber() || cm.isCharSequence() || cm.isBoolean() || cm.isDateOrCalendar())
+			return true;
+		if (cm.isAbstract())
+			return false;
+		if (! visited.add(cm))
+			return true;
+		if (cm.isBean()) {
+			for (BeanPropertyMeta bpm : cm.getBeanMeta().getPropertyMetas()) {
+				if (bpm.canRead()) {
+					addNamespace(s, getXmlBeanPropertyMeta(bpm).getNamespace());
+					if (! findReachableNamespaces(bpm.getClassMeta(), session, s, visited))
+						return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static void addNamespace(Set<Namespace> s, Namespace ns) {
+		if (ns != null && ns.uri != null)
+			s.add(ns);
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
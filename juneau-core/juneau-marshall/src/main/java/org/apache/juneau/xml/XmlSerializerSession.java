@@ -43,6 +43,7 @@ public class XmlSerializerSession extends WriterSerializerSession {
 	private Namespace
 		defaultNamespace;
 	private Namespace[] namespaces = new Namespace[0];
+	private boolean declareMissingNamespaces;
 
 	/**
 	 * Create a new session using properties specified in the context.
@@ -131,8 +132,11 @@ public class XmlSerializerSession extends WriterSerializerSession {
 
 	@Override /* Serializer */
 	protected void doSerialize(SerializerPipe out, Object o) throws IOException, SerializeException {
-		if (isEnableNamespaces() && isAutoDetectNamespaces())
-			findNsfMappings(o);
+		if (isEnableNamespaces() && isAutoDetectNamespaces()) {
+			if (o == null || ! addReachableNamespaces(getClassMetaForObject(o)))
+				findNsfMappings(o);
+			declareMissingNamespaces = isAddNamespaceUrisToRoot();
+		}
 		serializeAnything(getXmlWriter(out), o, getExpectedRootType(o), null, null, null, isEnableNamespaces() && isAddNamespaceUrisToRoot(), XmlFormat.DEFAULT, false, false, null);
 	}
 
@@ -151,6 +155,12 @@ public class XmlSerializerSession extends WriterSerializerSession {
 			throw new SerializeException(e);
 		}
 
+		// Nothing to crawl if the namespaces can be determined from the type alone.
+		if (aType != null && addReachableNamespaces(aType)) {
+			pop();
+			return;
+		}
+
 		if (aType != null) {
 			Namespace ns = getXmlClassMeta(aType).getNamespace();
 			if (ns != null) {
@@ -159,6 +169,22 @@ public class XmlSerializerSession extends WriterSerializerSession {
 				else
 					ns = null;
 			}
+
+			// Swapped values are crawled as the type they're serialized as.
+			PojoSwap swap = aType.getSwap(this);
+			if (swap != null) {
+				o = swap(swap, o);
+				aType = o == null ? null : getClassMetaForObject(o);
+				if (aType != null && addReachableNamespaces(aType)) {
+					pop();
+					return;
+				}
+				if (aType != null) {
+					ns = getXmlClassMeta(aType).getNamespace();
+					if (ns != null && ns.uri != null)
+						addNamespace(ns);
+				}
+			}
 		}
 
 		// Handle recursion
@@ -197,14 +223,17 @@ public class XmlSerializerSession extends WriterSerializerSession {
 				}
 
 			} else if (aType.isMap()) {
-				for (Object o2 : ((Map<?,?>)o).values())
-					findNsfMappings(o2);
+				if (! addReachableNamespaces(aType.getValueType()))
+					for (Object o2 : ((Map<?,?>)o).values())
+						findNsfMappings(o2);
 			} else if (aType.isCollection()) {
-				for (Object o2 : ((Collection<?>)o))
-					findNsfMappings(o2);
+				if (! addReachableNamespaces(aType.getElementType()))
+					for (Object o2 : ((Collection<?>)o))
+						findNsfMappings(o2);
 			} else if (aType.isArray() && ! aType.getElementType().isPrimitive()) {
-				for (Object o2 : ((Object[])o))
-					findNsfMappings(o2);
+				if (! addReachableNamespaces(aType.getElementType()))
+					for (Object o2 : ((Object[])o))
+						findNsfMappings(o2);
 			}
 			if (bm != null) {
 				for (BeanPropertyValue p : bm.getValues(isKeepNullProperties())) {
@@ -213,6 +242,9 @@ public class XmlSerializerSession extends WriterSerializerSession {
 					if (ns != null && ns.uri != null)
 						addNamespace(ns);
 
+					if (addReachableNamespaces(p.getMeta().getClassMeta()))
+						continue;
+
 					try {
 						findNsfMappings(p.getValue());
 					} catch (Throwable x) {
@@ -225,6 +257,36 @@ public class XmlSerializerSession extends WriterSerializerSession {
 		pop();
 	}
 
+	/*
+	 * Adds the namespaces that can be determined from the specified type alone.
+	 *
+	 * @param cm The declared or actual type of a value.
+	 * @return <jk>false</jk> if the value needs to be crawled to find its namespaces.
+	 */
+	private boolean addReachableNamespaces(ClassMeta<?> cm) {
+		Namespace[] ns = ctx.getReachableNamespaces(cm, this);
+		if (ns == null)
+			return false;
+		for (Namespace n : ns)
+			addNamespace(n);
+		return true;
+	}
+
+	/*
+	 * Returns true if the specified namespace needs to be declared on the element that uses it because it wasn't
+	 * declared on the root element.
+	 *
+	 * This happens when the actual value is of a subclass of its declared type that uses other namespaces.
+	 */
+	private boolean isUndeclared(Namespace ns) {
+		if (! declareMissingNamespaces || ns == null || ns.uri == null || ns == defaultNamespace)
+			return false;
+		for (Namespace n : namespaces)
+			if (n == ns)
+				return false;
+		return true;
+	}
+
 	/**
 	 * Workhorse method.
 	 *
@@ -412,6 +474,8 @@ public class XmlSerializerSession extends WriterSerializerSession {
 
 					for (Namespace n : namespaces)
 						out.attr("xmlns", n.getName(), n.getUri());
+				} else if (isUndeclared(elementNamespace)) {
+					out.attr("xmlns", elementNamespace.getName(), elementNamespace.getUri());
 				}
 				if (! isExpectedType) {
 					if (resolvedDictionaryName != null)
@@ -563,6 +627,7 @@ public class XmlSerializerSession extends WriterSerializerSession {
 
 		Object content = null;
 		ClassMeta<?> contentType = null;
+		List<Namespace> declared = null;
 		for (BeanPropertyValue p : lp) {
 			String n = p.getName();
 			if (attrs.contains(n) || attrs.contains("*") || n.equals(attrsProperty)) {
@@ -582,6 +647,13 @@ public class XmlSerializerSession extends WriterSerializerSession {
 					XmlBeanPropertyMeta bpXml = getXmlBeanPropertyMeta(pMeta);
 					Namespace ns = (isEnableNamespaces() && bpXml.getNamespace() != elementNs ? bpXml.getNamespace() : null);
 
+					if (isUndeclared(ns) && (declared == null || ! declared.contains(ns))) {
+						out.attr("xmlns", ns.getName(), ns.getUri());
+						if (declared == null)
+							declared = new ArrayList<>();
+						declared.add(ns);
+					}
+
 					if (pMeta.isUri()  ) {
 						out.attrUri(ns, key, value);
 					} else if (n.equals(attrsProperty)) {
@@ -0,0 +1,282 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.microservice.resources;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.text.*;
+import java.util.*;
+import java.util.regex.*;
+import java.util.zip.*;
+
+/**
+ * Sparse index of timestamps to file offsets for a log file.
+ *
+ * <p>
+ * The log file is divided into fixed-size blocks, and the index records the offset and timestamp of the first log
+ * record that starts in each block.
+ * <br>Since log files are written in chronological order, this allows the region of a file containing records between
+ * two dates to be located with a binary search instead of parsing every line from the start of the file.
+ *
+ * <p>
+ * The index is built incrementally by {@link #update()} as the log file grows, and is persisted to a sidecar file so
+ * that it doesn't need to be rebuilt when the index is reloaded.
+ * <br>If the log file is truncated or replaced (e.g. through log rotation), the index is rebuilt.
+ */
+public final class LogIndex {
+
+	/** Default block size. */
+	public static final int DEFAULT_BLOCK_SIZE = 1024 * 1024;
+
+	private static final int MAGIC = 0x4A4C4958, VERSION = 1, FINGERPRINT_SIZE = 1024;
+
+	private final File logFile, indexFile;
+	private final Pattern pattern;
+	private final int formatHash;
+	private final DateFormat df;
+	private final LogEntryFormatter formatter;
+	private final int blockSize;
+	private final Charset cs = Charset.defaultCharset();
+
+	private long indexedLength, fingerprint;  // indexedLength is the offset of the next block to index.
+	private int fingerprintLength, size;
+	private long[] times = new long[16], offsets = new long[16];
+	private boolean loaded;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param formatter The log entry formatter used to parse log records.
+	 * @param logFile The log file.
+	 * @param indexFile The sidecar file to persist the index to, or <jk>null</jk> to only keep the index in memory.
+	 * @param blockSize The size in bytes of the blocks of the log file.
+	 */
+	public LogIndex(LogEntryFormatter formatter, File logFile, File indexFile, int blockSize) {
+		this.formatter = formatter;
+		this.logFile = logFile;
+		this.indexFile = indexFile;
+		this.blockSize = blockSize;
+		this.pattern = formatter.getLogEntryPattern();
+		this.formatHash = pattern.pattern().hashCode();
+		this.df = (DateFormat)formatter.getDateFormat().clone();
+	}
+
+	/**
+	 * Indexes any content added to the log file since the last call.
+	 *
+	 * @return This object (for method chaining).
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	public synchronized LogIndex update() throws IOException {
+		if (! loaded) {
+			load();
+			loaded = true;
+		}
+
+		boolean changed = false;
+
+		try (FileChannel fc = FileChannel.open(logFile.toPath(), StandardOpenOption.READ)) {
+			long length = fc.size();
+
+			if ((size > 0 && length <= offsets[size-1]) || (fingerprintLength > 0 && fingerprint(fc, fingerprintLength) != fingerprint)) {
+				reset();
+				changed = true;
+			}
+
+			if (fingerprintLength < FINGERPRINT_SIZE && length > fingerprintLength) {
+				fingerprintLength = (int)Math.min(FINGERPRINT_SIZE, length);
+				fingerprint = fingerprint(fc, fingerprintLength);
+				changed = true;
+			}
+
+			// Only index complete lines.
+			long limit = MappedLineReader.lastLineEnd(fc, length, indexedLength);
+
+			while (indexedLength < limit) {
+				MappedLineReader r;
+				if (indexedLength == 0) {
+					r = new MappedLineReader(fc, cs, 0, limit);
+				} else {
+					// Skip to the start of the first line in the block.
+					r = new MappedLineReader(fc, cs, indexedLength - 1, limit);
+					r.readLine();
+				}
+				long offset = r.position();
+				Date date = null;
+				for (String line = r.readLine(); line != null && date == null; line = r.readLine()) {
+					date = parseDate(line);
+					if (date == null)
+						offset = r.position();
+				}
+				if (date == null)
+					break;
+				if (size == 0 || offset > offsets[size-1])
+					add(date.getTime(), offset);
+				indexedLength = (offset / blockSize + 1) * blockSize;
+				changed = true;
+			}
+		}
+
+		if (changed)
+			save();
+
+		return this;
+	}
+
+	/**
+	 * Returns the region of the log file that contains all records between the specified dates.
+	 *
+	 * <p>
+	 * The region is widened by one block on either side to tolerate slightly out-of-order timestamps.
+	 *
+	 * @param start The start date, or <jk>null</jk> for the start of the file.
+	 * @param end The end date, or <jk>null</jk> for the end of the file.
+	 * @return A two-element array containing the start and end offsets.  The end offset is {@link Long#MAX_VALUE} if the
+	 * 	region extends to the end of the file.
+	 */
+	public synchronized long[] getRange(Date start, Date end) {
+		long s = 0, e = Long.MAX_VALUE;
+		if (start != null) {
+			int i = search(start.getTime()) - 1;
+			if (i > 0)
+				s = offsets[i-1];
+		}
+		if (end != null) {
+			int i = search(end.getTime() + 1);
+			if (i + 1 < size)
+				e = offsets[i+1];
+		}
+		return new long[]{s, e};
+	}
+
+	/**
+	 * Returns the number of entries in this index.
+	 *
+	 * @return The number of entries in this index.
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the offset of the next block of the log file to be indexed.
+	 *
+	 * @return The offset of the next block of the log file to be indexed.
+	 */
+	public synchronized long getIndexedLength() {
+		return indexedLength;
+	}
+
+	/**
+	 * Returns the sidecar file for the specified log file.
+	 *
+	 * @param logFile The log file.
+	 * @return The sidecar file.
+	 */
+	public static File getIndexFile(File logFile) {
+		return new File(logFile.getPath() + ".idx");
+	}
+
+	// Returns the index of the first entry with a time greater than or equal to the specified time.
+	private int search(long time) {
+		int lo = 0, hi = size;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (times[mid] < time)
+				lo = mid + 1;
+			else
+				hi = mid;
+		}
+		return lo;
+	}
+
+	private Date parseDate(String line) {
+		Matcher m = pattern.matcher(line);
+		if (! m.matches())
+			return null;
+		String s = formatter.getField("date", m);
+		if (s == null)
+			return null;
+		try {
+			return df.parse(s);
+		} catch (ParseException e) {
+			return null;
+		}
+	}
+
+	private void add(long time, long offset) {
+		if (size == times.length) {
+			times = Arrays.copyOf(times, size * 2);
+			offsets = Arrays.copyOf(offsets, size * 2);
+		}
+		times[size] = time;
+		offsets[size] = offset;
+		size++;
+	}
+
+	private void reset() {
+		size = 0;
+		indexedLength = 0;
+		fingerprintLength = 0;
+		fingerprint = 0;
+	}
+
+	private static long fingerprint(FileChannel fc, int len) throws IOException {
+		ByteBuffer b = ByteBuffer.allocate(len);
+		while (b.hasRemaining() && fc.read(b, b.position()) > 0) {}
+		CRC32 crc = new CRC32();
+		crc.update(b.array(), 0, b.position());
+		return crc.getValue();
+	}
+
+	private void load() {
+		if (indexFile == null || ! indexFile.exists())
+			return;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readInt() != blockSize || in.readInt() != formatHash)
+				return;
+			indexedLength = in.readLong();
+			fingerprintLength = in.readInt();
+			fingerprint = in.readLong();
+			int n = in.readInt();
+			for (int i = 0; i < n; i++)
+				add(in.readLong(), in.readLong());
+		} catch (IOException e) {
+			reset();
+		}
+	}
+
+	private void save() {
+		if (indexFile == null)
+			return;
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFile)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(blockSize);
+			out.writeInt(formatHash);
+			out.writeLong(indexedLength);
+			out.writeInt(fingerprintLength);
+			out.writeLong(fingerprint);
+			out.writeInt(size);
+			for (int i = 0; i < size; i++) {
+				out.writeLong(times[i]);
+				out.writeLong(offsets[i]);
+			}
+		} catch (IOException e) {
+			// Index directory not writable.  Keep the index in memory only.
+		}
+	}
+}
@@ -13,7 +13,9 @@
 package org.apache.juneau.microservice.resources;
 
 import java.io.*;
+import java.nio.channels.*;
 import java.nio.charset.*;
+import java.nio.file.*;
 import java.text.*;
 import java.util.*;
 import java.util.regex.*;
@@ -26,10 +28,17 @@ import org.apache.juneau.collections.*;
  * <p>
  * Provides the capability of returning splices of log files based on dates and filtering based on thread and logger
  * names.
+ *
+ * <p>
+ * The file is read through memory-mapped windows.
+ * <br>When a {@link LogIndex} is provided, only the region of the file containing records between the start and end
+ * dates is read.
  */
 public final class LogParser implements Iterable<LogParser.Entry>, Iterator<LogParser.Entry>, Closeable {
-	private BufferedReader br;
+	private final FileChannel fc;
+	private final MappedLineReader reader;
 	LogEntryFormatter formatter;
+	DateFormat df;
 	Date start, end;
 	Set<String> loggerFilter, severityFilter;
 	String threadFilter;
@@ -48,8 +57,30 @@ public final class LogParser implements Iterable<LogParser.Entry>, Iterator<LogP
 	 * @throws IOException Thrown by underlying stream.
 	 */
 	public LogParser(LogEntryFormatter formatter, File f, Date start, Date end, String thread, String[] loggers, String[] severity) throws IOException {
-		br = new BufferedReader(new InputStreamReader(new FileInputStream(f), Charset.defaultCharset()));
+		this(formatter, f, null, start, end, thread, loggers, severity);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param formatter The log entry formatter.
+	 * @param f The log file.
+	 * @param index
+	 * 	The index of the log file used to skip to the region between the start and end dates.
+	 * 	<br>If <jk>null</jk>, the entire file is read.
+	 * @param start Don't return rows before this date.  If <jk>null</jk>, start from the beginning of the file.
+	 * @param end Don't return rows after this date.  If <jk>null</jk>, go to the end of the file.
+	 * @param thread Only return log entries with this thread name.
+	 * @param loggers Only return log entries produced by these loggers (simple class names).
+	 * @param severity Only return log entries with the specified severity.
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	public LogParser(LogEntryFormatter formatter, File f, LogIndex index, Date start, Date end, String thread, String[] loggers, String[] severity) throws IOException {
+		fc = FileChannel.open(f.toPath(), StandardOpenOption.READ);
+		long[] range = index == null ? new long[]{0, Long.MAX_VALUE} : index.getRange(start, end);
+		reader = new MappedLineReader(fc, Charset.defaultCharset(), range[0], Math.min(range[1], fc.size()));
 		this.formatter = formatter;
+		this.df = (DateFormat)formatter.getDateFormat().clone();
 		this.start = start;
 		this.end = end;
 		this.threadFilter = thread;
@@ -59,11 +90,16 @@ public final class LogParser implements Iterable<LogParser.Entry>, Iterator<LogP
 			this.severityFilter = ASet.of(severity);
 
 		// Find the first line.
-		String line;
-		while (next == null && (line = br.readLine()) != null) {
-			Entry e = new Entry(line);
-			if (e.matches())
-				next = e;
+		try {
+			String line;
+			while (next == null && (line = reader.readLine()) != null) {
+				Entry e = new Entry(line);
+				if (e.matches())
+					next = e;
+			}
+		} catch (IOException | RuntimeException e) {
+			fc.close();
+			throw e;
 		}
 	}
 
@@ -79,7 +115,7 @@ public final class LogParser implements Iterable<LogParser.Entry>, Iterator<LogP
 		try {
 			next = null;
 			String line = null;
-			while (next == null && (line = br.readLine()) != null) {
+			while (next == null && (line = reader.readLine()) != null) {
 				Entry e = new Entry(line);
 				if (e.isRecord) {
 					if (e.matches())
@@ -108,7 +144,7 @@ public final class LogParser implements Iterable<LogParser.Entry>, Iterator<LogP
 
 	@Override /* Closeable */
 	public void close() throws IOException {
-		br.close();
+		fc.close();
 	}
 
 	/**
@@ -148,7 +184,7 @@ public final class LogParser implements Iterable<LogParser.Entry>, Iterator<LogP
 					isRecord = true;
 					String s = formatter.getField("date", m);
 					if (s != null)
-						date = formatter.getDateFormat().parse(s);
+						date = df.parse(s);
 					thread = formatter.getField("thread", m);
 					severity = formatter.getField("level", m);
 					logger = formatter.getField("logger", m);
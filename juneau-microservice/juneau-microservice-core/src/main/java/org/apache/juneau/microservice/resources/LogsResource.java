@@ -19,6 +19,7 @@ import static org.apache.juneau.internal.StringUtils.*;
 import java.io.*;
 import java.nio.charset.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.annotation.*;
 import org.apache.juneau.dto.*;
@@ -92,6 +93,7 @@ public class LogsResource extends BasicRestServlet {
 	private File logDir;
 	private LogEntryFormatter leFormatter;
 	boolean allowDeletes;
+	private final ConcurrentHashMap<File,LogIndex> indexes = new ConcurrentHashMap<>();
 
 
 	@RestHook(INIT)
@@ -356,11 +358,16 @@ public class LogsResource extends BasicRestServlet {
 			File[] files = f.listFiles();
 			if (files != null) {
 				for (File fc : files)
-					deleteFile(fc);
+					if (fc.exists())
+						deleteFile(fc);
 			}
 		}
 		if (! f.delete())
 			throw new Forbidden("Could not delete file {0}", f.getAbsolutePath()) ;
+		indexes.remove(f);
+		File idx = LogIndex.getIndexFile(f);
+		if (idx.exists())
+			idx.delete();
 	}
 
 	private static BufferedReader getReader(File f) throws IOException {
@@ -368,12 +375,19 @@ public class LogsResource extends BasicRestServlet {
 	}
 
 	private Object getReader(File f, final Date start, final Date end, final String thread, final String[] loggers, final String[] severity) throws IOException {
-		if (start == null && end == null && thread == null && loggers == null)
+		if (start == null && end == null && thread == null && loggers == null && severity == null)
 			return getReader(f);
 		return getLogParser(f, start, end, thread, loggers, severity);
 	}
 
 	private LogParser getLogParser(File f, final Date start, final Date end, final String thread, final String[] loggers, final String[] severity) throws IOException {
-		return new LogParser(leFormatter, f, start, end, thread, loggers, severity);
+		LogIndex index = null;
+		if (start != null || end != null)
+			index = getLogIndex(f).update();
+		return new LogParser(leFormatter, f, index, start, end, thread, loggers, severity);
+	}
+
+	private LogIndex getLogIndex(File f) {
+		return indexes.computeIfAbsent(f, x -> new LogIndex(leFormatter, x, LogIndex.getIndexFile(x), LogIndex.DEFAULT_BLOCK_SIZE));
 	}
 }
@@ -0,0 +1,123 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.microservice.resources;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.channels.FileChannel.*;
+import java.nio.charset.*;
+import java.util.*;
+
+/**
+ * Reads lines from a region of a file using memory-mapped windows.
+ *
+ * <p>
+ * Files larger than the window size are mapped one window at a time, so arbitrarily large files can be read
+ * starting at any offset without reading the preceding content.
+ */
+final class MappedLineReader {
+
+	private static final long WINDOW_SIZE = 64 * 1024 * 1024;
+
+	private final FileChannel fc;
+	private final Charset cs;
+	private final long limit;
+	private MappedByteBuffer buf;
+	private long bufStart, pos;
+	private byte[] line = new byte[256];
+
+	/**
+	 * Constructor.
+	 *
+	 * @param fc The file channel to read from.
+	 * @param cs The charset of the file.
+	 * @param start The file offset to start reading from.
+	 * @param limit The file offset to stop reading at.
+	 */
+	MappedLineReader(FileChannel fc, Charset cs, long start, long limit) {
+		this.fc = fc;
+		this.cs = cs;
+		this.pos = start;
+		this.limit = limit;
+	}
+
+	/**
+	 * Returns the file offset of the next line to be read.
+	 *
+	 * @return The file offset of the next line to be read.
+	 */
+	long position() {
+		return pos;
+	}
+
+	/**
+	 * Reads the next line, stripping the line terminator.
+	 *
+	 * @return The next line, or <jk>null</jk> if the limit has been reached.
+	 * @throws IOException Thrown by underlying channel.
+	 */
+	String readLine() throws IOException {
+		if (pos >= limit)
+			return null;
+		int len = 0;
+		while (pos < limit) {
+			if (buf == null || pos >= bufStart + buf.limit()) {
+				bufStart = pos;
+				buf = fc.map(MapMode.READ_ONLY, pos, Math.min(WINDOW_SIZE, limit - pos));
+			}
+			int i = (int)(pos - bufStart), n = (int)Math.min(buf.limit(), limit - bufStart);
+			for (; i < n; i++) {
+				byte b = buf.get(i);
+				if (b == '\n') {
+					pos = bufStart + i + 1;
+					return decode(len);
+				}
+				if (len == line.length)
+					line = Arrays.copyOf(line, len * 2);
+				line[len++] = b;
+			}
+			pos = bufStart + n;
+		}
+		return decode(len);
+	}
+
+	private String decode(int len) {
+		if (len > 0 && line[len-1] == '\r')
+			len--;
+		return new String(line, 0, len, cs);
+	}
+
+	/**
+	 * Returns the offset just past the last line terminator at or before the specified offset.
+	 *
+	 * @param fc The file channel to read from.
+	 * @param end The file offset to search backwards from.
+	 * @param floor The file offset to stop searching at.
+	 * @return The offset just past the last line terminator, or <c>floor</c> if not found.
+	 * @throws IOException Thrown by underlying channel.
+	 */
+	static long lastLineEnd(FileChannel fc, long end, long floor) throws IOException {
+		ByteBuffer b = ByteBuffer.allocate(8192);
+		for (long p = end; p > floor;) {
+			int n = (int)Math.min(b.capacity(), p - floor);
+			b.clear().limit(n);
+			while (b.hasRemaining() && fc.read(b, p - n + b.position()) > 0) {}
+			for (int i = n - 1; i >= 0; i--)
+				if (b.get(i) == '\n')
+					return p - n + i + 1;
+			p -= n;
+		}
+		return floor;
+	}
+}
@@ -0,0 +1,248 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.microservice.resources;
+
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.text.*;
+import java.util.*;
+
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class LogIndex_Test {
+
+	private static final String DATE_FORMAT = "yyyy.MM.dd HH:mm:ss";
+	private static final LogEntryFormatter FORMATTER = new LogEntryFormatter("[{date} {level}] {msg}%n", DATE_FORMAT, false);
+	private static final int BLOCK_SIZE = 256;
+
+	private File dir, log, idx;
+
+	@Before
+	public void before() throws IOException {
+		dir = Files.createTempDirectory("LogIndex_Test").toFile();
+		log = new File(dir, "test.log");
+		idx = LogIndex.getIndexFile(log);
+	}
+
+	@After
+	public void after() {
+		for (File f : dir.listFiles())
+			f.delete();
+		dir.delete();
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Building the index.
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_update() throws Exception {
+		write(log, 2020, 0, 200, false);
+		LogIndex x = new LogIndex(FORMATTER, log, idx, BLOCK_SIZE).update();
+		assertTrue(x.size() > 10);
+		assertTrue(x.getIndexedLength() >= log.length());
+		assertTrue(idx.exists());
+	}
+
+	@Test
+	public void a02_getRange() throws Exception {
+		write(log, 2020, 0, 200, false);
+		LogIndex x = new LogIndex(FORMATTER, log, idx, BLOCK_SIZE).update();
+
+		long[] r = x.getRange(date(2020, 100), date(2020, 110));
+		assertTrue(r[0] > 0);
+		assertTrue(r[1] < log.length());
+		assertTrue(r[1] - r[0] < log.length() / 4);
+
+		r = x.getRange(null, null);
+		assertEquals(0, r[0]);
+		assertEquals(Long.MAX_VALUE, r[1]);
+
+		r = x.getRange(date(2019, 0), date(2021, 0));
+		assertEquals(0, r[0]);
+		assertEquals(Long.MAX_VALUE, r[1]);
+	}
+
+	@Test
+	public void a03_rangeRead() throws Exception {
+		write(log, 2020, 0, 200, true);
+		LogIndex x = new LogIndex(FORMATTER, log, idx, BLOCK_SIZE).update();
+
+		List<String> l = read(x, date(2020, 100), date(2020, 110));
+		assertEquals(11, l.size());
+		assertEquals("msg 100\ntrace 100", l.get(0));
+		assertEquals("msg 110\ntrace 110", l.get(10));
+		assertEquals(read(null, date(2020, 100), date(2020, 110)), l);
+
+		assertEquals(read(null, date(2020, 0), date(2020, 3)), read(x, date(2020, 0), date(2020, 3)));
+		assertEquals(read(null, date(2020, 195), null), read(x, date(2020, 195), null));
+		assertEquals(200, read(x, null, null).size());
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Sidecar file.
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_sidecar_reloaded() throws Exception {
+		write(log, 2020, 0, 100, false);
+		LogIndex x1 = new LogIndex(FORMATTER, log, idx, BLOCK_SIZE).update();
+		byte[] b1 = Files.readAllBytes(idx.toPath());
+
+		// Loading the sidecar into a new index doesn't change it.
+		LogIndex x2 = new LogIndex(FORMATTER, log, idx, BLOCK_SIZE).update();
+		assertEquals(x1.size(), x2.size());
+		assertEquals(x1.getIndexedLength(), x2.getIndexedLength());
+		assertArrayEquals(b1, Files.readAllBytes(idx.toPath()));
+
+		// Content appended to the log is added to the loaded index.
+		write(log, 2020, 100, 200, false);
+		LogIndex x3 = new LogIndex(FORMATTER, log, idx, BLOCK_SIZE).update();
+		assertTrue(x3.size() > x2.size());
+		assertFalse(Arrays.equals(b1, Files.readAllBytes(idx.toPath())));
+		assertEquals(Arrays.asList("msg 150"), read(x3, date(2020, 150), date(2020, 150)));
+	}
+
+	@Test
+	public void b02_sidecar_rotated() throws Exception {
+		write(log, 2020, 0, 200, false);
+		LogIndex x = new LogIndex(FORMATTER, log, idx, BLOCK_SIZE).update();
+		int size = x.size();
+
+		// Replace the log with a shorter one with different content.
+		log.delete();
+		write(log, 2021, 0, 50, false);
+		x.update();
+		assertTrue(x.size() < size);
+		assertEquals(Arrays.asList("msg 20"), read(x, date(2021, 20), date(2021, 20)));
+
+		// A new index loading the sidecar sees the rebuilt index.
+		LogIndex x2 = new LogIndex(FORMATTER, log, idx, BLOCK_SIZE).update();
+		assertEquals(x.size(), x2.size());
+	}
+
+	@Test
+	public void b03_sidecar_sameLengthRewrite() throws Exception {
+		write(log, 2020, 0, 100, false);
+		LogIndex x = new LogIndex(FORMATTER, log, idx, BLOCK_SIZE).update();
+
+		// Same length, different first bytes, detected by the fingerprint.
+		log.delete();
+		write(log, 2021, 0, 100, false);
+		new LogIndex(FORMATTER, log, idx, BLOCK_SIZE).update();
+		x = new LogIndex(FORMATTER, log, idx, BLOCK_SIZE).update();
+		assertEquals(Arrays.asList("msg 50"), read(x, date(2021, 50), date(2021, 50)));
+	}
+
+	@Test
+	public void b04_sidecar_differentBlockSize() throws Exception {
+		write(log, 2020, 0, 200, false);
+		int size = new LogIndex(FORMATTER, log, idx, BLOCK_SIZE).update().size();
+
+		// A sidecar written with a different block size is ignored and rebuilt.
+		LogIndex x = new LogIndex(FORMATTER, log, idx, BLOCK_SIZE * 4).update();
+		assertTrue(x.size() < size);
+		assertEquals(Arrays.asList("msg 120"), read(x, date(2020, 120), date(2020, 120)));
+	}
+
+	@Test
+	public void b05_sidecar_corrupt() throws Exception {
+		write(log, 2020, 0, 200, false);
+		int size = new LogIndex(FORMATTER, log, idx, BLOCK_SIZE).update().size();
+		Files.write(idx.toPath(), new byte[]{1,2,3});
+		assertEquals(size, new LogIndex(FORMATTER, log, idx, BLOCK_SIZE).update().size());
+	}
+
+	@Test
+	public void b06_noSidecar() throws Exception {
+		write(log, 2020, 0, 200, false);
+		LogIndex x = new LogIndex(FORMATTER, log, null, BLOCK_SIZE).update();
+		assertTrue(x.size() > 10);
+		assertFalse(idx.exists());
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// MappedLineReader.
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_mappedLineReader() throws Exception {
+		Files.write(log.toPath(), "foo\r\nbar\n\nbaz".getBytes("UTF-8"));
+		try (FileChannel fc = FileChannel.open(log.toPath(), StandardOpenOption.READ)) {
+			MappedLineReader r = new MappedLineReader(fc, StandardCharsets.UTF_8, 0, fc.size());
+			assertEquals("foo", r.readLine());
+			assertEquals(5, r.position());
+			assertEquals("bar", r.readLine());
+			assertEquals("", r.readLine());
+			assertEquals("baz", r.readLine());
+			assertNull(r.readLine());
+
+			r = new MappedLineReader(fc, StandardCharsets.UTF_8, 5, 8);
+			assertEquals("bar", r.readLine());
+			assertNull(r.readLine());
+
+			assertEquals(10, MappedLineReader.lastLineEnd(fc, fc.size(), 0));
+			assertEquals(5, MappedLineReader.lastLineEnd(fc, 8, 0));
+			assertEquals(0, MappedLineReader.lastLineEnd(fc, 3, 0));
+		}
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// LogParser.
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void d01_appendHtml() throws Exception {
+		write(log, 2020, 0, 1, true);
+		try (LogParser p = new LogParser(FORMATTER, log, null, null, null, null, null)) {
+			StringWriter w = new StringWriter();
+			p.next().appendHtml(w);
+			assertEquals("[2020.01.01 00:00:00 INFO] msg 0<br>trace 0<br>", w.toString());
+		}
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Helper methods.
+	//------------------------------------------------------------------------------------------------------------------
+
+	private static Date date(int year, int second) throws ParseException {
+		return new Date(new SimpleDateFormat(DATE_FORMAT).parse(year + ".01.01 00:00:00").getTime() + second * 1000L);
+	}
+
+	// Appends records numbered [from,to), one per second.
+	private static void write(File f, int year, int from, int to, boolean trace) throws Exception {
+		DateFormat df = new SimpleDateFormat(DATE_FORMAT);
+		try (Writer w = new OutputStreamWriter(new FileOutputStream(f, true), Charset.defaultCharset())) {
+			for (int i = from; i < to; i++) {
+				w.write("[" + df.format(date(year, i)) + " INFO] msg " + i + "\n");
+				if (trace)
+					w.write("trace " + i + "\n");
+			}
+		}
+	}
+
+	private List<String> read(LogIndex index, Date start, Date end) throws IOException {
+		List<String> l = new ArrayList<>();
+		try (LogParser p = new LogParser(FORMATTER, log, index, start, end, null, null, null)) {
+			for (LogParser.Entry e : p)
+				l.add(e.getText());
+		}
+		return l;
+	}
+}
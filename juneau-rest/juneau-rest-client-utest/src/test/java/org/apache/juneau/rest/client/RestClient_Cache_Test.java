@@ -0,0 +1,210 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.concurrent.atomic.*;
+
+import org.apache.http.*;
+import org.apache.http.entity.*;
+import org.apache.http.message.*;
+import org.apache.juneau.http.annotation.Header;
+import org.apache.juneau.http.remote.*;
+import org.apache.juneau.http.response.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.mock.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class RestClient_Cache_Test {
+
+	static final AtomicInteger FRESH = new AtomicInteger(), ETAG = new AtomicInteger(), NO_STORE = new AtomicInteger();
+
+	@Rest
+	public static class A {
+		@RestMethod(path="/fresh")
+		public String getFresh(org.apache.juneau.rest.RestResponse res) {
+			res.setHeader("Cache-Control", "max-age=100");
+			return "fresh" + FRESH.incrementAndGet();
+		}
+		@RestMethod(path="/fresh")
+		public String putFresh() {
+			return "ok";
+		}
+		@RestMethod(path="/etag")
+		public Object getEtag(@Header("If-None-Match") String inm, org.apache.juneau.rest.RestResponse res) {
+			ETAG.incrementAndGet();
+			res.setHeader("Cache-Control", "no-cache");
+			res.setHeader("ETag", "\"x\"");
+			if ("\"x\"".equals(inm))
+				return new NotModified();
+			return "etag";
+		}
+		@RestMethod(path="/noStore")
+		public String getNoStore(org.apache.juneau.rest.RestResponse res) {
+			res.setHeader("Cache-Control", "no-store");
+			return "noStore" + NO_STORE.incrementAndGet();
+		}
+	}
+
+	@Remote
+	public static interface A1 {
+		@RemoteMethod(path="/fresh") String getFresh();
+	}
+
+	@Before
+	public void reset() {
+		FRESH.set(0);
+		ETAG.set(0);
+		NO_STORE.set(0);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Caching
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_fresh() throws Exception {
+		RestClient x = client().cache().build();
+		x.get("/fresh").run().assertBody().is("fresh1");
+		x.get("/fresh").run().assertBody().is("fresh1").assertStringHeader("Age").exists();
+		assertEquals(1, FRESH.get());
+		assertEquals(1, x.getCacheStats().getHits());
+		assertEquals(1, x.getCacheStats().getMisses());
+	}
+
+	@Test
+	public void a02_requestNoCache() throws Exception {
+		RestClient x = client().cache().build();
+		x.get("/fresh").run().assertBody().is("fresh1");
+		x.get("/fresh").header("Cache-Control", "no-cache").run().assertBody().is("fresh2");
+		x.get("/fresh").run().assertBody().is("fresh2");
+		assertEquals(2, FRESH.get());
+	}
+
+	@Test
+	public void a03_revalidation() throws Exception {
+		RestClient x = client().cache().build();
+		x.get("/etag").run().assertCode().is(200).assertBody().is("etag");
+		x.get("/etag").run().assertCode().is(200).assertBody().is("etag");
+		assertEquals(2, ETAG.get());
+		assertEquals(1, x.getCacheStats().getRevalidations());
+		assertEquals(0, x.getCacheStats().getHits());
+	}
+
+	@Test
+	public void a04_noStore() throws Exception {
+		RestClient x = client().cache().build();
+		x.get("/noStore").run().assertBody().is("noStore1");
+		x.get("/noStore").run().assertBody().is("noStore2");
+		assertEquals(2, x.getCacheStats().getMisses());
+	}
+
+	@Test
+	public void a05_invalidation() throws Exception {
+		RestClient x = client().cache().build();
+		x.get("/fresh").run().assertBody().is("fresh1");
+		x.put("/fresh", "foo").run().assertBody().is("ok");
+		x.get("/fresh").run().assertBody().is("fresh2");
+	}
+
+	@Test
+	public void a06_varyOnAccept() throws Exception {
+		RestClient x = client().cache().build();
+		x.get("/fresh").run().assertBody().is("fresh1");
+		x.get("/fresh").accept("text/plain").run().assertBody().is("fresh2");
+	}
+
+	@Test
+	public void a07_remoteProxy() throws Exception {
+		RestClient x = client().cache().build();
+		A1 a1 = x.getRemote(A1.class);
+		assertEquals("fresh1", a1.getFresh());
+		assertEquals("fresh1", a1.getFresh());
+		assertEquals(1, x.getCacheStats().getHits());
+	}
+
+	@Test
+	public void a08_notEnabled() throws Exception {
+		RestClient x = client().build();
+		x.get("/fresh").run().assertBody().is("fresh1");
+		x.get("/fresh").run().assertBody().is("fresh2");
+		assertNull(x.getCacheStats());
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Stores
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private static RestCacheEntry entry(String body) throws Exception {
+		BasicHttpRequest req = new BasicHttpRequest("GET", "/foo");
+		BasicHttpResponse res = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+		res.addHeader("Cache-Control", "max-age=100");
+		res.setEntity(new StringEntity(body));
+		long now = System.currentTimeMillis();
+		return RestCacheEntry.create(req, res, body.getBytes("UTF-8"), now, now);
+	}
+
+	@Test
+	public void b01_basicStore_bounds() throws Exception {
+		BasicRestCacheStore x = new BasicRestCacheStore(2, 10000, 1000);
+		x.put("a", entry("a"));
+		x.put("b", entry("b"));
+		x.get("a");
+		x.put("c", entry("c"));
+		assertEquals(2, x.getEntryCount());
+		assertNotNull(x.get("a"));
+		assertNull(x.get("b"));
+	}
+
+	@Test
+	public void b02_fileStore() throws Exception {
+		File dir = Files.createTempDirectory("RestClient_Cache_Test").toFile();
+		try {
+			new FileRestCacheStore(dir).put("a", entry("foo"));
+			FileRestCacheStore x = new FileRestCacheStore(dir);
+			RestCacheEntry e = x.get("a");
+			assertEquals("foo", new String(e.getBody(), "UTF-8"));
+			assertTrue(e.isFresh(System.currentTimeMillis()));
+			assertNull(x.get("b"));
+			x.remove("a");
+			assertNull(x.get("a"));
+			assertEquals(0, x.getSize());
+
+			// Temporary files left behind by a crashed writer are cleaned up, but not the ones still being written.
+			File stale = new File(dir, "x.cache1.tmp"), fresh = new File(dir, "x.cache2.tmp");
+			assertTrue(stale.createNewFile());
+			assertTrue(fresh.createNewFile());
+			assertTrue(stale.setLastModified(System.currentTimeMillis() - 3_600_000));
+			new FileRestCacheStore(dir);
+			assertFalse(stale.exists());
+			assertTrue(fresh.exists());
+		} finally {
+			for (File f : dir.listFiles())
+				f.delete();
+			dir.delete();
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Helper methods.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private static RestClientBuilder client() {
+		return MockRestClient.create(A.class);
+	}
+}
@@ -0,0 +1,217 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import static org.apache.juneau.http.HttpMethod.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.apache.http.*;
+import org.apache.http.protocol.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.mock.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class RestClient_Coalesce_Test {
+
+	static final AtomicInteger CALLS = new AtomicInteger();
+	static volatile CountDownLatch RELEASE;
+
+	@Rest
+	public static class A {
+		@RestMethod(path="/slow")
+		public String getSlow() throws Exception {
+			CALLS.incrementAndGet();
+			RELEASE.await(10, TimeUnit.SECONDS);
+			return "foo";
+		}
+
+		@RestMethod(method=POST, path="/slow")
+		public String postSlow() throws Exception {
+			return getSlow();
+		}
+
+		@RestMethod(method=PUT, path="/slow")
+		public String putSlow() throws Exception {
+			return getSlow();
+		}
+	}
+
+	/**
+	 * Call handler that fails once released.
+	 */
+	public static class B implements RestCallHandler {
+		@Override
+		public HttpResponse run(HttpHost target, HttpRequest request, HttpContext context) throws IOException {
+			CALLS.incrementAndGet();
+			try {
+				RELEASE.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				throw new InterruptedIOException();
+			}
+			throw new IOException("Connection reset");
+		}
+	}
+
+	@Before
+	public void reset() {
+		CALLS.set(0);
+		RELEASE = new CountDownLatch(1);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Coalescing
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_concurrent() throws Exception {
+		RestClient x = client().coalesceRequests().build();
+		List<String> results = Collections.synchronizedList(new ArrayList<>());
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			threads.add(new Thread(() -> {
+				try {
+					results.add(x.get("/slow").run().getBody().asString());
+				} catch (Exception e) {
+					results.add(e.toString());
+				}
+			}));
+		}
+
+		// Wait until the first call reaches the server and the others are waiting for it.
+		threads.get(0).start();
+		while (CALLS.get() == 0)
+			Thread.sleep(10);
+		for (Thread t : threads.subList(1, threads.size()))
+			t.start();
+		for (Thread t : threads.subList(1, threads.size()))
+			while (t.getState() != Thread.State.WAITING)
+				Thread.sleep(10);
+
+		RELEASE.countDown();
+		for (Thread t : threads)
+			t.join();
+
+		assertEquals(1, CALLS.get());
+		assertEquals(Arrays.asList("foo","foo","foo","foo","foo"), results);
+	}
+
+	@Test
+	public void a02_sequential() throws Exception {
+		RestClient x = client().coalesceRequests().build();
+		RELEASE.countDown();
+		x.get("/slow").run().assertBody().is("foo");
+		x.get("/slow").run().assertBody().is("foo");
+		assertEquals(2, CALLS.get());
+	}
+
+	@Test
+	public void a03_failurePropagatedToAllCallers() throws Exception {
+		RestClient x = RestClient.create().callHandler(new B()).coalesceRequests().build();
+		List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			threads.add(new Thread(() -> {
+				try {
+					x.get("http://localhost/slow").run();
+				} catch (Exception e) {
+					errors.add(e);
+				}
+			}));
+		}
+
+		threads.get(0).start();
+		while (CALLS.get() == 0)
+			Thread.sleep(10);
+		for (Thread t : threads.subList(1, threads.size()))
+			t.start();
+		for (Thread t : threads.subList(1, threads.size()))
+			while (t.getState() != Thread.State.WAITING)
+				Thread.sleep(10);
+
+		RELEASE.countDown();
+		for (Thread t : threads)
+			t.join();
+
+		assertEquals(1, CALLS.get());
+		assertEquals(5, errors.size());
+		for (Throwable t : errors) {
+			while (t.getCause() != null)
+				t = t.getCause();
+			assertEquals("Connection reset", t.getMessage());
+		}
+	}
+
+	@Test
+	public void a04_differentHeadersNotCoalesced() throws Exception {
+		RestClient x = client().coalesceRequests().build();
+		Thread t1 = start(() -> x.get("/slow").header("Foo", "1").run().assertBody().is("foo"));
+		awaitCalls(1);
+		Thread t2 = start(() -> x.get("/slow").header("Foo", "2").run().assertBody().is("foo"));
+		awaitCalls(2);
+		RELEASE.countDown();
+		t1.join();
+		t2.join();
+		assertEquals(2, CALLS.get());
+	}
+
+	@Test
+	public void a05_unsafeMethodsNotCoalesced() throws Exception {
+		RestClient x = client().coalesceRequests().build();
+		Thread t1 = start(() -> x.post("/slow", "bar").run().assertBody().is("foo"));
+		awaitCalls(1);
+		Thread t2 = start(() -> x.post("/slow", "bar").run().assertBody().is("foo"));
+		awaitCalls(2);
+		Thread t3 = start(() -> x.put("/slow", "bar").run().assertBody().is("foo"));
+		awaitCalls(3);
+		Thread t4 = start(() -> x.put("/slow", "bar").run().assertBody().is("foo"));
+		awaitCalls(4);
+		RELEASE.countDown();
+		for (Thread t : Arrays.asList(t1, t2, t3, t4))
+			t.join();
+		assertEquals(4, CALLS.get());
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Helper methods.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private static RestClientBuilder client() {
+		return MockRestClient.create(A.class);
+	}
+
+	private static Thread start(Callable<?> c) {
+		Thread t = new Thread(() -> {
+			try {
+				c.call();
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+		});
+		t.start();
+		return t;
+	}
+
+	// Waits until the specified number of requests have reached the server, which only happens if they weren't coalesced.
+	private static void awaitCalls(int n) throws InterruptedException {
+		for (int i = 0; i < 500 && CALLS.get() < n; i++)
+			Thread.sleep(10);
+		assertEquals(n, CALLS.get());
+	}
+}
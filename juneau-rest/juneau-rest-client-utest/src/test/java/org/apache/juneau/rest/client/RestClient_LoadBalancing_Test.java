@@ -0,0 +1,273 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.http.*;
+import org.apache.http.client.methods.*;
+import org.apache.http.entity.*;
+import org.apache.http.message.*;
+import org.apache.http.protocol.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class RestClient_LoadBalancing_Test {
+
+	/**
+	 * Call handler that answers with the host name, and fails or stalls for the hosts it's told to.
+	 */
+	public static class A implements RestCallHandler {
+		final List<String> hosts = Collections.synchronizedList(new ArrayList<>());
+		final Set<String> down = ConcurrentHashMap.newKeySet(), slow = ConcurrentHashMap.newKeySet();
+		final List<String> aborted = Collections.synchronizedList(new ArrayList<>());
+		final Map<String,Object> attributes = new ConcurrentHashMap<>();
+		volatile boolean streaming;
+
+		@Override
+		public HttpResponse run(HttpHost target, HttpRequest request, HttpContext context) throws IOException {
+			HttpRequestBase r = (HttpRequestBase)request;
+			String host = r.getURI().getHost();
+			hosts.add(host + r.getURI().getPath());
+			if (context != null && context.getAttribute("foo") != null)
+				attributes.put(host, context.getAttribute("foo"));
+			if (down.contains(host))
+				throw new IOException("Connection refused");
+			if (slow.contains(host)) {
+				for (int i = 0; i < 500 && slow.contains(host) && ! r.isAborted(); i++)
+					sleep(10);
+				if (r.isAborted()) {
+					aborted.add(host);
+					throw new IOException("Aborted");
+				}
+			}
+			BasicHttpResponse res = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+			if (streaming)
+				res.setEntity(new InputStreamEntity(new ByteArrayInputStream(host.getBytes("UTF-8")), ContentType.TEXT_PLAIN));
+			else
+				res.setEntity(new StringEntity(host, ContentType.TEXT_PLAIN));
+			return res;
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Load balancing
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_roundRobin() throws Exception {
+		A h = new A();
+		RestClient x = client(h).build();
+		for (int i = 0; i < 4; i++)
+			x.get("/foo").run();
+		assertEquals(Arrays.asList("s1/root/foo","s2/root/foo","s1/root/foo","s2/root/foo"), h.hosts);
+	}
+
+	@Test
+	public void a02_absoluteUri() throws Exception {
+		A h = new A();
+		RestClient x = client(h).build();
+		x.get("http://s2/root/bar").run();
+		x.get("http://s2/root/bar").run();
+		x.get("http://other/bar").run();
+		assertEquals(Arrays.asList("s1/root/bar","s2/root/bar","other/bar"), h.hosts);
+	}
+
+	@Test
+	public void a03_leastOutstanding() throws Exception {
+		A h = new A();
+		h.slow.add("s1");
+		RestClient x = client(h).loadBalancing(LoadBalancing.LEAST_OUTSTANDING).build();
+		Future<RestResponse> f = x.get("/foo").runFuture();
+		while (x.getEndpoints().get(0).getOutstanding() == 0)
+			sleep(10);
+		x.get("/foo").run().assertBody().is("s2");
+		x.get("/foo").run().assertBody().is("s2");
+		h.slow.clear();
+		f.get().assertBody().is("s1");
+	}
+
+	@Test
+	public void a04_latencyEwma() throws Exception {
+		A h = new A();
+		RestClient x = client(h).loadBalancing(LoadBalancing.LATENCY_EWMA).build();
+		h.slow.add("s1");
+		x.get("/foo").runFuture();
+		while (x.getEndpoints().get(0).getOutstanding() == 0)
+			sleep(10);
+		h.slow.clear();
+		while (x.getEndpoints().get(0).getOutstanding() != 0)
+			sleep(10);
+		assertTrue(x.getEndpoints().get(0).getLatency() > 0);
+		for (int i = 0; i < 3; i++)
+			x.get("/foo").run().assertBody().is("s2");
+	}
+
+	@Test
+	public void a05_passiveHealth() throws Exception {
+		A h = new A();
+		h.down.add("s1");
+		RestClient x = client(h).ignoreErrors().build();
+		int failures = 0;
+		for (int i = 0; i < 10; i++) {
+			try {
+				x.get("/foo").run().assertBody().is("s2");
+			} catch (RestCallException e) {
+				failures++;
+			}
+		}
+		assertEquals(RestEndpoint.FAILURE_THRESHOLD, failures);
+		assertFalse(x.getEndpoints().get(0).isHealthy());
+		assertTrue(x.getEndpoints().get(1).isHealthy());
+		assertEquals(RestEndpoint.FAILURE_THRESHOLD, x.getEndpoints().get(0).getFailureCount());
+	}
+
+	@Test
+	public void a06_singleRootUri() throws Exception {
+		A h = new A();
+		RestClient x = RestClient.create().callHandler(h).rootUris("http://s1/root").build();
+		x.get("/foo").run().assertBody().is("s1");
+		assertTrue(x.getEndpoints().isEmpty());
+	}
+
+	@Test
+	public void a07_outstandingUntilBodyConsumed() throws Exception {
+		A h = new A();
+		h.streaming = true;
+		RestClient x = client(h).build();
+		RestEndpoint e = x.getEndpoints().get(0);
+
+		RestResponse r = x.get("/foo").run();
+		assertEquals(1, e.getOutstanding());
+		assertTrue(e.getLatency() >= 0);
+		r.assertBody().is("s1");
+		assertEquals(0, e.getOutstanding());
+
+		x.get("/foo").run();  // s2
+		r = x.get("/foo").run();
+		assertEquals(1, e.getOutstanding());
+		r.getBody().asInputStream().close();
+		assertEquals(0, e.getOutstanding());
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Hedging
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_hedge() throws Exception {
+		A h = new A();
+		h.slow.add("s1");
+		RestClient x = client(h).hedgeDelay(50).build();
+		RestRequest req = x.get("/foo");
+		req.run().assertBody().is("s2");
+		assertEquals("http://s2/root/foo", req.getURI().toString());
+		while (h.aborted.isEmpty())
+			sleep(10);
+		assertEquals(Arrays.asList("s1"), h.aborted);
+		assertEquals(0, x.getEndpoints().get(0).getFailureCount());
+	}
+
+	@Test
+	public void b02_hedge_fastEnough() throws Exception {
+		A h = new A();
+		RestClient x = client(h).hedgeDelay(1000).build();
+		x.get("/foo").run().assertBody().is("s1");
+		assertEquals(Arrays.asList("s1/root/foo"), h.hosts);
+	}
+
+	@Test
+	public void b03_hedge_notIdempotent() throws Exception {
+		A h = new A();
+		h.slow.add("s1");
+		RestClient x = client(h).hedgeDelay(50).build();
+		Future<RestResponse> f = x.post("/foo", "bar").runFuture();
+		sleep(200);
+		h.slow.clear();
+		f.get().assertBody().is("s1");
+		assertEquals(Arrays.asList("s1/root/foo"), h.hosts);
+	}
+
+	@Test
+	public void b04_hedge_firstFails() throws Exception {
+		A h = new A();
+		h.slow.add("s2");
+		RestClient x = client(h).hedgeDelay(10).build();
+		x.get("/foo").run();  // Warm up so that s2 is picked first next.
+		h.down.add("s1");
+		Future<RestResponse> f = x.get("/foo").runFuture();
+		sleep(100);
+		h.slow.clear();
+		f.get().assertBody().is("s2");
+	}
+
+	@Test
+	public void b05_hedge_context() throws Exception {
+		A h = new A();
+		h.slow.add("s1");
+		RestClient x = client(h).hedgeDelay(50).build();
+		HttpContext context = new BasicHttpContext();
+		context.setAttribute("foo", "bar");
+		x.get("/foo").context(context).run().assertBody().is("s2");
+		assertEquals("bar", h.attributes.get("s2"));
+	}
+
+	@Test
+	public void b06_hedge_firstFailsEarly() throws Exception {
+		A h = new A();
+		h.down.add("s1");
+		RestClient x = client(h).hedgeDelay(10000).build();
+		long start = System.currentTimeMillis();
+		x.get("/foo").run().assertBody().is("s2");
+		assertTrue(System.currentTimeMillis() - start < 5000);
+		assertEquals(Arrays.asList("s1/root/foo","s2/root/foo"), h.hosts);
+		assertEquals(1, x.getEndpoints().get(0).getFailureCount());
+	}
+
+	@Test
+	public void b07_hedge_releasesLoser() throws Exception {
+		A h = new A();
+		h.streaming = true;
+		h.slow.add("s1");
+		RestClient x = client(h).hedgeDelay(50).build();
+		x.get("/foo").run().assertBody().is("s2");
+		while (h.aborted.isEmpty())
+			sleep(10);
+		for (RestEndpoint e : x.getEndpoints())
+			for (int i = 0; i < 100 && e.getOutstanding() != 0; i++)
+				sleep(10);
+		assertEquals(0, x.getEndpoints().get(0).getOutstanding());
+		assertEquals(0, x.getEndpoints().get(1).getOutstanding());
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Helper methods.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private static RestClientBuilder client(A h) {
+		return RestClient.create().callHandler(h).rootUris("http://s1/root/", "http://s2/root");
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+	}
+}
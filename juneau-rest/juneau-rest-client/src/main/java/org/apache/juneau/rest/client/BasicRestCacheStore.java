@@ -0,0 +1,100 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import java.util.*;
+
+/**
+ * In-memory {@link RestCacheStore} bounded by number of entries and total size.
+ *
+ * <p>
+ * The least-recently used entries are evicted when either bound is exceeded.
+ */
+public class BasicRestCacheStore implements RestCacheStore {
+
+	private final int maxEntries, maxEntrySize;
+	private final long maxSize;
+	private final LinkedHashMap<String,RestCacheEntry> map = new LinkedHashMap<>(16, 0.75f, true);
+	private long size;
+
+	/**
+	 * Constructor.
+	 *
+	 * <p>
+	 * Holds up to 1000 entries and 10MB with entries up to 1MB.
+	 */
+	public BasicRestCacheStore() {
+		this(1000, 10 * 1024 * 1024, 1024 * 1024);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param maxEntries The maximum number of entries to hold.
+	 * @param maxSize The maximum total size in bytes of all entries.
+	 * @param maxEntrySize The size in bytes of the largest response body to cache.
+	 */
+	public BasicRestCacheStore(int maxEntries, long maxSize, int maxEntrySize) {
+		this.maxEntries = maxEntries;
+		this.maxSize = maxSize;
+		this.maxEntrySize = maxEntrySize;
+	}
+
+	@Override /* RestCacheStore */
+	public synchronized RestCacheEntry get(String key) {
+		return map.get(key);
+	}
+
+	@Override /* RestCacheStore */
+	public synchronized void put(String key, RestCacheEntry entry) {
+		if (entry.size() > maxSize)
+			return;
+		remove(key);
+		map.put(key, entry);
+		size += entry.size();
+		for (Iterator<RestCacheEntry> i = map.values().iterator(); i.hasNext() && (map.size() > maxEntries || size > maxSize);) {
+			size -= i.next().size();
+			i.remove();
+		}
+	}
+
+	@Override /* RestCacheStore */
+	public synchronized void remove(String key) {
+		RestCacheEntry e = map.remove(key);
+		if (e != null)
+			size -= e.size();
+	}
+
+	@Override /* RestCacheStore */
+	public int getMaxEntrySize() {
+		return maxEntrySize;
+	}
+
+	/**
+	 * Returns the number of entries in this store.
+	 *
+	 * @return The number of entries in this store.
+	 */
+	public synchronized int getEntryCount() {
+		return map.size();
+	}
+
+	/**
+	 * Returns the total size in bytes of all entries in this store.
+	 *
+	 * @return The total size in bytes of all entries in this store.
+	 */
+	public synchronized long getSize() {
+		return size;
+	}
+}
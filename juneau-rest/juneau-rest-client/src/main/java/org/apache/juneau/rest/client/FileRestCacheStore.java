@@ -0,0 +1,180 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import static java.nio.charset.StandardCharsets.*;
+import static org.apache.juneau.internal.StringUtils.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.security.*;
+import java.util.*;
+
+/**
+ * {@link RestCacheStore} that keeps entries as files in a directory.
+ *
+ * <p>
+ * Entries survive restarts of the client.
+ * <br>The least-recently used files are deleted when the total size of the directory exceeds the size bound.
+ *
+ * <p>
+ * Files are written to a temporary file first and then moved into place so that readers never see partially written
+ * entries.
+ * <br>Temporary files left behind by a process that died while writing are deleted when the store is created.
+ */
+public class FileRestCacheStore implements RestCacheStore {
+
+	private static final String SUFFIX = ".cache", TMP_SUFFIX = ".tmp";
+
+	// Temporary files older than this are assumed to be left over from a process that died while writing them.
+	private static final long STALE_TMP_MILLIS = 60_000;
+
+	private final File dir;
+	private final long maxSize;
+	private final int maxEntrySize;
+	private final LinkedHashMap<String,Long> files = new LinkedHashMap<>(16, 0.75f, true);
+	private long size;
+
+	/**
+	 * Constructor.
+	 *
+	 * <p>
+	 * Holds up to 100MB with entries up to 10MB.
+	 *
+	 * @param dir The directory to store entries in.  Created if it doesn't exist.
+	 * @throws IOException If the directory could not be created.
+	 */
+	public FileRestCacheStore(File dir) throws IOException {
+		this(dir, 100 * 1024 * 1024, 10 * 1024 * 1024);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param dir The directory to store entries in.  Created if it doesn't exist.
+	 * @param maxSize The maximum total size in bytes of all files.
+	 * @param maxEntrySize The size in bytes of the largest response body to cache.
+	 * @throws IOException If the directory could not be created.
+	 */
+	public FileRestCacheStore(File dir, long maxSize, int maxEntrySize) throws IOException {
+		this.dir = dir;
+		this.maxSize = maxSize;
+		this.maxEntrySize = maxEntrySize;
+		Files.createDirectories(dir.toPath());
+
+		File[] tmp = dir.listFiles((d, n) -> n.contains(SUFFIX) && n.endsWith(TMP_SUFFIX));
+		if (tmp != null)
+			for (File f : tmp)
+				if (f.lastModified() < System.currentTimeMillis() - STALE_TMP_MILLIS)
+					f.delete();
+
+		// Index existing files from oldest to newest.
+		File[] l = dir.listFiles((d, n) -> n.endsWith(SUFFIX));
+		if (l == null)
+			throw new IOException("Could not list files in directory " + dir);
+		Arrays.sort(l, (a, b) -> Long.compare(a.lastModified(), b.lastModified()));
+		for (File f : l) {
+			files.put(f.getName(), f.length());
+			size += f.length();
+		}
+	}
+
+	@Override /* RestCacheStore */
+	public RestCacheEntry get(String key) {
+		String name = fileName(key);
+		synchronized (this) {
+			if (! files.containsKey(name))
+				return null;
+			files.get(name);  // Mark as recently used.
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(new File(dir, name))))) {
+			if (! key.equals(in.readUTF()))
+				return null;
+			return RestCacheEntry.readFrom(in);
+		} catch (FileNotFoundException e) {
+			synchronized (this) {
+				forget(name);
+			}
+			return null;
+		} catch (IOException e) {
+			remove(key);
+			return null;
+		}
+	}
+
+	@Override /* RestCacheStore */
+	public void put(String key, RestCacheEntry entry) {
+		String name = fileName(key);
+		File f = new File(dir, name);
+		try {
+			File tmp = File.createTempFile(name, TMP_SUFFIX, dir);
+			try {
+				try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+					out.writeUTF(key);
+					entry.writeTo(out);
+				}
+				synchronized (this) {
+					Files.move(tmp.toPath(), f.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+					forget(name);
+					files.put(name, f.length());
+					size += f.length();
+					for (Iterator<Map.Entry<String,Long>> i = files.entrySet().iterator(); i.hasNext() && size > maxSize;) {
+						Map.Entry<String,Long> e = i.next();
+						new File(dir, e.getKey()).delete();
+						size -= e.getValue();
+						i.remove();
+					}
+				}
+			} finally {
+				tmp.delete();
+			}
+		} catch (IOException e) {
+			// Caching is best-effort.
+		}
+	}
+
+	@Override /* RestCacheStore */
+	public synchronized void remove(String key) {
+		String name = fileName(key);
+		new File(dir, name).delete();
+		forget(name);
+	}
+
+	@Override /* RestCacheStore */
+	public int getMaxEntrySize() {
+		return maxEntrySize;
+	}
+
+	/**
+	 * Returns the total size in bytes of all files in this store.
+	 *
+	 * @return The total size in bytes of all files in this store.
+	 */
+	public synchronized long getSize() {
+		return size;
+	}
+
+	private void forget(String name) {
+		Long l = files.remove(name);
+		if (l != null)
+			size -= l;
+	}
+
+	private static String fileName(String key) {
+		try {
+			return toHex(MessageDigest.getInstance("SHA-256").digest(key.getBytes(UTF_8))) + SUFFIX;
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);  // SHA-256 is always available.
+		}
+	}
+}
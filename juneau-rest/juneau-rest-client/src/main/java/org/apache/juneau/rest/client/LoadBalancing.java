@@ -0,0 +1,32 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+/**
+ * Identifies how {@link RestClient} picks an endpoint when multiple root URIs are configured.
+ *
+ * <ul class='seealso'>
+ * 	<li class='jf'>{@link RestClient#RESTCLIENT_loadBalancing}
+ * </ul>
+ */
+public enum LoadBalancing {
+
+	/** Endpoints are used in turn. */
+	ROUND_ROBIN,
+
+	/** The endpoint with the fewest requests in flight is used. */
+	LEAST_OUTSTANDING,
+
+	/** The endpoint with the lowest average response time weighted by the number of requests in flight is used. */
+	LATENCY_EWMA
+}
@@ -0,0 +1,210 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import static org.apache.juneau.rest.client.RestCacheEntry.*;
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+
+import org.apache.http.*;
+import org.apache.http.client.methods.*;
+import org.apache.http.entity.*;
+import org.apache.http.protocol.*;
+import org.apache.http.util.*;
+
+/**
+ * Private HTTP cache used by {@link RestClient} when a {@link RestCacheStore} is configured.
+ *
+ * <p>
+ * Follows the rules of RFC 7234 for a private cache:
+ * <ul>
+ * 	<li>Only <c>GET</c> responses with status <c>200</c>, <c>203</c>, <c>300</c>, <c>301</c>, <c>404</c> or <c>410</c>
+ * 		are stored, and only if they have an explicit expiration time (<c>Cache-Control: max-age</c> or <c>Expires</c>)
+ * 		or a validator (<c>ETag</c> or <c>Last-Modified</c>).
+ * 	<li>Responses are served from the store while fresh, otherwise revalidated with <c>If-None-Match</c> and
+ * 		<c>If-Modified-Since</c>.
+ * 	<li><c>no-store</c>, <c>no-cache</c> and <c>max-age</c> directives on requests and responses are honored.
+ * 	<li>Stored responses are only used for requests with the same values for the headers listed in the <c>Vary</c>
+ * 		header, as well as the same <c>Accept</c> and <c>Authorization</c> headers.
+ * 		<br>Only one response is kept per URI, so a response for a request with different values replaces the stored
+ * 		one.  Callers that alternate between variants of the same URI (e.g. different <c>Accept</c> headers) won't
+ * 		get cache hits.
+ * 	<li>Successful unsafe requests (e.g. <c>PUT</c>) invalidate the entries for the request URI and the URIs in the
+ * 		<c>Location</c> and <c>Content-Location</c> response headers.
+ * </ul>
+ *
+ * <p>
+ * Requests that already contain conditional or <c>Range</c> headers are passed through untouched.
+ */
+final class RestCache {
+
+	private static final Set<Integer> CACHEABLE_CODES = new HashSet<>(Arrays.asList(200, 203, 300, 301, 404, 410));
+	private static final Set<String> SAFE_METHODS = new HashSet<>(Arrays.asList("GET", "HEAD", "OPTIONS", "TRACE"));
+	private static final String[] BYPASS_HEADERS = {"If-None-Match", "If-Modified-Since", "If-Match", "If-Unmodified-Since", "If-Range", "Range"};
+
+	private final RestCacheStore store;
+	private final RestCacheStats stats = new RestCacheStats();
+
+	RestCache(RestCacheStore store) {
+		this.store = store;
+	}
+
+	RestCacheStats getStats() {
+		return stats;
+	}
+
+	/**
+	 * Executes the specified request through the cache.
+	 *
+	 * @param handler The handler for requests that need to go to the server.
+	 * @param target The target host for the request.
+	 * @param req The request to execute.
+	 * @param context The context to use for the execution.
+	 * @return The response from the server or the store.
+	 * @throws IOException Thrown by the handler or while reading the response body.
+	 */
+	HttpResponse run(RestCallHandler handler, HttpHost target, HttpRequest req, HttpContext context) throws IOException {
+		String method = req.getRequestLine().getMethod().toUpperCase(Locale.ENGLISH);
+		String uri = getUri(target, req);
+
+		if (! method.equals("GET")) {
+			HttpResponse res = handler.run(target, req, context);
+			if (! SAFE_METHODS.contains(method) && res.getStatusLine().getStatusCode() < 400)
+				invalidate(uri, res);
+			return res;
+		}
+
+		if (getCacheControl(req, "no-store") != null)
+			return handler.run(target, req, context);
+		for (String h : BYPASS_HEADERS)
+			if (req.containsHeader(h))
+				return handler.run(target, req, context);
+
+		RestCacheEntry e = store.get(uri);
+
+		if (e != null && e.matches(req)) {
+			long now = System.currentTimeMillis();
+			long maxAge = getCacheControlMillis(req, "max-age");
+			boolean noCache = getCacheControl(req, "no-cache") != null || isPragmaNoCache(req);
+			if (! noCache && e.isFresh(now) && (maxAge == -1 || e.getCurrentAge(now) <= maxAge)) {
+				stats.hit();
+				return e.toResponse(now);
+			}
+			if (e.hasValidators()) {
+				if (e.getETag() != null)
+					req.setHeader("If-None-Match", e.getETag());
+				if (e.getLastModified() != null)
+					req.setHeader("If-Modified-Since", e.getLastModified());
+				long requestTime = System.currentTimeMillis();
+				HttpResponse res = handler.run(target, req, context);
+				long responseTime = System.currentTimeMillis();
+				if (res.getStatusLine().getStatusCode() == 304) {
+					EntityUtils.consumeQuietly(res.getEntity());
+					e = e.revalidated(res, requestTime, responseTime);
+					store.put(uri, e);
+					stats.revalidation();
+					return e.toResponse(responseTime);
+				}
+				stats.miss();
+				return store(uri, req, res, requestTime, responseTime);
+			}
+		}
+
+		stats.miss();
+		long requestTime = System.currentTimeMillis();
+		HttpResponse res = handler.run(target, req, context);
+		return store(uri, req, res, requestTime, System.currentTimeMillis());
+	}
+
+	private HttpResponse store(String uri, HttpRequest req, HttpResponse res, long requestTime, long responseTime) throws IOException {
+		if (! isStorable(res)) {
+			store.remove(uri);
+			return res;
+		}
+
+		byte[] body = new byte[0];
+		HttpEntity entity = res.getEntity();
+		if (entity != null) {
+			int max = store.getMaxEntrySize();
+			if (entity.getContentLength() > max) {
+				store.remove(uri);
+				return res;
+			}
+			InputStream is = entity.getContent();
+			ByteArrayOutputStream baos = new ByteArrayOutputStream(entity.getContentLength() < 0 ? 1024 : (int)entity.getContentLength());
+			byte[] buff = new byte[8192];
+			int total = 0;
+			for (int n; total <= max && (n = is.read(buff, 0, Math.min(buff.length, max + 1 - total))) != -1; total += n)
+				baos.write(buff, 0, n);
+			if (total > max) {
+				// Too large to store, so return what we've read followed by the rest of the stream.
+				store.remove(uri);
+				InputStreamEntity entity2 = new InputStreamEntity(new SequenceInputStream(new ByteArrayInputStream(baos.toByteArray()), is), -1);
+				entity2.setContentType(entity.getContentType());
+				entity2.setContentEncoding(entity.getContentEncoding());
+				res.setEntity(entity2);
+				return res;
+			}
+			is.close();
+			body = baos.toByteArray();
+		}
+
+		RestCacheEntry e = RestCacheEntry.create(req, res, body, requestTime, responseTime);
+		store.put(uri, e);
+		return e.toResponse(responseTime);
+	}
+
+	private static boolean isStorable(HttpResponse res) {
+		if (! CACHEABLE_CODES.contains(res.getStatusLine().getStatusCode()))
+			return false;
+		if (getCacheControl(res, "no-store") != null || getVaryNames(res).contains("*"))
+			return false;
+		return getCacheControlMillis(res, "max-age") > 0
+			|| res.containsHeader("Expires")
+			|| res.containsHeader("ETag")
+			|| res.containsHeader("Last-Modified");
+	}
+
+	private static boolean isPragmaNoCache(HttpRequest req) {
+		if (req.containsHeader("Cache-Control"))
+			return false;
+		for (Header h : req.getHeaders("Pragma"))
+			for (HeaderElement e : h.getElements())
+				if (e.getName().equalsIgnoreCase("no-cache"))
+					return true;
+		return false;
+	}
+
+	private void invalidate(String uri, HttpResponse res) {
+		store.remove(uri);
+		for (String name : new String[]{"Location", "Content-Location"}) {
+			Header h = res.getFirstHeader(name);
+			if (h != null) {
+				try {
+					store.remove(URI.create(uri).resolve(h.getValue()).toString());
+				} catch (IllegalArgumentException e) {
+					// Ignore invalid URIs.
+				}
+			}
+		}
+	}
+
+	private static String getUri(HttpHost target, HttpRequest req) {
+		String uri = req instanceof HttpUriRequest ? ((HttpUriRequest)req).getURI().toString() : req.getRequestLine().getUri();
+		if (target != null && uri.startsWith("/"))
+			uri = target.toURI() + uri;
+		return uri;
+	}
+}
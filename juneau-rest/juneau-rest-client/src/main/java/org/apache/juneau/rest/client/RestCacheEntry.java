@@ -0,0 +1,427 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import static java.nio.charset.StandardCharsets.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.http.*;
+import org.apache.http.client.utils.*;
+import org.apache.http.entity.*;
+import org.apache.http.message.*;
+
+/**
+ * A response stored in a {@link RestCacheStore}.
+ *
+ * <p>
+ * Contains the status line, headers and body of the response along with the times the request was sent and the
+ * response was received, which are used to compute the age and freshness of the entry.
+ *
+ * <p>
+ * Entries are immutable and can be written to and read from streams for stores that keep them outside of memory.
+ */
+public final class RestCacheEntry {
+
+	private static final int FORMAT_VERSION = 1;
+
+	private final ProtocolVersion protocolVersion;
+	private final int statusCode;
+	private final String reasonPhrase;
+	private final Header[] headers;
+	private final String[] varyNames, varyValues;
+	private final byte[] body;
+	private final long requestTime, responseTime;
+
+	/**
+	 * Creates an entry from a response.
+	 *
+	 * <p>
+	 * <c>Accept</c> and <c>Authorization</c> are always treated as if they were listed in the <c>Vary</c> header so
+	 * that responses aren't shared between content types or credentials.
+	 *
+	 * @param req The request that was sent.
+	 * @param res The response that was received.
+	 * @param body The fully-read response body.
+	 * @param requestTime The time in milliseconds the request was sent.
+	 * @param responseTime The time in milliseconds the response was received.
+	 * @return A new entry.
+	 */
+	static RestCacheEntry create(HttpRequest req, HttpResponse res, byte[] body, long requestTime, long responseTime) {
+		StatusLine sl = res.getStatusLine();
+		Set<String> names = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+		names.addAll(getVaryNames(res));
+		names.add("Accept");
+		names.add("Authorization");
+		List<String> vn = new ArrayList<>(), vv = new ArrayList<>();
+		for (String name : names) {
+			vn.add(name);
+			vv.add(getValues(req, name));
+		}
+		return new RestCacheEntry(
+			sl.getProtocolVersion(), sl.getStatusCode(), sl.getReasonPhrase(), res.getAllHeaders(),
+			vn.toArray(new String[vn.size()]), vv.toArray(new String[vv.size()]), body, requestTime, responseTime
+		);
+	}
+
+	private RestCacheEntry(ProtocolVersion protocolVersion, int statusCode, String reasonPhrase, Header[] headers, String[] varyNames, String[] varyValues, byte[] body, long requestTime, long responseTime) {
+		this.protocolVersion = protocolVersion;
+		this.statusCode = statusCode;
+		this.reasonPhrase = reasonPhrase;
+		this.headers = headers;
+		this.varyNames = varyNames;
+		this.varyValues = varyValues;
+		this.body = body;
+		this.requestTime = requestTime;
+		this.responseTime = responseTime;
+	}
+
+	/**
+	 * Returns the names of the request headers listed in the <c>Vary</c> header of the specified response.
+	 *
+	 * @param res The response.
+	 * @return The header names, which may include <js>"*"</js>.
+	 */
+	static List<String> getVaryNames(HttpMessage res) {
+		List<String> l = new ArrayList<>();
+		for (Header h : res.getHeaders("Vary"))
+			for (HeaderElement e : h.getElements())
+				l.add(e.getName());
+		return l;
+	}
+
+	private static String getValues(HttpMessage m, String name) {
+		StringBuilder sb = new StringBuilder();
+		for (Header h : m.getHeaders(name)) {
+			if (sb.length() > 0)
+				sb.append(',');
+			sb.append(h.getValue());
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Returns the value of the specified directive in the <c>Cache-Control</c> headers of the specified message.
+	 *
+	 * @param m The request or response.
+	 * @param name The directive name (e.g. <js>"max-age"</js>).
+	 * @return
+	 * 	The directive value, an empty string if the directive has no value, or <jk>null</jk> if the directive isn't
+	 * 	present.
+	 */
+	static String getCacheControl(HttpMessage m, String name) {
+		for (Header h : m.getHeaders("Cache-Control"))
+			for (HeaderElement e : h.getElements())
+				if (e.getName().equalsIgnoreCase(name))
+					return e.getValue() == null ? "" : e.getValue();
+		return null;
+	}
+
+	/**
+	 * Returns the value of the specified directive in the <c>Cache-Control</c> header converted to milliseconds.
+	 *
+	 * @param m The request or response.
+	 * @param name The directive name (e.g. <js>"max-age"</js>).
+	 * @return The directive value in milliseconds, <c>0</c> if not a valid number, or <c>-1</c> if not present.
+	 */
+	static long getCacheControlMillis(HttpMessage m, String name) {
+		return toMillis(getCacheControl(m, name));
+	}
+
+	private static long toMillis(String seconds) {
+		if (seconds == null)
+			return -1;
+		try {
+			return Math.max(0, Long.parseLong(seconds.trim())) * 1000;
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this entry can be used for the specified request.
+	 *
+	 * <p>
+	 * Compares the values of the request headers listed in the <c>Vary</c> header of the cached response with the
+	 * values in the original request.
+	 *
+	 * @param req The new request.
+	 * @return <jk>true</jk> if this entry can be used for the specified request.
+	 */
+	public boolean matches(HttpRequest req) {
+		for (int i = 0; i < varyNames.length; i++)
+			if (! varyValues[i].equals(getValues(req, varyNames[i])))
+				return false;
+		return true;
+	}
+
+	/**
+	 * Returns the freshness lifetime of this entry.
+	 *
+	 * <p>
+	 * Determined from the <c>max-age</c> directive of the <c>Cache-Control</c> header, or the difference between the
+	 * <c>Expires</c> and <c>Date</c> headers.
+	 * <br>Responses with a <c>no-cache</c> directive or without explicit expiration have a lifetime of zero and are
+	 * always revalidated.
+	 *
+	 * @return The freshness lifetime in milliseconds.
+	 */
+	public long getFreshnessLifetime() {
+		if (getCacheControl("no-cache") != null)
+			return 0;
+		long maxAge = toMillis(getCacheControl("max-age"));
+		if (maxAge != -1)
+			return maxAge;
+		Date expires = getDate("Expires");
+		if (expires == null)
+			return 0;
+		return Math.max(0, expires.getTime() - getDateValue());
+	}
+
+	/**
+	 * Returns the current age of this entry as defined by RFC 7234 section 4.2.3.
+	 *
+	 * @param now The current time in milliseconds.
+	 * @return The current age in milliseconds.
+	 */
+	public long getCurrentAge(long now) {
+		long apparentAge = Math.max(0, responseTime - getDateValue());
+		long ageValue = Math.max(0, toMillis(getHeaderValue("Age")));
+		long correctedInitialAge = Math.max(apparentAge, ageValue + (responseTime - requestTime));
+		return correctedInitialAge + Math.max(0, now - responseTime);
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this entry can be served without revalidation.
+	 *
+	 * @param now The current time in milliseconds.
+	 * @return <jk>true</jk> if this entry can be served without revalidation.
+	 */
+	public boolean isFresh(long now) {
+		return getFreshnessLifetime() > getCurrentAge(now);
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this entry has an <c>ETag</c> or <c>Last-Modified</c> header.
+	 *
+	 * @return <jk>true</jk> if this entry can be revalidated with a conditional request.
+	 */
+	public boolean hasValidators() {
+		return getETag() != null || getLastModified() != null;
+	}
+
+	/**
+	 * Returns the value of the <c>ETag</c> header.
+	 *
+	 * @return The value of the <c>ETag</c> header, or <jk>null</jk> if not present.
+	 */
+	public String getETag() {
+		return getHeaderValue("ETag");
+	}
+
+	/**
+	 * Returns the value of the <c>Last-Modified</c> header.
+	 *
+	 * @return The value of the <c>Last-Modified</c> header, or <jk>null</jk> if not present.
+	 */
+	public String getLastModified() {
+		return getHeaderValue("Last-Modified");
+	}
+
+	/**
+	 * Returns the status code of the cached response.
+	 *
+	 * @return The status code of the cached response.
+	 */
+	public int getStatusCode() {
+		return statusCode;
+	}
+
+	/**
+	 * Returns the body of the cached response.
+	 *
+	 * @return The body of the cached response.  Must not be modified.
+	 */
+	public byte[] getBody() {
+		return body;
+	}
+
+	/**
+	 * Returns the approximate size of this entry in bytes.
+	 *
+	 * @return The approximate size of this entry in bytes.
+	 */
+	public int size() {
+		int size = body.length;
+		for (Header h : headers)
+			size += h.getName().length() + h.getValue().length();
+		return size;
+	}
+
+	/**
+	 * Returns a copy of this entry updated from a <c>304 Not Modified</c> response.
+	 *
+	 * <p>
+	 * Headers in the new response replace the stored headers with the same name.
+	 *
+	 * @param res The <c>304</c> response.
+	 * @param requestTime The time in milliseconds the conditional request was sent.
+	 * @param responseTime The time in milliseconds the response was received.
+	 * @return A new entry.
+	 */
+	RestCacheEntry revalidated(HttpResponse res, long requestTime, long responseTime) {
+		Set<String> replaced = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+		for (Header h : res.getAllHeaders())
+			if (! h.getName().equalsIgnoreCase("Content-Length"))
+				replaced.add(h.getName());
+		List<Header> l = new ArrayList<>();
+		for (Header h : headers)
+			if (! replaced.contains(h.getName()))
+				l.add(h);
+		for (Header h : res.getAllHeaders())
+			if (replaced.contains(h.getName()))
+				l.add(h);
+		return new RestCacheEntry(
+			protocolVersion, statusCode, reasonPhrase, l.toArray(new Header[l.size()]), varyNames, varyValues, body,
+			requestTime, responseTime
+		);
+	}
+
+	/**
+	 * Creates a new response from this entry.
+	 *
+	 * <p>
+	 * The <c>Age</c> header is set to the current age of this entry.
+	 *
+	 * @param now The current time in milliseconds.
+	 * @return A new response that can be consumed independently of any other responses created from this entry.
+	 */
+	public HttpResponse toResponse(long now) {
+		BasicHttpResponse res = new BasicHttpResponse(new BasicStatusLine(protocolVersion, statusCode, reasonPhrase));
+		for (Header h : headers)
+			if (! h.getName().equalsIgnoreCase("Age"))
+				res.addHeader(h);
+		res.addHeader("Age", String.valueOf(getCurrentAge(now) / 1000));
+		ByteArrayEntity entity = new ByteArrayEntity(body);
+		entity.setContentType(res.getFirstHeader("Content-Type"));
+		entity.setContentEncoding(res.getFirstHeader("Content-Encoding"));
+		res.setEntity(entity);
+		return res;
+	}
+
+	/**
+	 * Writes this entry to the specified stream.
+	 *
+	 * @param out The stream to write to.
+	 * @throws IOException Thrown by the underlying stream.
+	 */
+	public void writeTo(OutputStream out) throws IOException {
+		DataOutputStream dos = new DataOutputStream(out);
+		dos.writeInt(FORMAT_VERSION);
+		writeString(dos, protocolVersion.getProtocol());
+		dos.writeInt(protocolVersion.getMajor());
+		dos.writeInt(protocolVersion.getMinor());
+		dos.writeInt(statusCode);
+		writeString(dos, reasonPhrase);
+		dos.writeInt(headers.length);
+		for (Header h : headers) {
+			writeString(dos, h.getName());
+			writeString(dos, h.getValue());
+		}
+		dos.writeInt(varyNames.length);
+		for (int i = 0; i < varyNames.length; i++) {
+			writeString(dos, varyNames[i]);
+			writeString(dos, varyValues[i]);
+		}
+		dos.writeLong(requestTime);
+		dos.writeLong(responseTime);
+		dos.writeInt(body.length);
+		dos.write(body);
+		dos.flush();
+	}
+
+	/**
+	 * Reads an entry written by {@link #writeTo(OutputStream)}.
+	 *
+	 * @param in The stream to read from.
+	 * @return The entry.
+	 * @throws IOException Thrown by the underlying stream, or the stream doesn't contain a valid entry.
+	 */
+	public static RestCacheEntry readFrom(InputStream in) throws IOException {
+		DataInputStream dis = new DataInputStream(in);
+		if (dis.readInt() != FORMAT_VERSION)
+			throw new IOException("Unsupported cache entry format.");
+		ProtocolVersion pv = new ProtocolVersion(readString(dis), dis.readInt(), dis.readInt());
+		int statusCode = dis.readInt();
+		String reasonPhrase = readString(dis);
+		Header[] headers = new Header[dis.readInt()];
+		for (int i = 0; i < headers.length; i++)
+			headers[i] = new BasicHeader(readString(dis), readString(dis));
+		int n = dis.readInt();
+		String[] varyNames = new String[n], varyValues = new String[n];
+		for (int i = 0; i < n; i++) {
+			varyNames[i] = readString(dis);
+			varyValues[i] = readString(dis);
+		}
+		long requestTime = dis.readLong(), responseTime = dis.readLong();
+		byte[] body = new byte[dis.readInt()];
+		dis.readFully(body);
+		return new RestCacheEntry(pv, statusCode, reasonPhrase, headers, varyNames, varyValues, body, requestTime, responseTime);
+	}
+
+	private static void writeString(DataOutputStream dos, String s) throws IOException {
+		if (s == null) {
+			dos.writeInt(-1);
+		} else {
+			byte[] b = s.getBytes(UTF_8);
+			dos.writeInt(b.length);
+			dos.write(b);
+		}
+	}
+
+	private static String readString(DataInputStream dis) throws IOException {
+		int len = dis.readInt();
+		if (len < 0)
+			return null;
+		byte[] b = new byte[len];
+		dis.readFully(b);
+		return new String(b, UTF_8);
+	}
+
+	private String getCacheControl(String name) {
+		for (Header h : headers)
+			if (h.getName().equalsIgnoreCase("Cache-Control"))
+				for (HeaderElement e : h.getElements())
+					if (e.getName().equalsIgnoreCase(name))
+						return e.getValue() == null ? "" : e.getValue();
+		return null;
+	}
+
+	private String getHeaderValue(String name) {
+		for (Header h : headers)
+			if (h.getName().equalsIgnoreCase(name))
+				return h.getValue();
+		return null;
+	}
+
+	private Date getDate(String name) {
+		String s = getHeaderValue(name);
+		return s == null ? null : DateUtils.parseDate(s);
+	}
+
+	private long getDateValue() {
+		Date d = getDate("Date");
+		return d == null ? responseTime : d.getTime();
+	}
+}
@@ -0,0 +1,76 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import java.util.concurrent.atomic.*;
+
+/**
+ * Statistics on the responses served by the cache of a {@link RestClient}.
+ *
+ * <ul class='seealso'>
+ * 	<li class='jm'>{@link RestClient#getCacheStats()}
+ * </ul>
+ */
+public final class RestCacheStats {
+
+	private final AtomicLong hits = new AtomicLong(), misses = new AtomicLong(), revalidations = new AtomicLong();
+
+	RestCacheStats() {}
+
+	void hit() {
+		hits.incrementAndGet();
+	}
+
+	void miss() {
+		misses.incrementAndGet();
+	}
+
+	void revalidation() {
+		revalidations.incrementAndGet();
+	}
+
+	/**
+	 * Returns the number of requests served from the cache without contacting the server.
+	 *
+	 * @return The number of requests served from the cache without contacting the server.
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Returns the number of cacheable requests that were sent to the server and got a full response.
+	 *
+	 * <p>
+	 * Includes conditional requests for which the server didn't return <c>304 Not Modified</c>.
+	 *
+	 * @return The number of cacheable requests that were sent to the server and got a full response.
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * Returns the number of requests served from the cache after the server returned <c>304 Not Modified</c>.
+	 *
+	 * @return The number of requests served from the cache after the server returned <c>304 Not Modified</c>.
+	 */
+	public long getRevalidations() {
+		return revalidations.get();
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return "hits=" + getHits() + ", misses=" + getMisses() + ", revalidations=" + getRevalidations();
+	}
+}
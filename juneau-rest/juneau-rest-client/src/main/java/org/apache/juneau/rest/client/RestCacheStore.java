@@ -0,0 +1,67 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+/**
+ * Storage for responses cached by a {@link RestClient}.
+ *
+ * <p>
+ * The client decides which responses can be cached and when they need to be revalidated.
+ * <br>Stores only need to keep the entries they're given, and are free to drop any of them at any time (e.g. to stay
+ * within a size bound).
+ *
+ * <p>
+ * Implementations must be thread safe.
+ *
+ * <ul class='seealso'>
+ * 	<li class='jc'>{@link BasicRestCacheStore}
+ * 	<li class='jc'>{@link FileRestCacheStore}
+ * 	<li class='jf'>{@link RestClient#RESTCLIENT_cache}
+ * 	<li class='jm'>{@link RestClientBuilder#cache(RestCacheStore)}
+ * </ul>
+ */
+public interface RestCacheStore {
+
+	/**
+	 * Returns the entry with the specified key.
+	 *
+	 * @param key The cache key.
+	 * @return The cached entry, or <jk>null</jk> if not found.
+	 */
+	RestCacheEntry get(String key);
+
+	/**
+	 * Adds or replaces the entry with the specified key.
+	 *
+	 * @param key The cache key.
+	 * @param entry The entry to store.
+	 */
+	void put(String key, RestCacheEntry entry);
+
+	/**
+	 * Removes the entry with the specified key.
+	 *
+	 * @param key The cache key.
+	 */
+	void remove(String key);
+
+	/**
+	 * Returns the size in bytes of the largest response body this store accepts.
+	 *
+	 * <p>
+	 * Larger responses are passed through without being buffered or stored.
+	 *
+	 * @return The size in bytes of the largest response body this store accepts.
+	 */
+	int getMaxEntrySize();
+}
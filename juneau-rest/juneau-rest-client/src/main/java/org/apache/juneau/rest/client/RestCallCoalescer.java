@@ -0,0 +1,140 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.http.*;
+import org.apache.http.client.methods.*;
+import org.apache.http.entity.*;
+import org.apache.http.message.*;
+import org.apache.http.protocol.*;
+import org.apache.http.util.*;
+
+/**
+ * {@link RestCallHandler} that shares a single HTTP exchange between concurrent identical requests.
+ *
+ * <p>
+ * Used by {@link RestClient} when {@link RestClient#RESTCLIENT_coalesceRequests} is enabled.
+ *
+ * <p>
+ * Only <c>GET</c> and <c>HEAD</c> requests without a body are coalesced.
+ * <br>Requests are considered identical when they have the same method, URI, and request headers.
+ * <br>The first caller sends the request and reads the response body into memory.  Callers that arrive while that
+ * request is in flight wait for it and each get their own copy of the status line, headers, and body, so responses
+ * can be consumed and parsed independently.
+ * <br>Failures are propagated to all waiting callers.
+ */
+final class RestCallCoalescer implements RestCallHandler {
+
+	private final RestCallHandler handler;
+	private final ConcurrentHashMap<String,CompletableFuture<SharedResponse>> flights = new ConcurrentHashMap<>();
+
+	RestCallCoalescer(RestCallHandler handler) {
+		this.handler = handler;
+	}
+
+	@Override /* RestCallHandler */
+	public HttpResponse run(HttpHost target, HttpRequest req, HttpContext context) throws IOException {
+		String key = getKey(target, req);
+		if (key == null)
+			return handler.run(target, req, context);
+
+		CompletableFuture<SharedResponse> flight = new CompletableFuture<>(), existing = flights.putIfAbsent(key, flight);
+		if (existing != null)
+			return await(existing).toResponse();
+
+		SharedResponse sr;
+		try {
+			sr = SharedResponse.of(handler.run(target, req, context));
+		} catch (IOException | RuntimeException | Error e) {
+			flights.remove(key, flight);
+			flight.completeExceptionally(e);
+			throw e;
+		}
+		// Remove before completing so that requests arriving afterwards go to the server instead of getting this response.
+		flights.remove(key, flight);
+		flight.complete(sr);
+		return sr.toResponse();
+	}
+
+	private static SharedResponse await(CompletableFuture<SharedResponse> flight) throws IOException {
+		try {
+			return flight.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for coalesced request.");
+		} catch (ExecutionException e) {
+			Throwable t = e.getCause();
+			if (t instanceof IOException)
+				throw (IOException)t;
+			if (t instanceof RuntimeException)
+				throw (RuntimeException)t;
+			if (t instanceof Error)
+				throw (Error)t;
+			throw new IOException(t);
+		}
+	}
+
+	private static String getKey(HttpHost target, HttpRequest req) {
+		String method = req.getRequestLine().getMethod().toUpperCase(Locale.ENGLISH);
+		if (! (method.equals("GET") || method.equals("HEAD")) || req instanceof HttpEntityEnclosingRequest)
+			return null;
+		StringBuilder sb = new StringBuilder(method).append(' ');
+		if (target != null)
+			sb.append(target.toURI());
+		sb.append(req instanceof HttpUriRequest ? ((HttpUriRequest)req).getURI() : req.getRequestLine().getUri());
+		for (Header h : req.getAllHeaders())
+			sb.append('\n').append(h.getName().toLowerCase(Locale.ENGLISH)).append(':').append(h.getValue());
+		return sb.toString();
+	}
+
+	/**
+	 * A fully-read response that can be handed out to any number of callers.
+	 */
+	private static final class SharedResponse {
+		private final StatusLine statusLine;
+		private final Header[] headers;
+		private final byte[] body;
+		private final Header contentType, contentEncoding;
+
+		static SharedResponse of(HttpResponse res) throws IOException {
+			HttpEntity e = res.getEntity();
+			if (e == null)
+				return new SharedResponse(res, null, null, null);
+			return new SharedResponse(res, EntityUtils.toByteArray(e), e.getContentType(), e.getContentEncoding());
+		}
+
+		private SharedResponse(HttpResponse res, byte[] body, Header contentType, Header contentEncoding) {
+			this.statusLine = res.getStatusLine();
+			this.headers = res.getAllHeaders();
+			this.body = body;
+			this.contentType = contentType;
+			this.contentEncoding = contentEncoding;
+		}
+
+		HttpResponse toResponse() {
+			BasicHttpResponse res = new BasicHttpResponse(statusLine);
+			res.setHeaders(headers);
+			if (body != null) {
+				ByteArrayEntity entity = new ByteArrayEntity(body);
+				entity.setContentType(contentType);
+				entity.setContentEncoding(contentEncoding);
+				res.setEntity(entity);
+			}
+			return res;
+		}
+	}
+}
@@ -49,6 +49,7 @@ import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
 import org.apache.juneau.assertions.*;
 import org.apache.juneau.collections.*;
+import org.apache.juneau.encoders.*;
 import org.apache.juneau.http.remote.RemoteReturn;
 import org.apache.juneau.http.*;
 import org.apache.juneau.http.header.*;
@@ -813,6 +814,64 @@ import org.apache.juneau.utils.*;
  * or by defining your own {@link HttpRequestExecutor}.  Using this interface is often simpler though.
  *
  *
+ * <h4 class='topic'>Response Caching</h4>
+ *
+ * <p class='w900'>
+ * Responses to <c>GET</c> requests can be cached on the client according to their <c>Cache-Control</c>,
+ * <c>Expires</c>, <c>ETag</c> and <c>Last-Modified</c> headers.
+ *
+ * <ul class='javatree'>
+ * 	<li class='jc'>{@link RestClientBuilder}
+ * 	<ul>
+ * 		<li class='jm'>{@link RestClientBuilder#cache() cache()}
+ * 		<li class='jm'>{@link RestClientBuilder#cache(RestCacheStore) cache(RestCacheStore)}
+ * 	</ul>
+ * 	<li class='jic'>{@link RestCacheStore}
+ * 	<ul>
+ * 		<li class='jc'>{@link BasicRestCacheStore}
+ * 		<li class='jc'>{@link FileRestCacheStore}
+ * 	</ul>
+ * 	<li class='jc'>{@link RestClient}
+ * 	<ul>
+ * 		<li class='jm'><c>{@link RestClient#getCacheStats() getCacheStats()} <jk>returns</jk> {@link RestCacheStats}</c>
+ * 	</ul>
+ * </ul>
+ *
+ * <p class='w900'>
+ * Concurrent identical <c>GET</c> requests can also be coalesced into a single call to the server, with each caller
+ * getting its own copy of the response.
+ *
+ * <ul class='javatree'>
+ * 	<li class='jc'>{@link RestClientBuilder}
+ * 	<ul>
+ * 		<li class='jm'>{@link RestClientBuilder#coalesceRequests() coalesceRequests()}
+ * 	</ul>
+ * </ul>
+ *
+ *
+ * <h4 class='topic'>Load Balancing</h4>
+ *
+ * <p class='w900'>
+ * Requests can be spread across several replicas of the same REST interface by specifying multiple root URIs.
+ * <br>Endpoints are picked round-robin, by fewest requests in flight, or by average response time, and endpoints
+ * that keep failing are taken out of rotation for a while.
+ * <br>Idempotent requests can also be hedged by sending them to a second endpoint when the first one is slow to
+ * respond.
+ *
+ * <ul class='javatree'>
+ * 	<li class='jc'>{@link RestClientBuilder}
+ * 	<ul>
+ * 		<li class='jm'>{@link RestClientBuilder#rootUris(Object...) rootUris(Object...)}
+ * 		<li class='jm'>{@link RestClientBuilder#loadBalancing(LoadBalancing) loadBalancing(LoadBalancing)}
+ * 		<li class='jm'>{@link RestClientBuilder#hedgeDelay(int) hedgeDelay(int)}
+ * 	</ul>
+ * 	<li class='jc'>{@link RestClient}
+ * 	<ul>
+ * 		<li class='jm'><c>{@link RestClient#getEndpoints() getEndpoints()} <jk>returns</jk> List&lt;{@link RestEndpoint}&gt;</c>
+ * 	</ul>
+ * </ul>
+ *
+ *
  * <h4 class='topic'>Interceptors</h4>
  *
  * <p class='w900'>
@@ -1049,6 +1108,49 @@ public class RestClient extends BeanContext implements HttpClient, Closeable, Re
 
 	private static final String PREFIX = "RestClient.";
 
+	/**
+	 * Configuration property:  Response cache.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.rest.client.RestClient#RESTCLIENT_cache RESTCLIENT_cache}
+	 * 	<li><b>Name:</b>  <js>"RestClient.cache.o"</js>
+	 * 	<li><b>Data type:</b>  {@link org.apache.juneau.rest.client.RestCacheStore}
+	 * 	<li><b>Default:</b>  <c><jk>null</jk></c>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.rest.client.RestClientBuilder#cache()}
+	 * 			<li class='jm'>{@link org.apache.juneau.rest.client.RestClientBuilder#cache(RestCacheStore)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 *
+	 * <p>
+	 * Enables a private HTTP cache that stores <c>GET</c> responses in the specified store.
+	 *
+	 * <p>
+	 * Responses are cached according to their <c>Cache-Control</c> and <c>Expires</c> headers, and stale responses
+	 * with an <c>ETag</c> or <c>Last-Modified</c> header are revalidated with conditional requests.
+	 * <br>Only one response is kept per URI, so requests for different variants of the same URI (e.g. with different
+	 * <c>Accept</c> headers) replace each other's entries.
+	 * <br>Since caching happens in {@link #run(HttpHost, HttpRequest, HttpContext)}, it applies to both
+	 * {@link RestRequest} calls and remote proxies.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a client that caches up to 100 responses in memory.</jc>
+	 * 	RestClient <jv>client</jv> = RestClient
+	 * 		.<jsm>create</jsm>()
+	 * 		.cache(<jk>new</jk> BasicRestCacheStore(100, 10_000_000, 1_000_000))
+	 * 		.build();
+	 *
+	 * 	<jc>// See how well it's working.</jc>
+	 * 	RestCacheStats <jv>stats</jv> = <jv>client</jv>.getCacheStats();
+	 * </p>
+	 */
+	public static final String RESTCLIENT_cache = PREFIX + "cache.o";
+
 	/**
 	 * Configuration property:  REST call handler.
 	 *
@@ -1092,6 +1194,49 @@ public class RestClient extends BeanContext implements HttpClient, Closeable, Re
 	 */
 	public static final String RESTCLIENT_callHandler = PREFIX + "callHandler.o";
 
+	/**
+	 * Configuration property:  Coalesce concurrent identical requests.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.rest.client.RestClient#RESTCLIENT_coalesceRequests RESTCLIENT_coalesceRequests}
+	 * 	<li><b>Name:</b>  <js>"RestClient.coalesceRequests.b"</js>
+	 * 	<li><b>Data type:</b>  <jk>boolean</jk>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.rest.client.RestClientBuilder#coalesceRequests()}
+	 * 			<li class='jm'>{@link org.apache.juneau.rest.client.RestClientBuilder#coalesceRequests(boolean)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 *
+	 * <p>
+	 * When enabled, concurrent <c>GET</c> and <c>HEAD</c> requests with the same URI and request headers share a
+	 * single HTTP exchange.
+	 *
+	 * <p>
+	 * The first request is sent to the server and its response body is read into memory.
+	 * <br>Identical requests made while it is in flight wait for it instead of going to the server, and each caller
+	 * gets its own copy of the response so that bodies can be parsed independently.
+	 * <br>Requests made after the response arrives are sent to the server again, so this never returns stale
+	 * responses.  Combine with {@link #RESTCLIENT_cache} to reuse responses over time.
+	 *
+	 * <p>
+	 * Since response bodies are buffered, this should not be used for very large or streaming responses.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a client that sends only one request when many threads ask for the same resource at once.</jc>
+	 * 	RestClient <jv>client</jv> = RestClient
+	 * 		.<jsm>create</jsm>()
+	 * 		.coalesceRequests()
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String RESTCLIENT_coalesceRequests = PREFIX + "coalesceRequests.b";
+
 	/**
 	 * Configuration property:  Connection manager
 	 *
@@ -1398,6 +1543,47 @@ public class RestClient extends BeanContext implements HttpClient, Closeable, Re
 	 */
 	public static final String RESTCLIENT_headers = PREFIX + "headers.lo";
 
+	/**
+	 * Configuration property:  Hedge delay.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.rest.client.RestClient#RESTCLIENT_hedgeDelay RESTCLIENT_hedgeDelay}
+	 * 	<li><b>Name:</b>  <js>"RestClient.hedgeDelay.i"</js>
+	 * 	<li><b>Data type:</b>  <jk>int</jk>
+	 * 	<li><b>Default:</b>  <c>0</c>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.rest.client.RestClientBuilder#hedgeDelay(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 *
+	 * <p>
+	 * When multiple {@link #RESTCLIENT_rootUris root URIs} are configured, <c>GET</c>, <c>HEAD</c> and <c>OPTIONS</c>
+	 * requests that haven't gotten a response after this many milliseconds are also sent to a different endpoint.
+	 * <br>The first response is used and the other request is aborted.
+	 * <br>If the first request fails with an I/O error (e.g. the connection is refused) before the delay is up, the
+	 * second request is sent right away instead of failing the call.
+	 *
+	 * <p>
+	 * This cuts tail latency at the cost of some extra load on the servers.  A good value is usually around the
+	 * 95th percentile of the normal response time.
+	 * <br>A value of <c>0</c> disables hedging.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a client that sends a second request if the first one takes longer than 50ms.</jc>
+	 * 	RestClient <jv>client</jv> = RestClient
+	 * 		.<jsm>create</jsm>()
+	 * 		.rootUris(<js>"http://host1:10000"</js>, <js>"http://host2:10000"</js>)
+	 * 		.hedgeDelay(50)
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String RESTCLIENT_hedgeDelay = PREFIX + "hedgeDelay.i";
+
 	/**
 	 * Configuration property:  Ignore errors.
 	 *
@@ -1568,6 +1754,39 @@ public class RestClient extends BeanContext implements HttpClient, Closeable, Re
 	 */
 	public static final String RESTCLIENT_leakDetection = PREFIX + "leakDetection.b";
 
+	/**
+	 * Configuration property:  Load balancing strategy.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.rest.client.RestClient#RESTCLIENT_loadBalancing RESTCLIENT_loadBalancing}
+	 * 	<li><b>Name:</b>  <js>"RestClient.loadBalancing.s"</js>
+	 * 	<li><b>Data type:</b>  {@link org.apache.juneau.rest.client.LoadBalancing}
+	 * 	<li><b>Default:</b>  {@link org.apache.juneau.rest.client.LoadBalancing#ROUND_ROBIN ROUND_ROBIN}
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.rest.client.RestClientBuilder#loadBalancing(LoadBalancing)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 *
+	 * <p>
+	 * Identifies how an endpoint is picked for each request when multiple {@link #RESTCLIENT_rootUris root URIs}
+	 * are configured.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a client that sends requests to the replica with the fewest requests in flight.</jc>
+	 * 	RestClient <jv>client</jv> = RestClient
+	 * 		.<jsm>create</jsm>()
+	 * 		.rootUris(<js>"http://host1:10000"</js>, <js>"http://host2:10000"</js>)
+	 * 		.loadBalancing(LoadBalancing.<jsf>LEAST_OUTSTANDING</jsf>)
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String RESTCLIENT_loadBalancing = PREFIX + "loadBalancing.s";
+
 	/**
 	 * Configuration property:  Logger.
 	 *
@@ -1888,6 +2107,52 @@ public class RestClient extends BeanContext implements HttpClient, Closeable, Re
 	 */
 	public static final String RESTCLIENT_query = PREFIX + "query.lo";
 
+	/**
+	 * Configuration property:  Request body encoder.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.rest.client.RestClient#RESTCLIENT_requestEncoder RESTCLIENT_requestEncoder}
+	 * 	<li><b>Name:</b>  <js>"RestClient.requestEncoder.o"</js>
+	 * 	<li><b>Data type:</b>
+	 * 		<ul>
+	 * 			<li><c>Class&lt;? <jk>extends</jk> {@link org.apache.juneau.encoders.Encoder}&gt;</c>
+	 * 			<li>{@link org.apache.juneau.encoders.Encoder}
+	 * 		</ul>
+	 * 	<li><b>Default:</b>  <jk>null</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.rest.client.RestClientBuilder#requestEncoder(Class)}
+	 * 			<li class='jm'>{@link org.apache.juneau.rest.client.RestClientBuilder#requestEncoder(Encoder)}
+	 * 			<li class='jm'>{@link org.apache.juneau.rest.client.RestRequest#requestEncoder(Encoder)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * The encoder to use for compressing serialized request bodies.
+	 *
+	 * <p>
+	 * Bodies are compressed while they're being serialized and the <c>Content-Encoding</c> header is set to the
+	 * first coding of the encoder.
+	 * <br>Bodies smaller than {@link Encoder#getMinimumSize()} are sent unencoded.
+	 * <br>Only applies to POJO bodies serialized by the client, not to readers, input streams or HTTP entities.
+	 *
+	 * <p>
+	 * The server must be able to decode the request body (e.g. <c><ja>@Rest</ja>(encoders=GzipEncoder.<jk>class</jk>)</c>).
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a client that gzips request bodies of 1KB or more.</jc>
+	 * 	RestClient <jv>client</jv> = RestClient
+	 * 		.<jsm>create</jsm>()
+	 * 		.json()
+	 * 		.requestEncoder(PooledGzipEncoder.<jsm>create</jsm>().minimumSize(1024).build())
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String RESTCLIENT_requestEncoder = PREFIX + "requestEncoder.o";
+
 	/**
 	 * Configuration property:  Root URI.
 	 *
@@ -1927,6 +2192,47 @@ public class RestClient extends BeanContext implements HttpClient, Closeable, Re
 	 */
 	public static final String RESTCLIENT_rootUri = PREFIX + "rootUri.s";
 
+	/**
+	 * Configuration property:  Root URIs.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.rest.client.RestClient#RESTCLIENT_rootUris RESTCLIENT_rootUris}
+	 * 	<li><b>Name:</b>  <js>"RestClient.rootUris.ls"</js>
+	 * 	<li><b>Data type:</b>  <c>List&lt;String&gt;</c>
+	 * 	<li><b>Default:</b>  empty list
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.rest.client.RestClientBuilder#rootUris(Object...)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * Root URIs of replicas of the same REST interface.
+	 *
+	 * <p>
+	 * The first URI is used as the {@link #RESTCLIENT_rootUri root URI} when building requests.
+	 * <br>When there is more than one, requests to any of them are sent to the endpoint picked by the
+	 * {@link #RESTCLIENT_loadBalancing load balancing} strategy.
+	 * <br>Endpoints that keep failing are taken out of rotation for a while (see {@link RestEndpoint}).
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a client that spreads requests across two replicas.</jc>
+	 * 	RestClient <jv>client</jv> = RestClient
+	 * 		.<jsm>create</jsm>()
+	 * 		.rootUris(<js>"http://host1:10000/foo"</js>, <js>"http://host2:10000/foo"</js>)
+	 * 		.build();
+	 *
+	 * 	Bar <jv>bar</jv> = <jv>client</jv>
+	 * 		.get(<js>"/bar"</js>)  <jc>// Relative to either http://host1:10000/foo or http://host2:10000/foo</jc>
+	 * 		.run()
+	 * 		.getBody().as(Bar.<jk>class</jk>);
+	 * </p>
+	 */
+	public static final String RESTCLIENT_rootUris = PREFIX + "rootUris.ls";
+
 	/**
 	 * Configuration property:  Serializers.
 	 *
@@ -1984,6 +2290,9 @@ public class RestClient extends BeanContext implements HttpClient, Closeable, Re
 	private final HttpPartSerializer partSerializer;
 	private final HttpPartParser partParser;
 	private final RestCallHandler callHandler;
+	private final RestCallHandler handler;  // The call handler wrapped by the load balancer and coalescer.
+	private final RestLoadBalancer balancer;
+	private final RestCache cache;
 	private final String rootUri;
 	private volatile boolean isClosed = false;
 	private final StackTraceElement[] creationStack;
@@ -1992,6 +2301,7 @@ public class RestClient extends BeanContext implements HttpClient, Closeable, Re
 	final BiPredicate<RestRequest,RestResponse> logRequestsPredicate;
 	final Level logRequestsLevel;
 	final boolean ignoreErrors;
+	final Encoder requestEncoder;
 	private final boolean logToConsole;
 	private final PrintStream console;
 	private StackTraceElement[] closedStack;
@@ -2041,7 +2351,10 @@ public class RestClient extends BeanContext implements HttpClient, Closeable, Re
 		this.keepHttpClientOpen = getBooleanProperty(RESTCLIENT_keepHttpClientOpen);
 		this.errorCodes = getInstanceProperty(RESTCLIENT_errorCodes, Predicate.class, ERROR_CODES_DEFAULT);
 		this.executorServiceShutdownOnClose = getBooleanProperty(RESTCLIENT_executorServiceShutdownOnClose);
-		this.rootUri = StringUtils.nullIfEmpty(getStringProperty(RESTCLIENT_rootUri, "").replaceAll("\\/$", ""));
+		String[] rootUris = getArrayProperty(RESTCLIENT_rootUris, String.class);
+		for (int i = 0; i < rootUris.length; i++)
+			rootUris[i] = rootUris[i].replaceAll("\\/$", "");
+		this.rootUri = rootUris.length > 0 ? rootUris[0] : StringUtils.nullIfEmpty(getStringProperty(RESTCLIENT_rootUri, "").replaceAll("\\/$", ""));
 		this.leakDetection = getBooleanProperty(RESTCLIENT_leakDetection, isDebug());
 		this.ignoreErrors = getBooleanProperty(RESTCLIENT_ignoreErrors);
 		this.logger = getInstanceProperty(RESTCLIENT_logger, Logger.class, Logger.getLogger(RestClient.class.getName()));
@@ -2049,6 +2362,7 @@ public class RestClient extends BeanContext implements HttpClient, Closeable, Re
 		this.logRequestsLevel = getInstanceProperty(RESTCLIENT_logRequestsLevel, Level.class, isDebug() ? Level.WARNING : Level.OFF);
 		this.logToConsole = getBooleanProperty(RESTCLIENT_logToConsole, isDebug());
 		this.console = getInstanceProperty(RESTCLIENT_console, PrintStream.class, System.err);
+		this.requestEncoder = getInstanceProperty(RESTCLIENT_requestEncoder, Encoder.class, null);
 		this.logRequestsPredicate = getInstanceProperty(RESTCLIENT_logRequestsPredicate, BiPredicate.class, LOG_REQUESTS_PREDICATE_DEFAULT);
 
 		SerializerGroupBuilder sgb = SerializerGroup.create();
@@ -2116,6 +2430,17 @@ public class RestClient extends BeanContext implements HttpClient, Closeable, Re
 		}
 
 		this.callHandler = getInstanceProperty(RESTCLIENT_callHandler, RestCallHandler.class, BasicRestCallHandler.class, ResourceResolver.FUZZY, ps, this);
+		RestCallHandler h = callHandler;
+		if (rootUris.length > 1)
+			h = this.balancer = new RestLoadBalancer(h, rootUris, getProperty(RESTCLIENT_loadBalancing, LoadBalancing.class, LoadBalancing.ROUND_ROBIN), getIntegerProperty(RESTCLIENT_hedgeDelay, 0));
+		else
+			this.balancer = null;
+		if (getBooleanProperty(RESTCLIENT_coalesceRequests))
+			h = new RestCallCoalescer(h);
+		this.handler = h;
+
+		RestCacheStore cacheStore = getInstanceProperty(RESTCLIENT_cache, RestCacheStore.class, null);
+		this.cache = cacheStore == null ? null : new RestCache(cacheStore);
 
 		this.interceptors = getInstanceArrayProperty(RESTCLIENT_interceptors, RestCallInterceptor.class);
 
@@ -2145,6 +2470,8 @@ public class RestClient extends BeanContext implements HttpClient, Closeable, Re
 			httpClient.close();
 		if (executorService != null && executorServiceShutdownOnClose)
 			executorService.shutdown();
+		if (balancer != null)
+			balancer.close();
 		if (creationStack != null)
 			closedStack = Thread.currentThread().getStackTrace();
 	}
@@ -2159,6 +2486,8 @@ public class RestClient extends BeanContext implements HttpClient, Closeable, Re
 				httpClient.close();
 			if (executorService != null && executorServiceShutdownOnClose)
 				executorService.shutdown();
+			if (balancer != null)
+				balancer.close();
 		} catch (Throwable t) {}
 		if (creationStack != null)
 			closedStack = Thread.currentThread().getStackTrace();
@@ -2172,6 +2501,12 @@ public class RestClient extends BeanContext implements HttpClient, Closeable, Re
 	 *
 	 * <p>
 	 * The behavior of this method can also be modified by specifying a different {@link RestCallHandler}.
+	 * <br>If a {@link RestClient#RESTCLIENT_cache cache} is configured, requests are only passed to the handler when
+	 * they can't be served from the cache.
+	 * <br>If {@link RestClient#RESTCLIENT_coalesceRequests request coalescing} is enabled, concurrent identical
+	 * requests are passed to the handler only once.
+	 * <br>If multiple {@link RestClient#RESTCLIENT_rootUris root URIs} are configured, requests are sent to the
+	 * endpoint picked by the load balancer.
 	 *
 	 * <ul class='seealso'>
 	 * 	<li class='jf'>{@link RestClient#RESTCLIENT_callHandler}
@@ -2194,7 +2529,37 @@ public class RestClient extends BeanContext implements HttpClient, Closeable, Re
 	 */
 	@Override /* RestCallHandler */
 	public HttpResponse run(HttpHost target, HttpRequest request, HttpContext context) throws ClientProtocolException, IOException {
-		return callHandler.run(target, request, context);
+		if (cache != null)
+			return cache.run(handler, target, request, context);
+		return handler.run(target, request, context);
+	}
+
+	/**
+	 * Returns statistics on the responses served by the response cache.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RestClient#RESTCLIENT_cache}
+	 * </ul>
+	 *
+	 * @return The cache statistics, or <jk>null</jk> if caching isn't enabled on this client.
+	 */
+	public RestCacheStats getCacheStats() {
+		return cache == null ? null : cache.getStats();
+	}
+
+	/**
+	 * Returns the endpoints that requests are spread across.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RestClient#RESTCLIENT_rootUris}
+	 * </ul>
+	 *
+	 * @return
+	 * 	An unmodifiable list of endpoints with their current load and health.
+	 * 	<br>Empty if fewer than two root URIs are configured.
+	 */
+	public List<RestEndpoint> getEndpoints() {
+		return balancer == null ? Collections.emptyList() : balancer.getEndpoints();
 	}
 
 	/**
@@ -52,6 +52,7 @@ import org.apache.http.impl.conn.*;
 import org.apache.http.protocol.*;
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
+import org.apache.juneau.encoders.*;
 import org.apache.juneau.html.*;
 import org.apache.juneau.http.*;
 import org.apache.juneau.http.header.*;
@@ -2371,6 +2372,58 @@ public class RestClientBuilder extends BeanContextBuilder {
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
 
+	/**
+	 * <i><l>RestClient</l> configuration property:&emsp;</i>  Response cache.
+	 *
+	 * <p>
+	 * Enables caching of <c>GET</c> responses in memory using a {@link BasicRestCacheStore} with default settings.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RestClient#RESTCLIENT_cache}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RestClientBuilder cache() {
+		return cache(new BasicRestCacheStore());
+	}
+
+	/**
+	 * <i><l>RestClient</l> configuration property:&emsp;</i>  Response cache.
+	 *
+	 * <p>
+	 * Enables caching of <c>GET</c> responses in the specified store.
+	 *
+	 * <p>
+	 * Responses are served from the store while fresh according to their <c>Cache-Control</c> and <c>Expires</c>
+	 * headers, and revalidated with <c>If-None-Match</c> and <c>If-Modified-Since</c> once stale.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a client that caches responses on disk.</jc>
+	 * 	RestClient <jv>client</jv> = RestClient
+	 * 		.<jsm>create</jsm>()
+	 * 		.cache(<jk>new</jk> FileRestCacheStore(<jk>new</jk> File(<js>"cache"</js>)))
+	 * 		.build();
+	 * </p>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jic'>{@link RestCacheStore}
+	 * 	<li class='jf'>{@link RestClient#RESTCLIENT_cache}
+	 * 	<li class='jm'>{@link RestClient#getCacheStats()}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The store to cache responses in.
+	 * 	<br>The default value is <jk>null</jk> (no caching).
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RestClientBuilder cache(RestCacheStore value) {
+		return set(RESTCLIENT_cache, value);
+	}
+
 	/**
 	 * <i><l>RestClient</l> configuration property:&emsp;</i>  REST call handler.
 	 *
@@ -2454,6 +2507,63 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return set(RESTCLIENT_callHandler, value);
 	}
 
+	/**
+	 * <i><l>RestClient</l> configuration property:&emsp;</i>  Coalesce concurrent identical requests.
+	 *
+	 * <p>
+	 * Concurrent <c>GET</c> and <c>HEAD</c> requests with the same URI and request headers share a single HTTP
+	 * exchange, and each caller gets its own copy of the response.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a client that sends only one request when many threads ask for the same resource at once.</jc>
+	 * 	RestClient <jv>client</jv> = RestClient
+	 * 		.<jsm>create</jsm>()
+	 * 		.coalesceRequests()
+	 * 		.build();
+	 * </p>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RestClient#RESTCLIENT_coalesceRequests}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RestClientBuilder coalesceRequests() {
+		return coalesceRequests(true);
+	}
+
+	/**
+	 * <i><l>RestClient</l> configuration property:&emsp;</i>  Coalesce concurrent identical requests.
+	 *
+	 * <p>
+	 * When enabled, concurrent <c>GET</c> and <c>HEAD</c> requests with the same URI and request headers share a
+	 * single HTTP exchange, and each caller gets its own copy of the response.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a client that sends only one request when many threads ask for the same resource at once.</jc>
+	 * 	RestClient <jv>client</jv> = RestClient
+	 * 		.<jsm>create</jsm>()
+	 * 		.coalesceRequests(<jk>true</jk>)
+	 * 		.build();
+	 * </p>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RestClient#RESTCLIENT_coalesceRequests}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this setting.
+	 * 	<br>The default value is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RestClientBuilder coalesceRequests(boolean value) {
+		return set(RESTCLIENT_coalesceRequests, value);
+	}
+
 	/**
 	 * <i><l>RestClient</l> configuration property:&emsp;</i>  Console print stream
 	 *
@@ -2583,6 +2693,38 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return this;
 	}
 
+	/**
+	 * <i><l>RestClient</l> configuration property:&emsp;</i>  Hedge delay.
+	 *
+	 * <p>
+	 * When multiple root URIs are configured, <c>GET</c>, <c>HEAD</c> and <c>OPTIONS</c> requests that haven't
+	 * gotten a response after this many milliseconds are also sent to a different endpoint.
+	 * <br>The first response is used and the other request is aborted.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a client that sends a second request if the first one takes longer than 50ms.</jc>
+	 * 	RestClient <jv>client</jv> = RestClient
+	 * 		.<jsm>create</jsm>()
+	 * 		.rootUris(<js>"http://host1:10000"</js>, <js>"http://host2:10000"</js>)
+	 * 		.hedgeDelay(50)
+	 * 		.build();
+	 * </p>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RestClient#RESTCLIENT_hedgeDelay}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The delay in milliseconds.
+	 * 	<br>The default value is <c>0</c> (no hedging).
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RestClientBuilder hedgeDelay(int value) {
+		return set(RESTCLIENT_hedgeDelay, value);
+	}
+
 	/**
 	 * <i><l>RestClient</l> configuration property:&emsp;</i>  Keep HttpClient open.
 	 *
@@ -2854,6 +2996,36 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return set(RESTCLIENT_leakDetection);
 	}
 
+	/**
+	 * <i><l>RestClient</l> configuration property:&emsp;</i>  Load balancing strategy.
+	 *
+	 * <p>
+	 * Identifies how an endpoint is picked for each request when multiple root URIs are configured.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a client that sends requests to the replica with the fewest requests in flight.</jc>
+	 * 	RestClient <jv>client</jv> = RestClient
+	 * 		.<jsm>create</jsm>()
+	 * 		.rootUris(<js>"http://host1:10000"</js>, <js>"http://host2:10000"</js>)
+	 * 		.loadBalancing(LoadBalancing.<jsf>LEAST_OUTSTANDING</jsf>)
+	 * 		.build();
+	 * </p>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RestClient#RESTCLIENT_loadBalancing}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this setting.
+	 * 	<br>The default value is {@link LoadBalancing#ROUND_ROBIN}.
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RestClientBuilder loadBalancing(LoadBalancing value) {
+		return set(RESTCLIENT_loadBalancing, value);
+	}
+
 	/**
 	 * <i><l>RestClient</l> configuration property:&emsp;</i>  Marshall
 	 *
@@ -3209,6 +3381,76 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return set(RESTCLIENT_partSerializer, value);
 	}
 
+	/**
+	 * <i><l>RestClient</l> configuration property:&emsp;</i>  Request body encoder.
+	 *
+	 * <p>
+	 * The encoder to use for compressing serialized request bodies.
+	 *
+	 * <p>
+	 * Bodies are compressed while they're being serialized and the <c>Content-Encoding</c> header is set to the
+	 * first coding of the encoder.
+	 * <br>Bodies smaller than {@link Encoder#getMinimumSize()} are sent unencoded.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a client that gzips request bodies.</jc>
+	 * 	RestClient <jv>client</jv> = RestClient
+	 * 		.<jsm>create</jsm>()
+	 * 		.json()
+	 * 		.requestEncoder(GzipEncoder.<jk>class</jk>)
+	 * 		.build();
+	 * </p>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RestClient#RESTCLIENT_requestEncoder}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this setting.
+	 * 	<br>The default is <jk>null</jk> (request bodies are not encoded).
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RestClientBuilder requestEncoder(Class<? extends Encoder> value) {
+		return set(RESTCLIENT_requestEncoder, value);
+	}
+
+	/**
+	 * <i><l>RestClient</l> configuration property:&emsp;</i>  Request body encoder.
+	 *
+	 * <p>
+	 * The encoder to use for compressing serialized request bodies.
+	 *
+	 * <p>
+	 * Bodies are compressed while they're being serialized and the <c>Content-Encoding</c> header is set to the
+	 * first coding of the encoder.
+	 * <br>Bodies smaller than {@link Encoder#getMinimumSize()} are sent unencoded.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a client that gzips request bodies of 1KB or more.</jc>
+	 * 	RestClient <jv>client</jv> = RestClient
+	 * 		.<jsm>create</jsm>()
+	 * 		.json()
+	 * 		.requestEncoder(PooledGzipEncoder.<jsm>create</jsm>().minimumSize(1024).build())
+	 * 		.build();
+	 * </p>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RestClient#RESTCLIENT_requestEncoder}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this setting.
+	 * 	<br>The default is <jk>null</jk> (request bodies are not encoded).
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RestClientBuilder requestEncoder(Encoder value) {
+		return set(RESTCLIENT_requestEncoder, value);
+	}
+
 	/**
 	 * <i><l>RestClient</l> configuration property:&emsp;</i>  Root URI.
 	 *
@@ -3246,6 +3488,41 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return set(RESTCLIENT_rootUri, value);
 	}
 
+	/**
+	 * <i><l>RestClient</l> configuration property:&emsp;</i>  Root URIs.
+	 *
+	 * <p>
+	 * Root URIs of replicas of the same REST interface.
+	 *
+	 * <p>
+	 * The first URI is used as the root URI when building requests, and requests are spread across all of them
+	 * according to the {@link #loadBalancing(LoadBalancing) load balancing} strategy.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a client that spreads requests across two replicas.</jc>
+	 * 	RestClient <jv>client</jv> = RestClient
+	 * 		.<jsm>create</jsm>()
+	 * 		.rootUris(<js>"http://host1:10000/foo"</js>, <js>"http://host2:10000/foo"</js>)
+	 * 		.build();
+	 * </p>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RestClient#RESTCLIENT_rootUris}
+	 * 	<li class='jm'>{@link RestClient#getEndpoints()}
+	 * </ul>
+	 *
+	 * @param values
+	 * 	The root URIs.
+	 * 	<br>Trailing slashes are trimmed.
+	 * 	<br>Usually <c>Strings</c> but you can also pass in <c>URI</c> and <c>URL</c> objects as well.
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RestClientBuilder rootUris(Object...values) {
+		return set(RESTCLIENT_rootUris, values);
+	}
+
 	/**
 	 * <i><l>RestClient</l> configuration property:&emsp;</i>  Serializer.
 	 *
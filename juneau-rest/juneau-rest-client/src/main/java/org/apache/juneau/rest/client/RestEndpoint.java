@@ -0,0 +1,137 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import java.util.concurrent.atomic.*;
+
+/**
+ * One of the root URIs of a {@link RestClient} configured with multiple root URIs, along with its load and health.
+ *
+ * <p>
+ * Health is tracked passively from the responses to normal requests.
+ * <br>An endpoint is taken out of rotation for {@value #EJECT_MILLIS}ms after {@value #FAILURE_THRESHOLD}
+ * consecutive failures, where a failure is an I/O error or a <c>502</c>, <c>503</c> or <c>504</c> response.
+ * <br>After that period it is used again, and is taken out again after the next failure.
+ *
+ * <ul class='seealso'>
+ * 	<li class='jf'>{@link RestClient#RESTCLIENT_rootUris}
+ * 	<li class='jm'>{@link RestClient#getEndpoints()}
+ * </ul>
+ */
+public final class RestEndpoint {
+
+	/** Number of consecutive failures after which an endpoint is taken out of rotation. */
+	public static final int FAILURE_THRESHOLD = 3;
+
+	/** Number of milliseconds an endpoint is taken out of rotation. */
+	public static final long EJECT_MILLIS = 30_000;
+
+	private static final double EWMA_ALPHA = 0.3;
+
+	private final String uri;
+	private final AtomicInteger outstanding = new AtomicInteger();
+	private final AtomicLong requests = new AtomicLong(), failures = new AtomicLong();
+	private double latency = -1;
+	private int consecutiveFailures;
+	private long ejectedUntil;
+
+	RestEndpoint(String uri) {
+		this.uri = uri;
+	}
+
+	void start() {
+		outstanding.incrementAndGet();
+		requests.incrementAndGet();
+	}
+
+	synchronized void success(long millis) {
+		latency = latency < 0 ? millis : latency + EWMA_ALPHA * (millis - latency);
+		consecutiveFailures = 0;
+	}
+
+	synchronized void failure(long now) {
+		failures.incrementAndGet();
+		if (++consecutiveFailures >= FAILURE_THRESHOLD)
+			ejectedUntil = now + EJECT_MILLIS;
+	}
+
+	void release() {
+		outstanding.decrementAndGet();
+	}
+
+	/**
+	 * Returns the root URI of this endpoint.
+	 *
+	 * @return The root URI of this endpoint without a trailing slash.
+	 */
+	public String getUri() {
+		return uri;
+	}
+
+	/**
+	 * Returns the number of requests to this endpoint that are in progress.
+	 *
+	 * <p>
+	 * A request is in progress until its response body has been fully read or closed.
+	 *
+	 * @return The number of requests to this endpoint that are in progress.
+	 */
+	public int getOutstanding() {
+		return outstanding.get();
+	}
+
+	/**
+	 * Returns the exponentially-weighted moving average of the time it took this endpoint to respond.
+	 *
+	 * @return The average response time in milliseconds, or <c>-1</c> if no successful response has been received yet.
+	 */
+	public synchronized double getLatency() {
+		return latency;
+	}
+
+	/**
+	 * Returns the total number of requests sent to this endpoint.
+	 *
+	 * @return The total number of requests sent to this endpoint.
+	 */
+	public long getRequestCount() {
+		return requests.get();
+	}
+
+	/**
+	 * Returns the total number of failed requests sent to this endpoint.
+	 *
+	 * @return The total number of failed requests sent to this endpoint.
+	 */
+	public long getFailureCount() {
+		return failures.get();
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this endpoint is currently in rotation.
+	 *
+	 * @return <jk>true</jk> if this endpoint is currently in rotation.
+	 */
+	public boolean isHealthy() {
+		return isHealthy(System.currentTimeMillis());
+	}
+
+	synchronized boolean isHealthy(long now) {
+		return now >= ejectedUntil;
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return uri + " (outstanding=" + getOutstanding() + ", latency=" + getLatency() + ", healthy=" + isHealthy() + ")";
+	}
+}
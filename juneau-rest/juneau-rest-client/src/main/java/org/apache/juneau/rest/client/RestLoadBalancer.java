@@ -0,0 +1,355 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.apache.http.*;
+import org.apache.http.client.methods.*;
+import org.apache.http.conn.*;
+import org.apache.http.entity.*;
+import org.apache.http.protocol.*;
+import org.apache.http.util.*;
+
+/**
+ * {@link RestCallHandler} that spreads requests across the root URIs of a {@link RestClient}.
+ *
+ * <p>
+ * Requests whose URI starts with one of the root URIs are rewritten to use the root URI of the endpoint picked by
+ * the {@link LoadBalancing} strategy.  Other requests, and requests with an explicit target host, are passed through.
+ *
+ * <p>
+ * When a hedge delay is set, <c>GET</c>, <c>HEAD</c> and <c>OPTIONS</c> requests that haven't gotten a response
+ * after the delay are also sent to a second endpoint.  The first response wins and the other request is aborted.
+ * <br>They are also sent to a second endpoint right away if the first one fails with an I/O error before the delay.
+ *
+ * <p>
+ * A request counts as outstanding on its endpoint until its response body has been consumed or closed.
+ */
+final class RestLoadBalancer implements RestCallHandler, Closeable {
+
+	private final RestCallHandler handler;
+	private final RestEndpoint[] endpoints;
+	private final LoadBalancing strategy;
+	private final int hedgeDelay;
+	private final AtomicInteger next = new AtomicInteger();
+	private ExecutorService executor;
+
+	RestLoadBalancer(RestCallHandler handler, String[] rootUris, LoadBalancing strategy, int hedgeDelay) {
+		this.handler = handler;
+		this.endpoints = new RestEndpoint[rootUris.length];
+		for (int i = 0; i < rootUris.length; i++)
+			endpoints[i] = new RestEndpoint(rootUris[i]);
+		this.strategy = strategy;
+		this.hedgeDelay = hedgeDelay;
+	}
+
+	List<RestEndpoint> getEndpoints() {
+		return Collections.unmodifiableList(Arrays.asList(endpoints));
+	}
+
+	@Override /* RestCallHandler */
+	public HttpResponse run(HttpHost target, HttpRequest req, HttpContext context) throws IOException {
+		if (target != null || ! (req instanceof HttpRequestBase))
+			return handler.run(target, req, context);
+
+		HttpRequestBase r = (HttpRequestBase)req;
+		String path = getPath(r.getURI().toString());
+		if (path == null)
+			return handler.run(target, req, context);
+
+		RestEndpoint e = choose(null);
+		r.setURI(URI.create(e.getUri() + path));
+		if (hedgeDelay <= 0 || endpoints.length < 2 || ! isHedgeable(r))
+			return execute(e, r, context, null);
+		return hedge(r, path, e, context);
+	}
+
+	private HttpResponse hedge(HttpRequestBase req, String path, RestEndpoint e1, HttpContext context) throws IOException {
+		BlockingQueue<Attempt> done = new LinkedBlockingQueue<>();
+		List<Attempt> attempts = new ArrayList<>(2);
+		try {
+			attempts.add(new Attempt(e1, copy(req, e1, path), context, done).start());
+			Attempt winner = done.poll(hedgeDelay, TimeUnit.MILLISECONDS);
+			// Also try a second endpoint if the first one is slow or couldn't be reached.
+			if (winner == null || winner.error instanceof IOException) {
+				RestEndpoint e2 = choose(e1);
+				// The second attempt sees the caller's attributes (e.g. credentials and cookies) without sharing its own.
+				if (e2 != e1)
+					attempts.add(new Attempt(e2, copy(req, e2, path), new BasicHttpContext(context), done).start());
+				if (winner == null)
+					winner = done.take();
+			}
+			// A failed attempt only loses if another one is still running.
+			for (int remaining = attempts.size() - 1; winner.error != null && remaining > 0; remaining--)
+				winner = done.take();
+			for (Attempt a : attempts)
+				if (a != winner)
+					a.cancel();
+			if (winner.error instanceof IOException)
+				throw (IOException)winner.error;
+			if (winner.error instanceof RuntimeException)
+				throw (RuntimeException)winner.error;
+			if (winner.error instanceof Error)
+				throw (Error)winner.error;
+			req.setURI(winner.req.getURI());
+			return winner.response;
+		} catch (InterruptedException e) {
+			for (Attempt a : attempts)
+				a.cancel();
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for hedged request.");
+		}
+	}
+
+	HttpResponse execute(RestEndpoint e, HttpRequestBase req, HttpContext context, Attempt attempt) throws IOException {
+		e.start();
+		long start = System.currentTimeMillis();
+		HttpResponse res;
+		try {
+			res = handler.run(null, req, context);
+		} catch (IOException | RuntimeException | Error x) {
+			if (attempt == null || ! attempt.isCancelled())
+				e.failure(System.currentTimeMillis());
+			e.release();
+			throw x;
+		}
+		int code = res.getStatusLine().getStatusCode();
+		if (code == 502 || code == 503 || code == 504)
+			e.failure(System.currentTimeMillis());
+		else
+			e.success(System.currentTimeMillis() - start);
+
+		// The request stays outstanding until the body has been read, since the server is still busy sending it.
+		HttpEntity entity = res.getEntity();
+		if (entity != null && entity.isStreaming())
+			res.setEntity(new ReleasingEntity(entity, e));
+		else
+			e.release();
+		return res;
+	}
+
+	/**
+	 * Picks the endpoint to use for the next request.
+	 *
+	 * @param exclude An endpoint to avoid, or <jk>null</jk>.
+	 * @return The endpoint to use.  Only returns <c>exclude</c> if there is no other endpoint.
+	 */
+	RestEndpoint choose(RestEndpoint exclude) {
+		long now = System.currentTimeMillis();
+		List<RestEndpoint> l = new ArrayList<>(endpoints.length);
+		for (RestEndpoint e : endpoints)
+			if (e != exclude && e.isHealthy(now))
+				l.add(e);
+		if (l.isEmpty())
+			for (RestEndpoint e : endpoints)
+				if (e != exclude)
+					l.add(e);
+		if (l.isEmpty())
+			return exclude;
+
+		// Rotate the starting point so that ties are spread evenly.
+		int start = Math.floorMod(next.getAndIncrement(), l.size());
+		if (strategy == LoadBalancing.ROUND_ROBIN)
+			return l.get(start);
+
+		RestEndpoint best = null;
+		double bestScore = Double.MAX_VALUE;
+		for (int i = 0; i < l.size(); i++) {
+			RestEndpoint e = l.get((start + i) % l.size());
+			double score = e.getOutstanding();
+			if (strategy == LoadBalancing.LATENCY_EWMA)
+				score = (Math.max(e.getLatency(), 0) + 1) * (score + 1);  // Unmeasured endpoints count as fast.
+			if (score < bestScore) {
+				best = e;
+				bestScore = score;
+			}
+		}
+		return best;
+	}
+
+	@Override /* Closeable */
+	public synchronized void close() {
+		if (executor != null)
+			executor.shutdown();
+	}
+
+	private synchronized ExecutorService getExecutor() {
+		if (executor == null) {
+			executor = Executors.newCachedThreadPool(r -> {
+				Thread t = new Thread(r, "RestClient-hedge");
+				t.setDaemon(true);
+				return t;
+			});
+		}
+		return executor;
+	}
+
+	private String getPath(String uri) {
+		for (RestEndpoint e : endpoints) {
+			String root = e.getUri();
+			if (uri.startsWith(root)) {
+				String path = uri.substring(root.length());
+				if (path.isEmpty() || "/?#".indexOf(path.charAt(0)) != -1)
+					return path;
+			}
+		}
+		return null;
+	}
+
+	private static boolean isHedgeable(HttpRequestBase req) {
+		String m = req.getMethod();
+		return (m.equals("GET") || m.equals("HEAD") || m.equals("OPTIONS")) && ! (req instanceof HttpEntityEnclosingRequest);
+	}
+
+	private static HttpRequestBase copy(HttpRequestBase req, RestEndpoint e, String path) {
+		HttpRequestBase r = new BasicHttpRequestBase(req instanceof RestRequestCreated ? ((RestRequestCreated)req).getRestRequest() : null, req.getMethod());
+		r.setURI(URI.create(e.getUri() + path));
+		r.setProtocolVersion(req.getProtocolVersion());
+		r.setConfig(req.getConfig());
+		r.setHeaders(req.getAllHeaders());
+		return r;
+	}
+
+	private static void release(HttpResponse res) {
+		if (res.getEntity() instanceof ReleasingEntity)
+			((ReleasingEntity)res.getEntity()).release();
+		try {
+			if (res instanceof Closeable)
+				((Closeable)res).close();
+			else
+				EntityUtils.consumeQuietly(res.getEntity());
+		} catch (IOException e) {
+			// Nothing to do.
+		}
+	}
+
+	/**
+	 * Response body that releases its endpoint once it's been fully read, closed, or written out.
+	 */
+	private static final class ReleasingEntity extends HttpEntityWrapper implements EofSensorWatcher {
+		private final RestEndpoint endpoint;
+		private final AtomicBoolean released = new AtomicBoolean();
+		private InputStream content;
+
+		ReleasingEntity(HttpEntity entity, RestEndpoint endpoint) {
+			super(entity);
+			this.endpoint = endpoint;
+		}
+
+		@Override /* HttpEntity */
+		public synchronized InputStream getContent() throws IOException {
+			if (content == null)
+				content = new EofSensorInputStream(super.getContent(), this);
+			return content;
+		}
+
+		@Override /* HttpEntity */
+		public void writeTo(OutputStream out) throws IOException {
+			try {
+				super.writeTo(out);
+			} finally {
+				release();
+			}
+		}
+
+		@Override /* EofSensorWatcher */
+		public boolean eofDetected(InputStream wrapped) {
+			release();
+			return true;
+		}
+
+		@Override /* EofSensorWatcher */
+		public boolean streamClosed(InputStream wrapped) {
+			release();
+			return true;
+		}
+
+		@Override /* EofSensorWatcher */
+		public boolean streamAbort(InputStream wrapped) {
+			release();
+			return true;
+		}
+
+		void release() {
+			if (released.compareAndSet(false, true))
+				endpoint.release();
+		}
+	}
+
+	/**
+	 * One of the requests sent for a hedged call.
+	 */
+	private final class Attempt implements Runnable {
+		private final RestEndpoint endpoint;
+		private final HttpRequestBase req;
+		private final HttpContext context;
+		private final BlockingQueue<Attempt> done;
+		private HttpResponse response;
+		private Throwable error;
+		private boolean cancelled;
+
+		Attempt(RestEndpoint endpoint, HttpRequestBase req, HttpContext context, BlockingQueue<Attempt> done) {
+			this.endpoint = endpoint;
+			this.req = req;
+			this.context = context;
+			this.done = done;
+		}
+
+		Attempt start() {
+			getExecutor().execute(this);
+			return this;
+		}
+
+		@Override /* Runnable */
+		public void run() {
+			HttpResponse res = null;
+			Throwable t = null;
+			try {
+				res = execute(endpoint, req, context, this);
+			} catch (Throwable x) {
+				t = x;
+			}
+			synchronized (this) {
+				if (cancelled) {
+					if (res != null)
+						release(res);
+					return;
+				}
+				response = res;
+				error = t;
+			}
+			done.add(this);
+		}
+
+		synchronized boolean isCancelled() {
+			return cancelled;
+		}
+
+		void cancel() {
+			HttpResponse res;
+			synchronized (this) {
+				cancelled = true;
+				res = response;
+				response = null;
+			}
+			req.abort();
+			if (res != null)
+				release(res);
+		}
+	}
+}
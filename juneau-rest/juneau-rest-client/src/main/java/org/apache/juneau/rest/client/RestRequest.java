@@ -39,6 +39,7 @@ import org.apache.http.params.*;
 import org.apache.http.protocol.*;
 import org.apache.juneau.*;
 import org.apache.juneau.collections.*;
+import org.apache.juneau.encoders.*;
 import org.apache.juneau.html.*;
 import org.apache.juneau.http.*;
 import org.apache.juneau.http.header.*;
@@ -79,6 +80,7 @@ public class RestRequest extends BeanSession implements HttpUriRequest, Configur
 	private Object input;
 	private boolean hasInput;                              // input() was called, even if it's setting 'null'.
 	private Serializer serializer;
+	private Encoder requestEncoder;
 	private Parser parser;
 	private HttpPartSerializerSession partSerializer;
 	private HttpPartSchema requestBodySchema;
@@ -105,6 +107,7 @@ public class RestRequest extends BeanSession implements HttpUriRequest, Configur
 		this.partSerializer = client.getPartSerializerSession();
 		this.uriBuilder = new URIBuilder(request.getURI());
 		this.ignoreErrors = client.ignoreErrors;
+		this.requestEncoder = client.requestEncoder;
 	}
 
 	/**
@@ -599,6 +602,24 @@ public class RestRequest extends BeanSession implements HttpUriRequest, Configur
 		return this;
 	}
 
+	/**
+	 * Specifies the encoder to use for compressing the request body.
+	 *
+	 * <p>
+	 * This overrides the <l>requestEncoder</l> property on the client.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RestClient#RESTCLIENT_requestEncoder}
+	 * </ul>
+	 *
+	 * @param value The encoder to use, or <jk>null</jk> to send the request body unencoded.
+	 * @return This object (for method chaining).
+	 */
+	public RestRequest requestEncoder(Encoder value) {
+		this.requestEncoder = value;
+		return this;
+	}
+
 	/**
 	 * Specifies the parser to use on the response body.
 	 *
@@ -2877,7 +2898,7 @@ public class RestRequest extends BeanSession implements HttpUriRequest, Configur
 				else if (input2 instanceof InputStream)
 					entity = new InputStreamEntity((InputStream)input2, getRequestContentType(ContentType.APPLICATION_OCTET_STREAM));
 				else if (serializer != null)
-					entity = SerializedHttpEntity.of(input2, serializer).schema(requestBodySchema).contentType(contentType);
+					entity = SerializedHttpEntity.of(input2, serializer).schema(requestBodySchema).contentType(contentType).encoder(requestEncoder);
 				else {
 					if (client.hasSerializers()) {
 						if (contentType == null)
@@ -718,6 +718,18 @@ public class MockRestClientBuilder extends RestClientBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - RestClientBuilder */
+	public MockRestClientBuilder cache() {
+		super.cache();
+		return this;
+	}
+
+	@Override /* GENERATED - RestClientBuilder */
+	public MockRestClientBuilder cache(RestCacheStore value) {
+		super.cache(value);
+		return this;
+	}
+
 	@Override /* GENERATED - RestClientBuilder */
 	public MockRestClientBuilder callHandler(Class<? extends org.apache.juneau.rest.client.RestCallHandler> value) {
 		super.callHandler(value);
@@ -736,6 +748,18 @@ public class MockRestClientBuilder extends RestClientBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - RestClientBuilder */
+	public MockRestClientBuilder coalesceRequests() {
+		super.coalesceRequests();
+		return this;
+	}
+
+	@Override /* GENERATED - RestClientBuilder */
+	public MockRestClientBuilder coalesceRequests(boolean value) {
+		super.coalesceRequests(value);
+		return this;
+	}
+
 	@Override /* GENERATED - RestClientBuilder */
 	public MockRestClientBuilder connection(Object value) {
 		super.connection(value);
@@ -1060,6 +1084,12 @@ public class MockRestClientBuilder extends RestClientBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - RestClientBuilder */
+	public MockRestClientBuilder hedgeDelay(int value) {
+		super.hedgeDelay(value);
+		return this;
+	}
+
 	@Override /* GENERATED - RestClientBuilder */
 	public MockRestClientBuilder host(Object value) {
 		super.host(value);
@@ -1198,6 +1228,12 @@ public class MockRestClientBuilder extends RestClientBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - RestClientBuilder */
+	public MockRestClientBuilder loadBalancing(LoadBalancing value) {
+		super.loadBalancing(value);
+		return this;
+	}
+
 	@Override /* GENERATED - RestClientBuilder */
 	public MockRestClientBuilder logRequests(DetailLevel detail, Level level, BiPredicate<RestRequest,RestResponse> test) {
 		super.logRequests(detail, level, test);
@@ -1475,6 +1511,18 @@ public class MockRestClientBuilder extends RestClientBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - RestClientBuilder */
+	public MockRestClientBuilder requestEncoder(Class<? extends org.apache.juneau.encoders.Encoder> value) {
+		super.requestEncoder(value);
+		return this;
+	}
+
+	@Override /* GENERATED - RestClientBuilder */
+	public MockRestClientBuilder requestEncoder(org.apache.juneau.encoders.Encoder value) {
+		super.requestEncoder(value);
+		return this;
+	}
+
 	@Override /* GENERATED - RestClientBuilder */
 	public MockRestClientBuilder requestExecutor(HttpRequestExecutor requestExec) {
 		super.requestExecutor(requestExec);
@@ -1493,6 +1541,12 @@ public class MockRestClientBuilder extends RestClientBuilder {
 		return this;
 	}
 
+	@Override /* GENERATED - RestClientBuilder */
+	public MockRestClientBuilder rootUris(Object...values) {
+		super.rootUris(values);
+		return this;
+	}
+
 	@Override /* GENERATED - RestClientBuilder */
 	public MockRestClientBuilder routePlanner(HttpRoutePlanner routePlanner) {
 		super.routePlanner(routePlanner);
@@ -0,0 +1,52 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.html;
+
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import org.apache.juneau.collections.*;
+import org.apache.juneau.rest.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.config.*;
+import org.apache.juneau.rest.mock.*;
+import org.junit.*;
+
+/**
+ * Tests that the default page sections of {@link BasicUniversalRest} are pre-rendered by the HTML serializer.
+ */
+@FixMethodOrder(NAME_ASCENDING)
+public class HtmlDocSerializer_BasicUniversalRest_Test {
+
+	@Rest(title="MyTitle", description="MyDescription")
+	public static class A implements BasicUniversalRest {
+		@RestMethod(path="/", summary="MySummary")
+		public OMap get() {
+			return OMap.of("a", 1);
+		}
+	}
+
+	@Test
+	public void a01_defaultSectionsArePreRendered() throws Exception {
+		RestContext rc = RestContext.create(new A()).build();
+		HtmlDocSerializer s = (HtmlDocSerializer)rc.getMethodContexts().get(0).getSerializers().getSerializer("text/html");
+		HtmlDocSerializerSession ss = s.createSession();
+		assertNotNull(ss.getHeadFragment());
+		assertNotNull(ss.getHeaderFragment());
+		assertNotNull(ss.getNavFragment());
+		assertNotNull(ss.getFooterFragment());
+
+		MockRestClient.create(A.class).build().get("/").accept("text/html").run()
+			.assertBody().contains("<header><h1>MyTitle</h1> <h2>MySummary</h2> </header>");
+	}
+}
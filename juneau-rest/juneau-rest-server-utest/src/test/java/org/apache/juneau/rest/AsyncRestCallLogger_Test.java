@@ -0,0 +1,180 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.apache.juneau.rest.RestCallLoggingDetail.*;
+import static org.junit.runners.MethodSorters.*;
+import static java.util.logging.Level.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.logging.*;
+
+import org.apache.juneau.rest.AsyncRestCallLogger.*;
+import org.apache.juneau.rest.mock.*;
+import org.apache.juneau.utils.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class AsyncRestCallLogger_Test {
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Basic logging
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_text() throws Exception {
+		RestCallLoggerConfig lc = config(SHORT, SHORT);
+		TestLogger tl = new TestLogger();
+		AsyncRestCallLogger cl = logger(tl, AsyncRestCallLogger.create());
+
+		cl.log(lc, req().uri("/foo"), res(200));
+		cl.log(lc, req().uri("/bar"), res(404));
+		cl.close();
+
+		assertObject(tl.messages).json().is("['[200] HTTP GET /foo','[404] HTTP GET /bar']");
+		assertObject(tl.levels).json().is("['INFO','INFO']");
+		assertLong(cl.getWrittenCount()).is(2l);
+		assertLong(cl.getDroppedCount()).is(0l);
+		assertInteger(cl.getQueuedCount()).is(0);
+	}
+
+	@Test
+	public void a02_json() throws Exception {
+		RestCallLoggerConfig lc = config(MEDIUM, MEDIUM);
+		TestLogger tl = new TestLogger();
+		AsyncRestCallLogger cl = logger(tl, AsyncRestCallLogger.create().json());
+
+		cl.log(lc, req().uri("/foo").queryString("x=1").header("Foo", "bar").attribute("ExecTime", 123l), res(200).header("Baz", "qux"));
+		cl.close();
+
+		assertString(tl.messages.get(0)).matchesSimple("{\"timestamp\":\"*\",\"level\":\"INFO\",\"status\":200,\"method\":\"GET\",\"uri\":\"/foo\",\"query\":\"x=1\",\"execTime\":123,\"reqHeaders\":{\"Foo\":\"bar\"},\"resHeaders\":{\"Baz\":\"qux\"}}");
+	}
+
+	@Test
+	public void a03_capturedBeforeChange() throws Exception {
+		RestCallLoggerConfig lc = config(SHORT, SHORT);
+		TestLogger tl = new TestLogger();
+		CountDownLatch latch = tl.block();
+		AsyncRestCallLogger cl = logger(tl, AsyncRestCallLogger.create());
+
+		MockServletRequest req = req().uri("/foo");
+		MockServletResponse res = res(200);
+		cl.log(lc, req, res);
+		req.uri("/bar");
+		res.status(500);
+		latch.countDown();
+		cl.close();
+
+		assertObject(tl.messages).json().is("['[200] HTTP GET /foo']");
+	}
+
+	@Test
+	public void a04_closed() throws Exception {
+		RestCallLoggerConfig lc = config(SHORT, SHORT);
+		TestLogger tl = new TestLogger();
+		AsyncRestCallLogger cl = logger(tl, AsyncRestCallLogger.create());
+		cl.close();
+
+		// Written synchronously after close.
+		cl.log(lc, req().uri("/foo"), res(200));
+		assertObject(tl.messages).json().is("['[200] HTTP GET /foo']");
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Overflow
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_overflowDrop() throws Exception {
+		RestCallLoggerConfig lc = config(SHORT, SHORT);
+		TestLogger tl = new TestLogger();
+		CountDownLatch latch = tl.block();
+		AsyncRestCallLogger cl = logger(tl, AsyncRestCallLogger.create().queueSize(2));
+
+		for (int i = 0; i < 10; i++)
+			cl.log(lc, req().uri("/"+i), res(200));
+
+		// At most one record is being written and two are queued.
+		assertLong(cl.getDroppedCount()).isGte(7l);
+		latch.countDown();
+		cl.close();
+
+		assertLong(cl.getWrittenCount() + cl.getDroppedCount()).is(10l);
+		assertString(tl.messages.get(tl.messages.size()-1)).matchesSimple("Call log queue full.  * records dropped (" + cl.getDroppedCount() + " total).");
+		assertObject(tl.levels.get(tl.levels.size()-1)).is(WARNING);
+	}
+
+	@Test
+	public void b02_overflowBlock() throws Exception {
+		RestCallLoggerConfig lc = config(SHORT, SHORT);
+		TestLogger tl = new TestLogger();
+		AsyncRestCallLogger cl = logger(tl, AsyncRestCallLogger.create().queueSize(1).overflow(Overflow.BLOCK));
+
+		for (int i = 0; i < 100; i++)
+			cl.log(lc, req().uri("/"+i), res(200));
+		cl.close();
+
+		assertLong(cl.getWrittenCount()).is(100l);
+		assertLong(cl.getDroppedCount()).is(0l);
+		assertString(tl.messages.get(99)).is("[200] HTTP GET /99");
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Helpers
+	//------------------------------------------------------------------------------------------------------------------
+
+	static class TestLogger extends Logger {
+		final List<Level> levels = Collections.synchronizedList(new ArrayList<>());
+		final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+		CountDownLatch latch;
+
+		protected TestLogger() {
+			super(null, null);
+		}
+
+		CountDownLatch block() {
+			latch = new CountDownLatch(1);
+			return latch;
+		}
+
+		@Override
+		public void log(Level level, String msg, Throwable t) {
+			try {
+				if (latch != null)
+					latch.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			levels.add(level);
+			messages.add(msg);
+		}
+	}
+
+	private RestCallLoggerConfig config(RestCallLoggingDetail req, RestCallLoggingDetail res) {
+		return RestCallLoggerConfig.create().rules(RestCallLoggerRule.create().codes("*").req(req).res(res).build()).build();
+	}
+
+	private AsyncRestCallLogger logger(Logger l, AsyncRestCallLogger.Builder b) {
+		return new AsyncRestCallLogger(l, new StackTraceDatabase(), b);
+	}
+
+	private MockServletRequest req() {
+		return MockServletRequest.create();
+	}
+
+	private MockServletResponse res(int status) {
+		return MockServletResponse.create().status(status);
+	}
+}
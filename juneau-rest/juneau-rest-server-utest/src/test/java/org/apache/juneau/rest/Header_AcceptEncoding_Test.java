@@ -18,6 +18,7 @@ import static org.junit.runners.MethodSorters.*;
 import java.io.*;
 
 import org.apache.juneau.encoders.*;
+import org.apache.juneau.http.annotation.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.rest.annotation.*;
 import org.apache.juneau.rest.client.*;
@@ -241,6 +242,43 @@ public class Header_AcceptEncoding_Test {
 			.assertBody().is("foo");
 	}
 
+	//------------------------------------------------------------------------------------------------------------------
+	// Test with encoder that has a minimum size.
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Rest(encoders=MyPooledEncoder.class)
+	public static class D {
+		@RestMethod
+		public String get(@Query("len") int len) {
+			return StringUtils.repeat(len, "x");
+		}
+	}
+
+	@Test
+	public void d01_minimumSize() throws Exception {
+		RestClient d = MockRestClient.build(D.class);
+
+		d.get("?len=99")
+			.acceptEncoding("mycoding")
+			.run()
+			.assertStringHeader("Content-Encoding").doesNotExist()
+			.assertBody().is(StringUtils.repeat(99, "x"));
+
+		byte[] body;
+		body = d.get("?len=100")
+			.acceptEncoding("mycoding")
+			.run()
+			.assertStringHeader("Content-Encoding").is("mycoding")
+			.getBody().asBytes();
+		assertEquals(StringUtils.repeat(100, "x"), StringUtils.decompress(body));
+		body = d.get("?len=10000")
+			.acceptEncoding("mycoding")
+			.run()
+			.assertStringHeader("Content-Encoding").is("mycoding")
+			.getBody().asBytes();
+		assertEquals(StringUtils.repeat(10000, "x"), StringUtils.decompress(body));
+	}
+
 	//------------------------------------------------------------------------------------------------------------------
 	// Helpers
 	//------------------------------------------------------------------------------------------------------------------
@@ -251,4 +289,14 @@ public class Header_AcceptEncoding_Test {
 			return new String[]{"mycoding"};
 		}
 	}
+
+	public static class MyPooledEncoder extends PooledGzipEncoder {
+		public MyPooledEncoder() {
+			super(create().minimumSize(100));
+		}
+		@Override /* Encoder */
+		public String[] getCodings() {
+			return new String[]{"mycoding"};
+		}
+	}
 }
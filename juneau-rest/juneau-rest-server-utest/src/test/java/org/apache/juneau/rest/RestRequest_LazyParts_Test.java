@@ -0,0 +1,132 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static org.apache.juneau.http.HttpMethod.*;
+import static org.junit.Assert.*;
+import static org.junit.runners.MethodSorters.*;
+
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.client.*;
+import org.apache.juneau.rest.mock.*;
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class RestRequest_LazyParts_Test {
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Query parameters are read on demand but keep their original order.
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Rest
+	public static class A {
+		@RestMethod
+		public String a(RequestQuery q) {
+			return modify(q);
+		}
+		@RestMethod(method=POST)
+		public String b(RequestQuery q) {
+			return modify(q);
+		}
+		private String modify(RequestQuery q) {
+			String b = q.getString("b");
+			q.put("x", "4");
+			q.remove("c");
+			return b + "|" + q.containsKey("c") + "|" + q.size() + "|" + q.asQueryString();
+		}
+	}
+
+	@Test
+	public void a01_query() throws Exception {
+		RestClient a = MockRestClient.build(A.class);
+		a.get("/a?a=1&b=2&c=3").run().assertBody().is("2|false|3|a=1&b=2&x=4");
+		a.post("/b?a=1&b=2&c=3", "").run().assertBody().is("2|false|3|a=1&b=2&x=4");
+		a.get("/a").run().assertBody().is("null|false|1|x=4");
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Headers are read on demand.
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Rest
+	public static class B {
+		@RestMethod
+		public String a(RequestHeaders h) {
+			String h1 = h.getString("H1");
+			h.put("H2", "x");
+			h.remove("h3");
+			return h1 + "|" + h.containsKey("H3") + "|" + h.getString("h2") + "|" + h.subset("H1,H2,H3,H4").toString(true);
+		}
+	}
+
+	@Test
+	public void b01_headers() throws Exception {
+		RestClient b = MockRestClient.build(B.class);
+		b.get("/a").header("H1", "1").header("H2", "2").header("H3", "3").header("H4", "4").run()
+			.assertBody().is("1|false|x|{H1:'1',H2:'x',H4:'4'}");
+	}
+
+	@Rest
+	public static class B2 {
+		@RestMethod
+		public String a(RequestHeaders h) {
+			return h.putIfAbsent("H1", new String[]{"x"})[0]
+				+ "|" + h.computeIfAbsent("H2", k -> new String[]{"x"})[0]
+				+ "|" + h.computeIfPresent("H3", (k,v) -> new String[]{v[0] + "x"})[0]
+				+ "|" + h.merge("H4", new String[]{"x"}, (v1,v2) -> new String[]{v1[0] + v2[0]})[0]
+				+ "|" + h.remove("H5", null)
+				+ "|" + h.subset("H1,H2,H3,H4,H5").toString(true);
+		}
+	}
+
+	@Test
+	public void b02_headers_defaultMapMethods() throws Exception {
+		RestClient b = MockRestClient.build(B2.class);
+		b.get("/a").header("H1", "1").header("H2", "2").header("H3", "3").header("H4", "4").header("H5", "5").run()
+			.assertBody().is("1|2|3x|4x|false|{H1:'1',H2:'2',H3:'3x',H4:'4x',H5:'5'}");
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// The query string of a POST is only parsed when a parameter that may occur in it is accessed.
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_query_postNotParsed() throws Exception {
+		MockServletRequest req = MockServletRequest.create("POST", "/").queryString("a=1");
+		RequestQuery q = new RequestQuery(null, req, true);
+		assertNull(q.get("method"));
+		assertNull(q.get("body"));
+
+		// Not parsed yet, so changes to the query string are still seen.
+		req.queryString("a=2");
+		assertEquals("2", q.get("a")[0]);
+		req.queryString("a=3&method=x");
+		assertNull(q.get("method"));
+	}
+
+	@Rest
+	public static class C {
+		@RestMethod(method="*")
+		public String a(RestRequest req) {
+			return req.getMethod();
+		}
+	}
+
+	@Test
+	public void c02_methodParam() throws Exception {
+		RestClient c = MockRestClient.build(C.class);
+		c.post("/a?method=OPTIONS", "").run().assertBody().is("OPTIONS");
+		c.post("/a?method=FOO", "").run().assertBody().is("POST");
+		c.post("/a?a=1", "").run().assertBody().is("POST");
+	}
+}
@@ -0,0 +1,91 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static org.apache.juneau.assertions.Assertions.*;
+import static org.junit.runners.MethodSorters.*;
+
+import java.io.*;
+import java.nio.file.*;
+
+import org.junit.*;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class StaticFile_Test {
+
+	private static File write(File f, String contents, long lastModified) throws IOException {
+		Files.write(f.toPath(), contents.getBytes("UTF-8"));
+		f.setLastModified(lastModified);
+		return f;
+	}
+
+	private static String read(StaticFile sf) throws IOException {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		sf.writeTo(baos);
+		return baos.toString("UTF-8");
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// File-backed contents.
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_writeTo() throws Exception {
+		File f = write(File.createTempFile("StaticFile_Test", ".txt"), "foobar", 1_000_000_000_000L);
+		try {
+			StaticFile sf = new StaticFile(f, "text/plain", null);
+			assertString(read(sf)).is("foobar");
+			assertObject(sf.getHeaders().get("Content-Length")).string().is("6");
+		} finally {
+			f.delete();
+		}
+	}
+
+	@Test
+	public void a02_isModified() throws Exception {
+		File f = write(File.createTempFile("StaticFile_Test", ".txt"), "foobar", 1_000_000_000_000L);
+		try {
+			StaticFile sf = new StaticFile(f, "text/plain", null);
+			assertBoolean(sf.isModified()).isFalse();
+
+			write(f, "foobarbaz", 1_000_000_001_000L);
+			assertBoolean(sf.isModified()).isTrue();
+
+			sf = new StaticFile(f, "text/plain", null);
+			assertBoolean(sf.isModified()).isFalse();
+			assertObject(sf.getHeaders().get("Content-Length")).string().is("9");
+			assertString(read(sf)).is("foobarbaz");
+
+			f.delete();
+			assertBoolean(sf.isModified()).isTrue();
+		} finally {
+			f.delete();
+		}
+	}
+
+	@Test
+	public void a03_isModified_inMemory() throws Exception {
+		assertBoolean(new StaticFile("foo".getBytes(), "text/plain", null).isModified()).isFalse();
+
+		File f = write(File.createTempFile("StaticFile_Test", ".txt"), "foo", 1_000_000_000_000L);
+		try {
+			StaticFile sf = new StaticFile("foo".getBytes(), null, f, "text/plain", null, null);
+			assertBoolean(sf.isModified()).isFalse();
+			assertBoolean(sf.gzipped() == null || ! sf.gzipped().isModified()).isTrue();
+			f.setLastModified(1_000_000_002_000L);
+			assertBoolean(sf.isModified()).isTrue();
+		} finally {
+			f.delete();
+		}
+	}
+}
@@ -14,6 +14,7 @@ package org.apache.juneau.rest.annotation;
 
 import static org.junit.runners.MethodSorters.*;
 
+import org.apache.juneau.rest.*;
 import org.apache.juneau.rest.client.*;
 import org.apache.juneau.rest.mock.*;
 import org.junit.*;
@@ -160,4 +161,119 @@ public class Rest_StaticFiles_Test {
 			.assertBody().contains("OK-6");
 	}
 
+	//------------------------------------------------------------------------------------------------------------------
+	// Conditional and range requests.
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Rest(staticFiles={"xdocs:xdocs"})
+	public static class E {
+		@RestMethod
+		public String a() {
+			return null;
+		}
+	}
+
+	@Test
+	public void e01_etag() throws Exception {
+		RestClient e = MockRestClient.build(E.class);
+		String etag = e.get("/xdocs/test.txt").run().assertCode().is(200).getStringHeader("ETag");
+		e.get("/xdocs/test.txt")
+			.header("If-None-Match", etag)
+			.run()
+			.assertCode().is(304);
+		e.get("/xdocs/test.txt")
+			.header("If-None-Match", "\"foo\"")
+			.run()
+			.assertCode().is(200)
+			.assertBody().contains("OK-1");
+	}
+
+	@Test
+	public void e02_lastModified() throws Exception {
+		RestClient e = MockRestClient.build(E.class);
+		String lastModified = e.get("/xdocs/test2.txt").run().assertCode().is(200).getStringHeader("Last-Modified");
+		e.get("/xdocs/test2.txt")
+			.header("If-Modified-Since", lastModified)
+			.run()
+			.assertCode().is(304);
+		e.get("/xdocs/test2.txt")
+			.header("If-Modified-Since", "Sat, 29 Oct 1994 19:43:31 GMT")
+			.run()
+			.assertCode().is(200);
+	}
+
+	@Test
+	public void e03_range() throws Exception {
+		RestClient e = MockRestClient.buildLax(E.class);
+		String body = e.get("/xdocs/test.txt").run().getBody().asString();
+		int len = body.length();
+		e.get("/xdocs/test.txt")
+			.header("Range", "bytes=-4")
+			.run()
+			.assertCode().is(206)
+			.assertStringHeader("Content-Range").is("bytes " + (len-4) + "-" + (len-1) + "/" + len)
+			.assertBody().is("OK-1");
+		e.get("/xdocs/test.txt")
+			.header("Range", "bytes=0-3")
+			.run()
+			.assertCode().is(206)
+			.assertBody().is(body.substring(0, 4));
+		e.get("/xdocs/test.txt")
+			.header("Range", "bytes=" + len + "-")
+			.run()
+			.assertCode().is(416)
+			.assertStringHeader("Content-Range").is("bytes */" + len);
+		e.get("/xdocs/test.txt")
+			.header("Range", "bytes=-4")
+			.header("If-Range", "\"foo\"")
+			.run()
+			.assertCode().is(200)
+			.assertBody().is(body);
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Files served from the file system.
+	//------------------------------------------------------------------------------------------------------------------
+
+	@Rest(staticFiles={"xdocs:xdocs"})
+	public static class F {
+		@RestHook(HookEvent.INIT)
+		public void init(RestContextBuilder builder) throws Exception {
+			builder.staticFilesMaxInMemorySize("10");
+		}
+		@RestMethod
+		public String a() {
+			return null;
+		}
+	}
+
+	@Test
+	public void f01_fileChannel() throws Exception {
+		RestClient f = MockRestClient.build(F.class);
+		f.get("/xdocs/test2.txt")
+			.run()
+			.assertCode().is(200)
+			.assertBody().contains("OK-5");
+		f.get("/xdocs/test2.txt")
+			.header("Range", "bytes=-4")
+			.run()
+			.assertCode().is(206)
+			.assertBody().is("OK-5");
+		f.get("/xdocs/test2.txt")
+			.header("Accept-Encoding", "gzip")
+			.run()
+			.assertStringHeader("Content-Encoding").doesNotExist()
+			.assertBody().contains("OK-5");
+	}
+
+	@Test
+	public void f02_gzip() throws Exception {
+		RestClient e = MockRestClient.build(E.class);
+		e.get("/xdocs/test2.txt")
+			.header("Accept-Encoding", "gzip")
+			.run()
+			.assertCode().is(200)
+			.assertStringHeader("Content-Encoding").is("gzip")
+			.assertStringHeader("Vary").is("Accept-Encoding");
+	}
 }
@@ -0,0 +1,299 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import java.io.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.logging.*;
+
+import org.apache.juneau.utils.*;
+
+/**
+ * Call logger that formats and writes log entries on a background thread.
+ *
+ * <p>
+ * {@link BasicRestCallLogger} formats and writes log entries synchronously on the request thread.
+ * <br>This logger only captures an immutable {@link RestCallRecord} on the request thread and places it on a bounded
+ * queue.
+ * <br>A single background thread takes records off the queue, formats them, and writes them to the logger.
+ *
+ * <p>
+ * When the queue is full, records are either dropped (the default) or the request thread blocks until space is
+ * available, depending on the {@link Overflow} policy.
+ * <br>Dropped records are counted and a warning is periodically written to the logger with the number of records dropped.
+ *
+ * <p>
+ * Records can optionally be written as single-line JSON objects instead of human-readable text.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jc>// Async logger with a larger queue that writes JSON.</jc>
+ * 	<jk>public class</jk> MyCallLogger <jk>extends</jk> AsyncRestCallLogger {
+ * 		<jk>public</jk> MyCallLogger(RestContext context) {
+ * 			<jk>super</jk>(context, <jsm>create</jsm>().queueSize(100000).json());
+ * 		}
+ * 	}
+ *
+ * 	<ja>@Rest</ja>(callLogger=MyCallLogger.<jk>class</jk>)
+ * 	<jk>public class</jk> MyResource {...}
+ * </p>
+ *
+ * <ul class='notes'>
+ * 	<li>
+ * 		The background thread is stopped and remaining records are written when the resource is destroyed.
+ * </ul>
+ *
+ * <ul class='seealso'>
+ * 	<li class='link'>{@doc RestLoggingAndDebugging}
+ * </ul>
+ */
+public class AsyncRestCallLogger extends BasicRestCallLogger implements Closeable {
+
+	/**
+	 * Policy to apply when the record queue is full.
+	 */
+	public static enum Overflow {
+
+		/** Drop the record and increment the drop counter. */
+		DROP,
+
+		/** Block the request thread until space is available in the queue. */
+		BLOCK
+	}
+
+	/**
+	 * Creates a new builder for the settings of this object.
+	 *
+	 * @return A new builder.
+	 */
+	public static Builder create() {
+		return new Builder();
+	}
+
+	/**
+	 * Builder for the settings of this object.
+	 *
+	 * <p>
+	 * Passed to the constructor by subclasses.
+	 */
+	public static class Builder {
+		int queueSize = 8192;
+		Overflow overflow = Overflow.DROP;
+		boolean json;
+
+		/**
+		 * Sets the maximum number of records that can be queued for writing.
+		 *
+		 * @param value
+		 * 	The new value for this setting.
+		 * 	<br>The default is <c>8192</c>.
+		 * @return This object (for method chaining).
+		 */
+		public Builder queueSize(int value) {
+			this.queueSize = value;
+			return this;
+		}
+
+		/**
+		 * Sets the policy to apply when the record queue is full.
+		 *
+		 * @param value
+		 * 	The new value for this setting.
+		 * 	<br>The default is {@link Overflow#DROP}.
+		 * @return This object (for method chaining).
+		 */
+		public Builder overflow(Overflow value) {
+			this.overflow = value;
+			return this;
+		}
+
+		/**
+		 * Write records as single-line JSON objects.
+		 *
+		 * @return This object (for method chaining).
+		 */
+		public Builder json() {
+			this.json = true;
+			return this;
+		}
+	}
+
+	private final BlockingQueue<RestCallRecord> queue;
+	private final Overflow overflow;
+	private final boolean json;
+	private final AtomicLong dropped = new AtomicLong(), written = new AtomicLong();
+	private volatile boolean closed;
+	private Thread worker;
+	private long droppedReported;
+
+	/**
+	 * Constructor using default settings.
+	 *
+	 * @param context The context of the resource object.
+	 */
+	public AsyncRestCallLogger(RestContext context) {
+		this(context, create());
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param context The context of the resource object.
+	 * @param builder The settings for this logger.
+	 */
+	protected AsyncRestCallLogger(RestContext context, Builder builder) {
+		super(context);
+		this.queue = new ArrayBlockingQueue<>(builder.queueSize);
+		this.overflow = builder.overflow;
+		this.json = builder.json;
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param logger The logger to use for logging.
+	 * @param stackTraceDb The stack trace database for maintaining stack traces.
+	 * @param builder The settings for this logger.
+	 */
+	protected AsyncRestCallLogger(Logger logger, StackTraceDatabase stackTraceDb, Builder builder) {
+		super(logger, stackTraceDb);
+		this.queue = new ArrayBlockingQueue<>(builder.queueSize);
+		this.overflow = builder.overflow;
+		this.json = builder.json;
+	}
+
+	@Override /* BasicRestCallLogger */
+	protected void log(RestCallRecord r) {
+		if (closed) {
+			write(r);
+			return;
+		}
+		start();
+		if (overflow == Overflow.BLOCK) {
+			try {
+				queue.put(r);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				dropped.incrementAndGet();
+			}
+		} else if (! queue.offer(r)) {
+			dropped.incrementAndGet();
+		}
+
+		// Closed while we were queuing.
+		if (closed)
+			drain();
+	}
+
+	/**
+	 * Formats and writes the specified record to the logger.
+	 *
+	 * <p>
+	 * Called on the background thread.
+	 *
+	 * @param r The call record.
+	 */
+	protected void write(RestCallRecord r) {
+		log(r.getLevel(), json ? formatJson(r) : format(r), r.getException());
+		written.incrementAndGet();
+	}
+
+	/**
+	 * Returns the number of records dropped because the queue was full.
+	 *
+	 * @return The number of records dropped because the queue was full.
+	 */
+	public long getDroppedCount() {
+		return dropped.get();
+	}
+
+	/**
+	 * Returns the number of records written to the logger.
+	 *
+	 * @return The number of records written to the logger.
+	 */
+	public long getWrittenCount() {
+		return written.get();
+	}
+
+	/**
+	 * Returns the number of records waiting to be written.
+	 *
+	 * @return The number of records waiting to be written.
+	 */
+	public int getQueuedCount() {
+		return queue.size();
+	}
+
+	/**
+	 * Stops the background thread and writes any remaining records on the calling thread.
+	 *
+	 * <p>
+	 * Records logged after this method is called are written synchronously.
+	 */
+	@Override /* Closeable */
+	public void close() {
+		Thread t;
+		synchronized (this) {
+			if (closed)
+				return;
+			closed = true;
+			t = worker;
+		}
+		if (t != null) {
+			t.interrupt();
+			try {
+				t.join(10000);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		drain();
+	}
+
+	private synchronized void start() {
+		if (worker == null && ! closed) {
+			worker = new Thread(this::run, "AsyncRestCallLogger-" + getLoggerName());
+			worker.setDaemon(true);
+			worker.start();
+		}
+	}
+
+	private void run() {
+		while (! closed) {
+			try {
+				write(queue.take());
+				reportDropped();
+			} catch (InterruptedException e) {
+				break;
+			} catch (Throwable e) {
+				log(Level.WARNING, "Could not write call log record.", e);
+			}
+		}
+	}
+
+	private synchronized void drain() {
+		for (RestCallRecord r = queue.poll(); r != null; r = queue.poll())
+			write(r);
+		reportDropped();
+	}
+
+	private void reportDropped() {
+		long d = dropped.get();
+		if (d != droppedReported) {
+			log(Level.WARNING, "Call log queue full.  " + (d - droppedReported) + " records dropped (" + d + " total).", null);
+			droppedReported = d;
+		}
+	}
+}
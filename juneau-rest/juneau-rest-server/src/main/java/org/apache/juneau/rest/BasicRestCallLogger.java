@@ -16,12 +16,15 @@ import static org.apache.juneau.internal.StringUtils.*;
 import static org.apache.juneau.internal.ObjectUtils.*;
 import static org.apache.juneau.rest.RestCallLoggingDetail.*;
 
+import java.time.*;
 import java.util.*;
 import java.util.logging.*;
 
 import javax.servlet.http.*;
 
+import org.apache.juneau.collections.*;
 import org.apache.juneau.internal.*;
+import org.apache.juneau.json.*;
 import org.apache.juneau.rest.util.*;
 import org.apache.juneau.utils.*;
 
@@ -109,101 +112,159 @@ public class BasicRestCallLogger implements RestCallLogger {
 
 	@Override /* RestCallLogger */
 	public void log(RestCallLoggerConfig config, HttpServletRequest req, HttpServletResponse res) {
+		RestCallRecord r = capture(config, req, res);
+		if (r != null)
+			log(r);
+	}
+
+	/**
+	 * Captures the information to log about the specified call.
+	 *
+	 * <p>
+	 * Only the information needed by the logging detail levels of the matching rule is captured.
+	 *
+	 * @param config The logging configuration.
+	 * @param req The servlet request.
+	 * @param res The servlet response.
+	 * @return The captured call record, or <jk>null</jk> if the call should not be logged.
+	 */
+	protected RestCallRecord capture(RestCallLoggerConfig config, HttpServletRequest req, HttpServletResponse res) {
 
 		if (config.isDisabled(req))
-			return;
+			return null;
 
 		RestCallLoggerRule rule = config.getRule(req, res);
 		if (rule == null)
-			return;
+			return null;
 
 		Level level = rule.getLevel();
 		if (level == null)
 			level = config.getLevel();
 
 		if (level == Level.OFF)
-			return;
+			return null;
 
 		Throwable e = castOrNull(req.getAttribute("Exception"), Throwable.class);
 		Long execTime = castOrNull(req.getAttribute("ExecTime"), Long.class);
 
 		RestCallLoggingDetail reqd = rule.getReqDetail(), resd = rule.getResDetail();
 
-		String method = req.getMethod();
-		int status = res.getStatus();
-		String uri = req.getRequestURI();
-		byte[] reqBody = getRequestBody(req);
-		byte[] resBody = getResponseBody(req, res);
+		StackTraceInfo sti = getStackTraceInfo(config, e);
+		String stHash = null;
+		int stCount = 0;
+		if (sti != null) {
+			stHash = sti.getHash();
+			stCount = sti.getCount();
+			if (stCount > 1)
+				e = null;
+		}
+
+		String qs = null;
+		String[] reqHeaders = null, resHeaders = null;
+		Map<String,Object> defaultReqHeaders = null;
+		byte[] reqBody = null, resBody = null;
+
+		if (reqd.isOneOf(MEDIUM, LONG)) {
+			qs = req.getQueryString();
+			reqBody = getRequestBody(req);
+			List<String> l = new ArrayList<>();
+			for (Enumeration<String> hh = req.getHeaderNames(); hh.hasMoreElements();) {
+				String h = hh.nextElement();
+				l.add(h);
+				l.add(req.getHeader(h));
+			}
+			reqHeaders = l.toArray(new String[l.size()]);
+			if (context != null)
+				defaultReqHeaders = context.getReqHeaders();
+		}
+
+		if (resd.isOneOf(MEDIUM, LONG)) {
+			resBody = getResponseBody(req, res);
+			Collection<String> hh = res.getHeaderNames();
+			resHeaders = new String[hh.size() * 2];
+			int i = 0;
+			for (String h : hh) {
+				resHeaders[i++] = h;
+				resHeaders[i++] = res.getHeader(h);
+			}
+		}
+
+		return new RestCallRecord(level, reqd, resd, req.getMethod(), req.getRequestURI(), qs, res.getStatus(), execTime, reqHeaders, defaultReqHeaders, resHeaders, reqBody, resBody, stHash, stCount, e);
+	}
+
+	/**
+	 * Formats and logs the specified call record.
+	 *
+	 * <p>
+	 * Subclasses can override this method to change how or where records are written.
+	 *
+	 * @param r The call record.
+	 */
+	protected void log(RestCallRecord r) {
+		log(r.getLevel(), format(r), r.getException());
+	}
+
+	/**
+	 * Formats the specified call record as human-readable text.
+	 *
+	 * @param r The call record.
+	 * @return The formatted log message.
+	 */
+	protected String format(RestCallRecord r) {
+
+		RestCallLoggingDetail reqd = r.reqDetail, resd = r.resDetail;
+		byte[] reqBody = r.reqBody, resBody = r.resBody;
 
 		StringBuilder sb = new StringBuilder();
 
 		if (reqd != SHORT || resd != SHORT)
 			sb.append("\n=== HTTP Call (incoming) ======================================================\n");
 
-		StackTraceInfo sti = getStackTraceInfo(config, e);
-
-		sb.append('[').append(status);
+		sb.append('[').append(r.status);
 
-		if (sti != null) {
-			int count = sti.getCount();
-			sb.append(',').append(sti.getHash()).append('.').append(count);
-			if (count > 1)
-				e = null;
-		}
+		if (r.stackTraceHash != null)
+			sb.append(',').append(r.stackTraceHash).append('.').append(r.stackTraceCount);
 
 		sb.append("] ");
 
-		sb.append("HTTP ").append(method).append(' ').append(uri);
+		sb.append("HTTP ").append(r.method).append(' ').append(r.uri);
 
 		if (reqd != SHORT || resd != SHORT) {
 
-			if (reqd.isOneOf(MEDIUM, LONG)) {
-				String qs = req.getQueryString();
-				if (qs != null)
-					sb.append('?').append(qs);
-			}
+			if (r.queryString != null)
+				sb.append('?').append(r.queryString);
 
-			if (reqBody != null && reqd.isOneOf(MEDIUM ,LONG))
+			if (reqBody != null)
 				sb.append("\n\tRequest length: ").append(reqBody.length).append(" bytes");
 
 			if (resd.isOneOf(MEDIUM, LONG))
-				sb.append("\n\tResponse code: ").append(status);
+				sb.append("\n\tResponse code: ").append(r.status);
 
-			if (resBody != null && resd.isOneOf(MEDIUM, LONG))
+			if (resBody != null)
 				sb.append("\n\tResponse length: ").append(resBody.length).append(" bytes");
 
-			if (execTime != null && resd.isOneOf(MEDIUM, LONG))
-				sb.append("\n\tExec time: ").append(execTime).append("ms");
-
-			if (reqd.isOneOf(MEDIUM, LONG)) {
-				Enumeration<String> hh = req.getHeaderNames();
-				if (hh.hasMoreElements()) {
-					sb.append("\n---Request Headers---");
-					while (hh.hasMoreElements()) {
-						String h = hh.nextElement();
-						sb.append("\n\t").append(h).append(": ").append(req.getHeader(h));
-					}
-				}
+			if (r.execTime != null && resd.isOneOf(MEDIUM, LONG))
+				sb.append("\n\tExec time: ").append(r.execTime).append("ms");
+
+			String[] hh = r.reqHeaders;
+			if (hh.length > 0) {
+				sb.append("\n---Request Headers---");
+				for (int i = 0; i < hh.length; i += 2)
+					sb.append("\n\t").append(hh[i]).append(": ").append(hh[i+1]);
 			}
 
-			if (context != null && reqd.isOneOf(MEDIUM, LONG)) {
-				Map<String,Object> hh = context.getReqHeaders();
-				if (! hh.isEmpty()) {
-					sb.append("\n---Default Servlet Headers---");
-					for (Map.Entry<String,Object> h : hh.entrySet()) {
-						sb.append("\n\t").append(h.getKey()).append(": ").append(h.getValue());
-					}
+			if (! r.defaultReqHeaders.isEmpty()) {
+				sb.append("\n---Default Servlet Headers---");
+				for (Map.Entry<String,Object> h : r.defaultReqHeaders.entrySet()) {
+					sb.append("\n\t").append(h.getKey()).append(": ").append(h.getValue());
 				}
 			}
 
-			if (resd.isOneOf(MEDIUM, LONG)) {
-				Collection<String> hh = res.getHeaderNames();
-				if (hh.size() > 0) {
-					sb.append("\n---Response Headers---");
-					for (String h : hh) {
-						sb.append("\n\t").append(h).append(": ").append(res.getHeader(h));
-					}
-				}
+			hh = r.resHeaders;
+			if (hh.length > 0) {
+				sb.append("\n---Response Headers---");
+				for (int i = 0; i < hh.length; i += 2)
+					sb.append("\n\t").append(hh[i]).append(": ").append(hh[i+1]);
 			}
 
 			if (reqBody != null && reqBody.length > 0 && reqd == LONG) {
@@ -230,7 +291,54 @@ public class BasicRestCallLogger implements RestCallLogger {
 			sb.append("\n=== END ======================================================================");
 		}
 
-		log(level, sb.toString(), e);
+		return sb.toString();
+	}
+
+	/**
+	 * Formats the specified call record as a single-line JSON object.
+	 *
+	 * <p>
+	 * Only the fields captured for the logging detail levels of the matching rule are included.
+	 *
+	 * @param r The call record.
+	 * @return The formatted log message.
+	 */
+	protected String formatJson(RestCallRecord r) {
+		OMap m = new OMap()
+			.a("timestamp", Instant.ofEpochMilli(r.timestamp).toString())
+			.a("level", r.level.getName())
+			.a("status", r.status)
+			.a("method", r.method)
+			.a("uri", r.uri)
+			.appendSkipNull("query", r.queryString)
+			.appendSkipNull("execTime", r.execTime)
+			.appendSkipNull("stackTraceHash", r.stackTraceHash);
+		if (r.stackTraceHash != null)
+			m.a("stackTraceCount", r.stackTraceCount);
+		if (r.reqBody != null)
+			m.a("reqLength", r.reqBody.length);
+		if (r.resBody != null)
+			m.a("resLength", r.resBody.length);
+		if (r.reqHeaders.length > 0)
+			m.a("reqHeaders", toMap(r.reqHeaders));
+		if (! r.defaultReqHeaders.isEmpty())
+			m.a("defaultReqHeaders", r.defaultReqHeaders);
+		if (r.resHeaders.length > 0)
+			m.a("resHeaders", toMap(r.resHeaders));
+		if (r.reqBody != null && r.reqBody.length > 0 && r.reqDetail == LONG)
+			m.a("reqBody", new String(r.reqBody, IOUtils.UTF8));
+		if (r.resBody != null && r.resBody.length > 0 && r.resDetail == LONG)
+			m.a("resBody", new String(r.resBody, IOUtils.UTF8));
+		if (r.exception != null)
+			m.a("exception", r.exception.toString());
+		return JsonSerializer.DEFAULT.toString(m);
+	}
+
+	private static OMap toMap(String[] pairs) {
+		OMap m = new OMap();
+		for (int i = 0; i < pairs.length; i += 2)
+			m.a(pairs[i], pairs[i+1]);
+		return m;
 	}
 
 	/**
@@ -17,6 +17,9 @@ import static org.apache.juneau.internal.StringUtils.*;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.function.*;
+
+import javax.servlet.http.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.collections.*;
@@ -35,6 +38,11 @@ import org.apache.juneau.http.header.Date;
  * <p>
  * Entries are stored in a case-insensitive map.
  *
+ * <p>
+ * Headers are read from the servlet request on demand.
+ * <br>Looking up a header by name only copies that header, and the full set of headers is only copied when the
+ * contents of the map are enumerated (e.g. {@link #entrySet()}, {@link #size()}).
+ *
  * <ul class='seealso'>
  * 	<li class='link'>{@doc RestmRequestHeaders}
  * </ul>
@@ -46,12 +54,22 @@ public class RequestHeaders extends TreeMap<String,String[]> {
 	private HttpPartParserSession parser;
 	private RequestQuery queryParams;
 	private Set<String> allowedQueryParams;
+	private transient HttpServletRequest source;
+	private transient Set<String> resolved;
 
 	RequestHeaders(RestRequest req) {
 		super(String.CASE_INSENSITIVE_ORDER);
 		this.req = req;
 	}
 
+	/*
+	 * Creates a headers object that lazily reads its entries from the specified servlet request.
+	 */
+	RequestHeaders(RestRequest req, HttpServletRequest source) {
+		this(req);
+		this.source = source;
+	}
+
 	RequestHeaders parser(HttpPartParserSession parser) {
 		this.parser = parser;
 		return this;
@@ -113,17 +131,25 @@ public class RequestHeaders extends TreeMap<String,String[]> {
 	 * @return This object (for method chaining).
 	 */
 	public RequestHeaders put(String name, Enumeration<String> values) {
-		// Optimized for enumerations of one entry, the most-common case.
-		if (values.hasMoreElements()) {
-			String v = values.nextElement();
-			String[] s = new String[]{v};
-			while (values.hasMoreElements())
-				s = append(s, values.nextElement());
+		String[] s = toValues(values);
+		if (s != null)
 			put(name, s);
-		}
 		return this;
 	}
 
+	/*
+	 * Converts an enumeration of header values to an array, or null if there are no values.
+	 */
+	private static String[] toValues(Enumeration<String> values) {
+		// Optimized for enumerations of one entry, the most-common case.
+		if (values == null || ! values.hasMoreElements())
+			return null;
+		String[] s = new String[]{values.nextElement()};
+		while (values.hasMoreElements())
+			s = append(s, values.nextElement());
+		return s;
+	}
+
 	/**
 	 * Returns the specified header last value as a string.
 	 *
@@ -238,7 +264,7 @@ public class RequestHeaders extends TreeMap<String,String[]> {
 	 * @param value The header value.
 	 */
 	public void put(String name, Object value) {
-		super.put(name, stringifyAll(value));
+		put(name, stringifyAll(value));
 	}
 
 	/**
@@ -1094,6 +1120,326 @@ public class RequestHeaders extends TreeMap<String,String[]> {
 		return toString(false);
 	}
 
+	//-----------------------------------------------------------------------------------------------------------------
+	// Lazy loading
+	//-----------------------------------------------------------------------------------------------------------------
+
+	/*
+	 * Copies the specified header from the servlet request the first time it's referenced.
+	 * If fetch is false, the header is only marked as resolved (e.g. because it's being overwritten or removed).
+	 */
+	private void resolve(Object key, boolean fetch) {
+		if (source == null || ! (key instanceof String))
+			return;
+		String name = (String)key;
+		if (resolved == null)
+			resolved = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+		if (resolved.add(name) && fetch) {
+			String[] v = toValues(source.getHeaders(name));
+			if (v != null)
+				super.put(name, v);
+		}
+	}
+
+	/*
+	 * Copies all remaining headers from the servlet request.
+	 * Headers that were already resolved keep their current value but take the name as it appears on the request.
+	 */
+	private void resolveAll() {
+		if (source == null)
+			return;
+		HttpServletRequest s = source;
+		source = null;
+		for (Enumeration<String> e = s.getHeaderNames(); e.hasMoreElements();) {
+			String name = e.nextElement();
+			if (resolved == null || ! resolved.contains(name)) {
+				String[] v = toValues(s.getHeaders(name));
+				if (v != null)
+					super.put(name, v);
+			} else if (super.containsKey(name)) {
+				super.put(name, super.remove(name));
+			}
+		}
+		resolved = null;
+	}
+
+	@Override /* Map */
+	public String[] get(Object key) {
+		resolve(key, true);
+		return super.get(key);
+	}
+
+	@Override /* Map */
+	public boolean containsKey(Object key) {
+		resolve(key, true);
+		return super.containsKey(key);
+	}
+
+	@Override /* Map */
+	public String[] put(String key, String[] value) {
+		resolve(key, false);
+		return super.put(key, value);
+	}
+
+	@Override /* Map */
+	public void putAll(Map<? extends String,? extends String[]> m) {
+		for (Map.Entry<? extends String,? extends String[]> e : m.entrySet())
+			put(e.getKey(), e.getValue());
+	}
+
+	@Override /* Map */
+	public String[] putIfAbsent(String key, String[] value) {
+		resolve(key, true);
+		return super.putIfAbsent(key, value);
+	}
+
+	@Override /* Map */
+	public String[] remove(Object key) {
+		resolve(key, false);
+		return super.remove(key);
+	}
+
+	@Override /* Map */
+	public boolean remove(Object key, Object value) {
+		resolve(key, true);
+		return super.remove(key, value);
+	}
+
+	@Override /* Map */
+	public boolean replace(String key, String[] oldValue, String[] newValue) {
+		resolve(key, true);
+		return super.replace(key, oldValue, newValue);
+	}
+
+	@Override /* Map */
+	public String[] replace(String key, String[] value) {
+		resolve(key, true);
+		return super.replace(key, value);
+	}
+
+	@Override /* Map */
+	public String[] computeIfAbsent(String key, Function<? super String,? extends String[]> mappingFunction) {
+		resolve(key, true);
+		return super.computeIfAbsent(key, mappingFunction);
+	}
+
+	@Override /* Map */
+	public String[] computeIfPresent(String key, BiFunction<? super String,? super String[],? extends String[]> remappingFunction) {
+		resolve(key, true);
+		return super.computeIfPresent(key, remappingFunction);
+	}
+
+	@Override /* Map */
+	public String[] compute(String key, BiFunction<? super String,? super String[],? extends String[]> remappingFunction) {
+		resolve(key, true);
+		return super.compute(key, remappingFunction);
+	}
+
+	@Override /* Map */
+	public String[] merge(String key, String[] value, BiFunction<? super String[],? super String[],? extends String[]> remappingFunction) {
+		resolve(key, true);
+		return super.merge(key, value, remappingFunction);
+	}
+
+	@Override /* Map */
+	public int size() {
+		resolveAll();
+		return super.size();
+	}
+
+	@Override /* Map */
+	public boolean isEmpty() {
+		resolveAll();
+		return super.isEmpty();
+	}
+
+	@Override /* Map */
+	public boolean containsValue(Object value) {
+		resolveAll();
+		return super.containsValue(value);
+	}
+
+	@Override /* Map */
+	public Set<Map.Entry<String,String[]>> entrySet() {
+		resolveAll();
+		return super.entrySet();
+	}
+
+	@Override /* Map */
+	public Set<String> keySet() {
+		resolveAll();
+		return super.keySet();
+	}
+
+	@Override /* Map */
+	public Collection<String[]> values() {
+		resolveAll();
+		return super.values();
+	}
+
+	@Override /* Map */
+	public void forEach(BiConsumer<? super String,? super String[]> action) {
+		resolveAll();
+		super.forEach(action);
+	}
+
+	@Override /* Map */
+	public void replaceAll(BiFunction<? super String,? super String[],? extends String[]> function) {
+		resolveAll();
+		super.replaceAll(function);
+	}
+
+	@Override /* Map */
+	public void clear() {
+		source = null;
+		resolved = null;
+		super.clear();
+	}
+
+	@Override /* Object */
+	public Object clone() {
+		resolveAll();
+		return super.clone();
+	}
+
+	@Override /* NavigableMap */
+	public NavigableSet<String> navigableKeySet() {
+		resolveAll();
+		return super.navigableKeySet();
+	}
+
+	@Override /* NavigableMap */
+	public NavigableSet<String> descendingKeySet() {
+		resolveAll();
+		return super.descendingKeySet();
+	}
+
+	@Override /* NavigableMap */
+	public NavigableMap<String,String[]> descendingMap() {
+		resolveAll();
+		return super.descendingMap();
+	}
+
+	@Override /* NavigableMap */
+	public NavigableMap<String,String[]> subMap(String fromKey, boolean fromInclusive, String toKey, boolean toInclusive) {
+		resolveAll();
+		return super.subMap(fromKey, fromInclusive, toKey, toInclusive);
+	}
+
+	@Override /* NavigableMap */
+	public NavigableMap<String,String[]> headMap(String toKey, boolean inclusive) {
+		resolveAll();
+		return super.headMap(toKey, inclusive);
+	}
+
+	@Override /* NavigableMap */
+	public NavigableMap<String,String[]> tailMap(String fromKey, boolean inclusive) {
+		resolveAll();
+		return super.tailMap(fromKey, inclusive);
+	}
+
+	@Override /* SortedMap */
+	public SortedMap<String,String[]> subMap(String fromKey, String toKey) {
+		resolveAll();
+		return super.subMap(fromKey, toKey);
+	}
+
+	@Override /* SortedMap */
+	public SortedMap<String,String[]> headMap(String toKey) {
+		resolveAll();
+		return super.headMap(toKey);
+	}
+
+	@Override /* SortedMap */
+	public SortedMap<String,String[]> tailMap(String fromKey) {
+		resolveAll();
+		return super.tailMap(fromKey);
+	}
+
+	@Override /* SortedMap */
+	public String firstKey() {
+		resolveAll();
+		return super.firstKey();
+	}
+
+	@Override /* SortedMap */
+	public String lastKey() {
+		resolveAll();
+		return super.lastKey();
+	}
+
+	@Override /* NavigableMap */
+	public Map.Entry<String,String[]> firstEntry() {
+		resolveAll();
+		return super.firstEntry();
+	}
+
+	@Override /* NavigableMap */
+	public Map.Entry<String,String[]> lastEntry() {
+		resolveAll();
+		return super.lastEntry();
+	}
+
+	@Override /* NavigableMap */
+	public Map.Entry<String,String[]> pollFirstEntry() {
+		resolveAll();
+		return super.pollFirstEntry();
+	}
+
+	@Override /* NavigableMap */
+	public Map.Entry<String,String[]> pollLastEntry() {
+		resolveAll();
+		return super.pollLastEntry();
+	}
+
+	@Override /* NavigableMap */
+	public Map.Entry<String,String[]> lowerEntry(String key) {
+		resolveAll();
+		return super.lowerEntry(key);
+	}
+
+	@Override /* NavigableMap */
+	public String lowerKey(String key) {
+		resolveAll();
+		return super.lowerKey(key);
+	}
+
+	@Override /* NavigableMap */
+	public Map.Entry<String,String[]> floorEntry(String key) {
+		resolveAll();
+		return super.floorEntry(key);
+	}
+
+	@Override /* NavigableMap */
+	public String floorKey(String key) {
+		resolveAll();
+		return super.floorKey(key);
+	}
+
+	@Override /* NavigableMap */
+	public Map.Entry<String,String[]> ceilingEntry(String key) {
+		resolveAll();
+		return super.ceilingEntry(key);
+	}
+
+	@Override /* NavigableMap */
+	public String ceilingKey(String key) {
+		resolveAll();
+		return super.ceilingKey(key);
+	}
+
+	@Override /* NavigableMap */
+	public Map.Entry<String,String[]> higherEntry(String key) {
+		resolveAll();
+		return super.higherEntry(key);
+	}
+
+	@Override /* NavigableMap */
+	public String higherKey(String key) {
+		resolveAll();
+		return super.higherKey(key);
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Helper methods
 	//-----------------------------------------------------------------------------------------------------------------
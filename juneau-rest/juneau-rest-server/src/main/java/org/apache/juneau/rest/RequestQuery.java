@@ -17,6 +17,7 @@ import static org.apache.juneau.internal.StringUtils.*;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.function.*;
 
 import javax.servlet.http.*;
 
@@ -28,6 +29,7 @@ import org.apache.juneau.json.*;
 import org.apache.juneau.oapi.*;
 import org.apache.juneau.parser.*;
 import org.apache.juneau.http.exception.*;
+import org.apache.juneau.rest.util.*;
 import org.apache.juneau.utils.*;
 
 /**
@@ -38,6 +40,12 @@ import org.apache.juneau.utils.*;
  * URL-Encoded FORM posts.
  * <br>This can be useful in cases where you're using GET parameters on FORM POSTs, and you don't want the body of the request to be read.
  *
+ * <p>
+ * Parameters are read from the servlet request on demand.
+ * <br>Looking up a parameter by name only copies that parameter, and the full set of parameters is only copied when the
+ * contents of the map are enumerated (e.g. {@link #entrySet()}, {@link #size()}).
+ * <br>On POSTs, the query string is parsed on first access.
+ *
  * <ul class='seealso'>
  * 	<li class='link'>{@doc RestmRequestQuery}
  * </ul>
@@ -48,11 +56,25 @@ public final class RequestQuery extends LinkedHashMap<String,String[]> {
 
 	private final RestRequest req;
 	private HttpPartParserSession parser;
+	private transient HttpServletRequest source;
+	private transient boolean parseQueryString;
+	private transient Set<String> resolved;
 
 	RequestQuery(RestRequest req) {
 		this.req = req;
 	}
 
+	/*
+	 * Creates a query parameters object that lazily reads its entries from the specified servlet request.
+	 * If parseQueryString is true, the parameters are parsed from the query string instead of using
+	 * HttpServletRequest.getParameterMap() so that the body of form posts isn't read.
+	 */
+	RequestQuery(RestRequest req, HttpServletRequest source, boolean parseQueryString) {
+		this(req);
+		this.source = source;
+		this.parseQueryString = parseQueryString;
+	}
+
 	RequestQuery parser(HttpPartParserSession parser) {
 		this.parser = parser;
 		return this;
@@ -721,6 +743,220 @@ public final class RequestQuery extends LinkedHashMap<String,String[]> {
 		return toString(false);
 	}
 
+	//-----------------------------------------------------------------------------------------------------------------
+	// Lazy loading
+	//-----------------------------------------------------------------------------------------------------------------
+
+	/*
+	 * Copies the specified parameter from the servlet request the first time it's referenced.
+	 * If fetch is false, the parameter is only marked as resolved (e.g. because it's being overwritten or removed).
+	 */
+	private void resolve(Object key, boolean fetch) {
+		if (source == null)
+			return;
+		if (parseQueryString) {
+			// Names that can't appear in the query string don't need it to be parsed.
+			if (key instanceof String && ! mayContain(source.getQueryString(), (String)key))
+				return;
+			resolveAll();
+			return;
+		}
+		if (! (key instanceof String))
+			return;
+		String name = (String)key;
+		if (resolved == null)
+			resolved = new HashSet<>();
+		if (resolved.add(name) && fetch) {
+			// Parameters without values (e.g. "&foo") can be mapped to null, so check the key instead of the value.
+			Map<String,String[]> m = source.getParameterMap();
+			if (m.containsKey(name))
+				super.put(name, m.get(name));
+		}
+	}
+
+	/*
+	 * Returns false if the specified parameter name definitely doesn't occur in the query string.
+	 * Encoded query strings are always assumed to possibly contain it.
+	 */
+	private static boolean mayContain(String qs, String name) {
+		return qs != null && (qs.contains(name) || qs.indexOf('%') != -1 || qs.indexOf('+') != -1);
+	}
+
+	/*
+	 * Copies all remaining parameters from the servlet request.
+	 * Entries end up in the same order as if they had been copied up front, followed by any entries that were added
+	 * afterwards.
+	 */
+	private void resolveAll() {
+		if (source == null)
+			return;
+		HttpServletRequest s = source;
+		source = null;
+		Map<String,String[]> m = parseQueryString ? RestUtils.parseQuery(s.getQueryString()) : s.getParameterMap();
+		if (super.isEmpty() && resolved == null) {
+			super.putAll(m);
+			return;
+		}
+		Map<String,String[]> added = new LinkedHashMap<>();
+		for (Map.Entry<String,String[]> e : super.entrySet())
+			added.put(e.getKey(), e.getValue());
+		super.clear();
+		for (Map.Entry<String,String[]> e : m.entrySet()) {
+			String k = e.getKey();
+			if (added.containsKey(k))
+				super.put(k, added.remove(k));
+			else if (resolved == null || ! resolved.contains(k))
+				super.put(k, e.getValue());
+		}
+		super.putAll(added);
+		resolved = null;
+	}
+
+	@Override /* Map */
+	public String[] get(Object key) {
+		resolve(key, true);
+		return super.get(key);
+	}
+
+	@Override /* Map */
+	public String[] getOrDefault(Object key, String[] defaultValue) {
+		resolve(key, true);
+		return super.getOrDefault(key, defaultValue);
+	}
+
+	@Override /* Map */
+	public boolean containsKey(Object key) {
+		resolve(key, true);
+		return super.containsKey(key);
+	}
+
+	@Override /* Map */
+	public String[] put(String key, String[] value) {
+		resolve(key, false);
+		return super.put(key, value);
+	}
+
+	@Override /* Map */
+	public void putAll(Map<? extends String,? extends String[]> m) {
+		for (Map.Entry<? extends String,? extends String[]> e : m.entrySet())
+			put(e.getKey(), e.getValue());
+	}
+
+	@Override /* Map */
+	public String[] putIfAbsent(String key, String[] value) {
+		resolve(key, true);
+		return super.putIfAbsent(key, value);
+	}
+
+	@Override /* Map */
+	public String[] remove(Object key) {
+		resolve(key, false);
+		return super.remove(key);
+	}
+
+	@Override /* Map */
+	public boolean remove(Object key, Object value) {
+		resolve(key, true);
+		return super.remove(key, value);
+	}
+
+	@Override /* Map */
+	public boolean replace(String key, String[] oldValue, String[] newValue) {
+		resolve(key, true);
+		return super.replace(key, oldValue, newValue);
+	}
+
+	@Override /* Map */
+	public String[] replace(String key, String[] value) {
+		resolve(key, true);
+		return super.replace(key, value);
+	}
+
+	@Override /* Map */
+	public String[] computeIfAbsent(String key, Function<? super String,? extends String[]> mappingFunction) {
+		resolve(key, true);
+		return super.computeIfAbsent(key, mappingFunction);
+	}
+
+	@Override /* Map */
+	public String[] computeIfPresent(String key, BiFunction<? super String,? super String[],? extends String[]> remappingFunction) {
+		resolve(key, true);
+		return super.computeIfPresent(key, remappingFunction);
+	}
+
+	@Override /* Map */
+	public String[] compute(String key, BiFunction<? super String,? super String[],? extends String[]> remappingFunction) {
+		resolve(key, true);
+		return super.compute(key, remappingFunction);
+	}
+
+	@Override /* Map */
+	public String[] merge(String key, String[] value, BiFunction<? super String[],? super String[],? extends String[]> remappingFunction) {
+		resolve(key, true);
+		return super.merge(key, value, remappingFunction);
+	}
+
+	@Override /* Map */
+	public int size() {
+		resolveAll();
+		return super.size();
+	}
+
+	@Override /* Map */
+	public boolean isEmpty() {
+		resolveAll();
+		return super.isEmpty();
+	}
+
+	@Override /* Map */
+	public boolean containsValue(Object value) {
+		resolveAll();
+		return super.containsValue(value);
+	}
+
+	@Override /* Map */
+	public Set<Map.Entry<String,String[]>> entrySet() {
+		resolveAll();
+		return super.entrySet();
+	}
+
+	@Override /* Map */
+	public Set<String> keySet() {
+		resolveAll();
+		return super.keySet();
+	}
+
+	@Override /* Map */
+	public Collection<String[]> values() {
+		resolveAll();
+		return super.values();
+	}
+
+	@Override /* Map */
+	public void forEach(BiConsumer<? super String,? super String[]> action) {
+		resolveAll();
+		super.forEach(action);
+	}
+
+	@Override /* Map */
+	public void replaceAll(BiFunction<? super String,? super String[],? extends String[]> function) {
+		resolveAll();
+		super.replaceAll(function);
+	}
+
+	@Override /* Map */
+	public void clear() {
+		source = null;
+		resolved = null;
+		super.clear();
+	}
+
+	@Override /* Object */
+	public Object clone() {
+		resolveAll();
+		return super.clone();
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Helper methods
 	//-----------------------------------------------------------------------------------------------------------------
@@ -0,0 +1,223 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import java.util.*;
+import java.util.logging.*;
+
+/**
+ * Immutable snapshot of an HTTP call captured by {@link BasicRestCallLogger} for logging.
+ *
+ * <p>
+ * Only the information needed by the request and response logging detail levels is captured.
+ * <br>Records can be safely formatted on a different thread after the servlet request and response have been recycled.
+ *
+ * <ul class='seealso'>
+ * 	<li class='jc'>{@link AsyncRestCallLogger}
+ * 	<li class='link'>{@doc RestLoggingAndDebugging}
+ * </ul>
+ */
+public final class RestCallRecord {
+
+	private static final String[] EMPTY = new String[0];
+
+	final long timestamp;
+	final Level level;
+	final RestCallLoggingDetail reqDetail, resDetail;
+	final String method, uri, queryString, stackTraceHash;
+	final int status, stackTraceCount;
+	final Long execTime;
+	final String[] reqHeaders, resHeaders;
+	final Map<String,Object> defaultReqHeaders;
+	final byte[] reqBody, resBody;
+	final Throwable exception;
+
+	RestCallRecord(Level level, RestCallLoggingDetail reqDetail, RestCallLoggingDetail resDetail, String method, String uri,
+			String queryString, int status, Long execTime, String[] reqHeaders, Map<String,Object> defaultReqHeaders,
+			String[] resHeaders, byte[] reqBody, byte[] resBody, String stackTraceHash, int stackTraceCount,
+			Throwable exception) {
+		this.timestamp = System.currentTimeMillis();
+		this.level = level;
+		this.reqDetail = reqDetail;
+		this.resDetail = resDetail;
+		this.method = method;
+		this.uri = uri;
+		this.queryString = queryString;
+		this.status = status;
+		this.execTime = execTime;
+		this.reqHeaders = reqHeaders == null ? EMPTY : reqHeaders;
+		this.defaultReqHeaders = defaultReqHeaders == null ? Collections.emptyMap() : defaultReqHeaders;
+		this.resHeaders = resHeaders == null ? EMPTY : resHeaders;
+		this.reqBody = reqBody;
+		this.resBody = resBody;
+		this.stackTraceHash = stackTraceHash;
+		this.stackTraceCount = stackTraceCount;
+		this.exception = exception;
+	}
+
+	/**
+	 * Returns the time the record was captured.
+	 *
+	 * @return The time the record was captured in milliseconds since the epoch.
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * Returns the log level.
+	 *
+	 * @return The log level.
+	 */
+	public Level getLevel() {
+		return level;
+	}
+
+	/**
+	 * Returns the request logging detail.
+	 *
+	 * @return The request logging detail.
+	 */
+	public RestCallLoggingDetail getReqDetail() {
+		return reqDetail;
+	}
+
+	/**
+	 * Returns the response logging detail.
+	 *
+	 * @return The response logging detail.
+	 */
+	public RestCallLoggingDetail getResDetail() {
+		return resDetail;
+	}
+
+	/**
+	 * Returns the HTTP method name.
+	 *
+	 * @return The HTTP method name.
+	 */
+	public String getMethod() {
+		return method;
+	}
+
+	/**
+	 * Returns the request URI.
+	 *
+	 * @return The request URI.
+	 */
+	public String getUri() {
+		return uri;
+	}
+
+	/**
+	 * Returns the query string.
+	 *
+	 * @return The query string, or <jk>null</jk> if not present or not captured.
+	 */
+	public String getQueryString() {
+		return queryString;
+	}
+
+	/**
+	 * Returns the response status code.
+	 *
+	 * @return The response status code.
+	 */
+	public int getStatus() {
+		return status;
+	}
+
+	/**
+	 * Returns the execution time.
+	 *
+	 * @return The execution time in milliseconds, or <jk>null</jk> if not known.
+	 */
+	public Long getExecTime() {
+		return execTime;
+	}
+
+	/**
+	 * Returns the request headers.
+	 *
+	 * @return The request headers as alternating name/value pairs, or an empty array if not captured.
+	 */
+	public String[] getReqHeaders() {
+		return reqHeaders.clone();
+	}
+
+	/**
+	 * Returns the default request headers defined on the resource.
+	 *
+	 * @return The default request headers, or an empty map if not captured.
+	 */
+	public Map<String,Object> getDefaultReqHeaders() {
+		return defaultReqHeaders;
+	}
+
+	/**
+	 * Returns the response headers.
+	 *
+	 * @return The response headers as alternating name/value pairs, or an empty array if not captured.
+	 */
+	public String[] getResHeaders() {
+		return resHeaders.clone();
+	}
+
+	/**
+	 * Returns the request body.
+	 *
+	 * @return The request body, or <jk>null</jk> if not cached or not captured.
+	 */
+	public byte[] getReqBody() {
+		return reqBody;
+	}
+
+	/**
+	 * Returns the response body.
+	 *
+	 * @return The response body, or <jk>null</jk> if not cached or not captured.
+	 */
+	public byte[] getResBody() {
+		return resBody;
+	}
+
+	/**
+	 * Returns the stack trace hash of the exception.
+	 *
+	 * @return The stack trace hash, or <jk>null</jk> if stack trace hashing is not enabled or no exception occurred.
+	 */
+	public String getStackTraceHash() {
+		return stackTraceHash;
+	}
+
+	/**
+	 * Returns the number of times the stack trace of the exception has been seen.
+	 *
+	 * @return The number of times the stack trace has been seen, or <c>0</c> if not applicable.
+	 */
+	public int getStackTraceCount() {
+		return stackTraceCount;
+	}
+
+	/**
+	 * Returns the exception to log.
+	 *
+	 * <p>
+	 * Exceptions whose stack traces have already been logged are not included when stack trace hashing is enabled.
+	 *
+	 * @return The exception to log, or <jk>null</jk> if none.
+	 */
+	public Throwable getException() {
+		return exception;
+	}
+}
@@ -2849,6 +2849,8 @@ public class RestContext extends BeanContext {
 	 * 	<li class='jf'>{@link #REST_mimeTypes} for configuring the media types based on file extension.
 	 * 	<li class='jf'>{@link #REST_staticFileResponseHeaders} for configuring response headers on statically served files.
 	 * 	<li class='jf'>{@link #REST_disableClasspathResourceCaching} for configuring static file caching.
+	 * 	<li class='jf'>{@link #REST_staticFilesCacheSize} for bounding the static file cache.
+	 * 	<li class='jf'>{@link #REST_staticFilesMaxInMemorySize} for serving large files directly from the file system.
 	 * 	<li class='jm'>{@link RestContext#getClasspathResource(String,Locale)} for retrieving static files.
 	 * </ul>
 	 *
@@ -2859,10 +2861,115 @@ public class RestContext extends BeanContext {
 	 * 		Child resources can override mappings made on parent class resources.
 	 * 		<br>When both parent and child resources map against the same path, files will be search in the child location
 	 * 		and then the parent location.
+	 * 	<li>
+	 * 		Served files include <c>ETag</c> and <c>Last-Modified</c> headers, and honor the <c>If-None-Match</c>,
+	 * 		<c>If-Modified-Since</c>, <c>Range</c> and <c>If-Range</c> request headers.
+	 * 	<li>
+	 * 		If the request accepts <js>"gzip"</js> encoding and a precompressed sibling file with a <js>".gz"</js> extension
+	 * 		exists (e.g. <js>"foobar.js.gz"</js>), the precompressed file is served instead.
 	 * </ul>
 	 */
 	public static final String REST_staticFiles = PREFIX + ".staticFiles.lo";
 
+	/**
+	 * Configuration property:  Static files cache size.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.rest.RestContext#REST_staticFilesCacheSize REST_staticFilesCacheSize}
+	 * 	<li><b>Name:</b>  <js>"RestContext.staticFilesCacheSize.s"</js>
+	 * 	<li><b>Data type:</b>  <c>String</c>
+	 * 	<li><b>System property:</b>  <c>RestContext.staticFilesCacheSize</c>
+	 * 	<li><b>Environment variable:</b>  <c>RESTCONTEXT_STATICFILESCACHESIZE</c>
+	 * 	<li><b>Default:</b>  <js>"10M"</js>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.rest.RestContextBuilder#staticFilesCacheSize(String)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * The maximum total size (in bytes) of static file contents kept in the in-memory cache.
+	 * <br>When exceeded, the least-recently-used files are evicted.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Using method on builder.</jc>
+	 * 	builder.staticFilesCacheSize(<js>"50M"</js>);
+	 *
+	 * 	<jc>// Same, but using property.</jc>
+	 * 	builder.set(<jsf>REST_staticFilesCacheSize</jsf>, <js>"50M"</js>);
+	 * </p>
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		String value that gets resolved to a <jk>long</jk>.
+	 * 	<li>
+	 * 		Can be suffixed with any of the following representing kilobytes, megabytes, and gigabytes:
+	 * 		<js>'K'</js>, <js>'M'</js>, <js>'G'</js>.
+	 * 	<li>
+	 * 		Has no effect if {@link #REST_disableClasspathResourceCaching} is enabled.
+	 * </ul>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link #REST_staticFiles} for information about statically-served files.
+	 * 	<li class='jf'>{@link #REST_staticFilesMaxInMemorySize} for serving large files directly from the file system.
+	 * </ul>
+	 */
+	public static final String REST_staticFilesCacheSize = PREFIX + ".staticFilesCacheSize.s";
+
+	/**
+	 * Configuration property:  Maximum size of static files held in memory.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li><b>ID:</b>  {@link org.apache.juneau.rest.RestContext#REST_staticFilesMaxInMemorySize REST_staticFilesMaxInMemorySize}
+	 * 	<li><b>Name:</b>  <js>"RestContext.staticFilesMaxInMemorySize.s"</js>
+	 * 	<li><b>Data type:</b>  <c>String</c>
+	 * 	<li><b>System property:</b>  <c>RestContext.staticFilesMaxInMemorySize</c>
+	 * 	<li><b>Environment variable:</b>  <c>RESTCONTEXT_STATICFILESMAXINMEMORYSIZE</c>
+	 * 	<li><b>Default:</b>  <js>"1M"</js>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link org.apache.juneau.rest.RestContextBuilder#staticFilesMaxInMemorySize(String)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * Static files located on the file system (or in an exploded classpath directory) that are larger than this size
+	 * are never loaded into memory.
+	 * <br>Instead, they're read from the file in chunks when the response is written.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Using method on builder.</jc>
+	 * 	builder.staticFilesMaxInMemorySize(<js>"100K"</js>);
+	 *
+	 * 	<jc>// Same, but using property.</jc>
+	 * 	builder.set(<jsf>REST_staticFilesMaxInMemorySize</jsf>, <js>"100K"</js>);
+	 * </p>
+	 *
+	 * <ul class='notes'>
+	 * 	<li>
+	 * 		String value that gets resolved to a <jk>long</jk>.
+	 * 	<li>
+	 * 		Can be suffixed with any of the following representing kilobytes, megabytes, and gigabytes:
+	 * 		<js>'K'</js>, <js>'M'</js>, <js>'G'</js>.
+	 * 	<li>
+	 * 		Resources located inside jars are always loaded into memory.
+	 * </ul>
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link #REST_staticFiles} for information about statically-served files.
+	 * 	<li class='jf'>{@link #REST_staticFilesCacheSize} for bounding the in-memory cache.
+	 * </ul>
+	 */
+	public static final String REST_staticFilesMaxInMemorySize = PREFIX + ".staticFilesMaxInMemorySize.s";
+
 	/**
 	 * Configuration property:  Supported accept media types.
 	 *
@@ -3550,7 +3657,7 @@ public class RestContext extends BeanContext {
 		destroyMethodParams;
 
 	// In-memory cache of images and stylesheets in the org.apache.juneau.rest.htdocs package.
-	private final Map<String,StaticFile> staticFilesCache = new ConcurrentHashMap<>();
+	private final StaticFilesCache staticFilesCache;
 
 	private final ResourceManager staticResourceManager;
 
@@ -3735,10 +3842,15 @@ public class RestContext extends BeanContext {
 			consumes = getListProperty(REST_consumes, MediaType.class, parsers.getSupportedMediaTypes());
 			produces = getListProperty(REST_produces, MediaType.class, serializers.getSupportedMediaTypes());
 
+			// Static files are cached in staticFilesCache, so don't cache them in the resource manager too.
+			ResourceManager staticFilesResourceManager = new ResourceManager(rci.inner(), rf, false);
+			long staticFilesMaxInMemorySize = parseLongWithSuffix(getProperty(REST_staticFilesMaxInMemorySize, String.class, "1M"));
+			staticFilesCache = useClasspathResourceCaching ? new StaticFilesCache(parseLongWithSuffix(getProperty(REST_staticFilesCacheSize, String.class, "10M")), 1000) : null;
+
 			StaticFileMapping[] staticFileMappings = getArrayProperty(REST_staticFiles, StaticFileMapping.class, new StaticFileMapping[0]);
 			staticFiles = new StaticFiles[staticFileMappings.length];
 			for (int i = 0; i < staticFiles.length; i++)
-				staticFiles[i] = new StaticFiles(staticFileMappings[i], staticResourceManager, mimetypesFileTypeMap, staticFileResponseHeaders);
+				staticFiles[i] = new StaticFiles(staticFileMappings[i], staticFilesResourceManager, mimetypesFileTypeMap, staticFileResponseHeaders, staticFilesMaxInMemorySize);
 
 			Set<String> s = new TreeSet<>();
 			for (StaticFiles sf : staticFiles)
@@ -4141,26 +4253,42 @@ public class RestContext extends BeanContext {
 	 * @throws IOException Thrown by underlying stream.
 	 */
 	protected StaticFile getStaticFile(String pathInfo) throws NotFound, IOException {
-		if (! staticFilesCache.containsKey(pathInfo)) {
+		return getStaticFile(pathInfo, false);
+	}
+
+	/**
+	 * Resolve a static resource file, optionally preferring a gzip-encoded variant.
+	 *
+	 * <p>
+	 * If <c>gzip</c> is <jk>true</jk>, a precompressed <js>".gz"</js> sibling of the file is returned if one exists.
+	 * <br>Otherwise in-memory files are compressed once and the compressed copy is cached.
+	 *
+	 * @param pathInfo The unencoded path info.
+	 * @param gzip Whether the client accepts <js>"gzip"</js> encoding.
+	 * @return The wrapped resource, never <jk>null</jk>.
+	 * @throws NotFound Invalid path.
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	protected StaticFile getStaticFile(String pathInfo, boolean gzip) throws NotFound, IOException {
+		String key = gzip ? pathInfo + "|gzip" : pathInfo;
+		StaticFile sf = staticFilesCache == null ? null : staticFilesCache.get(key);
+		if (sf != null && sf.isModified())
+			sf = null;
+		if (sf == null) {
 			String p = urlDecode(trimSlashes(pathInfo));
 			if (p.indexOf("..") != -1)
 				throw new NotFound("Invalid path");
-			StaticFile sf = null;
 			for (StaticFiles sfs : staticFiles) {
-				sf = sfs.resolve(p);
+				sf = sfs.resolve(p, gzip);
 				if (sf != null)
 					break;
 			}
 			if (sf == null)
-				sf = new StaticFile(null,null,null);
-			if (useClasspathResourceCaching) {
-				if (staticFilesCache.size() > 100)
-					staticFilesCache.clear();
-				staticFilesCache.put(pathInfo, sf);
-			}
-			return sf;
+				sf = new StaticFile((byte[])null, null, null);
+			if (staticFilesCache != null)
+				staticFilesCache.put(key, sf);
 		}
-		return staticFilesCache.get(pathInfo);
+		return sf;
 	}
 
 	/**
@@ -4796,6 +4924,15 @@ public class RestContext extends BeanContext {
 		return pathStartsWith(p, staticFilesPaths);
 	}
 
+	// Range requests are always served unencoded so that the ranges apply to the actual file contents.
+	private static boolean acceptsGzip(RestRequest req) {
+		String ae = req.getHeader("Accept-Encoding");
+		if (isEmpty(ae) || req.getHeader("Range") != null)
+			return false;
+		EncoderMatch m = EncoderGroup.DEFAULT.getEncoderMatch(ae);
+		return m != null && m.getEncoder() instanceof GzipEncoder;
+	}
+
 	/**
 	 * Returns the REST Java methods defined in this resource.
 	 *
@@ -5040,7 +5177,7 @@ public class RestContext extends BeanContext {
 			if (call.getPathInfoUndecoded() != null) {
 				String p = call.getPathInfoUndecoded().substring(1);
 				if (isStaticFile(p)) {
-					r = getStaticFile(p);
+					r = getStaticFile(p, acceptsGzip(call.getRestRequest()));
 					if (! r.exists()) {
 						call.output(null);
 						r = null;
@@ -5052,7 +5189,7 @@ public class RestContext extends BeanContext {
 
 			if (r != null) {
 				call.status(SC_OK);
-				call.output(r);
+				call.output(r.forRequest(call.getRestRequest()));
 			} else {
 
 				// If the specified method has been defined in a subclass, invoke it.
@@ -5463,6 +5600,14 @@ public class RestContext extends BeanContext {
 			}
 		}
 
+		if (callLogger instanceof Closeable && callLogger != resource) {
+			try {
+				((Closeable)callLogger).close();
+			} catch (Exception e) {
+				e.printStackTrace();
+			}
+		}
+
 		for (RestContext r : childResources.values()) {
 			r.destroy();
 			if (r.resource instanceof Servlet)
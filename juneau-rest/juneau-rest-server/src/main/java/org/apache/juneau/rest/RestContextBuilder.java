@@ -1927,6 +1927,47 @@ public class RestContextBuilder extends BeanContextBuilder implements ServletCon
 		return staticFiles(new StaticFileMapping(baseClass, path, location, null));
 	}
 
+	/**
+	 * <i><l>RestContext</l> configuration property:&emsp;</i>  Static files cache size.
+	 *
+	 * <p>
+	 * The maximum total size (in bytes) of static file contents kept in the in-memory cache.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RestContext#REST_staticFilesCacheSize}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this setting.
+	 * 	<br>The default is <js>"10M"</js>.
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RestContextBuilder staticFilesCacheSize(String value) {
+		return set(REST_staticFilesCacheSize, value);
+	}
+
+	/**
+	 * <i><l>RestContext</l> configuration property:&emsp;</i>  Maximum size of static files held in memory.
+	 *
+	 * <p>
+	 * Static files on the file system larger than this size are streamed from the file instead of being
+	 * loaded into memory.
+	 *
+	 * <ul class='seealso'>
+	 * 	<li class='jf'>{@link RestContext#REST_staticFilesMaxInMemorySize}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this setting.
+	 * 	<br>The default is <js>"1M"</js>.
+	 * @return This object (for method chaining).
+	 */
+	@FluentSetter
+	public RestContextBuilder staticFilesMaxInMemorySize(String value) {
+		return set(REST_staticFilesMaxInMemorySize, value);
+	}
+
 	/**
 	 * <i><l>RestContext</l> configuration property:&emsp;</i>  Supported accept media types.
 	 *
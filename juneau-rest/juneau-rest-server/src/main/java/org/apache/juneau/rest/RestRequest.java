@@ -135,37 +135,32 @@ public final class RestRequest extends HttpServletRequestWrapper {
 
 			// If this is a POST, we want to parse the query parameters ourselves to prevent
 			// the servlet code from processing the HTTP body as URL-Encoded parameters.
-			queryParams = new RequestQuery(this);
-			if (isPost)
-				RestUtils.parseQuery(getQueryString(), queryParams);
-			else
-				queryParams.putAll(req.getParameterMap());
+			// Parameters are only copied from the servlet request when they're accessed.
+			queryParams = new RequestQuery(this, req, isPost);
 
 			// Get the HTTP method.
 			// Can be overridden through a "method" GET attribute.
 			String _method = super.getMethod();
 
-			String m = getQuery().getString("method");
-			if (m != null) {
-				Set<String> s = context.getAllowedMethodParams();
-				if (! s.isEmpty() && (s.contains("*") || s.contains(m)))
+			String m = null;
+			Set<String> s = context.getAllowedMethodParams();
+			if (! s.isEmpty()) {
+				m = getQuery().getString("method");
+				if (m != null && (s.contains("*") || s.contains(m)))
 					_method = m;
 			}
 
 			m = req.getHeader("X-Method");
 			if (m != null) {
-				Set<String> s = context.getAllowedMethodHeaders();
+				s = context.getAllowedMethodHeaders();
 				if (! s.isEmpty() && (s.contains("*") || s.contains(m)))
 					_method = m;
 			}
 
 			method = _method;
 
-			headers = new RequestHeaders(this);
-			for (Enumeration<String> e = getHeaderNames(); e.hasMoreElements();) {
-				String name = e.nextElement();
-				headers.put(name, super.getHeaders(name));
-			}
+			// Headers are only copied from the servlet request when they're accessed.
+			headers = new RequestHeaders(this, req);
 
 			body = new RequestBody(this);
 
@@ -177,7 +172,7 @@ public final class RestRequest extends HttpServletRequestWrapper {
 				}
 			}
 
-			Set<String> s = context.getAllowedHeaderParams();
+			s = context.getAllowedHeaderParams();
 			if (! s.isEmpty())
 				headers.queryParams(queryParams, s);
 
@@ -196,7 +191,6 @@ public final class RestRequest extends HttpServletRequestWrapper {
 		this.javaMethod = rjm.method;
 		this.beanSession = rjm.createSession();
 		this.partParserSession = rjm.partParser.createPartSession(getParserSessionArgs());
-		this.partSerializerSession = rjm.partSerializer.createPartSession(getSerializerSessionArgs());
 		this.pathParams
 			.parser(partParserSession);
 		this.queryParams
@@ -1099,7 +1093,13 @@ public final class RestRequest extends HttpServletRequestWrapper {
 	 * @return The part serializer associated with this request.
 	 */
 	public HttpPartSerializerSession getPartSerializer() {
-		return partSerializerSession == null ? OpenApiSerializer.DEFAULT.createPartSession(null) : partSerializerSession;
+		if (partSerializerSession == null) {
+			if (restJavaMethod == null)
+				return OpenApiSerializer.DEFAULT.createPartSession(null);
+			// Created on first use since most requests never serialize parts.
+			partSerializerSession = restJavaMethod.partSerializer.createPartSession(getSerializerSessionArgs());
+		}
+		return partSerializerSession;
 	}
 
 	/**
@@ -282,6 +282,7 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	public FinishableServletOutputStream getNegotiatedOutputStream() throws NotAcceptable, IOException {
 		if (os == null) {
 			Encoder encoder = null;
+			String encoding = null;
 			EncoderGroup encoders = restJavaMethod == null ? EncoderGroup.DEFAULT : restJavaMethod.encoders;
 
 			String ae = request.getHeader("Accept-Encoding");
@@ -297,16 +298,25 @@ public final class RestResponse extends HttpServletResponseWrapper {
 					}
 				} else {
 					encoder = match.getEncoder();
-					String encoding = match.getEncoding().toString();
+					encoding = match.getEncoding().toString();
 
 					// Some clients don't recognize identity as an encoding, so don't set it.
-					if (! encoding.equals("identity"))
-						setHeader("content-encoding", encoding);
+					if (encoding.equals("identity"))
+						encoding = null;
 				}
 			}
 			@SuppressWarnings("resource")
 			ServletOutputStream sos = getOutputStream();
-			os = new FinishableServletOutputStream(encoder == null ? sos : encoder.getOutputStream(sos));
+			if (encoding == null) {
+				os = new FinishableServletOutputStream(encoder == null ? sos : encoder.getOutputStream(sos));
+			} else if (encoder.getMinimumSize() > 0) {
+				// Defer the content-encoding header until we know the content is large enough to encode.
+				final String encoding2 = encoding;
+				os = new FinishableServletOutputStream(new ThresholdEncoderOutputStream(sos, encoder, encoder.getMinimumSize(), () -> setHeader("content-encoding", encoding2)));
+			} else {
+				setHeader("content-encoding", encoding);
+				os = new FinishableServletOutputStream(encoder.getOutputStream(sos));
+			}
 		}
 		return os;
 	}
@@ -12,20 +12,42 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.rest;
 
+import static java.time.format.DateTimeFormatter.*;
+import static javax.servlet.http.HttpServletResponse.*;
+
 import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.time.*;
 import java.util.*;
+import java.util.zip.*;
 
 import org.apache.juneau.http.annotation.*;
 
 /**
  * Instance of a static file sent as an HTTP response.
+ *
+ * <p>
+ * The contents are either held in memory or, for large files, read from the file system in chunks when the response
+ * is written so that they never sit on the heap in full.
+ *
+ * <p>
+ * Use {@link #forRequest(RestRequest)} to get a copy of this file that honors the conditional
+ * (<c>If-None-Match</c>, <c>If-Modified-Since</c>) and range (<c>Range</c>, <c>If-Range</c>) headers on a request.
  */
 @Response
 public class StaticFile {
 
 	private final byte[] contents;
-	private final String mediaType;
-	private final Map<String,Object> headers;
+	private final File file, source;
+	private final String mediaType, contentEncoding, etag;
+	private final long length, lastModified, sourceModified;
+	private final Map<String,Object> baseHeaders, headers;
+
+	// Response-specific state.
+	private final int status;
+	private final long start, count;
 
 	/**
 	 * Constructor.
@@ -35,9 +57,62 @@ public class StaticFile {
 	 * @param headers Arbitrary response headers to set when sending this file as an HTTP response.
 	 */
 	public StaticFile(byte[] contents, String mediaType, Map<String,Object> headers) {
+		this(contents, null, null, mediaType, null, headers);
+	}
+
+	/**
+	 * Constructor for a file that's streamed from the file system instead of being held in memory.
+	 *
+	 * @param file The file, or <jk>null</jk> if file does not exist.
+	 * @param mediaType The media type of the file.
+	 * @param headers Arbitrary response headers to set when sending this file as an HTTP response.
+	 */
+	public StaticFile(File file, String mediaType, Map<String,Object> headers) {
+		this(null, file, file, mediaType, null, headers);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param contents Contents of the file, or <jk>null</jk> if the contents are streamed from <c>file</c>.
+	 * @param file The file to stream the contents from, or <jk>null</jk> if the contents are held in memory.
+	 * @param source The file on the file system the contents came from, or <jk>null</jk> if not known.
+	 * @param mediaType The media type of the file.
+	 * @param contentEncoding The content encoding of the contents, or <jk>null</jk> if not encoded.
+	 * @param headers Arbitrary response headers to set when sending this file as an HTTP response.
+	 */
+	StaticFile(byte[] contents, File file, File source, String mediaType, String contentEncoding, Map<String,Object> headers) {
 		this.contents = contents;
+		this.file = file;
+		this.source = source;
 		this.mediaType = mediaType;
-		this.headers = headers;
+		this.contentEncoding = contentEncoding;
+		this.length = contents != null ? contents.length : file != null ? file.length() : 0;
+		this.sourceModified = source == null ? 0 : source.lastModified();
+		this.lastModified = sourceModified > 0 ? sourceModified / 1000 * 1000 : -1;
+		this.etag = exists() ? createEtag() : null;
+		this.baseHeaders = headers == null ? Collections.emptyMap() : headers;
+		this.status = SC_OK;
+		this.start = 0;
+		this.count = length;
+		this.headers = exists() ? createHeaders() : this.baseHeaders;
+	}
+
+	private StaticFile(StaticFile sf, int status, long start, long count) {
+		this.contents = sf.contents;
+		this.file = sf.file;
+		this.source = sf.source;
+		this.sourceModified = sf.sourceModified;
+		this.mediaType = sf.mediaType;
+		this.contentEncoding = sf.contentEncoding;
+		this.length = sf.length;
+		this.lastModified = sf.lastModified;
+		this.etag = sf.etag;
+		this.baseHeaders = sf.baseHeaders;
+		this.status = status;
+		this.start = start;
+		this.count = count;
+		this.headers = createHeaders();
 	}
 
 	/**
@@ -46,12 +121,72 @@ public class StaticFile {
 	 * @return <jk>true</jk> if this file exists.
 	 */
 	public boolean exists() {
-		return contents != null;
+		return contents != null || file != null;
+	}
+
+	/**
+	 * Returns a copy of this file customized for the conditional and range headers on the specified request.
+	 *
+	 * <p>
+	 * The returned file will respond with one of the following statuses:
+	 * <ul>
+	 * 	<li><c>304</c> - The <c>If-None-Match</c> or <c>If-Modified-Since</c> headers match this file.
+	 * 	<li><c>206</c> - A single satisfiable byte range was requested (and <c>If-Range</c> matches if present).
+	 * 	<li><c>416</c> - The requested byte range cannot be satisfied.
+	 * 	<li><c>200</c> - Otherwise.
+	 * </ul>
+	 *
+	 * @param req The request.
+	 * @return A copy of this file, or this file if it doesn't exist.
+	 */
+	public StaticFile forRequest(RestRequest req) {
+		if (! exists())
+			return this;
+
+		String inm = req.getHeader("If-None-Match");
+		if (inm != null) {
+			if (matchesEtag(inm, false))
+				return new StaticFile(this, SC_NOT_MODIFIED, 0, 0);
+		} else if (lastModified > 0) {
+			Long ims = parseDate(req.getHeader("If-Modified-Since"));
+			if (ims != null && lastModified <= ims)
+				return new StaticFile(this, SC_NOT_MODIFIED, 0, 0);
+		}
+
+		String range = req.getHeader("Range");
+		if (range != null && "GET".equalsIgnoreCase(req.getMethod())) {
+			String ifRange = req.getHeader("If-Range");
+			if (ifRange == null || matchesIfRange(ifRange)) {
+				long[] r = parseRange(range);
+				if (r != null) {
+					if (r.length == 0)
+						return new StaticFile(this, SC_REQUESTED_RANGE_NOT_SATISFIABLE, 0, 0);
+					return new StaticFile(this, SC_PARTIAL_CONTENT, r[0], r[1]);
+				}
+			}
+		}
+
+		return this;
+	}
+
+	/**
+	 * Returns the HTTP status of this response.
+	 *
+	 * @return The HTTP status of this response.
+	 */
+	@ResponseStatus
+	public int getStatus() {
+		return status;
 	}
 
 	/**
 	 * Get the HTTP response headers.
 	 *
+	 * <p>
+	 * In addition to the headers passed in through the constructor, includes the <c>ETag</c>, <c>Last-Modified</c>,
+	 * <c>Accept-Ranges</c>, <c>Content-Length</c>, <c>Content-Range</c> and <c>Content-Encoding</c> headers where
+	 * applicable.
+	 *
 	 * @return
 	 * 	The HTTP response headers.
 	 * 	<br>An unmodifiable map.
@@ -62,14 +197,48 @@ public class StaticFile {
 		return headers;
 	}
 
+	/**
+	 * Writes the contents (or requested byte range) of this file to the specified output stream.
+	 *
+	 * <p>
+	 * File-backed contents are copied from the file system in chunks.
+	 *
+	 * @param os The output stream to write to.
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	@ResponseBody
+	public void writeTo(OutputStream os) throws IOException {
+		if (count <= 0)
+			return;
+		if (file != null) {
+			try (FileChannel fc = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+				ByteBuffer b = ByteBuffer.allocate((int)Math.min(count, 65536));
+				long pos = start, remaining = count;
+				while (remaining > 0) {
+					b.clear().limit((int)Math.min(remaining, b.capacity()));
+					int n = fc.read(b, pos);
+					if (n <= 0)
+						break;
+					os.write(b.array(), 0, n);
+					pos += n;
+					remaining -= n;
+				}
+			}
+		} else {
+			os.write(contents, (int)start, (int)count);
+		}
+		os.flush();
+	}
+
 	/**
 	 * Returns the contents of this static file as an input stream.
 	 *
 	 * @return This file as an input stream.
 	 * @throws IOException Should never happen.
 	 */
-	@ResponseBody
 	public InputStream getInputStream() throws IOException {
+		if (file != null)
+			return new FileInputStream(file);
 		return new ByteArrayInputStream(contents);
 	}
 
@@ -82,4 +251,164 @@ public class StaticFile {
 	public String getContentType() {
 		return mediaType == null ? null : mediaType.toString();
 	}
+
+	/**
+	 * Returns the <c>ETag</c> of this static file.
+	 *
+	 * @return The <c>ETag</c> of this static file, or <jk>null</jk> if the file doesn't exist.
+	 */
+	public String getEtag() {
+		return etag;
+	}
+
+	/**
+	 * Returns the number of bytes of heap used to hold the contents of this file.
+	 *
+	 * @return The number of bytes of heap used, or <c>0</c> if the file is streamed from the file system.
+	 */
+	long getMemorySize() {
+		return contents == null ? 0 : contents.length;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the file this was read from has been modified or deleted since.
+	 *
+	 * <p>
+	 * Used to revalidate cached entries so that they don't serve stale contents or headers.
+	 *
+	 * @return <jk>true</jk> if the file this was read from has been modified or deleted since.
+	 */
+	boolean isModified() {
+		if (source == null)
+			return false;
+		return source.lastModified() != sourceModified || (file != null && file.length() != length);
+	}
+
+	/**
+	 * Returns a gzip-compressed copy of this file if it's held in memory and compression makes it smaller.
+	 *
+	 * @return A gzip-compressed copy of this file, or <jk>null</jk> if compression isn't applicable.
+	 * @throws IOException Should never happen.
+	 */
+	StaticFile gzipped() throws IOException {
+		if (contents == null || contentEncoding != null)
+			return null;
+		ByteArrayOutputStream baos = new ByteArrayOutputStream(contents.length / 2 + 64);
+		try (GZIPOutputStream gos = new GZIPOutputStream(baos)) {
+			gos.write(contents);
+		}
+		if (baos.size() >= contents.length)
+			return null;
+		return new StaticFile(baos.toByteArray(), null, source, mediaType, "gzip", baseHeaders);
+	}
+
+	private String createEtag() {
+		long hash;
+		if (contents != null) {
+			CRC32 crc = new CRC32();
+			crc.update(contents);
+			hash = crc.getValue();
+		} else {
+			hash = lastModified;
+		}
+		return '"' + Long.toHexString(length) + '-' + Long.toHexString(hash) + (contentEncoding == null ? "" : '-' + contentEncoding) + '"';
+	}
+
+	private Map<String,Object> createHeaders() {
+		Map<String,Object> m = new LinkedHashMap<>(baseHeaders);
+		m.put("ETag", etag);
+		if (lastModified > 0)
+			m.put("Last-Modified", formatDate(lastModified));
+		m.put("Accept-Ranges", "bytes");
+		if (! m.containsKey("Vary"))
+			m.put("Vary", "Accept-Encoding");
+		if (contentEncoding != null)
+			m.put("Content-Encoding", contentEncoding);
+		if (status == SC_PARTIAL_CONTENT)
+			m.put("Content-Range", "bytes " + start + '-' + (start + count - 1) + '/' + length);
+		else if (status == SC_REQUESTED_RANGE_NOT_SATISFIABLE)
+			m.put("Content-Range", "bytes */" + length);
+		if (status != SC_NOT_MODIFIED)
+			m.put("Content-Length", String.valueOf(count));
+		return Collections.unmodifiableMap(m);
+	}
+
+	private boolean matchesEtag(String value, boolean strong) {
+		for (String s : value.split(",")) {
+			s = s.trim();
+			if (s.equals("*"))
+				return true;
+			if (s.startsWith("W/")) {
+				if (strong)
+					continue;
+				s = s.substring(2);
+			}
+			if (s.equals(etag))
+				return true;
+		}
+		return false;
+	}
+
+	private boolean matchesIfRange(String value) {
+		value = value.trim();
+		if (value.startsWith("\"") || value.startsWith("W/"))
+			return matchesEtag(value, true);
+		Long d = parseDate(value);
+		return d != null && lastModified > 0 && d == lastModified;
+	}
+
+	/*
+	 * Parses a single "bytes=" range.
+	 * Returns null if the range should be ignored, an empty array if it's unsatisfiable, or [start,count].
+	 */
+	private long[] parseRange(String value) {
+		value = value.trim();
+		if (! value.startsWith("bytes=") || value.indexOf(',') != -1)
+			return null;
+		value = value.substring(6).trim();
+		int i = value.indexOf('-');
+		if (i == -1)
+			return null;
+		try {
+			String s1 = value.substring(0, i).trim(), s2 = value.substring(i+1).trim();
+			long first, last;
+			if (s1.isEmpty()) {
+				if (s2.isEmpty())
+					return null;
+				long suffix = Long.parseLong(s2);
+				if (suffix <= 0)
+					return new long[0];
+				first = Math.max(0, length - suffix);
+				last = length - 1;
+			} else {
+				first = Long.parseLong(s1);
+				last = length - 1;
+				if (! s2.isEmpty()) {
+					long l = Long.parseLong(s2);
+					if (l < first)
+						return null;
+					last = Math.min(l, last);
+				}
+			}
+			if (first >= length)
+				return new long[0];
+			return new long[]{first, last - first + 1};
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private static String formatDate(long millis) {
+		return RFC_1123_DATE_TIME.format(ZonedDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC));
+	}
+
+	private static Long parseDate(String value) {
+		if (value == null)
+			return null;
+		try {
+			return ZonedDateTime.parse(value.trim(), RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+		} catch (Exception e) {
+			return null;
+		}
+	}
 }
@@ -29,34 +29,54 @@ class StaticFiles {
 
 	private final ResourceManager staticResourceManager;
 	private final MimetypesFileTypeMap mimetypesFileTypeMap;
+	private final long maxInMemorySize;
 
-	StaticFiles(StaticFileMapping sfm, ResourceManager staticResourceManager, MimetypesFileTypeMap mimetypesFileTypeMap, Map<String,Object> staticFileResponseHeaders) {
+	StaticFiles(StaticFileMapping sfm, ResourceManager staticResourceManager, MimetypesFileTypeMap mimetypesFileTypeMap, Map<String,Object> staticFileResponseHeaders, long maxInMemorySize) {
 		this.path = sfm.path;
 		this.location = sfm.location;
 		this.responseHeaders = sfm.responseHeaders != null ? sfm.responseHeaders : staticFileResponseHeaders;
 		this.staticResourceManager = staticResourceManager;
 		this.mimetypesFileTypeMap = mimetypesFileTypeMap;
+		this.maxInMemorySize = maxInMemorySize;
 	}
 
 	String getPath() {
 		return path;
 	}
 
-	StaticFile resolve(String p) throws IOException {
+	StaticFile resolve(String p, boolean gzip) throws IOException {
 		if (p.startsWith(path)) {
 			String remainder = (p.equals(path) ? "" : p.substring(path.length()));
 			if (remainder.isEmpty() || remainder.startsWith("/")) {
 				String p2 = location + remainder;
-				try (InputStream is = staticResourceManager.getStream(p2, null)) {
-					if (is != null) {
-						int i = p2.lastIndexOf('/');
-						String name = (i == -1 ? p2 : p2.substring(i+1));
-						String mediaType = mimetypesFileTypeMap.getContentType(name);
-						return new StaticFile(IOUtils.readBytes(is), mediaType, responseHeaders);
-					}
+				int i = p2.lastIndexOf('/');
+				String name = (i == -1 ? p2 : p2.substring(i+1));
+				String mediaType = mimetypesFileTypeMap.getContentType(name);
+				if (gzip) {
+					StaticFile sf = find(p2 + ".gz", mediaType, "gzip");
+					if (sf != null)
+						return sf;
 				}
+				StaticFile sf = find(p2, mediaType, null);
+				if (sf != null && gzip) {
+					StaticFile sf2 = sf.gzipped();
+					if (sf2 != null)
+						return sf2;
+				}
+				return sf;
 			}
 		}
 		return null;
 	}
+
+	private StaticFile find(String name, String mediaType, String contentEncoding) throws IOException {
+		File f = staticResourceManager.getFile(name, null);
+		if (f != null && f.length() > maxInMemorySize)
+			return new StaticFile(null, f, f, mediaType, contentEncoding, responseHeaders);
+		try (InputStream is = staticResourceManager.getStream(name, null)) {
+			if (is != null)
+				return new StaticFile(IOUtils.readBytes(is), null, f, mediaType, contentEncoding, responseHeaders);
+		}
+		return null;
+	}
 }
@@ -0,0 +1,57 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import java.util.*;
+
+/**
+ * Least-recently-used cache of resolved static files bounded by the total size of the in-memory contents.
+ *
+ * <p>
+ * File-backed entries only hold metadata and don't count towards the size limit, but do count towards the
+ * entry limit.
+ */
+class StaticFilesCache {
+
+	private final long maxSize;
+	private final int maxEntries;
+	private final LinkedHashMap<String,StaticFile> map = new LinkedHashMap<>(16, 0.75f, true);
+	private long size;
+
+	StaticFilesCache(long maxSize, int maxEntries) {
+		this.maxSize = maxSize;
+		this.maxEntries = maxEntries;
+	}
+
+	synchronized StaticFile get(String key) {
+		return map.get(key);
+	}
+
+	synchronized void put(String key, StaticFile sf) {
+		long s = sf.getMemorySize();
+		if (s > maxSize)
+			return;
+		StaticFile old = map.put(key, sf);
+		if (old != null)
+			size -= old.getMemorySize();
+		size += s;
+		for (Iterator<StaticFile> i = map.values().iterator(); i.hasNext() && (size > maxSize || map.size() > maxEntries);) {
+			size -= i.next().getMemorySize();
+			i.remove();
+		}
+	}
+
+	synchronized long size() {
+		return size;
+	}
+}
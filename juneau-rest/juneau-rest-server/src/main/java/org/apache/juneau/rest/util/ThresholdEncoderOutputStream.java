@@ -0,0 +1,108 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.util;
+
+import java.io.*;
+
+import org.apache.juneau.encoders.*;
+
+/**
+ * Output stream that only applies an {@link Encoder} once the content reaches a minimum size.
+ *
+ * <p>
+ * Content is buffered until the threshold is reached, at which point the callback is invoked (typically to set the
+ * <c>Content-Encoding</c> response header) and the buffered and all subsequent content is written through the
+ * encoder.
+ * <br>If the stream is finished or closed before the threshold is reached, the buffered content is written unencoded.
+ *
+ * <ul class='notes'>
+ * 	<li>
+ * 		Calls to {@link #flush()} are ignored until the choice of encoding has been made.
+ * </ul>
+ */
+public class ThresholdEncoderOutputStream extends OutputStream implements Finishable {
+
+	private final OutputStream out;
+	private final Encoder encoder;
+	private final Runnable onEncode;
+	private byte[] buff;
+	private int count;
+	private OutputStream os;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param out The underlying output stream.
+	 * @param encoder The encoder to apply once the threshold is reached.
+	 * @param threshold The minimum content size in bytes for which the encoder is applied.
+	 * @param onEncode Callback invoked when the decision to apply the encoder is made.
+	 */
+	public ThresholdEncoderOutputStream(OutputStream out, Encoder encoder, int threshold, Runnable onEncode) {
+		this.out = out;
+		this.encoder = encoder;
+		this.onEncode = onEncode;
+		this.buff = new byte[threshold];
+	}
+
+	@Override /* OutputStream */
+	public void write(int b) throws IOException {
+		if (os != null)
+			os.write(b);
+		else if (count + 1 < buff.length)
+			buff[count++] = (byte)b;
+		else
+			write(new byte[]{(byte)b}, 0, 1);
+	}
+
+	@Override /* OutputStream */
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (os == null) {
+			if (count + len < buff.length) {
+				System.arraycopy(b, off, buff, count, len);
+				count += len;
+				return;
+			}
+			onEncode.run();
+			decide(encoder.getOutputStream(out));
+		}
+		os.write(b, off, len);
+	}
+
+	@Override /* OutputStream */
+	public void flush() throws IOException {
+		if (os != null)
+			os.flush();
+	}
+
+	@Override /* Finishable */
+	public void finish() throws IOException {
+		if (os == null)
+			decide(out);
+		else if (os instanceof Finishable)
+			((Finishable)os).finish();
+	}
+
+	@Override /* OutputStream */
+	public void close() throws IOException {
+		if (os == null)
+			decide(out);
+		os.close();
+	}
+
+	private void decide(OutputStream os) throws IOException {
+		this.os = os;
+		if (count > 0)
+			os.write(buff, 0, count);
+		buff = null;
+	}
+}
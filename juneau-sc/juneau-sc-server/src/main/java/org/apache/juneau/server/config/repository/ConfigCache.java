@@ -0,0 +1,242 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.server.config.repository;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevTree;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.eclipse.jgit.treewalk.TreeWalk;
+
+/**
+ * Cache of the configuration files of each project and branch.
+ *
+ * <p>
+ * Unlike {@link GetConfiguration}, configuration files are read directly from the commit that a branch points to
+ * instead of checking out the branch into a working tree, so any number of branches can be served concurrently from a
+ * single (typically bare) repository.
+ * <br>Each project/branch pair is resolved once and then served from memory until {@link #refresh()} finds that the
+ * branch has moved to a different commit.
+ * <br>Only projects that have a <c>&lt;project&gt;.cfg</c> file on the branch are kept in memory, so requests for
+ * unknown project names don't grow the cache.
+ *
+ * <p>
+ * Branches are looked up as <c>refs/remotes/origin/&lt;branch&gt;</c> first and then <c>refs/heads/&lt;branch&gt;</c>,
+ * so both clones and local repositories that are pushed to directly are supported.
+ */
+public class ConfigCache implements Closeable {
+
+	private static final Logger LOG = Logger.getLogger(ConfigCache.class.getName());
+
+	private static final String APPLICATION = "APPLICATION";
+	private static final String PROJECT = "PROJECT";
+	private static final String EXT = ".cfg";
+
+	private final Repository repo;
+	private final Git git;
+	private final Map<String, ConfigSnapshot> cache = new ConcurrentHashMap<>();
+	private ScheduledExecutorService scheduler;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param repo The repository containing the configuration files.
+	 */
+	public ConfigCache(Repository repo) {
+		this.repo = repo;
+		this.git = new Git(repo);
+	}
+
+	/**
+	 * Opens the repository at the specified location, cloning it first as a bare repository if it doesn't exist yet.
+	 *
+	 * @param localPath
+	 * 	The location of the local repository.
+	 * 	<br>Can be either a bare repository or a working tree containing a <c>.git</c> directory.
+	 * @param remotePath
+	 * 	The URI of the remote repository to clone if the local repository doesn't exist.
+	 * 	<br>Can be <jk>null</jk> if the local repository already exists.
+	 * @return A new cache.
+	 * @throws IOException The repository could not be opened.
+	 * @throws GitAPIException The repository could not be cloned.
+	 */
+	public static ConfigCache open(String localPath, String remotePath) throws IOException, GitAPIException {
+		File dir = new File(localPath);
+		if (! dir.isDirectory()) {
+			if (remotePath == null)
+				throw new IOException("Repository not found: " + localPath);
+			Git.cloneRepository().setURI(remotePath).setDirectory(dir).setBare(true).call().close();
+		}
+		File gitDir = new File(dir, ".git");
+		if (! gitDir.isDirectory())
+			gitDir = dir;
+		return new ConfigCache(new FileRepositoryBuilder().setGitDir(gitDir).setMustExist(true).build());
+	}
+
+	/**
+	 * Returns the configuration files of the specified project on the specified branch.
+	 *
+	 * @param project The project name.
+	 * @param branch The branch name.
+	 * @return The configuration files, or <jk>null</jk> if the branch doesn't exist.
+	 * @throws IOException The repository could not be read.
+	 */
+	public ConfigSnapshot get(String project, String branch) throws IOException {
+		String key = project + '/' + branch;
+		ConfigSnapshot s = cache.get(key);
+		if (s != null)
+			return s;
+
+		// Concurrent misses on the same key load the snapshot only once.
+		// Snapshots without a project file are handed back to the caller without being cached.
+		ConfigSnapshot[] loaded = new ConfigSnapshot[1];
+		try {
+			s = cache.computeIfAbsent(key, k -> {
+				try {
+					ObjectId id = resolve(branch);
+					if (id == null)
+						return null;
+					loaded[0] = load(project, id);
+					return isKnown(loaded[0]) ? loaded[0] : null;
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+		return s != null ? s : loaded[0];
+	}
+
+	/**
+	 * Fetches from the remote repository (if there is one) and reloads any cached projects whose branch has moved.
+	 *
+	 * <p>
+	 * Concurrent calls are serialized so that only one fetch runs at a time.
+	 *
+	 * <p>
+	 * Entries whose branch no longer exists or no longer contains the project file are removed.
+	 *
+	 * @return The number of cached entries that were reloaded or removed.
+	 * @throws IOException The repository could not be read.
+	 * @throws GitAPIException The fetch failed.
+	 */
+	public synchronized int refresh() throws IOException, GitAPIException {
+		if (! repo.getRemoteNames().isEmpty())
+			git.fetch().setRemoveDeletedRefs(true).call();
+		int changed = 0;
+		for (Map.Entry<String, ConfigSnapshot> e : cache.entrySet()) {
+			String key = e.getKey();
+			int i = key.indexOf('/');
+			String project = key.substring(0, i), branch = key.substring(i + 1);
+			ObjectId id = resolve(branch);
+			if (id == null) {
+				cache.remove(key);
+				changed++;
+			} else if (! id.name().equals(e.getValue().getCommitId())) {
+				ConfigSnapshot s = load(project, id);
+				if (isKnown(s))
+					cache.put(key, s);
+				else
+					cache.remove(key);
+				changed++;
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Calls {@link #refresh()} periodically on a background thread.
+	 *
+	 * @param interval The interval between refreshes.
+	 * @param unit The time unit of the interval.
+	 * @return This object (for method chaining).
+	 */
+	public synchronized ConfigCache schedule(long interval, TimeUnit unit) {
+		if (scheduler == null) {
+			scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+				Thread t = new Thread(r, "ConfigCache-refresh");
+				t.setDaemon(true);
+				return t;
+			});
+		}
+		scheduler.scheduleWithFixedDelay(() -> {
+			try {
+				refresh();
+			} catch (Exception e) {
+				LOG.log(Level.WARNING, "Could not refresh configuration repository.", e);
+			}
+		}, interval, interval, unit);
+		return this;
+	}
+
+	@Override
+	public synchronized void close() {
+		if (scheduler != null)
+			scheduler.shutdownNow();
+		git.close();
+		repo.close();
+	}
+
+	private ObjectId resolve(String branch) throws IOException {
+		Ref r = repo.exactRef("refs/remotes/origin/" + branch);
+		if (r == null)
+			r = repo.exactRef("refs/heads/" + branch);
+		return r == null ? null : r.getObjectId();
+	}
+
+	private ConfigSnapshot load(String project, ObjectId commitId) throws IOException {
+		Map<String, ConfigItem> configs = new HashMap<>();
+		try (RevWalk rw = new RevWalk(repo)) {
+			RevTree tree = rw.parseCommit(commitId).getTree();
+			String s = read(tree, APPLICATION.toLowerCase() + EXT);
+			if (s != null)
+				configs.put(APPLICATION, new ConfigItem(s));
+			s = read(tree, project + EXT);
+			if (s != null)
+				configs.put(PROJECT, new ConfigItem(s));
+		}
+		return new ConfigSnapshot(commitId.name(), configs);
+	}
+
+	private static boolean isKnown(ConfigSnapshot s) {
+		return s.get().containsKey(PROJECT);
+	}
+
+	private String read(RevTree tree, String path) throws IOException {
+		try (TreeWalk tw = TreeWalk.forPath(repo, path, tree)) {
+			if (tw == null)
+				return null;
+			return new String(repo.open(tw.getObjectId(0)).getBytes(), UTF_8);
+		}
+	}
+}
@@ -0,0 +1,50 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.server.config.repository;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The configuration files of a project as they existed in a specific commit.
+ */
+public class ConfigSnapshot implements GetValue<Map<String, ConfigItem>> {
+
+	private final String commitId;
+	private final Map<String, ConfigItem> configs;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param commitId The id of the commit the configuration files were read from.
+	 * @param configs The configuration files keyed by <js>"APPLICATION"</js> and <js>"PROJECT"</js>.
+	 */
+	public ConfigSnapshot(String commitId, Map<String, ConfigItem> configs) {
+		this.commitId = commitId;
+		this.configs = Collections.unmodifiableMap(configs);
+	}
+
+	/**
+	 * Returns the id of the commit the configuration files were read from.
+	 *
+	 * @return The commit id.
+	 */
+	public String getCommitId() {
+		return commitId;
+	}
+
+	@Override
+	public Map<String, ConfigItem> get() {
+		return configs;
+	}
+}
@@ -13,27 +13,111 @@
 package org.apache.juneau.server.config.rest;
 
 import static org.apache.juneau.http.HttpMethod.GET;
+import static org.apache.juneau.http.HttpMethod.POST;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.juneau.config.Config;
+import org.apache.juneau.http.EntityTag;
 import org.apache.juneau.http.annotation.Path;
+import org.apache.juneau.http.exception.NotFound;
+import org.apache.juneau.http.exception.TooManyRequests;
+import org.apache.juneau.http.header.IfNoneMatch;
+import org.apache.juneau.http.response.NotModified;
 import org.apache.juneau.json.JsonSerializer;
+import org.apache.juneau.rest.RestContext;
+import org.apache.juneau.rest.RestResponse;
 import org.apache.juneau.rest.RestServlet;
 import org.apache.juneau.rest.annotation.*;
-import org.apache.juneau.server.config.repository.GetConfiguration;
+import org.apache.juneau.server.config.repository.ConfigCache;
+import org.apache.juneau.server.config.repository.ConfigSnapshot;
 
+/**
+ * Serves the configuration files of a project on a branch.
+ *
+ * <p>
+ * Configurations are cached by commit and returned with the commit id as their <c>ETag</c>, so clients that poll with
+ * <c>If-None-Match</c> get a <c>304</c> until the branch moves.
+ * <br>The cache is refreshed every <c>GitServer/refreshInterval</c> seconds (<c>0</c> to disable), or on demand
+ * through <c>POST /configs/refresh</c> (e.g. from a push webhook).
+ * <br>On-demand refreshes are limited to one every <c>GitServer/minRefreshInterval</c> seconds (default <c>10</c>),
+ * and requests made sooner get a <c>429</c> without fetching from the remote repository.
+ */
 @Rest(path="/configs/*")
 @SuppressWarnings("javadoc")
 public class LoadConfigResource extends RestServlet {
 
 	private static final long serialVersionUID = 8247663789227304097L;
 
+	private transient volatile ConfigCache cache;
+	private long minRefreshInterval;
+	private final AtomicLong lastRefresh = new AtomicLong();
+
+	public LoadConfigResource() {}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param cache The configuration cache to serve from.
+	 * @param minRefreshInterval The minimum number of seconds between on-demand refreshes.
+	 */
+	public LoadConfigResource(ConfigCache cache, int minRefreshInterval) {
+		this.cache = cache;
+		this.minRefreshInterval = TimeUnit.SECONDS.toMillis(minRefreshInterval);
+	}
+
 	@RestMethod(method = GET, path = "/{project}/{branch}/*", consumes = "application/json", produces = "application/json")
-	public String gets(@Path("project") String project, @Path("branch") String branch) throws Exception {
+	public Object gets(@Path("project") String project, @Path("branch") String branch, IfNoneMatch ifNoneMatch, RestResponse res) throws Exception {
 		JsonSerializer jsonSerializer = JsonSerializer.DEFAULT_READABLE;
 
-		GetConfiguration config = new GetConfiguration(project, branch);
-		config.execute();
+		ConfigSnapshot config = cache.get(project, branch);
+		if (config == null)
+			throw new NotFound("Branch not found: {0}", branch);
+
+		String etag = '"' + config.getCommitId() + '"';
+		if (matches(ifNoneMatch, config.getCommitId()))
+			return new NotModified().header("ETag", etag);
 
+		res.setHeader("ETag", etag);
 		return jsonSerializer.serialize(config.get());
 	}
 
+	@RestMethod(method = POST, path = "/refresh")
+	public int refresh() throws Exception {
+		long now = System.currentTimeMillis(), last = lastRefresh.get();
+		if (now - last < minRefreshInterval || ! lastRefresh.compareAndSet(last, now))
+			throw new TooManyRequests("Configurations can only be refreshed once every {0} seconds.", TimeUnit.MILLISECONDS.toSeconds(minRefreshInterval));
+		return cache.refresh();
+	}
+
+	@Override
+	public synchronized void onPostInit(RestContext context) throws Exception {
+		if (cache == null) {
+			Config config = Config.create().name("juneau-server-config.cfg").build();
+			cache = ConfigCache.open(config.getString("GitServer/pathLocal"), config.getString("GitServer/gitRemote"));
+			int refreshInterval = config.getInt("GitServer/refreshInterval", 60);
+			if (refreshInterval > 0)
+				cache.schedule(refreshInterval, TimeUnit.SECONDS);
+			minRefreshInterval = TimeUnit.SECONDS.toMillis(config.getInt("GitServer/minRefreshInterval", 10));
+		}
+	}
+
+	@Override
+	public synchronized void onDestroy(RestContext context) throws Exception {
+		if (cache != null)
+			cache.close();
+		cache = null;
+	}
+
+	/*
+	 * If-None-Match uses weak comparison, so both "<id>" and W/"<id>" match, as does "*".
+	 */
+	private static boolean matches(IfNoneMatch ifNoneMatch, String commitId) {
+		if (ifNoneMatch != null)
+			for (EntityTag t : ifNoneMatch.asEntityTags())
+				if (t.isAny() || t.getEntityValue().equals(commitId))
+					return true;
+		return false;
+	}
 }
@@ -0,0 +1,139 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.server.config.repository;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.runners.MethodSorters.NAME_ASCENDING;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.transport.RefSpec;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+
+@FixMethodOrder(NAME_ASCENDING)
+public class ConfigCache_Test {
+
+	private File dir, bare;
+	private Git work;
+	private ConfigCache cache;
+
+	@Before
+	public void before() throws Exception {
+		dir = Files.createTempDirectory("ConfigCache_Test").toFile();
+		bare = new File(dir, "repo.git");
+		Git.init().setBare(true).setDirectory(bare).call().close();
+		work = Git.init().setDirectory(new File(dir, "work")).call();
+		cache = ConfigCache.open(bare.getPath(), null);
+	}
+
+	@After
+	public void after() throws Exception {
+		cache.close();
+		work.close();
+		try (Stream<java.nio.file.Path> s = Files.walk(dir.toPath())) {
+			s.sorted(Comparator.reverseOrder()).map(java.nio.file.Path::toFile).forEach(File::delete);
+		}
+	}
+
+	@Test
+	public void a01_commitKeyedRead() throws Exception {
+		RevCommit c1 = push("master", "[A]\nx = 1", "[B]\ny = 2");
+
+		ConfigSnapshot s = cache.get("foo", "master");
+		assertEquals(c1.name(), s.getCommitId());
+		assertEquals("[A]\nx = 1", s.get().get("APPLICATION").getValue());
+		assertEquals("[B]\ny = 2", s.get().get("PROJECT").getValue());
+		assertNull(cache.get("bar", "master").get().get("PROJECT"));
+
+		// Served from memory until the branch moves.
+		assertSame(s, cache.get("foo", "master"));
+		assertEquals(0, cache.refresh());
+		assertSame(s, cache.get("foo", "master"));
+	}
+
+	@Test
+	public void a02_unknownBranch() throws Exception {
+		push("master", "[A]\nx = 1", "[B]\ny = 2");
+		assertNull(cache.get("foo", "dev"));
+	}
+
+	@Test
+	public void a03_refreshAfterBranchMoves() throws Exception {
+		RevCommit c1 = push("master", "[A]\nx = 1", "[B]\ny = 2");
+		push("dev", "[A]\nx = 3", "[B]\ny = 4");
+		assertEquals(c1.name(), cache.get("foo", "master").getCommitId());
+		cache.get("foo", "dev");
+
+		RevCommit c2 = push("master", "[A]\nx = 5", "[B]\ny = 6");
+		assertEquals(c1.name(), cache.get("foo", "master").getCommitId());
+		assertEquals(1, cache.refresh());
+
+		ConfigSnapshot s = cache.get("foo", "master");
+		assertEquals(c2.name(), s.getCommitId());
+		assertEquals("[A]\nx = 5", s.get().get("APPLICATION").getValue());
+		assertEquals("[A]\nx = 3", cache.get("foo", "dev").get().get("APPLICATION").getValue());
+	}
+
+	@Test
+	public void a04_refreshFetchesRemote() throws Exception {
+		RevCommit c1 = push("master", "[A]\nx = 1", "[B]\ny = 2");
+		try (ConfigCache clone = ConfigCache.open(new File(dir, "clone").getPath(), bare.toURI().toString())) {
+			assertEquals(c1.name(), clone.get("foo", "master").getCommitId());
+
+			RevCommit c2 = push("master", "[A]\nx = 3", "[B]\ny = 4");
+			assertEquals(1, clone.refresh());
+			assertEquals(c2.name(), clone.get("foo", "master").getCommitId());
+		}
+	}
+
+	@Test
+	public void a05_unknownProjectNotRetained() throws Exception {
+		RevCommit c1 = push("master", "[A]\nx = 1", "[B]\ny = 2");
+
+		ConfigSnapshot s = cache.get("bar", "master");
+		assertEquals(c1.name(), s.getCommitId());
+		assertEquals("[A]\nx = 1", s.get().get("APPLICATION").getValue());
+		assertNull(s.get().get("PROJECT"));
+		assertNotSame(s, cache.get("bar", "master"));
+
+		// Only 'foo' is cached, so only it is reloaded when the branch moves.
+		cache.get("foo", "master");
+		push("master", "[A]\nx = 3", "[B]\ny = 4");
+		assertEquals(1, cache.refresh());
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Helper methods
+	//------------------------------------------------------------------------------------------------------------------
+
+	private RevCommit push(String branch, String application, String project) throws Exception {
+		File wd = work.getRepository().getWorkTree();
+		Files.write(new File(wd, "application.cfg").toPath(), application.getBytes("UTF-8"));
+		Files.write(new File(wd, "foo.cfg").toPath(), project.getBytes("UTF-8"));
+		work.add().addFilepattern(".").call();
+		RevCommit c = work.commit().setMessage(branch).call();
+		work.push().setRemote(bare.toURI().toString()).setRefSpecs(new RefSpec("+HEAD:refs/heads/" + branch)).call();
+		return c;
+	}
+}
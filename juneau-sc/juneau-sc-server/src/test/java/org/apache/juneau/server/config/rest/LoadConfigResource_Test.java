@@ -0,0 +1,111 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.server.config.rest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.runners.MethodSorters.NAME_ASCENDING;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.apache.juneau.rest.client.RestClient;
+import org.apache.juneau.rest.mock.MockRestClient;
+import org.apache.juneau.server.config.repository.ConfigCache;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.transport.RefSpec;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.FixMethodOrder;
+import org.junit.Test;
+
+/**
+ * The mock client reuses a single resource per class, so all tests share one repository.
+ */
+@FixMethodOrder(NAME_ASCENDING)
+public class LoadConfigResource_Test {
+
+	private static File dir, bare;
+	private static Git work;
+	private static ConfigCache cache;
+	private static RestClient client;
+	private static RevCommit c1;
+
+	@BeforeClass
+	public static void beforeClass() throws Exception {
+		dir = Files.createTempDirectory("LoadConfigResource_Test").toFile();
+		bare = new File(dir, "repo.git");
+		Git.init().setBare(true).setDirectory(bare).call().close();
+		work = Git.init().setDirectory(new File(dir, "work")).call();
+		c1 = push("master", "[A]\nx = 1", "[B]\ny = 2");
+		cache = ConfigCache.open(bare.getPath(), null);
+		client = MockRestClient.buildLax(new LoadConfigResource(cache, 10));
+	}
+
+	@AfterClass
+	public static void afterClass() throws Exception {
+		cache.close();
+		work.close();
+		try (Stream<java.nio.file.Path> s = Files.walk(dir.toPath())) {
+			s.sorted(Comparator.reverseOrder()).map(java.nio.file.Path::toFile).forEach(File::delete);
+		}
+	}
+
+	@Test
+	public void a01_etag() throws Exception {
+		String etag = client.get("/foo/master/x").run().assertCode().is(200).assertBody().contains("x = 1").getStringHeader("ETag");
+		assertEquals('"' + c1.name() + '"', etag);
+
+		client.get("/foo/master/x").header("If-None-Match", etag).run().assertCode().is(304);
+		client.get("/foo/master/x").header("If-None-Match", "W/" + etag).run().assertCode().is(304);
+		client.get("/foo/master/x").header("If-None-Match", "\"foo\", " + etag).run().assertCode().is(304);
+		client.get("/foo/master/x").header("If-None-Match", "*").run().assertCode().is(304);
+		client.get("/foo/master/x").header("If-None-Match", "\"foo\"").run().assertCode().is(200);
+	}
+
+	@Test
+	public void a02_unknownBranch() throws Exception {
+		client.get("/foo/dev/x").run().assertCode().is(404);
+		client.get("/foo/dev/x").header("If-None-Match", "*").run().assertCode().is(404);
+	}
+
+	@Test
+	public void a03_refresh() throws Exception {
+		String etag = client.get("/foo/master/x").run().getStringHeader("ETag");
+
+		push("master", "[A]\nx = 3", "[B]\ny = 4");
+		client.post("/refresh", null).run().assertCode().is(200).assertBody().is("1");
+		String etag2 = client.get("/foo/master/x").header("If-None-Match", etag).run().assertCode().is(200).assertBody().contains("x = 3").getStringHeader("ETag");
+		assertNotEquals(etag, etag2);
+
+		// Refreshes are rate-limited.
+		client.post("/refresh", null).run().assertCode().is(429);
+	}
+
+	//------------------------------------------------------------------------------------------------------------------
+	// Helper methods
+	//------------------------------------------------------------------------------------------------------------------
+
+	private static RevCommit push(String branch, String application, String project) throws Exception {
+		File wd = work.getRepository().getWorkTree();
+		Files.write(new File(wd, "application.cfg").toPath(), application.getBytes("UTF-8"));
+		Files.write(new File(wd, "foo.cfg").toPath(), project.getBytes("UTF-8"));
+		work.add().addFilepattern(".").call();
+		RevCommit c = work.commit().setMessage(branch).call();
+		work.push().setRemote(bare.toURI().toString()).setRefSpecs(new RefSpec("+HEAD:refs/heads/" + branch)).call();
+		return c;
+	}
+}